@@ -38,6 +38,20 @@ final class MatchDtos {
         }
     }
 
+    /** One page of a browse session; {@code nextCursor} is {@code null} on the last page. */
+    static record BrowsePageResponse(
+            List<UserSummary> candidates,
+            String nextCursor,
+            int remaining,
+            RestApiUserDtos.DailyPickDto dailyPick,
+            boolean dailyPickViewed,
+            boolean locationMissing,
+            boolean sessionRestarted) {
+        BrowsePageResponse {
+            candidates = candidates == null ? List.of() : List.copyOf(candidates);
+        }
+    }
+
     /** Match summary for API responses. */
     static record MatchSummary(
             String matchId,
@@ -0,0 +1,111 @@
+package datingapp.app.api;
+
+import datingapp.app.api.RestApiUserDtos.UserSummary;
+import datingapp.app.event.AppEvent;
+import datingapp.app.event.AppEventBus;
+import datingapp.core.AppClock;
+import datingapp.core.model.User;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Read-through cache of the per-user pieces the REST layer renders into list responses: the
+ * approximate location label (a reverse geocoding lookup) and the {@link UserSummary} built from it.
+ *
+ * <p>Entries are valid while the user's {@code updatedAt} is unchanged and were rendered on the
+ * current day in the configured zone, since the summary carries an age. Profile saves and account
+ * deletions evict through the event bus, so writes that keep the same timestamp are still seen. The
+ * least recently used entry is evicted once {@code maxEntries} is reached.
+ */
+final class RenderedUserCache {
+
+    static final int DEFAULT_MAX_ENTRIES = 5_000;
+
+    private final ZoneId userTimeZone;
+    private final Function<User, String> locationFormatter;
+    private final int maxEntries;
+    private final Map<UUID, Rendered> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    RenderedUserCache(ZoneId userTimeZone, Function<User, String> locationFormatter) {
+        this(userTimeZone, locationFormatter, DEFAULT_MAX_ENTRIES);
+    }
+
+    RenderedUserCache(ZoneId userTimeZone, Function<User, String> locationFormatter, int maxEntries) {
+        this.userTimeZone = Objects.requireNonNull(userTimeZone, "userTimeZone cannot be null");
+        this.locationFormatter = Objects.requireNonNull(locationFormatter, "locationFormatter cannot be null");
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive");
+        }
+        this.maxEntries = maxEntries;
+    }
+
+    /** Subscribes eviction to profile saves and account deletions. */
+    void register(AppEventBus eventBus) {
+        eventBus.subscribe(
+                AppEvent.ProfileSaved.class,
+                event -> invalidate(event.userId()),
+                AppEventBus.HandlerPolicy.BEST_EFFORT);
+        eventBus.subscribe(
+                AppEvent.AccountDeleted.class,
+                event -> invalidate(event.userId()),
+                AppEventBus.HandlerPolicy.BEST_EFFORT);
+    }
+
+    /** Approximate location label for {@code user}, or {@code null} when no location is set. */
+    String locationLabel(User user) {
+        return user == null ? null : renderedFor(user).locationLabel();
+    }
+
+    /** Summary with the approximate location and stored (not public) photo URLs. */
+    UserSummary summary(User user) {
+        return renderedFor(Objects.requireNonNull(user, "user cannot be null")).summary();
+    }
+
+    void invalidate(UUID userId) {
+        synchronized (entries) {
+            entries.remove(userId);
+        }
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private Rendered renderedFor(User user) {
+        LocalDate today = AppClock.today(userTimeZone);
+        synchronized (entries) {
+            Rendered cached = entries.get(user.getId());
+            if (cached != null && cached.isCurrentFor(user, today)) {
+                return cached;
+            }
+        }
+
+        String label = user.hasLocationSet() ? locationFormatter.apply(user) : null;
+        Rendered rendered =
+                new Rendered(user.getUpdatedAt(), today, label, UserSummary.from(user, userTimeZone, label));
+        synchronized (entries) {
+            entries.put(user.getId(), rendered);
+            if (entries.size() > maxEntries) {
+                Iterator<UUID> eldest = entries.keySet().iterator();
+                eldest.next();
+                eldest.remove();
+            }
+        }
+        return rendered;
+    }
+
+    private record Rendered(Instant updatedAt, LocalDate renderedOn, String locationLabel, UserSummary summary) {
+        boolean isCurrentFor(User user, LocalDate today) {
+            return renderedOn.equals(today) && Objects.equals(updatedAt, user.getUpdatedAt());
+        }
+    }
+}
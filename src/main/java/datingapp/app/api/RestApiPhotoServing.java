@@ -0,0 +1,208 @@
+package datingapp.app.api;
+
+import datingapp.app.api.RestApiPhotoStorage.PhotoFile;
+import io.javalin.http.Context;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * HTTP caching and streaming for managed photo files.
+ *
+ * <p>Managed file names are random UUIDs that are never rewritten, so the file name doubles as a
+ * strong ETag and responses can be cached as immutable. The exception is an original served in place
+ * of a rendition that has not been derived yet: the same URL will later return the rendition, so it
+ * gets a short lifetime and is revalidated by ETag. Bodies are streamed from a
+ * {@link FileChannel} straight into the servlet output instead of being buffered on the heap, and a
+ * single {@code Range} is honoured with {@code 206 Partial Content}.
+ */
+final class RestApiPhotoServing {
+
+    static final String CACHE_CONTROL_IMMUTABLE = "public, max-age=31536000, immutable";
+    static final String CACHE_CONTROL_FALLBACK = "public, max-age=60";
+    private static final String HEADER_ETAG = "ETag";
+    private static final String HEADER_LAST_MODIFIED = "Last-Modified";
+    private static final String HEADER_CACHE_CONTROL = "Cache-Control";
+    private static final String HEADER_ACCEPT_RANGES = "Accept-Ranges";
+    private static final String HEADER_CONTENT_RANGE = "Content-Range";
+    private static final String HEADER_IF_NONE_MATCH = "If-None-Match";
+    private static final String HEADER_IF_MODIFIED_SINCE = "If-Modified-Since";
+    private static final String HEADER_IF_RANGE = "If-Range";
+    private static final String HEADER_RANGE = "Range";
+    private static final String BYTES_UNIT = "bytes";
+    private static final String BYTES_PREFIX = BYTES_UNIT + "=";
+    private static final DateTimeFormatter HTTP_DATE = DateTimeFormatter.RFC_1123_DATE_TIME;
+
+    private RestApiPhotoServing() {
+        // Utility class
+    }
+
+    /** Outcome of evaluating a {@code Range} header against a file of known size. */
+    record RangeDecision(Kind kind, long start, long length) {
+        enum Kind {
+            FULL,
+            PARTIAL,
+            UNSATISFIABLE
+        }
+
+        static RangeDecision full(long size) {
+            return new RangeDecision(Kind.FULL, 0, size);
+        }
+
+        long endInclusive() {
+            return start + length - 1;
+        }
+    }
+
+    static void serve(Context ctx, PhotoFile photo) throws IOException {
+        String etag = etag(photo.fileName());
+        ctx.header(HEADER_ETAG, etag);
+        ctx.header(HEADER_LAST_MODIFIED, formatHttpDate(photo.lastModified()));
+        ctx.header(HEADER_CACHE_CONTROL, cacheControl(photo));
+        ctx.header(HEADER_ACCEPT_RANGES, BYTES_UNIT);
+
+        if (isNotModified(ctx.header(HEADER_IF_NONE_MATCH), ctx.header(HEADER_IF_MODIFIED_SINCE), etag, photo)) {
+            ctx.status(304);
+            return;
+        }
+
+        RangeDecision range = resolveRange(
+                ctx.header(HEADER_RANGE), ctx.header(HEADER_IF_RANGE), etag, photo.lastModified(), photo.size());
+        if (range.kind() == RangeDecision.Kind.UNSATISFIABLE) {
+            ctx.header(HEADER_CONTENT_RANGE, BYTES_UNIT + " */" + photo.size());
+            ctx.status(416);
+            return;
+        }
+
+        ctx.contentType(photo.contentType());
+        if (range.kind() == RangeDecision.Kind.PARTIAL) {
+            ctx.status(206);
+            ctx.header(
+                    HEADER_CONTENT_RANGE,
+                    BYTES_UNIT + " " + range.start() + "-" + range.endInclusive() + "/" + photo.size());
+        } else {
+            ctx.status(200);
+        }
+        ctx.res().setContentLengthLong(range.length());
+        try (FileChannel channel = FileChannel.open(photo.path(), StandardOpenOption.READ)) {
+            OutputStream output = ctx.res().getOutputStream();
+            transfer(channel, range.start(), range.length(), Channels.newChannel(output));
+            output.flush();
+        }
+    }
+
+    static String cacheControl(PhotoFile photo) {
+        return photo.fallback() ? CACHE_CONTROL_FALLBACK : CACHE_CONTROL_IMMUTABLE;
+    }
+
+    static String etag(String fileName) {
+        return "\"" + fileName + "\"";
+    }
+
+    static boolean isNotModified(String ifNoneMatch, String ifModifiedSince, String etag, PhotoFile photo) {
+        if (ifNoneMatch != null && !ifNoneMatch.isBlank()) {
+            // If-None-Match takes precedence; If-Modified-Since is ignored when it is present.
+            for (String candidate : ifNoneMatch.split(",")) {
+                String trimmed = candidate.trim();
+                if ("*".equals(trimmed) || etag.equals(trimmed) || ("W/" + etag).equals(trimmed)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        Instant since = parseHttpDate(ifModifiedSince);
+        return since != null && !photo.lastModified().truncatedTo(ChronoUnit.SECONDS).isAfter(since);
+    }
+
+    /**
+     * Resolves a single {@code bytes=} range. Multi-range and malformed headers fall back to the
+     * full body, as does an {@code If-Range} validator that no longer matches.
+     */
+    static RangeDecision resolveRange(
+            String rangeHeader, String ifRange, String etag, Instant lastModified, long size) {
+        if (rangeHeader == null
+                || !rangeHeader.startsWith(BYTES_PREFIX)
+                || !ifRangeMatches(ifRange, etag, lastModified)) {
+            return RangeDecision.full(size);
+        }
+        String spec = rangeHeader.substring(BYTES_PREFIX.length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0 || spec.indexOf(',') >= 0) {
+            return RangeDecision.full(size);
+        }
+        try {
+            String first = spec.substring(0, dash).trim();
+            String last = spec.substring(dash + 1).trim();
+            if (first.isEmpty()) {
+                if (last.isEmpty()) {
+                    return RangeDecision.full(size);
+                }
+                long suffixLength = Long.parseLong(last);
+                if (suffixLength <= 0 || size == 0) {
+                    return new RangeDecision(RangeDecision.Kind.UNSATISFIABLE, 0, 0);
+                }
+                long length = Math.min(suffixLength, size);
+                return new RangeDecision(RangeDecision.Kind.PARTIAL, size - length, length);
+            }
+            long start = Long.parseLong(first);
+            if (start >= size) {
+                return new RangeDecision(RangeDecision.Kind.UNSATISFIABLE, 0, 0);
+            }
+            long end = last.isEmpty() ? size - 1 : Math.min(Long.parseLong(last), size - 1);
+            if (end < start) {
+                return RangeDecision.full(size);
+            }
+            return new RangeDecision(RangeDecision.Kind.PARTIAL, start, end - start + 1);
+        } catch (NumberFormatException _) {
+            return RangeDecision.full(size);
+        }
+    }
+
+    private static boolean ifRangeMatches(String ifRange, String etag, Instant lastModified) {
+        if (ifRange == null || ifRange.isBlank()) {
+            return true;
+        }
+        String trimmed = ifRange.trim();
+        if (trimmed.startsWith("\"")) {
+            return etag.equals(trimmed);
+        }
+        Instant date = parseHttpDate(trimmed);
+        return date != null && lastModified.truncatedTo(ChronoUnit.SECONDS).equals(date);
+    }
+
+    private static void transfer(FileChannel channel, long position, long length, WritableByteChannel target)
+            throws IOException {
+        long transferred = 0;
+        while (transferred < length) {
+            long written = channel.transferTo(position + transferred, length - transferred, target);
+            if (written <= 0) {
+                throw new IOException("Photo file ended before the expected length was written");
+            }
+            transferred += written;
+        }
+    }
+
+    static String formatHttpDate(Instant instant) {
+        return HTTP_DATE.format(ZonedDateTime.ofInstant(instant.truncatedTo(ChronoUnit.SECONDS), ZoneOffset.UTC));
+    }
+
+    private static Instant parseHttpDate(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return ZonedDateTime.parse(value.trim(), HTTP_DATE).toInstant();
+        } catch (DateTimeParseException _) {
+            return null;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package datingapp.app.api;
 
+import datingapp.app.support.PhotoRenditions;
 import datingapp.core.AppConfig;
 import io.javalin.http.Context;
 import io.javalin.http.UploadedFile;
@@ -8,8 +9,11 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Instant;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
@@ -19,6 +23,7 @@ import java.util.regex.Pattern;
 
 final class RestApiPhotoStorage {
     private static final String PHOTOS_ROUTE_PREFIX = "/photos/";
+    static final String SIZE_QUERY_PARAM = "size";
     private static final int COPY_BUFFER_BYTES = 8 * 1024;
     private static final Pattern SAFE_MANAGED_FILE_NAME = Pattern.compile("^[A-Za-z0-9][A-Za-z0-9._-]{0,127}$");
 
@@ -47,19 +52,53 @@ final class RestApiPhotoStorage {
         String fileName = photoId + "." + extension;
         Path userDirectory = userDirectory(userId);
         Files.createDirectories(userDirectory);
-        Files.write(userDirectory.resolve(fileName), bytes, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        Path photoPath = userDirectory.resolve(fileName);
+        Files.write(photoPath, bytes, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        PhotoRenditions.deriveAsync(photoPath, null);
         return new ManagedPhoto(photoId, storedPath(userId, fileName));
     }
 
-    Optional<PhotoContent> loadPhoto(UUID userId, String fileName) throws IOException {
+    /**
+     * Resolves a managed photo to its file and metadata without reading the body; callers stream it
+     * via {@link RestApiPhotoServing}.
+     */
+    Optional<PhotoFile> loadPhoto(UUID userId, String fileName) throws IOException {
         if (!isSafeManagedFileName(fileName)) {
             return Optional.empty();
         }
-        Path photoPath = resolveManagedPath(userId, fileName);
-        if (!Files.isRegularFile(photoPath)) {
+        return loadManagedFile(resolveManagedPath(userId, fileName), fileName);
+    }
+
+    /**
+     * Resolves the requested rendition of a managed photo, falling back to the original while the
+     * rendition has not been derived yet or was skipped because the original is already small. The
+     * fallback is marked so it is not cached as the rendition's bytes.
+     */
+    Optional<PhotoFile> loadPhoto(UUID userId, String fileName, PhotoRenditions.Size size) throws IOException {
+        if (size == null || !isSafeManagedFileName(fileName)) {
+            return loadPhoto(userId, fileName);
+        }
+        String renditionName = PhotoRenditions.renditionFileName(fileName, size);
+        Optional<PhotoFile> rendition = loadManagedFile(resolveManagedPath(userId, renditionName), renditionName);
+        return rendition.isPresent() ? rendition : loadPhoto(userId, fileName).map(PhotoFile::asFallback);
+    }
+
+    private static Optional<PhotoFile> loadManagedFile(Path photoPath, String fileName) throws IOException {
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(photoPath, BasicFileAttributes.class);
+        } catch (NoSuchFileException _) {
+            return Optional.empty();
+        }
+        if (!attributes.isRegularFile()) {
             return Optional.empty();
         }
-        return Optional.of(new PhotoContent(Files.readAllBytes(photoPath), contentTypeFromFileName(fileName)));
+        return Optional.of(new PhotoFile(
+                photoPath,
+                fileName,
+                contentTypeFromFileName(fileName),
+                attributes.size(),
+                attributes.lastModifiedTime().toInstant()));
     }
 
     void deleteManagedPhoto(String storedPath) throws IOException {
@@ -68,6 +107,7 @@ final class RestApiPhotoStorage {
             return;
         }
         Files.deleteIfExists(managedPath.get());
+        PhotoRenditions.deleteRenditions(managedPath.get());
     }
 
     String toPublicUrl(Context ctx, String storedPath) {
@@ -81,19 +121,31 @@ final class RestApiPhotoStorage {
         return publicBaseUrl(ctx) + normalizedPath;
     }
 
-    List<String> toPublicUrls(Context ctx, List<String> storedPaths) {
+    /**
+     * Returns the public URL of a managed photo's rendition. External URLs are returned unchanged
+     * because only managed uploads have renditions.
+     */
+    String toPublicUrl(Context ctx, String storedPath, PhotoRenditions.Size size) {
+        String publicUrl = toPublicUrl(ctx, storedPath);
+        if (size == null || !isManagedPhotoPath(storedPath)) {
+            return publicUrl;
+        }
+        return publicUrl + "?" + SIZE_QUERY_PARAM + "=" + size.maxEdge();
+    }
+
+    List<String> toPublicUrls(Context ctx, List<String> storedPaths, PhotoRenditions.Size size) {
         return storedPaths == null
                 ? List.of()
-                : storedPaths.stream().map(path -> toPublicUrl(ctx, path)).toList();
+                : storedPaths.stream().map(path -> toPublicUrl(ctx, path, size)).toList();
     }
 
-    String primaryPublicUrl(Context ctx, List<String> storedPaths) {
+    String primaryPublicUrl(Context ctx, List<String> storedPaths, PhotoRenditions.Size size) {
         return storedPaths == null
                 ? null
                 : storedPaths.stream()
                         .filter(path -> path != null && !path.isBlank())
                         .findFirst()
-                        .map(path -> toPublicUrl(ctx, path))
+                        .map(path -> toPublicUrl(ctx, path, size))
                         .orElse(null);
     }
 
@@ -269,5 +321,18 @@ final class RestApiPhotoStorage {
 
     record ManagedPhoto(String id, String storedPath) {}
 
-    record PhotoContent(byte[] bytes, String contentType) {}
+    /**
+     * A managed file ready to stream. {@code fallback} marks an original served in place of a
+     * rendition that does not exist yet, which must not be cached for as long as the rendition.
+     */
+    record PhotoFile(
+            Path path, String fileName, String contentType, long size, Instant lastModified, boolean fallback) {
+        PhotoFile(Path path, String fileName, String contentType, long size, Instant lastModified) {
+            this(path, fileName, contentType, size, lastModified, false);
+        }
+
+        PhotoFile asFallback() {
+            return new PhotoFile(path, fileName, contentType, size, lastModified, true);
+        }
+    }
 }
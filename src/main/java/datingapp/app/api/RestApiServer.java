@@ -13,6 +13,7 @@ import datingapp.app.api.LocationDtos.LocationCountryDto;
 import datingapp.app.api.LocationDtos.LocationResolveRequest;
 import datingapp.app.api.LocationDtos.LocationResolveResponse;
 import datingapp.app.api.MatchDtos.BrowseCandidatesResponse;
+import datingapp.app.api.MatchDtos.BrowsePageResponse;
 import datingapp.app.api.MatchDtos.LikeResponse;
 import datingapp.app.api.MatchDtos.MatchQualityDto;
 import datingapp.app.api.MatchDtos.MatchSummary;
@@ -62,12 +63,14 @@ import datingapp.app.api.VerificationDtos.StartVerificationRequest;
 import datingapp.app.api.VerificationDtos.StartVerificationResponse;
 import datingapp.app.bootstrap.ApplicationStartup;
 import datingapp.app.event.AppEvent;
+import datingapp.app.support.PhotoRenditions;
 import datingapp.app.usecase.auth.AuthUseCases;
 import datingapp.app.usecase.common.UseCaseResult;
 import datingapp.app.usecase.common.UserContext;
 import datingapp.app.usecase.matching.MatchingUseCases;
 import datingapp.app.usecase.matching.MatchingUseCases.ArchiveMatchCommand;
 import datingapp.app.usecase.matching.MatchingUseCases.BrowseCandidatesCommand;
+import datingapp.app.usecase.matching.MatchingUseCases.BrowseCandidatesPageCommand;
 import datingapp.app.usecase.matching.MatchingUseCases.ListPagedMatchesQuery;
 import datingapp.app.usecase.matching.MatchingUseCases.MatchQualityByIdQuery;
 import datingapp.app.usecase.matching.MatchingUseCases.PendingLikersQuery;
@@ -145,6 +148,7 @@ import org.slf4j.LoggerFactory;
  * <li>GET /api/users - List all users</li>
  * <li>GET /api/users/{id} - Get user by ID</li>
  * <li>GET /api/users/{id}/browse - Browse matching candidates for user</li>
+ * <li>GET /api/users/{id}/browse/page - Page through a ranked browse session by cursor</li>
  * <li>GET /api/users/{id}/candidates - Get matching candidates for user</li>
  * <li>DELETE /api/users/{id} - Delete user account</li>
  * <li>GET /api/users/{id}/matches - Get matches for user</li>
@@ -164,6 +168,7 @@ public class RestApiServer {
             InetAddress.getLoopbackAddress().getHostAddress();
     private static final int DEFAULT_MESSAGE_LIMIT = 50;
     private static final int DEFAULT_MATCHES_LIMIT = 20;
+    private static final int DEFAULT_BROWSE_PAGE_SIZE = 10;
     private static final String BAD_REQUEST = "BAD_REQUEST";
     private static final String CONFLICT = "CONFLICT";
     private static final String INTERNAL_ERROR = "INTERNAL_ERROR";
@@ -182,6 +187,10 @@ public class RestApiServer {
     private static final int DEFAULT_CORS_MAX_AGE_SECONDS = 3600;
     private static final String ENV_REST_ALLOWED_ORIGINS = "DATING_APP_REST_ALLOWED_ORIGINS";
     private static final String ENV_REST_SHARED_SECRET = "DATING_APP_REST_SHARED_SECRET";
+    /** Rendition linked from photo grids and list payloads. */
+    private static final PhotoRenditions.Size LIST_PHOTO_SIZE = PhotoRenditions.Size.CARD;
+    /** Rendition linked from a single profile view. */
+    private static final PhotoRenditions.Size DETAIL_PHOTO_SIZE = PhotoRenditions.Size.FULL;
     private static final Pattern STATIC_PHOTO_FILE_NAME_PATTERN = Pattern.compile("^[A-Za-z0-9][A-Za-z0-9._-]{0,127}$");
     /**
      * Pagination query-parameter names shared by match and future list endpoints.
@@ -190,6 +199,8 @@ public class RestApiServer {
 
     private static final String PARAM_OFFSET = "offset";
 
+    private static final String PARAM_CURSOR = "cursor";
+
     private RestApiPhotoStorage photoStorage;
 
     @SuppressWarnings("PMD.UnusedPrivateField")
@@ -206,6 +217,7 @@ public class RestApiServer {
     private final AuthUseCases authUseCases;
     private final TrustSafetyService trustSafetyService;
     private final LocationService locationService;
+    private final RenderedUserCache renderedUsers;
     private final ZoneId userTimeZone;
     private final ProfileActivationPolicy activationPolicy;
     private final RestApiIdentityPolicy identityPolicy;
@@ -235,6 +247,25 @@ public class RestApiServer {
 
     RestApiServer(
             ServiceRegistry services, String host, int port, String lanSharedSecret, Set<String> allowedCorsOrigins) {
+        this(
+                services,
+                host,
+                port,
+                lanSharedSecret,
+                allowedCorsOrigins,
+                DEFAULT_RATE_LIMIT_WINDOW,
+                DEFAULT_RATE_LIMIT_REQUESTS);
+    }
+
+    /** Creates a server with a custom local rate limit, e.g. for load tests that exceed the default quota. */
+    RestApiServer(
+            ServiceRegistry services,
+            String host,
+            int port,
+            String lanSharedSecret,
+            Set<String> allowedCorsOrigins,
+            Duration rateLimitWindow,
+            int rateLimitRequests) {
         this.matchingUseCases = services.getMatchingUseCases();
         this.messagingUseCases = services.getMessagingUseCases();
         this.profileUseCases = services.getProfileUseCases();
@@ -255,13 +286,18 @@ public class RestApiServer {
         this.allowedCorsOrigins = normalizeAllowedCorsOrigins(allowedCorsOrigins);
         this.requestGuards = new RestApiRequestGuards(
                 identityPolicy,
-                DEFAULT_RATE_LIMIT_WINDOW,
-                DEFAULT_RATE_LIMIT_REQUESTS,
+                rateLimitWindow,
+                rateLimitRequests,
                 this.restrictToLoopbackClients ? null : this.lanSharedSecret);
         this.requestContext = new RestApiRequestContext(this.authUseCases);
         this.port = port;
         this.photoStorage = new RestApiPhotoStorage(services.getConfig());
         this.userStorage = services.getUserStorage();
+        this.renderedUsers = new RenderedUserCache(
+                this.userTimeZone, user -> locationService.formatForDisplay(user.getLat(), user.getLon()));
+        if (services.getEventBus() != null) {
+            this.renderedUsers.register(services.getEventBus());
+        }
     }
 
     /** Starts the HTTP server. */
@@ -365,6 +401,7 @@ public class RestApiServer {
         app.get("/api/users/{id}/profile-edit-snapshot", this::getProfileEditSnapshot);
         app.get("/api/users/{viewerId}/presentation-context/{targetId}", this::getPresentationContext);
         app.get("/api/users/{id}/browse", this::browseCandidates);
+        app.get("/api/users/{id}/browse/page", this::browseCandidatesPage);
         app.put("/api/users/{id}/profile", this::updateProfile);
         app.get("/api/users/{id}/candidates", this::getCandidates);
         app.delete("/api/users/{id}", this::deleteUser);
@@ -460,15 +497,28 @@ public class RestApiServer {
                 ctx.status(404);
                 return;
             }
-            var content = photoStorage.loadPhoto(userId, fileName);
-            if (content.isEmpty()) {
+            var photo = photoStorage.loadPhoto(userId, fileName, requestedPhotoRendition(ctx));
+            if (photo.isEmpty()) {
                 ctx.status(404);
                 return;
             }
-            ctx.contentType(content.get().contentType()).result(content.get().bytes());
+            RestApiPhotoServing.serve(ctx, photo.get());
         });
     }
 
+    /** Parses {@code ?size=}; absent or unknown sizes serve the original. */
+    private static PhotoRenditions.Size requestedPhotoRendition(Context ctx) {
+        String size = ctx.queryParam(RestApiPhotoStorage.SIZE_QUERY_PARAM);
+        if (size == null || size.isBlank()) {
+            return null;
+        }
+        try {
+            return PhotoRenditions.Size.fromPixels(Integer.parseInt(size.trim())).orElse(null);
+        } catch (NumberFormatException _) {
+            return null;
+        }
+    }
+
     private void registerRequestGuards() {
         requestGuards.registerRequestGuards(app, this::enforceLocalhostOnly);
     }
@@ -562,7 +612,7 @@ public class RestApiServer {
                 user.get(),
                 userTimeZone,
                 locationLabel(user.get()),
-                storedPath -> photoStorage.toPublicUrl(ctx, storedPath),
+                storedPath -> photoStorage.toPublicUrl(ctx, storedPath, DETAIL_PHOTO_SIZE),
                 activationPolicy));
     }
 
@@ -644,6 +694,44 @@ public class RestApiServer {
         ctx.json(response.get());
     }
 
+    /**
+     * Paged browse. A call without {@code cursor} ranks once and opens a server-side session; later
+     * calls pass the previous response's {@code nextCursor} to read the next page from it.
+     */
+    void browseCandidatesPage(Context ctx) {
+        UUID id = parseUuid(ctx.pathParam("id"));
+        Optional<User> user = loadExistingUser(ctx, id);
+        if (user.isEmpty()) {
+            return;
+        }
+        ensureActiveCandidateBrowser(user.get());
+        int limit = ctx.queryParamAsClass(PARAM_LIMIT, Integer.class).getOrDefault(DEFAULT_BROWSE_PAGE_SIZE);
+
+        Optional<MatchingUseCases.BrowseCandidatesPage> page = requiredDataOrHandleFailure(
+                ctx,
+                matchingUseCases.browseCandidatesPage(new BrowseCandidatesPageCommand(
+                        UserContext.api(id), user.get(), ctx.queryParam(PARAM_CURSOR), limit)),
+                "Browse page returned no data");
+        if (page.isEmpty()) {
+            return;
+        }
+        MatchingUseCases.BrowseCandidatesPage browsePage = page.get();
+        ctx.json(new BrowsePageResponse(
+                browsePage.candidates().stream()
+                        .map(renderedUsers::summary)
+                        .toList(),
+                browsePage.nextCursor(),
+                browsePage.remaining(),
+                browsePage
+                        .dailyPick()
+                        .map(dailyPick -> RestApiUserDtos.DailyPickDto.from(
+                                dailyPick, userTimeZone, locationLabel(dailyPick.user())))
+                        .orElse(null),
+                browsePage.dailyPickViewed(),
+                browsePage.locationMissing(),
+                browsePage.sessionRestarted()));
+    }
+
     void updateProfile(Context ctx) {
         UUID userId = parseUuid(ctx.pathParam("id"));
         if (loadExistingUser(ctx, userId).isEmpty()) {
@@ -744,9 +832,9 @@ public class RestApiServer {
             photoStorage.deleteManagedPhoto(storedPath);
             return;
         }
-        List<String> publicUrls = photoStorage.toPublicUrls(ctx, user.getPhotoUrls());
-        String primaryPublicUrl = photoStorage.primaryPublicUrl(ctx, user.getPhotoUrls());
-        String publicUrl = photoStorage.toPublicUrl(ctx, storedPath);
+        List<String> publicUrls = photoStorage.toPublicUrls(ctx, user.getPhotoUrls(), LIST_PHOTO_SIZE);
+        String primaryPublicUrl = photoStorage.primaryPublicUrl(ctx, user.getPhotoUrls(), LIST_PHOTO_SIZE);
+        String publicUrl = photoStorage.toPublicUrl(ctx, storedPath, LIST_PHOTO_SIZE);
         ProfileCompletionDto completion = ProfileCompletionDto.of(ProfileCompletionView.from(user, activationPolicy));
         ctx.status(201)
                 .json(new PhotoUploadResponse(
@@ -798,8 +886,8 @@ public class RestApiServer {
         if (photoStorage.photoIdFromStoredPath(targetPath).isPresent()) {
             photoStorage.deleteManagedPhoto(targetPath);
         }
-        List<String> publicUrls = photoStorage.toPublicUrls(ctx, user.getPhotoUrls());
-        String primaryPublicUrl = photoStorage.primaryPublicUrl(ctx, user.getPhotoUrls());
+        List<String> publicUrls = photoStorage.toPublicUrls(ctx, user.getPhotoUrls(), LIST_PHOTO_SIZE);
+        String primaryPublicUrl = photoStorage.primaryPublicUrl(ctx, user.getPhotoUrls(), LIST_PHOTO_SIZE);
         ProfileCompletionDto completion = ProfileCompletionDto.of(ProfileCompletionView.from(user, activationPolicy));
         ctx.json(new PhotoMutationResponse(
                 primaryPublicUrl,
@@ -847,8 +935,8 @@ public class RestApiServer {
         if (saveResult.isEmpty()) {
             return;
         }
-        List<String> publicUrls = photoStorage.toPublicUrls(ctx, user.getPhotoUrls());
-        String primaryPublicUrl = photoStorage.primaryPublicUrl(ctx, user.getPhotoUrls());
+        List<String> publicUrls = photoStorage.toPublicUrls(ctx, user.getPhotoUrls(), LIST_PHOTO_SIZE);
+        String primaryPublicUrl = photoStorage.primaryPublicUrl(ctx, user.getPhotoUrls(), LIST_PHOTO_SIZE);
         ProfileCompletionDto completion = ProfileCompletionDto.of(ProfileCompletionView.from(user, activationPolicy));
         ctx.json(new PhotoMutationResponse(
                 primaryPublicUrl,
@@ -874,10 +962,12 @@ public class RestApiServer {
         List<PhotoRef> photos = new ArrayList<>();
         for (String path : realPhotoPaths) {
             String photoId = photoStorage.deriveStablePhotoId(path);
-            String publicUrl = photoStorage.toPublicUrl(ctx, path);
+            String publicUrl = photoStorage.toPublicUrl(ctx, path, LIST_PHOTO_SIZE);
             photos.add(new PhotoRef(photoId, publicUrl));
         }
-        String primaryUrl = realPhotoPaths.isEmpty() ? null : photoStorage.toPublicUrl(ctx, realPhotoPaths.getFirst());
+        String primaryUrl = realPhotoPaths.isEmpty()
+                ? null
+                : photoStorage.toPublicUrl(ctx, realPhotoPaths.getFirst(), LIST_PHOTO_SIZE);
         ctx.json(new PhotoListResponse(primaryUrl, photos));
     }
 
@@ -927,10 +1017,7 @@ public class RestApiServer {
     }
 
     private String locationLabel(User user) {
-        if (user == null || !user.hasLocationSet()) {
-            return null;
-        }
-        return locationService.formatForDisplay(user.getLat(), user.getLon());
+        return renderedUsers.locationLabel(user);
     }
 
     // ── Match Handlers ──────────────────────────────────────────────────
@@ -1657,7 +1744,7 @@ public class RestApiServer {
         MatchingUseCases.BrowseCandidatesResult browseResult = result.get();
         return Optional.of(new BrowseCandidatesResponse(
                 browseResult.candidates().stream()
-                        .map(candidate -> UserSummary.from(candidate, userTimeZone, locationLabel(candidate)))
+                        .map(renderedUsers::summary)
                         .toList(),
                 browseResult
                         .dailyPick()
@@ -9,6 +9,7 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
+import datingapp.app.usecase.common.ParallelBranches;
 import datingapp.core.AppConfig;
 import datingapp.core.AppSession;
 import datingapp.core.RuntimeEnvironment;
@@ -22,7 +23,9 @@ import java.nio.file.Path;
 import java.time.Duration;
 import java.time.ZoneId;
 import java.util.Arrays;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.atomic.AtomicReference;
@@ -63,6 +66,9 @@ public final class ApplicationStartup {
     private static final String SEED_DATA_ENV_VAR = ENV_PREFIX + "SEED_DATA";
     private static final Set<String> KNOWN_CONFIG_KEYS = knownConfigKeys();
 
+    /** Deadline for each startup warm-up task, measured from when it is forked. */
+    static final Duration WARMUP_TIMEOUT = Duration.ofSeconds(10);
+
     /**
      * Pre-configured {@link ObjectMapper} for config deserialization.
      *
@@ -89,6 +95,7 @@ public final class ApplicationStartup {
     private static final AtomicReference<Thread> SHUTDOWN_HOOK_REF = new AtomicReference<>();
     private static final AtomicReference<Runnable> INITIALIZATION_COMPLETE_HOOK = new AtomicReference<>();
     private static final AtomicReference<UnaryOperator<String>> ENV_LOOKUP_OVERRIDE_FOR_TESTS = new AtomicReference<>();
+    private static final AtomicReference<StartupReport> LAST_STARTUP_REPORT = new AtomicReference<>();
     private static volatile boolean initialized = false;
 
     private ApplicationStartup() {}
@@ -98,11 +105,29 @@ public final class ApplicationStartup {
     // ========================================================================
 
     public static synchronized ServiceRegistry initialize() {
-        return initialize(load());
+        return initialize(Map.of());
+    }
+
+    /**
+     * Loads configuration and initializes, running each named {@code warmups} task on its own virtual
+     * thread while storage starts up (pool, migrations, wiring). Warm-ups are best effort: a failure
+     * or a task still running after {@link #WARMUP_TIMEOUT} is logged and does not fail startup.
+     * Their timings appear in {@link #lastStartupReport()} as concurrent {@code warmup.<name>} phases.
+     */
+    public static synchronized ServiceRegistry initialize(Map<String, Runnable> warmups) {
+        StartupReport.Recorder phases = new StartupReport.Recorder();
+        AppConfig config = phases.time("config", ApplicationStartup::load);
+        return initialize(config, warmups, phases);
     }
 
     public static synchronized ServiceRegistry initialize(AppConfig config) {
+        return initialize(config, Map.of(), new StartupReport.Recorder());
+    }
+
+    private static ServiceRegistry initialize(
+            AppConfig config, Map<String, Runnable> warmups, StartupReport.Recorder phases) {
         Objects.requireNonNull(config, "config cannot be null");
+        Objects.requireNonNull(warmups, "warmups cannot be null");
         installShutdownHook();
         if (initialized) {
             return services;
@@ -110,9 +135,19 @@ public final class ApplicationStartup {
 
         DatabaseManager initializedDbManager = null;
         CleanupScheduler cleanupScheduler = null;
-        try {
+        try (ParallelBranches concurrentPhases = startWarmups(warmups, phases)) {
             initializedDbManager = DatabaseManager.getInstance();
-            ServiceRegistry initializedServices = StorageFactory.buildSqlDatabase(initializedDbManager, config);
+            DatabaseManager storageDbManager = initializedDbManager;
+            var previousTimings = storageDbManager.lastInitializationTimings().orElse(null);
+            ServiceRegistry initializedServices =
+                    phases.time("storage", () -> StorageFactory.buildSqlDatabase(storageDbManager, config));
+            storageDbManager
+                    .lastInitializationTimings()
+                    .filter(timings -> timings != previousTimings)
+                    .ifPresent(timings -> {
+                        phases.record("storage.pool", timings.pool(), false);
+                        phases.record("storage.schema", timings.schema(), false);
+                    });
 
             dbManager = initializedDbManager;
             services = initializedServices;
@@ -122,18 +157,25 @@ public final class ApplicationStartup {
             // Seed the database with developer test data only when explicitly enabled.
             // DevDataSeeder.seed(...) remains idempotent via UserStorage.save upsert semantics.
             if (isDevDataSeedingEnabled()) {
-                DevDataSeeder.seed(
-                        initializedServices.getUserStorage(),
-                        initializedServices.getInteractionStorage(),
-                        initializedServices.getCommunicationStorage());
+                phases.run(
+                        "seed",
+                        () -> DevDataSeeder.seed(
+                                initializedServices.getUserStorage(),
+                                initializedServices.getInteractionStorage(),
+                                initializedServices.getCommunicationStorage()));
                 logInfo("Dev data seeding enabled ({}=true)", SEED_DATA_ENV_VAR);
             } else if (logger.isDebugEnabled()) {
                 logger.debug("Dev data seeding skipped ({} is not true)", SEED_DATA_ENV_VAR);
             }
 
-            cleanupScheduler = startCleanupScheduler(initializedServices);
+            cleanupScheduler = phases.time("cleanup-scheduler", () -> startCleanupScheduler(initializedServices));
             CLEANUP_SCHEDULER_REF.set(cleanupScheduler);
+            awaitWarmups(concurrentPhases);
             initialized = true;
+
+            StartupReport report = phases.finish();
+            LAST_STARTUP_REPORT.set(report);
+            logInfo("Startup finished in {}", report.summary());
             return initializedServices;
         } catch (Exception ex) {
             rollbackFailedInitialization(initializedDbManager, cleanupScheduler);
@@ -141,6 +183,11 @@ public final class ApplicationStartup {
         }
     }
 
+    /** Phase timings of the most recent successful {@link #initialize} call. */
+    public static Optional<StartupReport> lastStartupReport() {
+        return Optional.ofNullable(LAST_STARTUP_REPORT.get());
+    }
+
     public static ServiceRegistry getServices() {
         ServiceRegistry current = services;
         if (!initialized || current == null) {
@@ -154,6 +201,10 @@ public final class ApplicationStartup {
         if (scheduler != null) {
             scheduler.stop();
         }
+        ServiceRegistry current = services;
+        if (current != null) {
+            flushBufferedWrites(current);
+        }
         if (dbManager != null) {
             dbManager.shutdown();
         }
@@ -556,13 +607,32 @@ public final class ApplicationStartup {
         }
     }
 
+    /** Writes buffered analytics through before the pool closes so recent profile views survive a restart. */
+    private static void flushBufferedWrites(ServiceRegistry serviceRegistry) {
+        try {
+            serviceRegistry.getAnalyticsStorage().flushPendingProfileViews();
+        } catch (RuntimeException ex) {
+            logWarn("Failed to flush buffered profile views during shutdown", ex);
+        }
+    }
+
     private static CleanupScheduler startCleanupScheduler(ServiceRegistry serviceRegistry) {
-        CleanupScheduler scheduler =
-                new CleanupScheduler(Duration.ofHours(24), serviceRegistry.getActivityMetricsService()::runCleanup);
+        CleanupScheduler scheduler = new CleanupScheduler(
+                Duration.ofHours(24), serviceRegistry.getActivityMetricsService(), cleanupOptions());
         scheduler.start();
         return scheduler;
     }
 
+    private static CleanupScheduler.CleanupOptions cleanupOptions() {
+        UnaryOperator<String> envLookup = environmentLookup();
+        CleanupScheduler.CleanupOptions defaults = CleanupScheduler.CleanupOptions.DEFAULTS;
+        int[] values = {defaults.chunkSize(), defaults.rowsPerSecond(), defaults.parallelism()};
+        applyEnvInt(envLookup, "CLEANUP_CHUNK_SIZE", value -> values[0] = value);
+        applyEnvInt(envLookup, "CLEANUP_ROWS_PER_SECOND", value -> values[1] = value);
+        applyEnvInt(envLookup, "CLEANUP_PARALLELISM", value -> values[2] = value);
+        return new CleanupScheduler.CleanupOptions(values[0], values[1], values[2]);
+    }
+
     private static void rollbackFailedInitialization(
             DatabaseManager initializedDbManager, CleanupScheduler cleanupScheduler) {
         if (cleanupScheduler != null) {
@@ -577,6 +647,34 @@ public final class ApplicationStartup {
         }
     }
 
+    private static ParallelBranches startWarmups(Map<String, Runnable> warmups, StartupReport.Recorder phases) {
+        if (warmups.isEmpty()) {
+            return null;
+        }
+        warmups.values().forEach(task -> Objects.requireNonNull(task, "warmup task cannot be null"));
+        ParallelBranches branches = ParallelBranches.open("startup-warmup", WARMUP_TIMEOUT);
+        warmups.forEach((name, task) -> branches.fork(
+                name,
+                () -> {
+                    phases.runConcurrent("warmup." + name, task);
+                    return Boolean.TRUE;
+                },
+                Boolean.FALSE));
+        return branches;
+    }
+
+    private static void awaitWarmups(ParallelBranches branches) {
+        if (branches == null) {
+            return;
+        }
+        try {
+            branches.join();
+        } catch (InterruptedException _) {
+            Thread.currentThread().interrupt();
+            logWarn("Interrupted while waiting for startup warm-up tasks; continuing without them");
+        }
+    }
+
     private static void runInitializationCompleteHook() {
         Runnable hook = INITIALIZATION_COMPLETE_HOOK.get();
         if (hook != null) {
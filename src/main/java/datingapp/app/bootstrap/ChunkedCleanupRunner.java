@@ -0,0 +1,281 @@
+package datingapp.app.bootstrap;
+
+import datingapp.app.bootstrap.CleanupScheduler.CleanupOptions;
+import datingapp.app.bootstrap.CleanupScheduler.TableProgress;
+import datingapp.core.metrics.ActivityMetricsService.CascadingChunkDeleter;
+import datingapp.core.metrics.ActivityMetricsService.CleanupTable;
+import datingapp.core.storage.AccountCleanupStorage.PurgeResult;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Drains retention targets in bounded chunks under a shared rows-per-second budget.
+ *
+ * <p>Tables that do not cascade are drained in parallel; cascading tables run afterwards, alone, so
+ * their cascaded deletes never contend with the other targets. A run that fails or is cancelled
+ * keeps its cutoff and the set of drained tables, and the next run resumes from there instead of
+ * rescanning targets that were already finished. Targets whose deletes cascade into other tables
+ * report those rows per table, and they are carried into the run result and the table progress.
+ * Instances are driven by a single scheduler thread.
+ */
+final class ChunkedCleanupRunner {
+
+    private final CleanupOptions options;
+    private final Throttle throttle;
+    private final AtomicBoolean cancelled = new AtomicBoolean(false);
+    private final Map<String, TableState> progress = new LinkedHashMap<>();
+    private final Set<String> completedTables = new HashSet<>();
+    private Instant resumeCutoff;
+
+    ChunkedCleanupRunner(CleanupOptions options) {
+        this.options = Objects.requireNonNull(options, "options cannot be null");
+        this.throttle = new Throttle(options.rowsPerSecond());
+    }
+
+    /**
+     * Rows deleted by one {@link #run} call.
+     *
+     * @param deletedByTable      rows deleted per retention target
+     * @param cascadedRowsByTable rows that cascading targets removed from other tables, keyed by table
+     */
+    record RunResult(Map<String, Long> deletedByTable, Map<String, Long> cascadedRowsByTable) {}
+
+    /**
+     * Runs one cleanup pass and returns the rows deleted by this call.
+     *
+     * @param cutoffSource cutoff for a fresh run; ignored while resuming an unfinished run
+     * @throws IllegalStateException when any table failed; drained tables are not revisited next run
+     */
+    RunResult run(Supplier<Instant> cutoffSource, List<CleanupTable> tables) {
+        Objects.requireNonNull(cutoffSource, "cutoffSource cannot be null");
+        Objects.requireNonNull(tables, "tables cannot be null");
+        Instant cutoff = beginRun(cutoffSource);
+
+        List<CleanupTable> independent = new ArrayList<>();
+        List<CleanupTable> cascading = new ArrayList<>();
+        for (CleanupTable table : tables) {
+            if (isCompleted(table.name())) {
+                continue;
+            }
+            (table.cascades() ? cascading : independent).add(table);
+        }
+
+        Map<String, Long> deleted = new LinkedHashMap<>();
+        Map<String, Long> cascaded = Collections.synchronizedMap(new LinkedHashMap<>());
+        List<Throwable> failures = new ArrayList<>();
+        drainInParallel(independent, cutoff, deleted, cascaded, failures);
+        for (CleanupTable table : cascading) {
+            if (cancelled.get()) {
+                break;
+            }
+            try {
+                deleted.put(table.name(), drain(table, cutoff, cascaded));
+            } catch (RuntimeException e) {
+                failures.add(e);
+            }
+        }
+
+        if (!failures.isEmpty()) {
+            IllegalStateException failure = new IllegalStateException(
+                    "Retention cleanup failed for " + failures.size() + " table(s); will resume from cutoff " + cutoff,
+                    failures.getFirst());
+            failures.stream().skip(1).forEach(failure::addSuppressed);
+            throw failure;
+        }
+        if (!cancelled.get()) {
+            finishRun();
+        }
+        synchronized (cascaded) {
+            return new RunResult(deleted, new LinkedHashMap<>(cascaded));
+        }
+    }
+
+    /** Stops draining at the next chunk boundary; the unfinished run resumes on the next call. */
+    void cancel() {
+        cancelled.set(true);
+    }
+
+    void resetCancellation() {
+        cancelled.set(false);
+    }
+
+    synchronized Instant resumeCutoff() {
+        return resumeCutoff;
+    }
+
+    synchronized List<TableProgress> progress() {
+        return progress.values().stream().map(TableState::snapshot).toList();
+    }
+
+    private synchronized Instant beginRun(Supplier<Instant> cutoffSource) {
+        if (resumeCutoff == null) {
+            resumeCutoff = Objects.requireNonNull(cutoffSource.get(), "cleanup cutoff cannot be null");
+            completedTables.clear();
+            progress.clear();
+        }
+        return resumeCutoff;
+    }
+
+    private synchronized void finishRun() {
+        resumeCutoff = null;
+    }
+
+    private synchronized boolean isCompleted(String table) {
+        return completedTables.contains(table);
+    }
+
+    private synchronized void markCompleted(String table) {
+        completedTables.add(table);
+    }
+
+    private synchronized TableState stateFor(String table) {
+        return progress.computeIfAbsent(table, TableState::new);
+    }
+
+    private void drainInParallel(
+            List<CleanupTable> tables,
+            Instant cutoff,
+            Map<String, Long> deleted,
+            Map<String, Long> cascaded,
+            List<Throwable> failures) {
+        if (tables.isEmpty()) {
+            return;
+        }
+        int threads = Math.min(options.parallelism(), tables.size());
+        ExecutorService pool = Executors.newFixedThreadPool(
+                threads, Thread.ofPlatform().name("datingapp-cleanup-worker-", 0).daemon().factory());
+        try {
+            Map<String, Future<Long>> futures = new LinkedHashMap<>();
+            for (CleanupTable table : tables) {
+                futures.put(table.name(), pool.submit(() -> drain(table, cutoff, cascaded)));
+            }
+            for (Map.Entry<String, Future<Long>> entry : futures.entrySet()) {
+                try {
+                    deleted.put(entry.getKey(), entry.getValue().get());
+                } catch (ExecutionException e) {
+                    failures.add(e.getCause());
+                }
+            }
+        } catch (InterruptedException _) {
+            cancel();
+            Thread.currentThread().interrupt();
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private long drain(CleanupTable table, Instant cutoff, Map<String, Long> cascaded) {
+        TableState state = stateFor(table.name());
+        int chunkSize = options.chunkSize();
+        long deleted = 0;
+        while (!cancelled.get()) {
+            long started = System.nanoTime();
+            int rows;
+            if (table.deleter() instanceof CascadingChunkDeleter cascading) {
+                PurgeResult result = cascading.deleteChunkWithCascade(cutoff, chunkSize);
+                rows = result.accountsPurged();
+                result.rowsDeletedByTable().forEach((name, count) -> {
+                    state.recordCascaded(name, count);
+                    cascaded.merge(name, count, Long::sum);
+                });
+            } else {
+                rows = table.deleter().deleteChunk(cutoff, chunkSize);
+            }
+            state.record(rows, System.nanoTime() - started);
+            deleted += rows;
+            if (rows < chunkSize) {
+                state.complete = true;
+                markCompleted(table.name());
+                break;
+            }
+            if (!throttle.pace(rows)) {
+                cancel();
+                Thread.currentThread().interrupt();
+            }
+        }
+        return deleted;
+    }
+
+    /** Mutable per-table counters; written by one worker, read by status snapshots. */
+    private static final class TableState {
+        private final String table;
+        private final AtomicLong rowsDeleted = new AtomicLong();
+        private final AtomicLong chunks = new AtomicLong();
+        private final AtomicLong elapsedNanos = new AtomicLong();
+        private final Map<String, Long> cascadedRows = new LinkedHashMap<>();
+        private volatile boolean complete;
+
+        private TableState(String table) {
+            this.table = table;
+        }
+
+        private void record(int rows, long nanos) {
+            rowsDeleted.addAndGet(rows);
+            chunks.incrementAndGet();
+            elapsedNanos.addAndGet(nanos);
+        }
+
+        private synchronized void recordCascaded(String cascadedTable, long rows) {
+            cascadedRows.merge(cascadedTable, rows, Long::sum);
+        }
+
+        private synchronized TableProgress snapshot() {
+            return new TableProgress(
+                    table,
+                    rowsDeleted.get(),
+                    chunks.get(),
+                    Duration.ofNanos(elapsedNanos.get()),
+                    complete,
+                    cascadedRows);
+        }
+    }
+
+    /**
+     * Rows-per-second budget shared by every worker. Each chunk reserves the time slot its rows cost,
+     * so concurrent tables split the budget instead of each getting the full rate.
+     */
+    private static final class Throttle {
+        private final long nanosPerRow;
+        private long nextFreeNanos = System.nanoTime();
+
+        private Throttle(int rowsPerSecond) {
+            this.nanosPerRow = rowsPerSecond > 0 ? TimeUnit.SECONDS.toNanos(1) / rowsPerSecond : 0L;
+        }
+
+        /** Waits until {@code rows} fit the budget; returns {@code false} if interrupted. */
+        private boolean pace(int rows) {
+            if (nanosPerRow == 0L || rows <= 0) {
+                return true;
+            }
+            long waitNanos;
+            synchronized (this) {
+                long now = System.nanoTime();
+                long start = Math.max(now, nextFreeNanos);
+                nextFreeNanos = start + rows * nanosPerRow;
+                waitNanos = nextFreeNanos - now;
+            }
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+                return true;
+            } catch (InterruptedException _) {
+                return false;
+            }
+        }
+    }
+}
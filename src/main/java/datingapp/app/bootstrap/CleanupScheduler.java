@@ -2,6 +2,9 @@ package datingapp.app.bootstrap;
 
 import datingapp.core.metrics.ActivityMetricsService;
 import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.Executors;
@@ -20,7 +23,9 @@ import org.slf4j.LoggerFactory;
  * Periodically runs retention cleanup routines in the background.
  *
  * <p>Designed as a small lifecycle component so startup wiring can schedule cleanup
- * without leaking thread-management details into entry points.
+ * without leaking thread-management details into entry points. When built from an
+ * {@link ActivityMetricsService}, each run drains the retention targets in bounded chunks
+ * under a rows-per-second budget and reports per-table progress in {@link CleanupStatus}.
  */
 public final class CleanupScheduler {
 
@@ -31,10 +36,60 @@ public final class CleanupScheduler {
             long failedRuns,
             long consecutiveFailures,
             Duration nextDelay,
-            Throwable lastFailure) {
+            Throwable lastFailure,
+            List<TableProgress> tableProgress,
+            Instant resumeCutoff) {
+        public CleanupStatus {
+            tableProgress = tableProgress == null ? List.of() : List.copyOf(tableProgress);
+        }
+
         public Optional<Throwable> lastFailureOptional() {
             return Optional.ofNullable(lastFailure);
         }
+
+        /** Cutoff of an unfinished chunked run that the next run will resume, if any. */
+        public Optional<Instant> resumeCutoffOptional() {
+            return Optional.ofNullable(resumeCutoff);
+        }
+    }
+
+    /**
+     * Progress of one retention target within the current (or last finished) chunked run.
+     * {@code cascadedRows} holds the rows the target's deletes removed from other tables, keyed by table.
+     */
+    public static record TableProgress(
+            String table,
+            long rowsDeleted,
+            long chunks,
+            Duration elapsed,
+            boolean complete,
+            Map<String, Long> cascadedRows) {
+        public TableProgress {
+            cascadedRows = cascadedRows == null ? Map.of() : Map.copyOf(cascadedRows);
+        }
+    }
+
+    /**
+     * Chunked cleanup tuning.
+     *
+     * @param chunkSize     maximum rows removed by one delete statement
+     * @param rowsPerSecond deletion budget shared by all tables; {@code 0} disables throttling
+     * @param parallelism   maximum number of non-cascading tables drained concurrently
+     */
+    public static record CleanupOptions(int chunkSize, int rowsPerSecond, int parallelism) {
+        public static final CleanupOptions DEFAULTS = new CleanupOptions(1_000, 5_000, 2);
+
+        public CleanupOptions {
+            if (chunkSize <= 0) {
+                throw new IllegalArgumentException("chunkSize must be positive");
+            }
+            if (rowsPerSecond < 0) {
+                throw new IllegalArgumentException("rowsPerSecond cannot be negative");
+            }
+            if (parallelism <= 0) {
+                throw new IllegalArgumentException("parallelism must be positive");
+            }
+        }
     }
 
     private static final Logger logger = LoggerFactory.getLogger(CleanupScheduler.class);
@@ -43,6 +98,7 @@ public final class CleanupScheduler {
 
     private final Duration interval;
     private final Supplier<ActivityMetricsService.CleanupResult> cleanupTask;
+    private final ChunkedCleanupRunner chunkedRunner;
     private final AtomicBoolean running = new AtomicBoolean(false);
     private final AtomicLong totalRuns = new AtomicLong(0);
     private final AtomicLong successfulRuns = new AtomicLong(0);
@@ -56,6 +112,20 @@ public final class CleanupScheduler {
     public CleanupScheduler(Duration interval, Supplier<ActivityMetricsService.CleanupResult> cleanupTask) {
         this.interval = Objects.requireNonNull(interval, "interval cannot be null");
         this.cleanupTask = Objects.requireNonNull(cleanupTask, "cleanupTask cannot be null");
+        this.chunkedRunner = null;
+    }
+
+    public CleanupScheduler(Duration interval, ActivityMetricsService metricsService, CleanupOptions options) {
+        Objects.requireNonNull(metricsService, "metricsService cannot be null");
+        this.interval = Objects.requireNonNull(interval, "interval cannot be null");
+        ChunkedCleanupRunner runner = new ChunkedCleanupRunner(options);
+        this.chunkedRunner = runner;
+        this.cleanupTask = () -> {
+            ChunkedCleanupRunner.RunResult result =
+                    runner.run(metricsService::cleanupCutoff, metricsService.cleanupTables());
+            return ActivityMetricsService.CleanupResult.fromTableCounts(
+                    result.deletedByTable(), result.cascadedRowsByTable());
+        };
     }
 
     public synchronized void start() {
@@ -68,6 +138,9 @@ public final class CleanupScheduler {
             return thread;
         };
         executor = Executors.newSingleThreadScheduledExecutor(factory);
+        if (chunkedRunner != null) {
+            chunkedRunner.resetCancellation();
+        }
         running.set(true);
         scheduleNextRun(interval);
         logInfo("Cleanup scheduler started (interval={}ms)", Math.max(1L, interval.toMillis()));
@@ -81,6 +154,9 @@ public final class CleanupScheduler {
             scheduledFuture.cancel(false);
             scheduledFuture = null;
         }
+        if (chunkedRunner != null) {
+            chunkedRunner.cancel();
+        }
         if (executor != null) {
             executor.shutdownNow();
             executor = null;
@@ -101,7 +177,9 @@ public final class CleanupScheduler {
                 failedRuns.get(),
                 consecutiveFailures.get(),
                 nextDelay.get(),
-                lastFailure.get());
+                lastFailure.get(),
+                chunkedRunner != null ? chunkedRunner.progress() : List.of(),
+                chunkedRunner != null ? chunkedRunner.resumeCutoff() : null);
     }
 
     Duration runCleanupOnce() {
@@ -0,0 +1,109 @@
+package datingapp.app.bootstrap;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Wall-clock breakdown of one {@link ApplicationStartup} initialization, in the order phases finished.
+ *
+ * <p>Sequential phases are on the startup thread's critical path. Phases marked {@code concurrent} ran
+ * on warm-up threads alongside them, so they only add to {@link #total()} when they outlast the
+ * sequential work they overlapped. A dotted sequential name such as {@code storage.schema} is a slice of the phase
+ * named by its prefix, not additional time.
+ */
+public record StartupReport(List<Phase> phases, Duration total) {
+
+    public StartupReport {
+        phases = List.copyOf(Objects.requireNonNull(phases, "phases cannot be null"));
+        Objects.requireNonNull(total, "total cannot be null");
+    }
+
+    public Optional<Phase> phase(String name) {
+        return phases.stream().filter(phase -> phase.name().equals(name)).findFirst();
+    }
+
+    /** One-line rendering for the startup log, e.g. {@code 840 ms [config 12 ms, storage 790 ms]}. */
+    public String summary() {
+        String sequential = render(phases.stream().filter(phase -> !phase.concurrent()).toList());
+        List<Phase> concurrent = phases.stream().filter(Phase::concurrent).toList();
+        return total.toMillis() + " ms [" + sequential + "]"
+                + (concurrent.isEmpty() ? "" : " concurrently [" + render(concurrent) + "]");
+    }
+
+    private static String render(List<Phase> phases) {
+        return phases.stream()
+                .map(phase -> phase.name() + " " + phase.elapsed().toMillis() + " ms")
+                .collect(Collectors.joining(", "));
+    }
+
+    /** A named slice of startup and how long it took. */
+    public record Phase(String name, Duration elapsed, boolean concurrent) {
+        public Phase {
+            Objects.requireNonNull(name, "name cannot be null");
+            Objects.requireNonNull(elapsed, "elapsed cannot be null");
+        }
+    }
+
+    /** Collects phases while startup runs; safe to record into from warm-up threads. */
+    static final class Recorder {
+        private final LongSupplier nanoTime;
+        private final long startedAt;
+        private final List<Phase> phases = new ArrayList<>();
+
+        Recorder() {
+            this(System::nanoTime);
+        }
+
+        Recorder(LongSupplier nanoTime) {
+            this.nanoTime = Objects.requireNonNull(nanoTime, "nanoTime cannot be null");
+            this.startedAt = nanoTime.getAsLong();
+        }
+
+        /** Runs {@code work} on the calling thread as a sequential phase, recording it even if it throws. */
+        <T> T time(String name, Supplier<T> work) {
+            long start = nanoTime.getAsLong();
+            try {
+                return work.get();
+            } finally {
+                record(name, Duration.ofNanos(nanoTime.getAsLong() - start), false);
+            }
+        }
+
+        void run(String name, Runnable work) {
+            time(name, () -> {
+                work.run();
+                return null;
+            });
+        }
+
+        /** Runs {@code work} as a concurrent phase; intended to be called from a warm-up thread. */
+        void runConcurrent(String name, Runnable work) {
+            long start = nanoTime.getAsLong();
+            try {
+                work.run();
+            } finally {
+                record(name, Duration.ofNanos(nanoTime.getAsLong() - start), true);
+            }
+        }
+
+        void record(String name, Duration elapsed, boolean concurrent) {
+            Phase phase = new Phase(name, elapsed, concurrent);
+            synchronized (phases) {
+                phases.add(phase);
+            }
+        }
+
+        StartupReport finish() {
+            Duration total = Duration.ofNanos(nanoTime.getAsLong() - startedAt);
+            synchronized (phases) {
+                return new StartupReport(phases, total);
+            }
+        }
+    }
+}
@@ -10,6 +10,8 @@ import java.util.UUID;
  */
 public sealed interface AppEvent
         permits AppEvent.SwipeRecorded,
+                AppEvent.SwipeUndone,
+                AppEvent.LikeRemoved,
                 AppEvent.MatchCreated,
                 AppEvent.ProfileSaved,
                 AppEvent.ProfileCompleted,
@@ -44,6 +46,12 @@ public sealed interface AppEvent
             UUID swiperId, UUID targetId, Like.Direction direction, boolean resultedInMatch, Instant occurredAt)
             implements AppEvent {}
 
+    record SwipeUndone(
+            UUID swiperId, UUID targetId, Like.Direction direction, boolean matchDeleted, Instant occurredAt)
+            implements AppEvent {}
+
+    record LikeRemoved(UUID userId, UUID targetId, Instant occurredAt) implements AppEvent {}
+
     record MatchCreated(String matchId, UUID userA, UUID userB, Instant occurredAt) implements AppEvent {}
 
     record ProfileSaved(UUID userId, boolean activated, Instant occurredAt) implements AppEvent {}
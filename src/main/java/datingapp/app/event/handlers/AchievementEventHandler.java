@@ -5,7 +5,10 @@ import datingapp.app.event.AppEventBus;
 import datingapp.core.metrics.AchievementService;
 import java.util.Objects;
 
-/** Listens for profile and swipe events and checks achievement eligibility. */
+/**
+ * Listens for profile, swipe, undo, match, and report events, keeps achievement progress counters current,
+ * and checks achievement eligibility.
+ */
 public final class AchievementEventHandler {
 
     private final AchievementService achievementService;
@@ -17,6 +20,9 @@ public final class AchievementEventHandler {
     /** Subscribes this handler to the given event bus with BEST_EFFORT policy. */
     public void register(AppEventBus eventBus) {
         eventBus.subscribe(AppEvent.SwipeRecorded.class, this::onSwipeRecorded, AppEventBus.HandlerPolicy.BEST_EFFORT);
+        eventBus.subscribe(AppEvent.SwipeUndone.class, this::onSwipeUndone, AppEventBus.HandlerPolicy.BEST_EFFORT);
+        eventBus.subscribe(AppEvent.LikeRemoved.class, this::onLikeRemoved, AppEventBus.HandlerPolicy.BEST_EFFORT);
+        eventBus.subscribe(AppEvent.MatchCreated.class, this::onMatchCreated, AppEventBus.HandlerPolicy.BEST_EFFORT);
         eventBus.subscribe(AppEvent.ProfileSaved.class, this::onProfileSaved, AppEventBus.HandlerPolicy.BEST_EFFORT);
         eventBus.subscribe(
                 AppEvent.ProfileNoteSaved.class, this::onProfileNoteSaved, AppEventBus.HandlerPolicy.BEST_EFFORT);
@@ -26,11 +32,29 @@ public final class AchievementEventHandler {
     }
 
     void onSwipeRecorded(AppEvent.SwipeRecorded event) {
+        achievementService.recordSwipe(event.swiperId(), event.direction(), event.resultedInMatch());
         if (event.resultedInMatch()) {
             achievementService.checkAndUnlock(event.swiperId());
         }
     }
 
+    void onSwipeUndone(AppEvent.SwipeUndone event) {
+        achievementService.recountCounters(event.swiperId());
+        if (event.matchDeleted()) {
+            achievementService.recountCounters(event.targetId());
+        }
+    }
+
+    void onLikeRemoved(AppEvent.LikeRemoved event) {
+        achievementService.recountCounters(event.userId());
+    }
+
+    void onMatchCreated(AppEvent.MatchCreated event) {
+        // The swiping side (userA) was already credited by the preceding SwipeRecorded event.
+        achievementService.recordMatch(event.userB());
+        achievementService.checkAndUnlock(event.userB());
+    }
+
     void onProfileSaved(AppEvent.ProfileSaved event) {
         achievementService.checkAndUnlock(event.userId());
     }
@@ -44,6 +68,7 @@ public final class AchievementEventHandler {
     }
 
     void onUserReported(AppEvent.UserReported event) {
+        achievementService.recordReport(event.reporterId());
         if (event.validated()) {
             achievementService.checkAndUnlock(event.reporterId());
         }
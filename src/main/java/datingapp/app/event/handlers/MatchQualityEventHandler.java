@@ -0,0 +1,94 @@
+package datingapp.app.event.handlers;
+
+import datingapp.app.event.AppEvent;
+import datingapp.app.event.AppEventBus;
+import datingapp.core.matching.MatchQualityService;
+import datingapp.core.storage.InteractionStorage;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Computes both sides' match-quality snapshots when a match is created and drops a user's snapshots
+ * when their profile is saved or their account is deleted.
+ *
+ * <p>The event bus dispatches on the publishing thread, which for {@code MatchCreated} is the swipe
+ * path, so precomputation is handed to a small background pool instead of running inline. Work
+ * that does not fit the queue is dropped; the snapshot is then computed on first read.
+ */
+public final class MatchQualityEventHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(MatchQualityEventHandler.class);
+    private static final int QUEUE_CAPACITY = 256;
+
+    private static final ThreadPoolExecutor PRECOMPUTE_EXECUTOR = new ThreadPoolExecutor(
+            1,
+            1,
+            30L,
+            TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+            Thread.ofPlatform().name("match-quality-precompute-", 0).daemon().factory(),
+            new ThreadPoolExecutor.AbortPolicy());
+
+    static {
+        PRECOMPUTE_EXECUTOR.allowCoreThreadTimeOut(true);
+    }
+
+    private final MatchQualityService matchQualityService;
+    private final InteractionStorage interactionStorage;
+    private final Executor precomputeExecutor;
+
+    public MatchQualityEventHandler(MatchQualityService matchQualityService, InteractionStorage interactionStorage) {
+        this(matchQualityService, interactionStorage, PRECOMPUTE_EXECUTOR);
+    }
+
+    MatchQualityEventHandler(
+            MatchQualityService matchQualityService,
+            InteractionStorage interactionStorage,
+            Executor precomputeExecutor) {
+        this.matchQualityService = Objects.requireNonNull(matchQualityService, "matchQualityService");
+        this.interactionStorage = Objects.requireNonNull(interactionStorage, "interactionStorage");
+        this.precomputeExecutor = Objects.requireNonNull(precomputeExecutor, "precomputeExecutor");
+    }
+
+    /** Subscribes this handler to the given event bus with BEST_EFFORT policy. */
+    public void register(AppEventBus eventBus) {
+        eventBus.subscribe(AppEvent.MatchCreated.class, this::onMatchCreated, AppEventBus.HandlerPolicy.BEST_EFFORT);
+        eventBus.subscribe(AppEvent.ProfileSaved.class, this::onProfileSaved, AppEventBus.HandlerPolicy.BEST_EFFORT);
+        eventBus.subscribe(
+                AppEvent.AccountDeleted.class, this::onAccountDeleted, AppEventBus.HandlerPolicy.BEST_EFFORT);
+    }
+
+    void onMatchCreated(AppEvent.MatchCreated event) {
+        try {
+            precomputeExecutor.execute(() -> precompute(event.matchId()));
+        } catch (RejectedExecutionException _) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("Match-quality precompute queue full; skipping match {}", event.matchId());
+            }
+        }
+    }
+
+    void onProfileSaved(AppEvent.ProfileSaved event) {
+        matchQualityService.invalidateUser(event.userId());
+    }
+
+    void onAccountDeleted(AppEvent.AccountDeleted event) {
+        matchQualityService.invalidateUser(event.userId());
+    }
+
+    private void precompute(String matchId) {
+        try {
+            interactionStorage.get(matchId).ifPresent(matchQualityService::precompute);
+        } catch (RuntimeException e) {
+            if (logger.isWarnEnabled()) {
+                logger.warn("Match-quality precompute failed for match {}", matchId, e);
+            }
+        }
+    }
+}
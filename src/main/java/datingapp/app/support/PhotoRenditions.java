@@ -0,0 +1,281 @@
+package datingapp.app.support;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import javax.imageio.ImageIO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Derives fixed-size downscaled renditions of stored profile photos.
+ *
+ * <p>Renditions live next to the original as {@code <name>_<edge>.<ext>} (for example
+ * {@code 3f2c…_320.jpg}) so list views can decode and transfer a small file instead of the
+ * full-resolution original. Derivation runs on a small bounded background pool; readers must always
+ * fall back to the original when a rendition is missing, because it may still be in flight, may have
+ * been dropped under load, or is skipped when the original is already smaller than the target edge.
+ */
+public final class PhotoRenditions {
+
+    private static final Logger logger = LoggerFactory.getLogger(PhotoRenditions.class);
+
+    private static final int WORKER_THREADS = 2;
+    private static final int QUEUE_CAPACITY = 64;
+    private static final String TEMP_FILE_PREFIX = ".rendition-";
+
+    /** Bounded derivation pool; rejected work is dropped because readers fall back to the original. */
+    private static final ExecutorService EXECUTOR = new ThreadPoolExecutor(
+            WORKER_THREADS,
+            WORKER_THREADS,
+            30L,
+            TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+            Thread.ofPlatform().name("photo-rendition-worker-", 0).daemon().factory(),
+            new ThreadPoolExecutor.AbortPolicy());
+
+    static {
+        ((ThreadPoolExecutor) EXECUTOR).allowCoreThreadTimeOut(true);
+    }
+
+    /** Fixed rendition sizes, bounded by their longest edge in pixels. */
+    public static enum Size {
+        THUMBNAIL(96),
+        CARD(320),
+        FULL(1080);
+
+        private final int maxEdge;
+
+        Size(int maxEdge) {
+            this.maxEdge = maxEdge;
+        }
+
+        public int maxEdge() {
+            return maxEdge;
+        }
+
+        String suffix() {
+            return "_" + maxEdge;
+        }
+
+        /** Returns the size whose edge equals {@code pixels}, as used by the {@code ?size=} query parameter. */
+        public static Optional<Size> fromPixels(int pixels) {
+            for (Size size : values()) {
+                if (size.maxEdge == pixels) {
+                    return Optional.of(size);
+                }
+            }
+            return Optional.empty();
+        }
+
+        /**
+         * Returns the smallest rendition that covers a display box of the given size, or empty when
+         * only the original is large enough.
+         */
+        public static Optional<Size> forDisplay(double width, double height) {
+            double longestEdge = Math.max(width, height);
+            if (!(longestEdge > 0)) {
+                return Optional.empty();
+            }
+            for (Size size : values()) {
+                if (size.maxEdge >= longestEdge) {
+                    return Optional.of(size);
+                }
+            }
+            return Optional.empty();
+        }
+    }
+
+    private PhotoRenditions() {
+        // Utility class
+    }
+
+    /** Returns the rendition file name for {@code fileName}, keeping its extension. */
+    public static String renditionFileName(String fileName, Size size) {
+        Objects.requireNonNull(fileName, "fileName cannot be null");
+        Objects.requireNonNull(size, "size cannot be null");
+        int dotIndex = fileName.lastIndexOf('.');
+        if (dotIndex <= 0) {
+            return fileName + size.suffix();
+        }
+        return fileName.substring(0, dotIndex) + size.suffix() + fileName.substring(dotIndex);
+    }
+
+    /** Returns the sibling path where the rendition of {@code original} is stored. */
+    public static Path renditionPath(Path original, Size size) {
+        Objects.requireNonNull(original, "original cannot be null");
+        return original.resolveSibling(renditionFileName(original.getFileName().toString(), size));
+    }
+
+    /** Returns the smallest existing rendition covering the display box, falling back to the original. */
+    public static Path bestAvailable(Path original, double width, double height) {
+        Objects.requireNonNull(original, "original cannot be null");
+        Optional<Size> wanted = Size.forDisplay(width, height);
+        if (wanted.isEmpty()) {
+            return original;
+        }
+        for (Size size : Size.values()) {
+            if (size.compareTo(wanted.get()) < 0) {
+                continue;
+            }
+            Path rendition = renditionPath(original, size);
+            if (Files.isRegularFile(rendition)) {
+                return rendition;
+            }
+        }
+        return original;
+    }
+
+    /**
+     * Schedules rendition derivation for {@code original} on the background pool.
+     *
+     * @param original stored original file
+     * @param decoded  already-decoded pixels of the original, or {@code null} to decode from disk
+     * @return future of the rendition files written; completes with an empty list when the pool is
+     *     saturated and the work was dropped
+     */
+    public static CompletableFuture<List<Path>> deriveAsync(Path original, BufferedImage decoded) {
+        Objects.requireNonNull(original, "original cannot be null");
+        try {
+            return CompletableFuture.supplyAsync(
+                    () -> {
+                        try {
+                            return derive(original, decoded);
+                        } catch (IOException e) {
+                            logWarn("Failed to derive renditions for {}", original, e);
+                            return List.of();
+                        }
+                    },
+                    EXECUTOR);
+        } catch (RejectedExecutionException _) {
+            logDebug("Dropped rendition derivation for {} because the queue is full", original);
+            return CompletableFuture.completedFuture(List.of());
+        }
+    }
+
+    /**
+     * Writes every rendition smaller than the original synchronously. Sizes the original does not
+     * exceed are skipped so small uploads are never upscaled.
+     */
+    public static List<Path> derive(Path original, BufferedImage decoded) throws IOException {
+        Objects.requireNonNull(original, "original cannot be null");
+        BufferedImage source = decoded != null ? decoded : ImageIO.read(original.toFile());
+        if (source == null) {
+            throw new IOException("Stored photo is not a readable image: " + original.getFileName());
+        }
+        String formatName = formatName(original);
+        List<Path> written = new ArrayList<>();
+        BufferedImage current = source;
+        // Largest first so each step downsamples from the previous rendition instead of the original.
+        Size[] sizes = Size.values();
+        for (int i = sizes.length - 1; i >= 0; i--) {
+            Size size = sizes[i];
+            if (Math.max(current.getWidth(), current.getHeight()) <= size.maxEdge()) {
+                continue;
+            }
+            current = scaleToFit(current, size.maxEdge(), hasAlpha(formatName));
+            Path target = renditionPath(original, size);
+            writeAtomically(current, formatName, target);
+            if (!Files.exists(original)) {
+                // The photo was deleted while deriving; do not leave orphaned renditions behind.
+                deleteRenditions(original);
+                return List.of();
+            }
+            written.add(target);
+        }
+        return List.copyOf(written);
+    }
+
+    /** Deletes every rendition of {@code original}; missing renditions are ignored. */
+    public static void deleteRenditions(Path original) throws IOException {
+        Objects.requireNonNull(original, "original cannot be null");
+        for (Size size : Size.values()) {
+            Files.deleteIfExists(renditionPath(original, size));
+        }
+    }
+
+    /**
+     * Scales {@code image} so its longest edge is {@code maxEdge}, halving repeatedly before the final
+     * bilinear step so large downscales stay smooth without an area-averaging pass.
+     */
+    static BufferedImage scaleToFit(BufferedImage image, int maxEdge, boolean keepAlpha) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        double scale = (double) maxEdge / Math.max(width, height);
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+        int imageType = keepAlpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+
+        BufferedImage current = image;
+        int currentWidth = width;
+        int currentHeight = height;
+        do {
+            currentWidth = Math.max(targetWidth, currentWidth / 2);
+            currentHeight = Math.max(targetHeight, currentHeight / 2);
+            BufferedImage step = new BufferedImage(currentWidth, currentHeight, imageType);
+            Graphics2D graphics = step.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.drawImage(current, 0, 0, currentWidth, currentHeight, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = step;
+        } while (currentWidth != targetWidth || currentHeight != targetHeight);
+        return current;
+    }
+
+    private static void writeAtomically(BufferedImage image, String formatName, Path target) throws IOException {
+        Path temp = Files.createTempFile(target.getParent(), TEMP_FILE_PREFIX, ".tmp");
+        try {
+            if (!ImageIO.write(image, formatName, temp.toFile())) {
+                throw new IOException("No image writer for format " + formatName);
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException _) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static String formatName(Path original) {
+        String name = original.getFileName().toString().toLowerCase(Locale.ROOT);
+        return name.endsWith(".png") ? "png" : "jpg";
+    }
+
+    private static boolean hasAlpha(String formatName) {
+        return "png".equals(formatName);
+    }
+
+    private static void logWarn(String message, Object... args) {
+        if (logger.isWarnEnabled()) {
+            logger.warn(message, args);
+        }
+    }
+
+    private static void logDebug(String message, Object... args) {
+        if (logger.isDebugEnabled()) {
+            logger.debug(message, args);
+        }
+    }
+}
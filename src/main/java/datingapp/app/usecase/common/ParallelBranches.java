@@ -0,0 +1,252 @@
+package datingapp.app.usecase.common;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Structured fan-out of independent read branches onto virtual threads.
+ *
+ * <p>Open it in a try-with-resources block, fork every branch, then {@link #join()}. Each branch has
+ * its own deadline measured from when it starts running. A branch that throws or misses its deadline is
+ * marked degraded and yields its fallback, so the aggregate waits for the slowest branch (bounded by
+ * its timeout) instead of the sum of all branches. {@link #close()} cancels whatever is still running;
+ * a branch stuck in a non-interruptible call may finish in the background, but its result is dropped.
+ *
+ * <p>Branches that each hold a pooled connection can be capped with a shared {@link Semaphore}: a
+ * branch then waits for a permit before it starts, for at most its timeout, so concurrent fan-outs
+ * queue for the pool instead of exhausting it. A branch that gets no permit in time degrades.
+ *
+ * <p>{@code StructuredTaskScope} would express the same shape, but it is still a preview API whose
+ * surface changes between releases, so this keeps the same lifetime rules on a plain executor.
+ */
+public final class ParallelBranches implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ParallelBranches.class);
+
+    private final String name;
+    private final Duration defaultTimeout;
+    private final Semaphore permits;
+    private final ExecutorService executor;
+    private final List<Branch<?>> branches = new ArrayList<>();
+    private boolean joined;
+
+    private ParallelBranches(String name, Duration defaultTimeout, Semaphore permits) {
+        this.name = Objects.requireNonNull(name, "name cannot be null");
+        this.defaultTimeout = requirePositive(defaultTimeout);
+        this.permits = permits;
+        this.executor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name(name + "-", 0).factory());
+    }
+
+    /** Opens a fan-out whose branches default to {@code defaultTimeout}. */
+    public static ParallelBranches open(String name, Duration defaultTimeout) {
+        return new ParallelBranches(name, defaultTimeout, null);
+    }
+
+    /** Opens a fan-out whose branches each hold one of {@code permits} while they run. */
+    public static ParallelBranches open(String name, Duration defaultTimeout, Semaphore permits) {
+        return new ParallelBranches(name, defaultTimeout, Objects.requireNonNull(permits, "permits cannot be null"));
+    }
+
+    public <T> Branch<T> fork(String branchName, Callable<T> task, T fallback) {
+        return fork(branchName, defaultTimeout, task, fallback);
+    }
+
+    public <T> Branch<T> fork(String branchName, Duration timeout, Callable<T> task, T fallback) {
+        Objects.requireNonNull(branchName, "branchName cannot be null");
+        Objects.requireNonNull(task, "task cannot be null");
+        if (joined) {
+            throw new IllegalStateException("Cannot fork after join");
+        }
+        Branch<T> branch = new Branch<>(branchName, requirePositive(timeout).toNanos(), fallback);
+        branch.future = executor.submit(() -> branch.run(task, permits));
+        branches.add(branch);
+        return branch;
+    }
+
+    /**
+     * Waits for every branch to finish or reach its deadline. Branches still running at their
+     * deadline are cancelled.
+     *
+     * @throws InterruptedException if the calling thread is interrupted; all branches are cancelled
+     */
+    public void join() throws InterruptedException {
+        joined = true;
+        try {
+            for (Branch<?> branch : branches) {
+                branch.await();
+                if (branch.degraded()) {
+                    logger.warn(
+                            "{} branch '{}' degraded: {}",
+                            name,
+                            branch.name(),
+                            branch.failure().map(Throwable::toString).orElse("unknown"));
+                }
+            }
+        } catch (InterruptedException e) {
+            cancelAll();
+            throw e;
+        }
+    }
+
+    /** Names of branches that failed or timed out, in fork order. */
+    public List<String> degradedBranches() {
+        requireJoined();
+        return branches.stream().filter(Branch::degraded).map(Branch::name).toList();
+    }
+
+    /** Whether every forked branch degraded, which usually means a shared dependency is down. */
+    public boolean allDegraded() {
+        requireJoined();
+        return !branches.isEmpty() && branches.stream().allMatch(Branch::degraded);
+    }
+
+    /**
+     * Every degraded branch with its cause, in fork order, e.g. {@code "stats (timed out), achievements
+     * (IllegalStateException: db down)"}; empty when nothing degraded.
+     */
+    public String degradedSummary() {
+        requireJoined();
+        return branches.stream()
+                .filter(Branch::degraded)
+                .map(branch -> branch.name() + " (" + describe(branch.failure) + ")")
+                .collect(Collectors.joining(", "));
+    }
+
+    private static String describe(Throwable failure) {
+        if (failure instanceof TimeoutException) {
+            return failure.getMessage() == null ? "timed out" : "timed out: " + failure.getMessage();
+        }
+        String type = failure.getClass().getSimpleName();
+        return failure.getMessage() == null ? type : type + ": " + failure.getMessage();
+    }
+
+    @Override
+    public void close() {
+        cancelAll();
+        executor.shutdownNow();
+    }
+
+    private void cancelAll() {
+        for (Branch<?> branch : branches) {
+            branch.future.cancel(true);
+        }
+    }
+
+    private void requireJoined() {
+        if (!joined) {
+            throw new IllegalStateException("Branches have not been joined");
+        }
+    }
+
+    private static Duration requirePositive(Duration timeout) {
+        Objects.requireNonNull(timeout, "timeout cannot be null");
+        if (timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("timeout must be positive");
+        }
+        return timeout;
+    }
+
+    /** Handle to one forked branch; readable once the owning {@link ParallelBranches} has joined. */
+    public static final class Branch<T> {
+        private final String name;
+        private final long timeoutNanos;
+        private final long forkedNanos = System.nanoTime();
+        private final T fallback;
+        private final CountDownLatch started = new CountDownLatch(1);
+        private Future<T> future;
+        private volatile long startedNanos;
+        private boolean done;
+        private T value;
+        private Throwable failure;
+
+        private Branch(String name, long timeoutNanos, T fallback) {
+            this.name = name;
+            this.timeoutNanos = timeoutNanos;
+            this.fallback = fallback;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        /** The branch result, or its fallback when the branch degraded. */
+        public T get() {
+            requireDone();
+            return failure == null ? value : fallback;
+        }
+
+        public boolean degraded() {
+            requireDone();
+            return failure != null;
+        }
+
+        /** Why the branch degraded; a {@link TimeoutException} when it missed its deadline. */
+        public Optional<Throwable> failure() {
+            requireDone();
+            return Optional.ofNullable(failure);
+        }
+
+        private T run(Callable<T> task, Semaphore permits) throws Exception {
+            if (permits == null) {
+                return start(task);
+            }
+            permits.acquire();
+            try {
+                return start(task);
+            } finally {
+                permits.release();
+            }
+        }
+
+        private T start(Callable<T> task) throws Exception {
+            startedNanos = System.nanoTime();
+            started.countDown();
+            return task.call();
+        }
+
+        private void await() throws InterruptedException {
+            try {
+                long permitWait = Math.max(0L, forkedNanos + timeoutNanos - System.nanoTime());
+                if (!started.await(permitWait, TimeUnit.NANOSECONDS)) {
+                    future.cancel(true);
+                    failure = new TimeoutException("No permit within the branch timeout");
+                    return;
+                }
+                value = future.get(
+                        Math.max(0L, startedNanos + timeoutNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (ExecutionException e) {
+                failure = e.getCause() == null ? e : e.getCause();
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                failure = e;
+            } catch (CancellationException e) {
+                failure = e;
+            } finally {
+                done = true;
+            }
+        }
+
+        private void requireDone() {
+            if (!done) {
+                throw new IllegalStateException("Branch '" + name + "' has not been joined");
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package datingapp.app.usecase.dashboard;
 
+import datingapp.app.usecase.common.ParallelBranches;
 import datingapp.app.usecase.common.UseCaseError;
 import datingapp.app.usecase.common.UseCaseResult;
 import datingapp.app.usecase.common.UserContext;
@@ -15,10 +16,12 @@ import datingapp.core.model.User;
 import datingapp.core.profile.ProfileService;
 import datingapp.core.storage.InteractionStorage;
 import datingapp.core.storage.UserStorage;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.Semaphore;
 
 /** App-layer dashboard aggregation use-cases shared across adapters. */
 public final class DashboardUseCases {
@@ -28,6 +31,24 @@ public final class DashboardUseCases {
     private static final String DEFAULT_PICK_TEXT = "No pick today";
     private static final String DEFAULT_PICK_EMPTY_MESSAGE =
             "No daily pick is available right now. Check back tomorrow.";
+    private static final String DEFAULT_COMPLETION_TEXT = "--";
+    private static final DailyStatusSummary DEGRADED_DAILY_STATUS =
+            new DailyStatusSummary(DEFAULT_LIKES_TEXT, 0, 0, false);
+
+    /** Per-section deadline for the dashboard fan-out. */
+    static final Duration DEFAULT_BRANCH_TIMEOUT = Duration.ofSeconds(2);
+
+    /** Share of the connection pool that concurrent dashboard sections may hold at once. */
+    static final int POOL_SHARE_DIVISOR = 2;
+
+    static final String SECTION_COMPLETION = "completion";
+    static final String SECTION_DAILY_STATUS = "dailyStatus";
+    static final String SECTION_DAILY_PICK = "dailyPick";
+    static final String SECTION_ACHIEVEMENTS = "achievements";
+    static final String SECTION_MATCHES = "matches";
+    static final String SECTION_UNREAD_MESSAGES = "unreadMessages";
+    static final String SECTION_PENDING_REQUESTS = "pendingRequests";
+    static final String SECTION_NOTIFICATIONS = "notifications";
 
     private final UserStorage userStorage;
     private final RecommendationService recommendationService;
@@ -36,6 +57,8 @@ public final class DashboardUseCases {
     private final ConnectionService connectionService;
     private final ProfileService profileService;
     private final AppConfig config;
+    private final Duration branchTimeout;
+    private final Semaphore sectionPermits;
 
     public DashboardUseCases(
             UserStorage userStorage,
@@ -45,6 +68,26 @@ public final class DashboardUseCases {
             ConnectionService connectionService,
             ProfileService profileService,
             AppConfig config) {
+        this(
+                userStorage,
+                recommendationService,
+                interactionStorage,
+                achievementService,
+                connectionService,
+                profileService,
+                config,
+                DEFAULT_BRANCH_TIMEOUT);
+    }
+
+    DashboardUseCases(
+            UserStorage userStorage,
+            RecommendationService recommendationService,
+            InteractionStorage interactionStorage,
+            AchievementService achievementService,
+            ConnectionService connectionService,
+            ProfileService profileService,
+            AppConfig config,
+            Duration branchTimeout) {
         this.userStorage = Objects.requireNonNull(userStorage, "userStorage cannot be null");
         this.recommendationService =
                 Objects.requireNonNull(recommendationService, "recommendationService cannot be null");
@@ -53,6 +96,8 @@ public final class DashboardUseCases {
         this.connectionService = Objects.requireNonNull(connectionService, "connectionService cannot be null");
         this.profileService = Objects.requireNonNull(profileService, "profileService cannot be null");
         this.config = Objects.requireNonNull(config, "config cannot be null");
+        this.branchTimeout = Objects.requireNonNull(branchTimeout, "branchTimeout cannot be null");
+        this.sectionPermits = new Semaphore(Math.max(1, config.storage().maxPoolSize() / POOL_SHARE_DIVISOR));
     }
 
     public UseCaseResult<DashboardSummaryResult> getDashboardSummary(DashboardSummaryQuery query) {
@@ -66,26 +111,68 @@ public final class DashboardUseCases {
                 return UseCaseResult.failure(UseCaseError.notFound("User not found"));
             }
 
-            String completionText = profileService.calculate(user).getDisplayString();
-            DailyLimitService.DailyStatus dailyStatus = recommendationService.getStatus(user.getId());
-            DailyPickService.DailyPick dailyPick =
-                    recommendationService.getDailyPick(user).orElse(null);
-            List<UserAchievement> unlockedAchievements = achievementService.getUnlocked(user.getId());
+            return loadSummary(user);
+        } catch (InterruptedException _) {
+            Thread.currentThread().interrupt();
+            return UseCaseResult.failure(UseCaseError.internal("Dashboard summary was interrupted"));
+        } catch (Exception e) {
+            return UseCaseResult.failure(UseCaseError.internal("Failed to load dashboard summary: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Loads every dashboard section in parallel. A section that fails or exceeds {@code branchTimeout}
+     * falls back to its empty value and is listed in {@link DashboardSummaryResult#degradedSections()};
+     * the summary only fails outright when every section degraded.
+     *
+     * <p>Each section borrows its own pooled connection, so one summary wants eight connections and
+     * the default pool holds ten. Sections across all concurrent summaries therefore share permits
+     * for half the pool: extra sections wait for a permit, up to their timeout, instead of draining
+     * the pool and starving the request threads that need a connection too.
+     */
+    private UseCaseResult<DashboardSummaryResult> loadSummary(User user) throws InterruptedException {
+        UUID userId = user.getId();
+        try (ParallelBranches branches = ParallelBranches.open("dashboard", branchTimeout, sectionPermits)) {
+            var completion = branches.fork(
+                    SECTION_COMPLETION,
+                    () -> profileService.calculate(user).getDisplayString(),
+                    DEFAULT_COMPLETION_TEXT);
+            var dailyStatus = branches.fork(
+                    SECTION_DAILY_STATUS,
+                    () -> toDailyStatusSummary(recommendationService.getStatus(userId)),
+                    DEGRADED_DAILY_STATUS);
+            var dailyPick = branches.fork(
+                    SECTION_DAILY_PICK,
+                    () -> toDailyPickSummary(recommendationService.getDailyPick(user).orElse(null)),
+                    toDailyPickSummary(null));
+            var achievements = branches.fork(
+                    SECTION_ACHIEVEMENTS,
+                    () -> toAchievementSummary(achievementService.getUnlocked(userId)),
+                    new AchievementSummary(List.of()));
+            var matches = branches.fork(SECTION_MATCHES, () -> interactionStorage.countActiveMatchesFor(userId), 0);
+            var unreadMessages = branches.fork(
+                    SECTION_UNREAD_MESSAGES, () -> connectionService.getTotalUnreadCount(userId), 0);
+            var pendingRequests = branches.fork(
+                    SECTION_PENDING_REQUESTS, () -> connectionService.countPendingRequestsFor(userId), 0);
+            var notifications = branches.fork(
+                    SECTION_NOTIFICATIONS, () -> connectionService.getUnreadNotificationCount(userId), 0);
+            String profileNudge = computeProfileNudge(user);
+            branches.join();
 
+            if (branches.allDegraded()) {
+                return UseCaseResult.failure(
+                        UseCaseError.internal("Failed to load dashboard summary: " + branches.degradedSummary()));
+            }
             return UseCaseResult.success(new DashboardSummaryResult(
                     user.getName(),
-                    completionText,
-                    toDailyStatusSummary(dailyStatus),
-                    interactionStorage.countActiveMatchesFor(user.getId()),
-                    toDailyPickSummary(dailyPick),
-                    toAchievementSummary(unlockedAchievements),
-                    new UnreadSummary(
-                            connectionService.getTotalUnreadCount(user.getId()),
-                            connectionService.countPendingRequestsFor(user.getId()),
-                            connectionService.getUnreadNotificationCount(user.getId())),
-                    computeProfileNudge(user)));
-        } catch (Exception e) {
-            return UseCaseResult.failure(UseCaseError.internal("Failed to load dashboard summary: " + e.getMessage()));
+                    completion.get(),
+                    dailyStatus.get(),
+                    matches.get(),
+                    dailyPick.get(),
+                    achievements.get(),
+                    new UnreadSummary(unreadMessages.get(), pendingRequests.get(), notifications.get()),
+                    profileNudge,
+                    branches.degradedBranches()));
         }
     }
 
@@ -115,7 +202,39 @@ public final class DashboardUseCases {
             DailyPickSummary dailyPick,
             AchievementSummary achievementSummary,
             UnreadSummary unreadSummary,
-            String profileNudgeMessage) {}
+            String profileNudgeMessage,
+            List<String> degradedSections) {
+
+        public DashboardSummaryResult {
+            degradedSections = degradedSections == null ? List.of() : List.copyOf(degradedSections);
+        }
+
+        public DashboardSummaryResult(
+                String userName,
+                String completionText,
+                DailyStatusSummary dailyStatus,
+                int totalMatches,
+                DailyPickSummary dailyPick,
+                AchievementSummary achievementSummary,
+                UnreadSummary unreadSummary,
+                String profileNudgeMessage) {
+            this(
+                    userName,
+                    completionText,
+                    dailyStatus,
+                    totalMatches,
+                    dailyPick,
+                    achievementSummary,
+                    unreadSummary,
+                    profileNudgeMessage,
+                    List.of());
+        }
+
+        /** Whether any section fell back to its empty value because it failed or timed out. */
+        public boolean degraded() {
+            return !degradedSections.isEmpty();
+        }
+    }
 
     public record DailyStatusSummary(String displayText, int likesUsed, int likesRemaining, boolean unlimitedLikes) {}
 
@@ -0,0 +1,182 @@
+package datingapp.app.usecase.matching;
+
+import datingapp.app.event.AppEvent;
+import datingapp.app.event.AppEventBus;
+import datingapp.core.AppClock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Bounded, TTL-evicted store of ranked browse sessions, at most one per seeker.
+ *
+ * <p>A session keeps the candidate ids in the order they were ranked when it was opened, so later
+ * pages are served by offset without re-running candidate discovery and ranking. Ids leave sessions
+ * incrementally: a swipe removes the target from the swiper's session, a block removes each user
+ * from the other's session, and a profile save or account deletion drops that user's own session
+ * (their preferences may have changed) and removes them from every other session until the next
+ * re-rank. Sessions expire after {@code ttl} without access; the least recently used session is
+ * evicted once {@code maxSessions} is reached.
+ */
+final class BrowseSessionCache {
+
+    static final int DEFAULT_MAX_SESSIONS = 1_000;
+    static final Duration DEFAULT_TTL = Duration.ofMinutes(15);
+    static final int MAX_CANDIDATES_PER_SESSION = 500;
+
+    private final int maxSessions;
+    private final Duration ttl;
+    private final Map<UUID, Session> sessions = new LinkedHashMap<>(16, 0.75f, true);
+
+    BrowseSessionCache() {
+        this(DEFAULT_MAX_SESSIONS, DEFAULT_TTL);
+    }
+
+    BrowseSessionCache(int maxSessions, Duration ttl) {
+        if (maxSessions <= 0) {
+            throw new IllegalArgumentException("maxSessions must be positive");
+        }
+        this.ttl = Objects.requireNonNull(ttl, "ttl cannot be null");
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("ttl must be positive");
+        }
+        this.maxSessions = maxSessions;
+    }
+
+    /** Subscribes session invalidation to the events that change who a seeker may see. */
+    void register(AppEventBus eventBus) {
+        eventBus.subscribe(
+                AppEvent.SwipeRecorded.class,
+                event -> removeCandidate(event.swiperId(), event.targetId()),
+                AppEventBus.HandlerPolicy.BEST_EFFORT);
+        eventBus.subscribe(
+                AppEvent.UserBlocked.class,
+                event -> {
+                    removeCandidate(event.blockerId(), event.blockedUserId());
+                    removeCandidate(event.blockedUserId(), event.blockerId());
+                },
+                AppEventBus.HandlerPolicy.BEST_EFFORT);
+        eventBus.subscribe(
+                AppEvent.ProfileSaved.class,
+                event -> invalidateUser(event.userId()),
+                AppEventBus.HandlerPolicy.BEST_EFFORT);
+        eventBus.subscribe(
+                AppEvent.AccountDeleted.class,
+                event -> invalidateUser(event.userId()),
+                AppEventBus.HandlerPolicy.BEST_EFFORT);
+    }
+
+    /**
+     * Opens a session for {@code seekerId} over the first {@link #MAX_CANDIDATES_PER_SESSION} ranked
+     * ids, replacing any session the seeker already had.
+     *
+     * @return the new session id, to be embedded in the seeker's cursor
+     */
+    String open(UUID seekerId, List<UUID> rankedCandidateIds) {
+        Objects.requireNonNull(seekerId, "seekerId cannot be null");
+        List<UUID> ids = rankedCandidateIds.size() > MAX_CANDIDATES_PER_SESSION
+                ? rankedCandidateIds.subList(0, MAX_CANDIDATES_PER_SESSION)
+                : rankedCandidateIds;
+        Session session = new Session(UUID.randomUUID().toString(), ids);
+        Instant now = AppClock.now();
+        synchronized (sessions) {
+            pruneExpiredLocked(now);
+            if (!sessions.containsKey(seekerId) && sessions.size() >= maxSessions) {
+                var eldest = sessions.keySet().iterator();
+                eldest.next();
+                eldest.remove();
+            }
+            session.expiresAt = now.plus(ttl);
+            sessions.put(seekerId, session);
+        }
+        return session.id;
+    }
+
+    /**
+     * Returns up to {@code count} still-eligible ids after {@code offset}, or empty when the
+     * session has expired or was replaced. Reading a session extends its lifetime.
+     */
+    Optional<Slice> slice(UUID seekerId, String sessionId, int offset, int count) {
+        Instant now = AppClock.now();
+        synchronized (sessions) {
+            pruneExpiredLocked(now);
+            Session session = sessions.get(seekerId);
+            if (session == null || !session.id.equals(sessionId) || offset < 0 || offset > session.ids.size()) {
+                return Optional.empty();
+            }
+            session.expiresAt = now.plus(ttl);
+            List<UUID> page = new ArrayList<>(count);
+            int position = offset;
+            while (position < session.ids.size() && page.size() < count) {
+                UUID id = session.ids.get(position++);
+                if (session.members.contains(id)) {
+                    page.add(id);
+                }
+            }
+            int remaining = 0;
+            for (int i = position; i < session.ids.size(); i++) {
+                if (session.members.contains(session.ids.get(i))) {
+                    remaining++;
+                }
+            }
+            return Optional.of(new Slice(page, position, remaining));
+        }
+    }
+
+    void removeCandidate(UUID seekerId, UUID candidateId) {
+        synchronized (sessions) {
+            Session session = sessions.get(seekerId);
+            if (session != null) {
+                session.members.remove(candidateId);
+            }
+        }
+    }
+
+    /** Drops the user's own session and removes them from every other seeker's session. */
+    void invalidateUser(UUID userId) {
+        synchronized (sessions) {
+            sessions.remove(userId);
+            for (Session session : sessions.values()) {
+                session.members.remove(userId);
+            }
+        }
+    }
+
+    int size() {
+        synchronized (sessions) {
+            return sessions.size();
+        }
+    }
+
+    private void pruneExpiredLocked(Instant now) {
+        sessions.values().removeIf(session -> !now.isBefore(session.expiresAt));
+    }
+
+    /** Ids for one page, the offset to resume from, and how many eligible ids follow it. */
+    record Slice(List<UUID> ids, int nextOffset, int remaining) {
+        Slice {
+            ids = List.copyOf(ids);
+        }
+    }
+
+    private static final class Session {
+        private final String id;
+        private final List<UUID> ids;
+        private final Set<UUID> members;
+        private Instant expiresAt;
+
+        private Session(String id, List<UUID> ids) {
+            this.id = id;
+            this.ids = List.copyOf(ids);
+            this.members = new HashSet<>(this.ids);
+        }
+    }
+}
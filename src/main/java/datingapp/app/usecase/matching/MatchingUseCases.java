@@ -8,6 +8,7 @@ import datingapp.app.usecase.common.UserContext;
 import datingapp.core.AppClock;
 import datingapp.core.connection.ConnectionModels.Like;
 import datingapp.core.matching.CandidateFinder;
+import datingapp.core.matching.CandidateSet;
 import datingapp.core.matching.DailyLimitService;
 import datingapp.core.matching.DailyPickService;
 import datingapp.core.matching.DailyPickService.DailyPick;
@@ -26,19 +27,27 @@ import datingapp.core.storage.UserStorage;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 
 /** Candidate browsing, swiping, undo, and standout/match orchestration use-cases. */
 @SuppressWarnings("java:S6539")
 public class MatchingUseCases {
 
     private static final String CONTEXT_REQUIRED = "Context is required";
+    private static final String CURSOR_SEPARATOR = ":";
+
+    /** Largest page {@link #browseCandidatesPage} will serve. */
+    public static final int MAX_BROWSE_PAGE_SIZE = 50;
 
     private static final StandoutService NO_OP_STANDOUT_SERVICE = new StandoutService() {
         @Override
@@ -46,6 +55,11 @@ public class MatchingUseCases {
             return Result.empty("No standout service configured");
         }
 
+        @Override
+        public Result getStandouts(User seeker, CandidateSet candidateSet) {
+            return getStandouts(seeker);
+        }
+
         @Override
         public void markInteracted(UUID seekerId, UUID standoutUserId) {
             // Compatibility shim intentionally does nothing.
@@ -68,6 +82,7 @@ public class MatchingUseCases {
     private final MatchQualityService matchQualityService;
     private final AppEventBus eventBus;
     private final RecommendationService recommendationService;
+    private final BrowseSessionCache browseSessions = new BrowseSessionCache();
 
     public static Builder builder() {
         return new Builder();
@@ -98,6 +113,7 @@ public class MatchingUseCases {
         this.eventBus = Objects.requireNonNull(eventBus, "eventBus cannot be null");
         this.recommendationService =
                 Objects.requireNonNull(recommendationService, "recommendationService cannot be null");
+        browseSessions.register(eventBus);
     }
 
     public static final class Builder {
@@ -246,14 +262,15 @@ public class MatchingUseCases {
         }
 
         try {
-            Optional<DailyPick> dailyPick = dailyPickService.getDailyPick(currentUser);
+            // One snapshot serves both the daily pick and the ranked list for this request.
+            CandidateSet candidates = candidateFinder.findCandidateSetForUser(currentUser);
+            Optional<DailyPick> dailyPick = dailyPickService.getDailyPick(currentUser, candidates);
             boolean dailyPickViewed = dailyPickService.hasViewedDailyPick(currentUser.getId());
 
             if (!currentUser.hasLocationSet()) {
                 return UseCaseResult.success(new BrowseCandidatesResult(List.of(), dailyPick, dailyPickViewed, true));
             }
 
-            List<User> candidates = candidateFinder.findCandidatesForUser(currentUser);
             List<User> rankedCandidates = recommendationService.rankBrowseCandidates(currentUser, candidates);
             return UseCaseResult.success(
                     new BrowseCandidatesResult(rankedCandidates, dailyPick, dailyPickViewed, false));
@@ -262,6 +279,100 @@ public class MatchingUseCases {
         }
     }
 
+    /**
+     * Serves ranked browse candidates one page at a time.
+     *
+     * <p>A request without a cursor ranks the seeker's candidates once, opens a browse session with
+     * the ranked ids and returns the first page together with the daily pick. A request with a
+     * cursor reads the next page from that session, skipping users swiped, blocked or changed since.
+     * When the session has expired or been replaced, a fresh one is opened and the result is
+     * flagged as restarted.
+     */
+    public UseCaseResult<BrowseCandidatesPage> browseCandidatesPage(BrowseCandidatesPageCommand command) {
+        if (command == null || command.context() == null || command.currentUser() == null) {
+            return UseCaseResult.failure(UseCaseError.validation("Context and current user are required"));
+        }
+        if (command.pageSize() <= 0 || command.pageSize() > MAX_BROWSE_PAGE_SIZE) {
+            return UseCaseResult.failure(
+                    UseCaseError.validation("Page size must be between 1 and " + MAX_BROWSE_PAGE_SIZE));
+        }
+        User currentUser = command.currentUser();
+        if (currentUser.getState() != UserState.ACTIVE) {
+            return UseCaseResult.failure(UseCaseError.conflict("User must be ACTIVE to browse candidates"));
+        }
+        BrowseCursor cursor;
+        try {
+            cursor = BrowseCursor.parse(command.cursor());
+        } catch (IllegalArgumentException _) {
+            return UseCaseResult.failure(UseCaseError.validation("Invalid browse cursor"));
+        }
+
+        try {
+            UUID seekerId = currentUser.getId();
+            if (cursor != null) {
+                Optional<BrowseCandidatesPage> page = readPage(
+                        seekerId, cursor.sessionId(), cursor.offset(), command.pageSize(), userStorage::findByIds);
+                if (page.isPresent()) {
+                    return UseCaseResult.success(page.get());
+                }
+            }
+
+            UseCaseResult<BrowseCandidatesResult> ranked =
+                    browseCandidates(new BrowseCandidatesCommand(command.context(), currentUser));
+            if (!ranked.success()) {
+                return UseCaseResult.failure(ranked.error());
+            }
+            BrowseCandidatesResult result = ranked.data();
+            Map<UUID, User> rankedById = new HashMap<>();
+            result.candidates().forEach(candidate -> rankedById.put(candidate.getId(), candidate));
+            String sessionId = browseSessions.open(seekerId, result.candidates().stream().map(User::getId).toList());
+            BrowseCandidatesPage firstPage = readPage(seekerId, sessionId, 0, command.pageSize(), ids -> rankedById)
+                    .orElseThrow(() -> new IllegalStateException("Browse session was evicted while opening"));
+            return UseCaseResult.success(new BrowseCandidatesPage(
+                    firstPage.candidates(),
+                    firstPage.nextCursor(),
+                    firstPage.remaining(),
+                    result.dailyPick(),
+                    result.dailyPickViewed(),
+                    result.locationMissing(),
+                    cursor != null));
+        } catch (Exception e) {
+            return UseCaseResult.failure(UseCaseError.internal("Failed to browse candidates: " + e.getMessage()));
+        }
+    }
+
+    private Optional<BrowseCandidatesPage> readPage(
+            UUID seekerId,
+            String sessionId,
+            int offset,
+            int pageSize,
+            Function<Set<UUID>, Map<UUID, User>> loader) {
+        List<User> candidates = new ArrayList<>(pageSize);
+        int position = offset;
+        int remaining;
+        do {
+            Optional<BrowseSessionCache.Slice> slice =
+                    browseSessions.slice(seekerId, sessionId, position, pageSize - candidates.size());
+            if (slice.isEmpty()) {
+                return Optional.empty();
+            }
+            Map<UUID, User> loaded = loader.apply(new HashSet<>(slice.get().ids()));
+            for (UUID id : slice.get().ids()) {
+                User candidate = loaded.get(id);
+                if (candidate != null && candidate.getState() == UserState.ACTIVE) {
+                    candidates.add(candidate);
+                } else {
+                    browseSessions.removeCandidate(seekerId, id);
+                }
+            }
+            position = slice.get().nextOffset();
+            remaining = slice.get().remaining();
+        } while (candidates.size() < pageSize && remaining > 0);
+        String nextCursor = remaining > 0 ? new BrowseCursor(sessionId, position).encode() : null;
+        return Optional.of(new BrowseCandidatesPage(
+                candidates, nextCursor, remaining, Optional.empty(), false, false, false));
+    }
+
     public UseCaseResult<SwipeOutcome> processSwipe(ProcessSwipeCommand command) {
         if (command == null
                 || command.context() == null
@@ -326,6 +437,13 @@ public class MatchingUseCases {
             if (!result.success()) {
                 return UseCaseResult.failure(UseCaseError.conflict(result.message()));
             }
+            Like undone = result.undoneSwipe();
+            eventBus.publish(new AppEvent.SwipeUndone(
+                    undone.whoLikes(),
+                    undone.whoGotLiked(),
+                    undone.direction(),
+                    result.matchDeleted(),
+                    AppClock.now()));
             return UseCaseResult.success(UndoOutcome.from(result));
         } catch (Exception e) {
             return UseCaseResult.failure(UseCaseError.internal("Failed to undo swipe: " + e.getMessage()));
@@ -507,6 +625,7 @@ public class MatchingUseCases {
             if (!interactionStorage.deleteLikeOwnedBy(command.context().userId(), command.likeId())) {
                 return UseCaseResult.failure(UseCaseError.notFound("Like not found"));
             }
+            eventBus.publish(new AppEvent.LikeRemoved(like.whoLikes(), like.whoGotLiked(), AppClock.now()));
             return UseCaseResult.success(null);
         } catch (Exception e) {
             return UseCaseResult.failure(UseCaseError.internal("Failed to remove like: " + e.getMessage()));
@@ -529,6 +648,26 @@ public class MatchingUseCases {
         }
     }
 
+    /**
+     * Batch variant of {@link #matchQuality} for a page of the current user's matches. Matches whose
+     * quality is unavailable are left out of the result rather than failing the page.
+     */
+    public UseCaseResult<Map<String, MatchQualitySnapshot>> matchQualities(MatchQualitiesQuery query) {
+        if (query == null || query.context() == null || query.matches() == null) {
+            return UseCaseResult.failure(UseCaseError.validation("Context and matches are required"));
+        }
+        try {
+            Map<String, MatchQualitySnapshot> snapshots = new LinkedHashMap<>();
+            matchQualityService
+                    .computeQualities(query.matches(), query.context().userId())
+                    .forEach((matchId, quality) -> snapshots.put(matchId, MatchQualitySnapshot.from(quality)));
+            return UseCaseResult.success(Collections.unmodifiableMap(snapshots));
+        } catch (Exception e) {
+            return UseCaseResult.failure(
+                    UseCaseError.internal("Failed to compute match qualities: " + e.getMessage()));
+        }
+    }
+
     public UseCaseResult<MatchQualitySnapshot> getMatchQuality(MatchQualityByIdQuery query) {
         if (query == null || query.context() == null || query.matchId() == null) {
             return UseCaseResult.failure(UseCaseError.validation("Context and matchId are required"));
@@ -604,6 +743,53 @@ public class MatchingUseCases {
     public static record BrowseCandidatesResult(
             List<User> candidates, Optional<DailyPick> dailyPick, boolean dailyPickViewed, boolean locationMissing) {}
 
+    /**
+     * Requests one page of a browse session; {@code cursor} is {@code null} to start a new session
+     * or the {@code nextCursor} of the previous page.
+     */
+    public static record BrowseCandidatesPageCommand(
+            UserContext context, User currentUser, String cursor, int pageSize) {}
+
+    /**
+     * One page of ranked candidates. {@code nextCursor} is {@code null} on the last page. The daily
+     * pick is only resolved on the first page of a session.
+     */
+    public static record BrowseCandidatesPage(
+            List<User> candidates,
+            String nextCursor,
+            int remaining,
+            Optional<DailyPick> dailyPick,
+            boolean dailyPickViewed,
+            boolean locationMissing,
+            boolean sessionRestarted) {
+        public BrowseCandidatesPage {
+            candidates = candidates == null ? List.of() : List.copyOf(candidates);
+            dailyPick = dailyPick == null ? Optional.empty() : dailyPick;
+        }
+    }
+
+    /** Opaque position in a browse session, encoded as {@code sessionId:offset}. */
+    static record BrowseCursor(String sessionId, int offset) {
+        static BrowseCursor parse(String encoded) {
+            if (encoded == null || encoded.isBlank()) {
+                return null;
+            }
+            int split = encoded.lastIndexOf(CURSOR_SEPARATOR);
+            if (split <= 0) {
+                throw new IllegalArgumentException("Malformed browse cursor");
+            }
+            int offset = Integer.parseInt(encoded.substring(split + 1));
+            if (offset < 0) {
+                throw new IllegalArgumentException("Negative browse cursor offset");
+            }
+            return new BrowseCursor(encoded.substring(0, split), offset);
+        }
+
+        String encode() {
+            return sessionId + CURSOR_SEPARATOR + offset;
+        }
+    }
+
     public static record ProcessSwipeCommand(
             UserContext context,
             User currentUser,
@@ -653,6 +839,12 @@ public class MatchingUseCases {
 
     public static record MatchQualityQuery(UserContext context, Match match) {}
 
+    public static record MatchQualitiesQuery(UserContext context, List<Match> matches) {
+        public MatchQualitiesQuery {
+            matches = matches == null ? null : List.copyOf(matches);
+        }
+    }
+
     public static record MatchQualitySnapshot(
             String matchId,
             UUID perspectiveUserId,
@@ -808,6 +1000,11 @@ public class MatchingUseCases {
                     return Optional.empty();
                 }
 
+                @Override
+                public Optional<DailyPick> getDailyPick(User seeker, CandidateSet candidateSet) {
+                    return Optional.empty();
+                }
+
                 @Override
                 public boolean hasViewedDailyPick(UUID userId) {
                     return false;
@@ -832,6 +1029,13 @@ public class MatchingUseCases {
                         .map(pick -> new DailyPick(pick.user(), pick.date(), pick.reason(), pick.alreadySeen()));
             }
 
+            @Override
+            public Optional<DailyPick> getDailyPick(User seeker, CandidateSet candidateSet) {
+                return recommendationService
+                        .getDailyPick(seeker, candidateSet)
+                        .map(pick -> new DailyPick(pick.user(), pick.date(), pick.reason(), pick.alreadySeen()));
+            }
+
             @Override
             public boolean hasViewedDailyPick(UUID userId) {
                 return recommendationService.hasViewedDailyPick(userId);
@@ -860,6 +1064,12 @@ public class MatchingUseCases {
                 return new Result(result.standouts(), result.totalCandidates(), result.fromCache(), result.message());
             }
 
+            @Override
+            public Result getStandouts(User seeker, CandidateSet candidateSet) {
+                StandoutService.Result result = recommendationService.getStandouts(seeker, candidateSet);
+                return new Result(result.standouts(), result.totalCandidates(), result.fromCache(), result.message());
+            }
+
             @Override
             public void markInteracted(UUID seekerId, UUID standoutUserId) {
                 recommendationService.markInteracted(seekerId, standoutUserId);
@@ -1,5 +1,6 @@
 package datingapp.app.usecase.profile;
 
+import datingapp.app.usecase.common.ParallelBranches;
 import datingapp.app.usecase.common.UseCaseError;
 import datingapp.app.usecase.common.UseCaseResult;
 import datingapp.app.usecase.common.UserContext;
@@ -8,7 +9,10 @@ import datingapp.core.metrics.ActivityMetricsService;
 import datingapp.core.metrics.EngagementDomain.Achievement.UserAchievement;
 import datingapp.core.metrics.EngagementDomain.UserStats;
 import datingapp.core.metrics.SwipeState.Session;
+import java.time.Duration;
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 
 /** Read-only profile insight use-cases for achievements, stats, and session summary. */
@@ -17,13 +21,30 @@ public class ProfileInsightsUseCases {
     private static final String CONTEXT_REQUIRED = "Context is required";
     private static final String ACTIVITY_METRICS_REQUIRED = "ActivityMetricsService is required";
 
+    /** Per-section deadline for {@link #getInsightsOverview}. */
+    static final Duration DEFAULT_BRANCH_TIMEOUT = Duration.ofSeconds(2);
+
+    public static final String SECTION_ACHIEVEMENTS = "achievements";
+    public static final String SECTION_STATS = "stats";
+    public static final String SECTION_CURRENT_SESSION = "currentSession";
+    public static final String SECTION_SESSION_HISTORY = "sessionHistory";
+
     private final AchievementService achievementService;
     private final ActivityMetricsService activityMetricsService;
+    private final Duration branchTimeout;
 
     public ProfileInsightsUseCases(
             AchievementService achievementService, ActivityMetricsService activityMetricsService) {
+        this(achievementService, activityMetricsService, DEFAULT_BRANCH_TIMEOUT);
+    }
+
+    ProfileInsightsUseCases(
+            AchievementService achievementService,
+            ActivityMetricsService activityMetricsService,
+            Duration branchTimeout) {
         this.achievementService = achievementService;
         this.activityMetricsService = activityMetricsService;
+        this.branchTimeout = Objects.requireNonNull(branchTimeout, "branchTimeout cannot be null");
     }
 
     public UseCaseResult<AchievementSnapshot> getAchievements(AchievementsQuery query) {
@@ -96,6 +117,57 @@ public class ProfileInsightsUseCases {
         }
     }
 
+    /**
+     * Loads unlocked achievements, statistics, the current session and recent session history in
+     * parallel for screens that show them together. Sections that fail or exceed their deadline come
+     * back empty and are listed in {@link InsightsOverview#degradedSections()}; the overview only
+     * fails when every section degraded.
+     */
+    public UseCaseResult<InsightsOverview> getInsightsOverview(InsightsOverviewQuery query) {
+        if (query == null || query.context() == null) {
+            return UseCaseResult.failure(UseCaseError.validation(CONTEXT_REQUIRED));
+        }
+        if (achievementService == null || activityMetricsService == null) {
+            return UseCaseResult.failure(
+                    UseCaseError.dependency("AchievementService and ActivityMetricsService are required"));
+        }
+
+        UUID userId = query.context().userId();
+        try (ParallelBranches branches = ParallelBranches.open("profile-insights", branchTimeout)) {
+            var unlocked = branches.fork(
+                    SECTION_ACHIEVEMENTS, () -> achievementService.getUnlocked(userId), List.<UserAchievement>of());
+            var stats = branches.fork(
+                    SECTION_STATS, () -> Optional.of(getOrComputeStats(userId)), Optional.<UserStats>empty());
+            var currentSession = branches.fork(
+                    SECTION_CURRENT_SESSION,
+                    () -> activityMetricsService
+                            .getCurrentSession(userId)
+                            .map(ProfileInsightsUseCases::toCurrentSessionSnapshot),
+                    Optional.<CurrentSessionSnapshot>empty());
+            var sessionHistory = branches.fork(
+                    SECTION_SESSION_HISTORY,
+                    () -> List.copyOf(activityMetricsService.getSessionHistory(userId, query.sessionHistoryLimit())),
+                    List.<Session>of());
+            branches.join();
+
+            if (branches.allDegraded()) {
+                return UseCaseResult.failure(
+                        UseCaseError.internal("Failed to load profile insights: " + branches.degradedSummary()));
+            }
+            return UseCaseResult.success(new InsightsOverview(
+                    unlocked.get(),
+                    stats.get(),
+                    currentSession.get(),
+                    sessionHistory.get(),
+                    branches.degradedBranches()));
+        } catch (InterruptedException _) {
+            Thread.currentThread().interrupt();
+            return UseCaseResult.failure(UseCaseError.internal("Profile insights were interrupted"));
+        } catch (Exception e) {
+            return UseCaseResult.failure(UseCaseError.internal("Failed to load profile insights: " + e.getMessage()));
+        }
+    }
+
     public static record AchievementsQuery(UserContext context, boolean checkForNew) {}
 
     public static record AchievementSnapshot(List<UserAchievement> unlocked, List<UserAchievement> newlyUnlocked) {
@@ -117,6 +189,31 @@ public class ProfileInsightsUseCases {
 
     public static record SessionSummaryQuery(UserContext context) {}
 
+    public static record InsightsOverviewQuery(UserContext context, int sessionHistoryLimit) {
+        public InsightsOverviewQuery {
+            if (sessionHistoryLimit <= 0) {
+                throw new IllegalArgumentException("sessionHistoryLimit must be positive");
+            }
+        }
+    }
+
+    public static record InsightsOverview(
+            List<UserAchievement> unlocked,
+            Optional<UserStats> stats,
+            Optional<CurrentSessionSnapshot> currentSession,
+            List<Session> sessionHistory,
+            List<String> degradedSections) {
+        public InsightsOverview {
+            unlocked = List.copyOf(unlocked);
+            sessionHistory = List.copyOf(sessionHistory);
+            degradedSections = List.copyOf(degradedSections);
+        }
+
+        public boolean degraded() {
+            return !degradedSections.isEmpty();
+        }
+    }
+
     public static record CurrentSessionSnapshot(
             int swipeCount, int likeCount, int passCount, String formattedDuration) {}
 
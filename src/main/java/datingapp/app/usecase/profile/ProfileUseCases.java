@@ -136,6 +136,11 @@ public class ProfileUseCases {
         return profileInsightsUseCases.getSessionHistory(query);
     }
 
+    public UseCaseResult<ProfileInsightsUseCases.InsightsOverview> getInsightsOverview(
+            ProfileInsightsUseCases.InsightsOverviewQuery query) {
+        return profileInsightsUseCases.getInsightsOverview(query);
+    }
+
     public UseCaseResult<ProfileService.CompletionResult> calculateCompletion(User user) {
         if (user == null) {
             return UseCaseResult.failure(UseCaseError.validation("User is required"));
@@ -33,6 +33,7 @@ import datingapp.core.storage.TrustSafetyStorage;
 import datingapp.core.storage.UserStorage;
 import datingapp.core.workflow.ProfileActivationPolicy;
 import datingapp.core.workflow.RelationshipWorkflowPolicy;
+import datingapp.location.CachingGeocodingService;
 import datingapp.location.FallbackGeocodingService;
 import datingapp.location.GeocodingService;
 import datingapp.location.LocalGeocodingService;
@@ -123,7 +124,9 @@ public final class ServiceRegistry {
         this.geocodingService = builder.geocodingService != null
                 ? Objects.requireNonNull(builder.geocodingService, "geocodingService cannot be null")
                 : new FallbackGeocodingService(
-                        new LocalGeocodingService(this.locationService), new NominatimGeocodingService());
+                        new LocalGeocodingService(this.locationService),
+                        new CachingGeocodingService(
+                                new NominatimGeocodingService(), CachingGeocodingService.DEFAULT_CACHE_FILE));
         this.achievementService =
                 Objects.requireNonNull(builder.achievementService, "achievementService cannot be null");
         this.eventBus = Objects.requireNonNull(builder.eventBus, "eventBus cannot be null");
@@ -6,7 +6,9 @@ import datingapp.core.profile.ProfileService;
 import datingapp.location.GeoUtils;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.OptionalDouble;
 
 /** Ranks already-eligible browse candidates for presentation order. */
 public class BrowseRankingService {
@@ -42,9 +44,18 @@ public class BrowseRankingService {
         if (seeker == null || candidates == null || candidates.isEmpty()) {
             return List.of();
         }
-        return candidates.stream()
-                .filter(Objects::nonNull)
-                .map(candidate -> scoreCandidate(seeker, candidate))
+        List<User> nonNullCandidates = candidates.stream().filter(Objects::nonNull).toList();
+        return rankCandidateSet(seeker, new CandidateSet(seeker.getId(), nonNullCandidates, Map.of()));
+    }
+
+    /** Ranks a request-scoped snapshot, reusing the distances measured while it was filtered. */
+    public List<User> rankCandidateSet(User seeker, CandidateSet candidateSet) {
+        if (seeker == null || candidateSet == null || candidateSet.isEmpty()) {
+            return List.of();
+        }
+        CandidateSet.requireFor(seeker, candidateSet);
+        return candidateSet.candidates().stream()
+                .map(candidate -> scoreCandidate(seeker, candidate, candidateSet.distanceKm(candidate.getId())))
                 .sorted(RANK_ORDER)
                 .map(ScoredCandidate::candidate)
                 .toList();
@@ -59,17 +70,21 @@ public class BrowseRankingService {
                 }
                 return candidates.stream().filter(Objects::nonNull).toList();
             }
+
+            @Override
+            public List<User> rankCandidateSet(User seeker, CandidateSet candidateSet) {
+                return candidateSet == null ? List.of() : candidateSet.candidates();
+            }
         };
     }
 
-    private ScoredCandidate scoreCandidate(User seeker, User candidate) {
-        double distanceScore = calculateDistanceScore(seeker, candidate);
+    private ScoredCandidate scoreCandidate(User seeker, User candidate, OptionalDouble knownDistanceKm) {
+        double distanceScore = calculateDistanceScore(seeker, candidate, knownDistanceKm);
         double ageScore = calculator.calculateAgeScore(seeker, candidate);
         double interestScore = calculator.calculateInterestScore(seeker, candidate);
         double lifestyleScore = calculator.calculateLifestyleScore(seeker, candidate);
         double paceScore = calculator.calculatePaceScore(seeker.getPacePreferences(), candidate.getPacePreferences());
-        var completeness = profileService.calculate(candidate);
-        double completenessScore = completeness == null ? 0.0 : completeness.score() / 100.0;
+        double completenessScore = profileService.completionScore(candidate) / 100.0;
         double activityScore = calculator.calculateActivityScore(candidate);
 
         WeightedScore weightedScore = WeightedScore.empty()
@@ -85,12 +100,12 @@ public class BrowseRankingService {
                 candidate, weightedScore.normalized(), completenessScore, activityScore, candidate.getUpdatedAt());
     }
 
-    private double calculateDistanceScore(User seeker, User candidate) {
+    private double calculateDistanceScore(User seeker, User candidate, OptionalDouble knownDistanceKm) {
         if (!seeker.hasLocationSet() || !candidate.hasLocationSet() || seeker.getMaxDistanceKm() <= 0) {
             return UNKNOWN_DISTANCE_SCORE;
         }
-        double distanceKm =
-                GeoUtils.distanceKm(seeker.getLat(), seeker.getLon(), candidate.getLat(), candidate.getLon());
+        double distanceKm = knownDistanceKm.orElseGet(
+                () -> GeoUtils.distanceKm(seeker.getLat(), seeker.getLon(), candidate.getLat(), candidate.getLon()));
         return calculator.calculateDistanceScore(distanceKm, seeker.getMaxDistanceKm());
     }
 
@@ -129,6 +129,10 @@ public class CandidateFinder implements LoggingSupport {
      * Results are sorted by distance (closest first).
      */
     public List<User> findCandidates(User seeker, List<User> allActive, Set<UUID> alreadyInteracted) {
+        return filterCandidates(seeker, allActive, alreadyInteracted).candidates();
+    }
+
+    private CandidateSet filterCandidates(User seeker, List<User> allActive, Set<UUID> alreadyInteracted) {
         Set<Gender> seekerInterestedIn = seeker.getInterestedIn();
         Set<UUID> recentlyUnmatchedCounterpartIds = recentlyUnmatchedCounterpartIds(seeker.getId());
         Map<UUID, Double> distanceCache = new HashMap<>();
@@ -170,7 +174,14 @@ public class CandidateFinder implements LoggingSupport {
                     allActive.size());
         }
 
-        return candidates;
+        Map<UUID, Double> candidateDistances = new HashMap<>();
+        for (User candidate : candidates) {
+            Double distance = distanceCache.get(candidate.getId());
+            if (distance != null) {
+                candidateDistances.put(candidate.getId(), distance);
+            }
+        }
+        return new CandidateSet(seeker.getId(), candidates, candidateDistances);
     }
 
     /**
@@ -182,13 +193,24 @@ public class CandidateFinder implements LoggingSupport {
      * @return list of candidate users sorted by distance
      */
     public List<User> findCandidatesForUser(User currentUser) {
+        return findCandidateSetForUser(currentUser).candidates();
+    }
+
+    /**
+     * Computes the seeker's candidates once, together with the distances measured while filtering,
+     * so every feature serving the same request can share them.
+     *
+     * @param currentUser the user searching for candidates
+     * @return snapshot of candidates sorted by distance; empty when the user has no location
+     */
+    public CandidateSet findCandidateSetForUser(User currentUser) {
         if (!currentUser.hasLocationSet()) {
             if (logger.isTraceEnabled()) {
                 logger.trace(
-                        "CandidateFinder.findCandidatesForUser skipped for {} due to missing location",
+                        "CandidateFinder.findCandidateSetForUser skipped for {} due to missing location",
                         currentUser.getId());
             }
-            return List.of();
+            return CandidateSet.empty(currentUser.getId());
         }
 
         Set<UUID> excluded = new HashSet<>(interactionStorage.getLikedOrPassedUserIds(currentUser.getId()));
@@ -196,9 +218,9 @@ public class CandidateFinder implements LoggingSupport {
         return findFreshCandidates(currentUser, excluded);
     }
 
-    private List<User> findFreshCandidates(User currentUser, Set<UUID> excluded) {
+    private CandidateSet findFreshCandidates(User currentUser, Set<UUID> excluded) {
         List<User> preFiltered = findFreshPrefilteredCandidates(currentUser);
-        List<User> candidates = findCandidates(currentUser, preFiltered, excluded);
+        CandidateSet candidates = filterCandidates(currentUser, preFiltered, excluded);
         if (logger.isTraceEnabled()) {
             logger.trace(
                     "CandidateFinder refreshed candidates for {} with {} results",
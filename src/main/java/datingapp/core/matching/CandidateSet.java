@@ -0,0 +1,62 @@
+package datingapp.core.matching;
+
+import datingapp.core.model.User;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.UUID;
+
+/**
+ * Request-scoped snapshot of a seeker's eligible browse candidates.
+ *
+ * <p>Produced once per request by {@link CandidateFinder#findCandidateSetForUser(User)} and handed to
+ * {@link DailyPickService}, {@link BrowseRankingService} and {@link StandoutService}, so a single
+ * request does not repeat the storage prefilter, block checks and dealbreaker filtering for each
+ * feature. Candidates keep the finder's closest-first order. Distances are the seeker-to-candidate
+ * kilometres computed while filtering and are absent when either side has no location.
+ */
+public record CandidateSet(UUID seekerId, List<User> candidates, Map<UUID, Double> distancesKm) {
+
+    public CandidateSet {
+        Objects.requireNonNull(seekerId, "seekerId cannot be null");
+        candidates = candidates == null ? List.of() : List.copyOf(candidates);
+        distancesKm = distancesKm == null ? Map.of() : Map.copyOf(distancesKm);
+    }
+
+    public static CandidateSet empty(UUID seekerId) {
+        return new CandidateSet(seekerId, List.of(), Map.of());
+    }
+
+    public boolean isEmpty() {
+        return candidates.isEmpty();
+    }
+
+    public int size() {
+        return candidates.size();
+    }
+
+    /** Whether this snapshot was computed for {@code seeker}. */
+    public boolean isFor(User seeker) {
+        return seeker != null && seekerId.equals(seeker.getId());
+    }
+
+    public Optional<User> find(UUID candidateId) {
+        return candidates.stream()
+                .filter(candidate -> candidate.getId().equals(candidateId))
+                .findFirst();
+    }
+
+    public OptionalDouble distanceKm(UUID candidateId) {
+        Double distance = distancesKm.get(candidateId);
+        return distance == null ? OptionalDouble.empty() : OptionalDouble.of(distance);
+    }
+
+    static void requireFor(User seeker, CandidateSet candidateSet) {
+        Objects.requireNonNull(candidateSet, "candidateSet cannot be null");
+        if (!candidateSet.isFor(seeker)) {
+            throw new IllegalArgumentException("candidateSet was computed for a different seeker");
+        }
+    }
+}
@@ -12,6 +12,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalDouble;
 import java.util.Random;
 import java.util.UUID;
 
@@ -49,8 +50,16 @@ public class DailyPickService {
 
     public Optional<DailyPick> getDailyPick(User seeker) {
         requireDependencies();
+        return getDailyPick(seeker, candidateFinder.findCandidateSetForUser(seeker));
+    }
+
+    /** Picks from a candidate snapshot already computed for {@code seeker} in this request. */
+    public Optional<DailyPick> getDailyPick(User seeker, CandidateSet candidateSet) {
+        requireAnalyticsStorage();
+        requireConfigAndClock();
+        CandidateSet.requireFor(seeker, candidateSet);
         LocalDate today = currentDate();
-        List<User> candidates = candidateFinder.findCandidatesForUser(seeker);
+        List<User> candidates = candidateSet.candidates();
         if (candidates.isEmpty()) {
             return Optional.empty();
         }
@@ -83,7 +92,7 @@ public class DailyPickService {
         long reasonSeed =
                 seed ^ picked.getId().getMostSignificantBits() ^ picked.getId().getLeastSignificantBits();
         Random reasonRandom = new Random(reasonSeed);
-        String reason = generateReason(seeker, picked, reasonRandom);
+        String reason = generateReason(seeker, picked, candidateSet.distanceKm(picked.getId()), reasonRandom);
         boolean alreadySeen = hasViewedDailyPick(seeker.getId(), today);
         return Optional.of(new DailyPick(picked, today, reason, alreadySeen));
     }
@@ -116,9 +125,9 @@ public class DailyPickService {
         return LocalDate.ofInstant(clock.instant(), config.safety().userTimeZone());
     }
 
-    private String generateReason(User seeker, User picked, Random random) {
+    private String generateReason(User seeker, User picked, OptionalDouble knownDistanceKm, Random random) {
         List<String> reasons = new ArrayList<>();
-        addLocationReasons(reasons, seeker, picked);
+        addLocationReasons(reasons, seeker, picked, knownDistanceKm);
         addAgeReasons(reasons, seeker, picked);
         addCompatibilityReasons(reasons, seeker, picked);
         addInterestReasons(reasons, seeker, picked);
@@ -132,11 +141,13 @@ public class DailyPickService {
         return reasons.get(random.nextInt(reasons.size()));
     }
 
-    private void addLocationReasons(List<String> reasons, User seeker, User picked) {
+    private void addLocationReasons(
+            List<String> reasons, User seeker, User picked, OptionalDouble knownDistanceKm) {
         if (!seeker.hasLocationSet() || !picked.hasLocationSet()) {
             return;
         }
-        double distance = GeoUtils.distanceKm(seeker.getLat(), seeker.getLon(), picked.getLat(), picked.getLon());
+        double distance = knownDistanceKm.orElseGet(
+                () -> GeoUtils.distanceKm(seeker.getLat(), seeker.getLon(), picked.getLat(), picked.getLon()));
         if (distance < config.algorithm().nearbyDistanceKm()) {
             reasons.add("Lives nearby!");
         } else if (distance < config.algorithm().closeDistanceKm()) {
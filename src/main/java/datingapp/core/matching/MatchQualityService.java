@@ -12,11 +12,16 @@ import datingapp.core.storage.UserStorage;
 import datingapp.location.GeoUtils;
 import java.time.Duration;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -32,6 +37,8 @@ public class MatchQualityService {
     private final StarThresholdPolicy starThresholdPolicy;
     private final int nearbyDistanceKm;
     private final int closeDistanceKm;
+    /** Quality snapshots per (match, perspective), in access order for LRU eviction. */
+    private final Map<SnapshotKey, CachedQuality> snapshots = new LinkedHashMap<>(16, 0.75f, true);
     private static final String LABEL_EXCELLENT = "Excellent Match";
     private static final String LABEL_GREAT = "Great Match";
     private static final String LABEL_GOOD = "Good Match";
@@ -42,6 +49,7 @@ public class MatchQualityService {
     private static final int HIGHLIGHT_MAX_COUNT = 5;
     private static final int AGE_SIMILAR_YEARS = 2;
     private static final int QUICK_MUTUAL_INTEREST_HOURS = 24;
+    private static final int SNAPSHOT_CACHE_MAX_ENTRIES = 10_000;
 
     public static record StarThresholdPolicy(
             int excellentThreshold, int greatThreshold, int goodThreshold, int fairThreshold) {
@@ -207,23 +215,180 @@ public class MatchQualityService {
     /**
      * Compute match quality from one user's perspective.
      *
+     * <p>Results are kept as snapshots and reused until either participant's {@code updatedAt}
+     * moves, the perspective user's calendar day rolls over (ages shift), or {@link #invalidateUser}
+     * is called. Freshness is checked with {@link UserStorage#findUpdatedAtByIds}, so a current
+     * snapshot costs one narrow lookup; full profiles are only loaded to recompute. The like
+     * timestamps behind the response score cannot change once the match exists.
+     *
      * @param match             The match to compute quality for
      * @param perspectiveUserId The user whose perspective we're computing from
      * @return Computed match quality
      */
     public Optional<MatchQuality> computeQuality(Match match, UUID perspectiveUserId) {
-        Optional<Participants> participants = loadParticipants(match, perspectiveUserId);
-        if (participants.isEmpty()) {
+        UUID otherUserId = match.getOtherUser(perspectiveUserId);
+        Map<UUID, Instant> updatedAt = userStorage.findUpdatedAtByIds(Set.of(perspectiveUserId, otherUserId));
+        if (!updatedAt.containsKey(perspectiveUserId) || !updatedAt.containsKey(otherUserId)) {
+            logger.warn("computeQuality: user not found — perspective={} other={}", perspectiveUserId, otherUserId);
+            return Optional.empty();
+        }
+        LocalDate today = today();
+        MatchQuality cached = currentSnapshot(
+                match, perspectiveUserId, updatedAt.get(perspectiveUserId), updatedAt.get(otherUserId), today);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Map<UUID, User> users = userStorage.findByIds(Set.of(perspectiveUserId, otherUserId));
+        User me = users.get(perspectiveUserId);
+        User them = users.get(otherUserId);
+        if (me == null || them == null) {
+            logger.warn("computeQuality: user not found — perspective={} other={}", perspectiveUserId, otherUserId);
             return Optional.empty();
         }
-        MatchComputation computation = computeMatchComputation(participants.get());
+        return Optional.of(recompute(match, new Participants(me, them, otherUserId), today));
+    }
+
+    /**
+     * Batch variant of {@link #computeQuality} for a page of one user's matches. Checks every
+     * snapshot against one {@link UserStorage#findUpdatedAtByIds} call and loads the participants of
+     * the missing or stale ones with a single {@link UserStorage#findByIds} call.
+     *
+     * @return qualities keyed by match id in the order of {@code matches}; matches whose other
+     *     participant no longer exists, or that do not involve {@code perspectiveUserId}, are omitted
+     */
+    public Map<String, MatchQuality> computeQualities(List<Match> matches, UUID perspectiveUserId) {
+        Objects.requireNonNull(matches, "matches cannot be null");
+        Objects.requireNonNull(perspectiveUserId, "perspectiveUserId cannot be null");
+        List<Match> involved =
+                matches.stream().filter(match -> match.involves(perspectiveUserId)).toList();
+        if (involved.isEmpty()) {
+            return Map.of();
+        }
+        Set<UUID> userIds = new HashSet<>();
+        userIds.add(perspectiveUserId);
+        involved.forEach(match -> userIds.add(match.getOtherUser(perspectiveUserId)));
+        Map<UUID, Instant> updatedAt = userStorage.findUpdatedAtByIds(userIds);
+        Instant myUpdatedAt = updatedAt.get(perspectiveUserId);
+        if (myUpdatedAt == null) {
+            logger.warn("computeQualities: perspective user not found — {}", perspectiveUserId);
+            return Map.of();
+        }
+
+        LocalDate today = today();
+        Map<String, MatchQuality> qualities = new LinkedHashMap<>();
+        List<Match> stale = new ArrayList<>();
+        for (Match match : involved) {
+            UUID otherUserId = match.getOtherUser(perspectiveUserId);
+            Instant otherUpdatedAt = updatedAt.get(otherUserId);
+            if (otherUpdatedAt == null) {
+                logger.warn("computeQualities: user not found — other={}", otherUserId);
+                continue;
+            }
+            MatchQuality cached = currentSnapshot(match, perspectiveUserId, myUpdatedAt, otherUpdatedAt, today);
+            // Keep the page order; stale entries are filled in below.
+            qualities.put(match.getId(), cached);
+            if (cached == null) {
+                stale.add(match);
+            }
+        }
+        if (stale.isEmpty()) {
+            return qualities;
+        }
+
+        Set<UUID> staleIds = new HashSet<>();
+        staleIds.add(perspectiveUserId);
+        stale.forEach(match -> staleIds.add(match.getOtherUser(perspectiveUserId)));
+        Map<UUID, User> users = userStorage.findByIds(staleIds);
+        User me = users.get(perspectiveUserId);
+        for (Match match : stale) {
+            UUID otherUserId = match.getOtherUser(perspectiveUserId);
+            User them = users.get(otherUserId);
+            if (me == null || them == null) {
+                logger.warn("computeQualities: user not found — other={}", otherUserId);
+                qualities.remove(match.getId());
+                continue;
+            }
+            qualities.put(match.getId(), recompute(match, new Participants(me, them, otherUserId), today));
+        }
+        return qualities;
+    }
+
+    /**
+     * Computes and stores the snapshots for both sides of a newly created match, loading both
+     * participants once.
+     */
+    public void precompute(Match match) {
+        Objects.requireNonNull(match, "match cannot be null");
+        Map<UUID, User> users = userStorage.findByIds(Set.of(match.getUserA(), match.getUserB()));
+        User userA = users.get(match.getUserA());
+        User userB = users.get(match.getUserB());
+        if (userA == null || userB == null) {
+            logger.warn("precompute: user not found — match={}", match.getId());
+            return;
+        }
+        LocalDate today = today();
+        recompute(match, new Participants(userA, userB, userB.getId()), today);
+        recompute(match, new Participants(userB, userA, userA.getId()), today);
+    }
+
+    /** Drops every stored snapshot in which {@code userId} is either participant. */
+    public void invalidateUser(UUID userId) {
+        synchronized (snapshots) {
+            snapshots.entrySet().removeIf(entry -> entry.getKey().perspectiveUserId().equals(userId)
+                    || entry.getValue().quality().otherUserId().equals(userId));
+        }
+    }
+
+    int cachedSnapshotCount() {
+        synchronized (snapshots) {
+            return snapshots.size();
+        }
+    }
+
+    private LocalDate today() {
+        return AppClock.today(config.safety().userTimeZone());
+    }
+
+    /** Returns the stored snapshot if it was computed today from the given {@code updatedAt} values. */
+    private MatchQuality currentSnapshot(
+            Match match, UUID perspectiveUserId, Instant myUpdatedAt, Instant otherUpdatedAt, LocalDate today) {
+        synchronized (snapshots) {
+            CachedQuality cached = snapshots.get(new SnapshotKey(match.getId(), perspectiveUserId));
+            return cached != null && cached.isCurrentFor(myUpdatedAt, otherUpdatedAt, today)
+                    ? cached.quality()
+                    : null;
+        }
+    }
+
+    private MatchQuality recompute(Match match, Participants participants, LocalDate today) {
+        SnapshotKey key = new SnapshotKey(match.getId(), participants.me().getId());
+        MatchQuality quality = buildQuality(match, participants);
+        synchronized (snapshots) {
+            snapshots.put(
+                    key,
+                    new CachedQuality(
+                            quality,
+                            participants.me().getUpdatedAt(),
+                            participants.them().getUpdatedAt(),
+                            today));
+            if (snapshots.size() > SNAPSHOT_CACHE_MAX_ENTRIES) {
+                var eldest = snapshots.keySet().iterator();
+                eldest.next();
+                eldest.remove();
+            }
+        }
+        return quality;
+    }
+
+    private MatchQuality buildQuality(Match match, Participants participants) {
+        MatchComputation computation = computeMatchComputation(participants);
         int compatibilityScore = calculateCompatibilityScore(computation);
         List<String> highlights = generateHighlights(computation);
 
-        return Optional.of(new MatchQuality(
+        return new MatchQuality(
                 match.getId(),
-                perspectiveUserId,
-                participants.get().otherUserId(),
+                participants.me().getId(),
+                participants.otherUserId(),
                 AppClock.now(),
                 computation.distanceScore(),
                 computation.ageScore(),
@@ -239,20 +404,7 @@ public class MatchQualityService {
                 computation.paceSyncLevel(),
                 compatibilityScore,
                 highlights,
-                starThresholdPolicy));
-    }
-
-    private Optional<Participants> loadParticipants(Match match, UUID perspectiveUserId) {
-        UUID otherUserId = match.getOtherUser(perspectiveUserId);
-        User me = userStorage.get(perspectiveUserId).orElse(null);
-        User them = userStorage.get(otherUserId).orElse(null);
-
-        if (me == null || them == null) {
-            logger.warn("computeQuality: user not found — perspective={} other={}", perspectiveUserId, otherUserId);
-            return Optional.empty();
-        }
-
-        return Optional.of(new Participants(me, them, otherUserId));
+                starThresholdPolicy);
     }
 
     private MatchComputation computeMatchComputation(Participants participants) {
@@ -483,6 +635,17 @@ public class MatchQualityService {
 
     private record Participants(User me, User them, UUID otherUserId) {}
 
+    private record SnapshotKey(String matchId, UUID perspectiveUserId) {}
+
+    private record CachedQuality(
+            MatchQuality quality, Instant perspectiveUpdatedAt, Instant otherUpdatedAt, LocalDate computedOn) {
+        boolean isCurrentFor(Instant currentPerspectiveUpdatedAt, Instant currentOtherUpdatedAt, LocalDate today) {
+            return computedOn.equals(today)
+                    && Objects.equals(perspectiveUpdatedAt, currentPerspectiveUpdatedAt)
+                    && Objects.equals(otherUpdatedAt, currentOtherUpdatedAt);
+        }
+    }
+
     private record MatchComputation(
             double distanceKm,
             double distanceScore,
@@ -187,6 +187,11 @@ public final class RecommendationService {
         return dailyPickService.getDailyPick(seeker);
     }
 
+    /** Get the daily pick from a candidate snapshot already computed for this request. */
+    public Optional<DailyPickService.DailyPick> getDailyPick(User seeker, CandidateSet candidateSet) {
+        return dailyPickService.getDailyPick(seeker, candidateSet);
+    }
+
     /** Check whether user has viewed today's daily pick. */
     public boolean hasViewedDailyPick(UUID userId) {
         return dailyPickService.hasViewedDailyPick(userId);
@@ -207,6 +212,11 @@ public final class RecommendationService {
         return standoutService.getStandouts(seeker);
     }
 
+    /** Get today's standouts, generating them from a candidate snapshot if none are stored yet. */
+    public StandoutService.Result getStandouts(User seeker, CandidateSet candidateSet) {
+        return standoutService.getStandouts(seeker, candidateSet);
+    }
+
     /** Mark a standout as interacted after like/pass. */
     public void markInteracted(UUID seekerId, UUID standoutUserId) {
         standoutService.markInteracted(seekerId, standoutUserId);
@@ -221,4 +231,9 @@ public final class RecommendationService {
     public List<User> rankBrowseCandidates(User seeker, List<User> candidates) {
         return browseRankingService.rankCandidates(seeker, candidates);
     }
+
+    /** Rank a request-scoped candidate snapshot for the normal browsing flow. */
+    public List<User> rankBrowseCandidates(User seeker, CandidateSet candidateSet) {
+        return browseRankingService.rankCandidateSet(seeker, candidateSet);
+    }
 }
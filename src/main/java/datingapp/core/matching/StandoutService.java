@@ -14,6 +14,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.OptionalDouble;
 import java.util.Set;
 import java.util.UUID;
 
@@ -79,7 +80,24 @@ public class StandoutService {
         if (!cached.isEmpty()) {
             return Result.of(cached, cached.size(), true);
         }
-        return generateStandouts(seeker, today);
+        return generateStandouts(seeker, today, candidateFinder.findCandidateSetForUser(seeker));
+    }
+
+    /**
+     * Same as {@link #getStandouts(User)}, but generates from a candidate snapshot already computed
+     * for {@code seeker} in this request instead of querying candidates again.
+     */
+    public Result getStandouts(User seeker, CandidateSet candidateSet) {
+        requireStandoutStorage();
+        requireConfig();
+        requireClock();
+        CandidateSet.requireFor(seeker, candidateSet);
+        LocalDate today = LocalDate.now(clock.withZone(config.safety().userTimeZone()));
+        List<Standout> cached = standoutStorage.getStandouts(seeker.getId(), today);
+        if (!cached.isEmpty()) {
+            return Result.of(cached, cached.size(), true);
+        }
+        return generateStandouts(seeker, today, candidateSet);
     }
 
     public void markInteracted(UUID seekerId, UUID standoutUserId) {
@@ -96,18 +114,17 @@ public class StandoutService {
         return userStorage.findByIds(Set.copyOf(ids));
     }
 
-    private Result generateStandouts(User seeker, LocalDate date) {
-        requireCandidateFinder();
+    private Result generateStandouts(User seeker, LocalDate date, CandidateSet candidateSet) {
         requireStandoutStorage();
         requireConfig();
-        List<User> candidates = candidateFinder.findCandidatesForUser(seeker);
+        List<User> candidates = candidateSet.candidates();
         if (candidates.isEmpty()) {
             return Result.empty("No standouts available. Try adjusting your preferences!");
         }
         Set<UUID> recentStandoutIds = getRecentStandoutIds(seeker.getId(), date);
         List<ScoredCandidate> scored = candidates.stream()
                 .filter(candidate -> !recentStandoutIds.contains(candidate.getId()))
-                .map(candidate -> scoreCandidate(seeker, candidate))
+                .map(candidate -> scoreCandidate(seeker, candidate, candidateSet.distanceKm(candidate.getId())))
                 .filter(scoredCandidate ->
                         scoredCandidate.score() >= config.algorithm().standoutMinScore())
                 .sorted(Comparator.comparingInt(ScoredCandidate::score).reversed())
@@ -132,18 +149,18 @@ public class StandoutService {
         return Result.of(standouts, candidates.size(), false);
     }
 
-    private ScoredCandidate scoreCandidate(User seeker, User candidate) {
+    private ScoredCandidate scoreCandidate(User seeker, User candidate, OptionalDouble knownDistanceKm) {
         requireCalculator();
         requireProfileService();
         requireConfig();
-        double distanceKm = calculateDistanceKm(seeker, candidate);
+        double distanceKm = calculateDistanceKm(seeker, candidate, knownDistanceKm);
         double distanceScore = calculateDistanceScore(seeker, distanceKm);
         double ageScore = calculator.calculateAgeScore(seeker, candidate);
         PreferencesMatcher.MatchResult interests =
                 PreferencesMatcher.compare(seeker.getInterests(), candidate.getInterests());
         double interestScore = calculator.calculateInterestScore(seeker, candidate);
         double lifestyleScore = calculator.calculateLifestyleScore(seeker, candidate);
-        double completenessScore = profileService.calculate(candidate).score() / 100.0;
+        double completenessScore = profileService.completionScore(candidate) / 100.0;
         double activityScore = calculator.calculateActivityScore(candidate);
         WeightedScore composite = WeightedScore.empty()
                 .add(distanceScore, config.algorithm().standoutDistanceWeight())
@@ -157,10 +174,13 @@ public class StandoutService {
         return new ScoredCandidate(candidate, score, reason);
     }
 
-    private double calculateDistanceKm(User seeker, User candidate) {
+    private double calculateDistanceKm(User seeker, User candidate, OptionalDouble knownDistanceKm) {
         if (!seeker.hasLocationSet() || !candidate.hasLocationSet()) {
             return -1;
         }
+        if (knownDistanceKm.isPresent()) {
+            return knownDistanceKm.getAsDouble();
+        }
         return GeoUtils.distanceKm(seeker.getLat(), seeker.getLon(), candidate.getLat(), candidate.getLon());
     }
 
@@ -1,8 +1,10 @@
 package datingapp.core.metrics;
 
+import datingapp.core.AppClock;
 import datingapp.core.AppConfig;
 import datingapp.core.connection.ConnectionModels.Like;
 import datingapp.core.metrics.EngagementDomain.Achievement;
+import datingapp.core.metrics.EngagementDomain.Achievement.ProgressCounters;
 import datingapp.core.metrics.EngagementDomain.Achievement.UserAchievement;
 import datingapp.core.model.User;
 import datingapp.core.profile.ProfileService;
@@ -12,12 +14,19 @@ import datingapp.core.storage.TrustSafetyStorage;
 import datingapp.core.storage.UserStorage;
 import java.util.ArrayList;
 import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 
-/** Tracks, unlocks, and queries user achievements. */
+/**
+ * Tracks, unlocks, and queries user achievements.
+ *
+ * <p>Unlock checks read per-user {@link ProgressCounters} that event handlers keep current through
+ * {@link #recordSwipe}, {@link #recordMatch}, and {@link #recordReport}, plus the unlocked set as one
+ * {@link EnumSet}. Counters are seeded lazily from the source tables the first time a user is seen.
+ */
 public class AchievementService {
 
     private final AppConfig config;
@@ -63,8 +72,13 @@ public class AchievementService {
         if (user == null) {
             return newlyUnlocked;
         }
-        for (Achievement achievement : Achievement.values()) {
-            if (!analyticsStorage.hasAchievement(userId, achievement) && isEarned(userId, user, achievement)) {
+        EnumSet<Achievement> locked = EnumSet.complementOf(analyticsStorage.getUnlockedAchievementSet(userId));
+        if (locked.isEmpty()) {
+            return newlyUnlocked;
+        }
+        ProgressCounters counters = loadCounters(userId);
+        for (Achievement achievement : locked) {
+            if (isEarned(user, counters, achievement)) {
                 UserAchievement unlocked = UserAchievement.create(userId, achievement);
                 analyticsStorage.saveUserAchievement(unlocked);
                 newlyUnlocked.add(unlocked);
@@ -85,10 +99,12 @@ public class AchievementService {
         if (user == null) {
             return progress;
         }
+        EnumSet<Achievement> unlocked = analyticsStorage.getUnlockedAchievementSet(userId);
+        ProgressCounters counters = loadCounters(userId);
         for (Achievement achievement : Achievement.values()) {
-            boolean unlocked = analyticsStorage.hasAchievement(userId, achievement);
-            int[] currentAndTarget = getProgressValues(userId, user, achievement);
-            progress.add(new AchievementProgress(achievement, currentAndTarget[0], currentAndTarget[1], unlocked));
+            int[] currentAndTarget = getProgressValues(user, counters, achievement);
+            progress.add(new AchievementProgress(
+                    achievement, currentAndTarget[0], currentAndTarget[1], unlocked.contains(achievement)));
         }
         return progress;
     }
@@ -110,25 +126,80 @@ public class AchievementService {
         return analyticsStorage.countUnlockedAchievements(userId);
     }
 
-    private boolean isEarned(UUID userId, User user, Achievement achievement) {
+    /** Adds a persisted swipe (and the match it produced, if any) to the user's progress counters. */
+    public void recordSwipe(UUID userId, Like.Direction direction, boolean resultedInMatch) {
+        Objects.requireNonNull(direction, "direction cannot be null");
+        int likeDelta = direction == Like.Direction.LIKE ? 1 : 0;
+        int passDelta = direction == Like.Direction.PASS ? 1 : 0;
+        applyCounterDelta(userId, resultedInMatch ? 1 : 0, likeDelta, passDelta, 0);
+    }
+
+    /** Adds a newly created match to the user's progress counters. */
+    public void recordMatch(UUID userId) {
+        applyCounterDelta(userId, 1, 0, 0, 0);
+    }
+
+    /** Adds a filed report to the reporter's progress counters. */
+    public void recordReport(UUID userId) {
+        applyCounterDelta(userId, 0, 0, 0, 1);
+    }
+
+    /**
+     * Rebuilds the user's progress counters from the source tables. Used to seed users whose
+     * counters predate this table and after a swipe is undone or a like removed, since the
+     * counters are only ever incremented and the deleted rows may also have taken a match with them.
+     */
+    public ProgressCounters recountCounters(UUID userId) {
+        requireDependencies();
+        int likes = interactionStorage.countByDirection(userId, Like.Direction.LIKE);
+        int passes = interactionStorage.countByDirection(userId, Like.Direction.PASS);
+        ProgressCounters counters = new ProgressCounters(
+                userId,
+                interactionStorage.getAllMatchesFor(userId).size(),
+                likes,
+                passes,
+                trustSafetyStorage.countReportsBy(userId),
+                AppClock.now());
+        analyticsStorage.saveAchievementCounters(counters);
+        return counters;
+    }
+
+    private void applyCounterDelta(UUID userId, int matchDelta, int likeDelta, int passDelta, int reportDelta) {
+        requireDependencies();
+        Objects.requireNonNull(userId, "userId cannot be null");
+        if (analyticsStorage.incrementAchievementCounters(userId, matchDelta, likeDelta, passDelta, reportDelta)) {
+            return;
+        }
+        // No counter row yet: the recount already includes the write that triggered this event.
+        recountCounters(userId);
+    }
+
+    private ProgressCounters loadCounters(UUID userId) {
+        return analyticsStorage.getAchievementCounters(userId).orElseGet(() -> recountCounters(userId));
+    }
+
+    private boolean isEarned(User user, ProgressCounters counters, Achievement achievement) {
         return switch (achievement) {
-            case FIRST_SPARK -> getMatchCount(userId) >= config.safety().achievementMatchTier1();
-            case SOCIAL_BUTTERFLY -> getMatchCount(userId) >= config.safety().achievementMatchTier2();
-            case POPULAR -> getMatchCount(userId) >= config.safety().achievementMatchTier3();
-            case SUPERSTAR -> getMatchCount(userId) >= config.safety().achievementMatchTier4();
-            case LEGEND -> getMatchCount(userId) >= config.safety().achievementMatchTier5();
-            case SELECTIVE -> isSelective(userId);
-            case OPEN_MINDED -> isOpenMinded(userId);
+            case FIRST_SPARK -> counters.matchCount() >= config.safety().achievementMatchTier1();
+            case SOCIAL_BUTTERFLY -> counters.matchCount() >= config.safety().achievementMatchTier2();
+            case POPULAR -> counters.matchCount() >= config.safety().achievementMatchTier3();
+            case SUPERSTAR -> counters.matchCount() >= config.safety().achievementMatchTier4();
+            case LEGEND -> counters.matchCount() >= config.safety().achievementMatchTier5();
+            case SELECTIVE ->
+                hasEnoughSwipesForBehavior(counters) && counters.likeRatio() < config.safety().selectiveThreshold();
+            case OPEN_MINDED ->
+                hasEnoughSwipesForBehavior(counters)
+                        && counters.likeRatio() > config.safety().openMindedThreshold();
             case COMPLETE_PACKAGE -> user.isComplete();
             case STORYTELLER -> getBioLength(user) > config.safety().bioAchievementLength();
             case LIFESTYLE_GURU ->
                 profileService.countLifestyleFields(user) >= config.safety().lifestyleFieldTarget();
-            case GUARDIAN -> trustSafetyStorage.countReportsBy(userId) >= 1;
+            case GUARDIAN -> counters.reportCount() >= 1;
         };
     }
 
-    private int[] getProgressValues(UUID userId, User user, Achievement achievement) {
-        int matchCount = getMatchCount(userId);
+    private int[] getProgressValues(User user, ProgressCounters counters, Achievement achievement) {
+        int matchCount = counters.matchCount();
         return switch (achievement) {
             case FIRST_SPARK -> new int[] {matchCount, config.safety().achievementMatchTier1()};
             case SOCIAL_BUTTERFLY -> new int[] {matchCount, config.safety().achievementMatchTier2()};
@@ -136,7 +207,7 @@ public class AchievementService {
             case SUPERSTAR -> new int[] {matchCount, config.safety().achievementMatchTier4()};
             case LEGEND -> new int[] {matchCount, config.safety().achievementMatchTier5()};
             case SELECTIVE, OPEN_MINDED ->
-                new int[] {getTotalSwipes(userId), config.safety().minSwipesForBehaviorAchievement()};
+                new int[] {counters.totalSwipes(), config.safety().minSwipesForBehaviorAchievement()};
             case COMPLETE_PACKAGE ->
                 new int[] {profileService.calculateCompleteness(user).percentage(), 100};
             case STORYTELLER -> new int[] {getBioLength(user), config.safety().bioAchievementLength()};
@@ -144,37 +215,12 @@ public class AchievementService {
                 new int[] {
                     profileService.countLifestyleFields(user), config.safety().lifestyleFieldTarget()
                 };
-            case GUARDIAN -> new int[] {trustSafetyStorage.countReportsBy(userId), 1};
+            case GUARDIAN -> new int[] {counters.reportCount(), 1};
         };
     }
 
-    private int getMatchCount(UUID userId) {
-        return interactionStorage.getAllMatchesFor(userId).size();
-    }
-
-    private int getTotalSwipes(UUID userId) {
-        return interactionStorage.countByDirection(userId, Like.Direction.LIKE)
-                + interactionStorage.countByDirection(userId, Like.Direction.PASS);
-    }
-
-    private boolean isSelective(UUID userId) {
-        int totalSwipes = getTotalSwipes(userId);
-        if (totalSwipes < config.safety().minSwipesForBehaviorAchievement()) {
-            return false;
-        }
-        int likes = interactionStorage.countByDirection(userId, Like.Direction.LIKE);
-        double likeRatio = (double) likes / totalSwipes;
-        return likeRatio < config.safety().selectiveThreshold();
-    }
-
-    private boolean isOpenMinded(UUID userId) {
-        int totalSwipes = getTotalSwipes(userId);
-        if (totalSwipes < config.safety().minSwipesForBehaviorAchievement()) {
-            return false;
-        }
-        int likes = interactionStorage.countByDirection(userId, Like.Direction.LIKE);
-        double likeRatio = (double) likes / totalSwipes;
-        return likeRatio > config.safety().openMindedThreshold();
+    private boolean hasEnoughSwipesForBehavior(ProgressCounters counters) {
+        return counters.totalSwipes() >= config.safety().minSwipesForBehaviorAchievement();
     }
 
     private int getBioLength(User user) {
@@ -7,6 +7,7 @@ import datingapp.core.metrics.EngagementDomain.PlatformStats;
 import datingapp.core.metrics.EngagementDomain.UserStats;
 import datingapp.core.metrics.SwipeState.Session;
 import datingapp.core.model.Match;
+import datingapp.core.storage.AccountCleanupStorage.PurgeResult;
 import datingapp.core.storage.AnalyticsStorage;
 import datingapp.core.storage.OperationalInteractionStorage;
 import datingapp.core.storage.OperationalUserStorage;
@@ -14,7 +15,9 @@ import datingapp.core.storage.TrustSafetyStorage;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
@@ -28,6 +31,13 @@ import java.util.concurrent.atomic.LongAdder;
  */
 public class ActivityMetricsService {
 
+    // Retention target names reported by cleanupTables() and read back by CleanupResult.fromTableCounts.
+    public static final String CLEANUP_DAILY_PICK_VIEWS = "daily_pick_views";
+    public static final String CLEANUP_SWIPE_SESSIONS = "swipe_sessions";
+    public static final String CLEANUP_STANDOUTS = "standouts";
+    public static final String CLEANUP_USERS = "users";
+    public static final String CLEANUP_INTERACTIONS = "matches";
+
     private static final int LOCK_STRIPE_COUNT = 256;
     private static final String SUSPICIOUS_VELOCITY_WARNING =
             "Unusually fast swiping detected. Take a moment to review profiles!";
@@ -221,7 +231,7 @@ public class ActivityMetricsService {
     }
 
     public CleanupResult runCleanup() {
-        Instant cutoffDate = AppClock.now().minus(config.safety().cleanupRetentionDays(), ChronoUnit.DAYS);
+        Instant cutoffDate = cleanupCutoff();
         int dailyPicksDeleted = analyticsStorage.deleteExpiredDailyPickViews(cutoffDate);
         int sessionsDeleted = analyticsStorage.deleteExpiredSessions(cutoffDate);
         int standoutsDeleted = analyticsStorage.deleteExpiredStandouts(cutoffDate);
@@ -231,6 +241,30 @@ public class ActivityMetricsService {
                 dailyPicksDeleted, sessionsDeleted, standoutsDeleted, usersDeleted, interactionsDeleted);
     }
 
+    /** Rows older than the returned instant are eligible for retention cleanup. */
+    public Instant cleanupCutoff() {
+        return AppClock.now().minus(config.safety().cleanupRetentionDays(), ChronoUnit.DAYS);
+    }
+
+    /**
+     * Returns the retention targets as chunked deleters so a scheduler can purge them in bounded
+     * batches. Each deleter removes at most {@code maxRows} of the oldest eligible rows per call;
+     * a call that returns fewer than {@code maxRows} means the target is drained.
+     */
+    public List<CleanupTable> cleanupTables() {
+        List<CleanupTable> tables = new ArrayList<>();
+        tables.add(new CleanupTable(CLEANUP_DAILY_PICK_VIEWS, false, analyticsStorage::deleteExpiredDailyPickViews));
+        tables.add(new CleanupTable(CLEANUP_SWIPE_SESSIONS, false, analyticsStorage::deleteExpiredSessions));
+        tables.add(new CleanupTable(CLEANUP_STANDOUTS, false, analyticsStorage::deleteExpiredStandouts));
+        tables.add(new CleanupTable(CLEANUP_INTERACTIONS, false, interactionStorage::purgeDeletedBefore));
+        if (userStorage != null) {
+            // Purging a user cascades into most other tables, so it must not race the targets above.
+            tables.add(new CleanupTable(
+                    CLEANUP_USERS, true, (CascadingChunkDeleter) userStorage::purgeDeletedAccountsChunk));
+        }
+        return List.copyOf(tables);
+    }
+
     public UserStats computeAndSaveStats(UUID userId) {
         UserStats.StatsBuilder builder = new UserStats.StatsBuilder();
 
@@ -330,14 +364,91 @@ public class ActivityMetricsService {
         return analyticsStorage.getLatestPlatformStats();
     }
 
+    /** Deletes at most {@code maxRows} of the oldest rows older than {@code cutoff}; returns rows deleted. */
+    @FunctionalInterface
+    public static interface ChunkDeleter {
+        int deleteChunk(Instant cutoff, int maxRows);
+    }
+
+    /**
+     * Chunk deleter whose deletes also remove rows from other tables; reports those rows per table
+     * so cleanup status shows everything a cascading target removed, not just its own rows.
+     */
+    @FunctionalInterface
+    public static interface CascadingChunkDeleter extends ChunkDeleter {
+        PurgeResult deleteChunkWithCascade(Instant cutoff, int maxRows);
+
+        @Override
+        default int deleteChunk(Instant cutoff, int maxRows) {
+            return deleteChunkWithCascade(cutoff, maxRows).accountsPurged();
+        }
+    }
+
+    /**
+     * One retention target. {@code cascades} marks targets whose deletes cascade into other tables;
+     * those are purged on their own after the independent targets finish.
+     */
+    public static record CleanupTable(String name, boolean cascades, ChunkDeleter deleter) {
+        public CleanupTable {
+            Objects.requireNonNull(name, "name cannot be null");
+            Objects.requireNonNull(deleter, "deleter cannot be null");
+        }
+    }
+
     public static record CleanupResult(
             int dailyPicksDeleted,
             int sessionsDeleted,
             int standoutsDeleted,
             int usersDeleted,
-            int interactionsDeleted) {
+            int interactionsDeleted,
+            Map<String, Long> cascadedRowsByTable) {
+
+        public CleanupResult {
+            cascadedRowsByTable = cascadedRowsByTable == null ? Map.of() : Map.copyOf(cascadedRowsByTable);
+        }
+
+        public CleanupResult(
+                int dailyPicksDeleted,
+                int sessionsDeleted,
+                int standoutsDeleted,
+                int usersDeleted,
+                int interactionsDeleted) {
+            this(dailyPicksDeleted, sessionsDeleted, standoutsDeleted, usersDeleted, interactionsDeleted, Map.of());
+        }
+
+        /** Builds a result from rows deleted per {@link CleanupTable#name()}; unknown names are ignored. */
+        public static CleanupResult fromTableCounts(Map<String, Long> deletedByTable) {
+            return fromTableCounts(deletedByTable, Map.of());
+        }
+
+        /**
+         * Builds a result from rows deleted per {@link CleanupTable#name()} plus the dependent rows that
+         * cascading targets removed, keyed by the table they were removed from.
+         */
+        public static CleanupResult fromTableCounts(
+                Map<String, Long> deletedByTable, Map<String, Long> cascadedRowsByTable) {
+            Objects.requireNonNull(deletedByTable, "deletedByTable cannot be null");
+            Objects.requireNonNull(cascadedRowsByTable, "cascadedRowsByTable cannot be null");
+            return new CleanupResult(
+                    count(deletedByTable, CLEANUP_DAILY_PICK_VIEWS),
+                    count(deletedByTable, CLEANUP_SWIPE_SESSIONS),
+                    count(deletedByTable, CLEANUP_STANDOUTS),
+                    count(deletedByTable, CLEANUP_USERS),
+                    count(deletedByTable, CLEANUP_INTERACTIONS),
+                    cascadedRowsByTable);
+        }
+
+        private static int count(Map<String, Long> deletedByTable, String table) {
+            return (int) Math.min(Integer.MAX_VALUE, deletedByTable.getOrDefault(table, 0L));
+        }
+
         public int totalDeleted() {
-            return dailyPicksDeleted + sessionsDeleted + standoutsDeleted + usersDeleted + interactionsDeleted;
+            long cascaded = cascadedRowsByTable.values().stream()
+                    .mapToLong(Long::longValue)
+                    .sum();
+            long direct = (long) dailyPicksDeleted + sessionsDeleted + standoutsDeleted + usersDeleted
+                    + interactionsDeleted;
+            return (int) Math.min(Integer.MAX_VALUE, direct + cascaded);
         }
 
         public boolean hadWork() {
@@ -351,6 +462,7 @@ public class ActivityMetricsService {
                     + ", standoutsDeleted=" + standoutsDeleted
                     + ", usersDeleted=" + usersDeleted
                     + ", interactionsDeleted=" + interactionsDeleted
+                    + ", cascadedRowsByTable=" + cascadedRowsByTable
                     + ", total=" + totalDeleted() + "]";
         }
     }
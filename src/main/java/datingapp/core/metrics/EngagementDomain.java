@@ -127,6 +127,46 @@ public final class EngagementDomain {
                 return new UserAchievement(id, userId, achievement, unlockedAt);
             }
         }
+
+        /**
+         * Running per-user totals that feed achievement thresholds. Event handlers bump these as swipes,
+         * matches, and reports happen so unlock checks never have to re-run the underlying count queries,
+         * and rebuild them from the source tables when a swipe is undone or a like removed.
+         */
+        public static record ProgressCounters(
+                UUID userId, int matchCount, int likeCount, int passCount, int reportCount, Instant updatedAt) {
+
+            public ProgressCounters {
+                Objects.requireNonNull(userId, "userId cannot be null");
+                Objects.requireNonNull(updatedAt, "updatedAt cannot be null");
+                if (matchCount < 0 || likeCount < 0 || passCount < 0 || reportCount < 0) {
+                    throw new IllegalArgumentException("Achievement counters cannot be negative");
+                }
+            }
+
+            public static ProgressCounters empty(UUID userId) {
+                return new ProgressCounters(userId, 0, 0, 0, 0, AppClock.now());
+            }
+
+            public int totalSwipes() {
+                return likeCount + passCount;
+            }
+
+            public double likeRatio() {
+                int totalSwipes = totalSwipes();
+                return totalSwipes == 0 ? 0.0 : (double) likeCount / totalSwipes;
+            }
+
+            public ProgressCounters plus(int matchDelta, int likeDelta, int passDelta, int reportDelta) {
+                return new ProgressCounters(
+                        userId,
+                        matchCount + matchDelta,
+                        likeCount + likeDelta,
+                        passCount + passDelta,
+                        reportCount + reportDelta,
+                        AppClock.now());
+            }
+        }
     }
 
     /** Immutable snapshot of user engagement statistics. */
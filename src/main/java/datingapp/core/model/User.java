@@ -149,6 +149,11 @@ public class User {
     // Soft-delete support
     private Instant deletedAt;
 
+    // Materialised profile-completion snapshot; cleared whenever the profile is edited
+    private Integer profileCompletionScore;
+    private String profileCompletionTier;
+    private boolean hasLocalEdits;
+
     /**
      * Creates a new incomplete user with just an ID and name. Timestamps are set to
      * current time.
@@ -364,6 +369,12 @@ public class User {
             return this;
         }
 
+        public StorageBuilder profileCompletion(Integer score, String tier) {
+            user.profileCompletionScore = score;
+            user.profileCompletionTier = score != null ? tier : null;
+            return this;
+        }
+
         /** Builds and returns the User instance. */
         public User build() {
             return user;
@@ -853,6 +864,9 @@ public class User {
 
     private void touch() {
         this.updatedAt = AppClock.now();
+        this.profileCompletionScore = null;
+        this.profileCompletionTier = null;
+        this.hasLocalEdits = true;
     }
 
     private static void validatePhotoLimit(int photoCount) {
@@ -929,7 +943,7 @@ public class User {
 
     /** Returns a deep copy of this user, including dealbreakers and mutable collections. */
     public User copy() {
-        return StorageBuilder.create(id, name, createdAt)
+        User copy = StorageBuilder.create(id, name, createdAt)
                 .bio(bio)
                 .birthDate(birthDate)
                 .gender(gender)
@@ -957,7 +971,10 @@ public class User {
                 .verifiedAt(verifiedAt)
                 .pacePreferences(pacePreferences)
                 .deletedAt(deletedAt)
+                .profileCompletion(profileCompletionScore, profileCompletionTier)
                 .build();
+        copy.hasLocalEdits = hasLocalEdits;
+        return copy;
     }
 
     /** Marks this entity as soft-deleted at the given instant. */
@@ -970,4 +987,59 @@ public class User {
     public boolean isDeleted() {
         return deletedAt != null;
     }
+
+    // ================================
+    // Materialised profile completion
+    // ================================
+
+    /**
+     * Returns the completion score stored alongside this profile version, or {@code null} when the
+     * profile has been edited since the score was last computed.
+     */
+    public Integer getProfileCompletionScore() {
+        return profileCompletionScore;
+    }
+
+    /** Returns the completion tier stored with {@link #getProfileCompletionScore()}, or {@code null}. */
+    public String getProfileCompletionTier() {
+        return profileCompletionTier;
+    }
+
+    /**
+     * Records the completion score for the current profile version. Does not touch {@code updatedAt};
+     * any later profile edit clears the recorded values again.
+     */
+    public void recordProfileCompletion(int score, String tier) {
+        if (score < 0 || score > 100) {
+            throw new IllegalArgumentException("score must be 0-100, got: " + score);
+        }
+        this.profileCompletionScore = score;
+        this.profileCompletionTier = Objects.requireNonNull(tier, "tier cannot be null");
+    }
+
+    /**
+     * Returns {@code true} once any setter has modified this instance (or the instance it was copied
+     * from) after construction or loading. Unedited instances are fully described by their id and
+     * {@code updatedAt}, which makes them safe keys for shared derived-value caches.
+     */
+    public boolean hasLocalEdits() {
+        return hasLocalEdits;
+    }
+
+    /**
+     * Applies normalized profile collections loaded from storage without marking the profile as
+     * edited, so the persisted {@code updatedAt} and completion snapshot stay valid.
+     */
+    public void applyStoredProfileData(
+            List<String> photoUrls,
+            Set<Interest> interests,
+            Set<Gender> interestedIn,
+            MatchPreferences.Dealbreakers dealbreakers) {
+        List<String> normalizedPhotos = normalizePhotoUrls(photoUrls, true);
+        validatePhotoLimit(normalizedPhotos.size());
+        this.photoUrls = normalizedPhotos;
+        this.interests = copyAndValidateInterests(interests);
+        this.interestedIn = EnumSetUtil.safeCopy(interestedIn, Gender.class);
+        this.dealbreakers = dealbreakers;
+    }
 }
@@ -2,6 +2,9 @@ package datingapp.core.profile;
 
 import datingapp.core.model.User;
 import datingapp.core.storage.UserStorage;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -11,12 +14,27 @@ import java.util.UUID;
 
 public final class ProfileService {
 
+    private static final int COMPLETION_MEMO_MAX_ENTRIES = 4_096;
+    private static final ProfileCompletionSupport COMPLETION_SUPPORT = new ProfileCompletionSupport();
+
     private final UserStorage userStorage;
     private final ProfileCompletionSupport completionSupport;
 
+    /**
+     * LRU memo of full completion results keyed by profile version. Only unedited users (as loaded
+     * from storage) are memoised, because their id and {@code updatedAt} fully identify the content.
+     */
+    private final Map<CompletionKey, CompletionResult> completionMemo =
+            Collections.synchronizedMap(new LinkedHashMap<>(64, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<CompletionKey, CompletionResult> eldest) {
+                    return size() > COMPLETION_MEMO_MAX_ENTRIES;
+                }
+            });
+
     public ProfileService(UserStorage userStorage) {
         this.userStorage = Objects.requireNonNull(userStorage, "userStorage cannot be null");
-        this.completionSupport = new ProfileCompletionSupport();
+        this.completionSupport = COMPLETION_SUPPORT;
     }
 
     public List<User> listUsers() {
@@ -98,8 +116,47 @@ public final class ProfileService {
         }
     }
 
+    private record CompletionKey(UUID userId, Instant updatedAt) {}
+
+    /**
+     * Computes the full completion breakdown. Results for unedited users are memoised per
+     * {@code userId} + {@code updatedAt}, so repeated dashboard/DTO lookups of the same profile
+     * version reuse one computation.
+     */
     public CompletionResult calculate(User user) {
-        return completionSupport.calculate(user);
+        if (!isMemoisable(user)) {
+            return completionSupport.calculate(user);
+        }
+        CompletionKey key = new CompletionKey(user.getId(), user.getUpdatedAt());
+        CompletionResult cached = completionMemo.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        CompletionResult computed = completionSupport.calculate(user);
+        completionMemo.put(key, computed);
+        return computed;
+    }
+
+    /**
+     * Returns the completion score for ranking. Prefers the score materialised on the user row at
+     * save time and only falls back to {@link #calculate(User)} for edited or legacy profiles.
+     */
+    public int completionScore(User user) {
+        Objects.requireNonNull(user, "user cannot be null");
+        Integer stored = user.getProfileCompletionScore();
+        return stored != null ? stored : calculate(user).score();
+    }
+
+    /**
+     * Computes completion without consulting any memo. Storage uses this to materialise the score
+     * and tier on the user row when a profile is saved.
+     */
+    public static CompletionResult computeCompletion(User user) {
+        return COMPLETION_SUPPORT.calculate(Objects.requireNonNull(user, "user cannot be null"));
+    }
+
+    private static boolean isMemoisable(User user) {
+        return user != null && user.getUpdatedAt() != null && !user.hasLocalEdits();
     }
 
     public ProfilePreview generatePreview(User user) {
@@ -2,10 +2,42 @@ package datingapp.core.storage;
 
 import datingapp.core.model.User;
 import java.time.Instant;
+import java.util.Map;
+import java.util.Objects;
 
 /** Storage seam for soft-deleting a user and the related rows that should disappear from active reads. */
 public interface AccountCleanupStorage {
 
     /** Soft-deletes the supplied user and any related rows. */
     void softDeleteAccount(User user, Instant deletedAt);
+
+    /**
+     * Result of a bulk purge.
+     *
+     * @param accountsPurged      user rows removed
+     * @param rowsDeletedByTable  dependent rows removed, keyed by table name in delete order
+     */
+    public static record PurgeResult(int accountsPurged, Map<String, Long> rowsDeletedByTable) {
+        public PurgeResult {
+            Objects.requireNonNull(rowsDeletedByTable, "rowsDeletedByTable cannot be null");
+            rowsDeletedByTable = Map.copyOf(rowsDeletedByTable);
+        }
+
+        public long totalRowsDeleted() {
+            return accountsPurged
+                    + rowsDeletedByTable.values().stream().mapToLong(Long::longValue).sum();
+        }
+    }
+
+    /**
+     * Permanently removes every account soft-deleted before {@code threshold} together with all rows
+     * that reference it, {@code chunkSize} accounts per transaction.
+     *
+     * @throws UnsupportedOperationException if the implementation has no bulk purge path
+     */
+    default PurgeResult purgeDeletedAccountsBefore(Instant threshold, int chunkSize) {
+        Objects.requireNonNull(threshold, "threshold cannot be null");
+        throw new UnsupportedOperationException(
+                "AccountCleanupStorage implementation must override purgeDeletedAccountsBefore to support bulk purge");
+    }
 }
@@ -1,6 +1,7 @@
 package datingapp.core.storage;
 
 import datingapp.core.metrics.EngagementDomain.Achievement;
+import datingapp.core.metrics.EngagementDomain.Achievement.ProgressCounters;
 import datingapp.core.metrics.EngagementDomain.Achievement.UserAchievement;
 import datingapp.core.metrics.EngagementDomain.PlatformStats;
 import datingapp.core.metrics.EngagementDomain.UserStats;
@@ -8,6 +9,7 @@ import datingapp.core.metrics.SwipeState.Session;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -52,6 +54,14 @@ public interface AnalyticsStorage {
 
     boolean hasViewedProfile(UUID viewerId, UUID viewedId);
 
+    /**
+     * Writes any buffered profile views through to storage. Implementations that record views
+     * synchronously have nothing to flush.
+     */
+    default void flushPendingProfileViews() {
+        // Views are written synchronously unless an implementation buffers them.
+    }
+
     // ═══ Achievements ═══
 
     void saveUserAchievement(UserAchievement achievement);
@@ -62,6 +72,52 @@ public interface AnalyticsStorage {
 
     int countUnlockedAchievements(UUID userId);
 
+    /**
+     * Returns every achievement the user has unlocked as one {@link EnumSet}.
+     *
+     * <p>Default implementation derives the set from {@link #getUnlockedAchievements(UUID)}.
+     * Database-backed implementations should override this with a single column projection.
+     */
+    default EnumSet<Achievement> getUnlockedAchievementSet(UUID userId) {
+        EnumSet<Achievement> unlocked = EnumSet.noneOf(Achievement.class);
+        for (UserAchievement achievement : getUnlockedAchievements(userId)) {
+            unlocked.add(achievement.achievement());
+        }
+        return unlocked;
+    }
+
+    // ═══ Achievement Progress Counters ═══
+
+    /**
+     * Returns the persisted achievement progress counters for a user, if any.
+     *
+     * <p>Default implementation reports no counters, which makes
+     * {@code AchievementService} fall back to recounting from the source tables.
+     */
+    default Optional<ProgressCounters> getAchievementCounters(UUID userId) {
+        return Optional.empty();
+    }
+
+    /**
+     * Stores (inserts or replaces) the achievement progress counters for a user.
+     *
+     * <p>Default implementation is a no-op for storages that do not persist counters.
+     */
+    default void saveAchievementCounters(ProgressCounters counters) {
+        // Counters are optional; storages without a counters table simply recount.
+    }
+
+    /**
+     * Atomically adds the given deltas to an existing counter row.
+     *
+     * @return {@code true} if a counter row existed and was updated; {@code false} if the caller
+     *     must seed the row first
+     */
+    default boolean incrementAchievementCounters(
+            UUID userId, int matchDelta, int likeDelta, int passDelta, int reportDelta) {
+        return false;
+    }
+
     // ═══ Daily Picks ═══
 
     void markDailyPickAsViewed(UUID userId, LocalDate date);
@@ -76,10 +132,26 @@ public interface AnalyticsStorage {
 
     int deleteExpiredDailyPickViews(Instant cutoff);
 
+    /**
+     * Bounded variant of {@link #deleteExpiredDailyPickViews(Instant)} that removes at most {@code maxRows} of the
+     * oldest eligible rows. The default ignores the bound.
+     */
+    default int deleteExpiredDailyPickViews(Instant cutoff, int maxRows) {
+        return deleteExpiredDailyPickViews(cutoff);
+    }
+
     // ═══ Standouts ═══
 
     int deleteExpiredStandouts(Instant cutoff);
 
+    /**
+     * Bounded variant of {@link #deleteExpiredStandouts(Instant)} that removes at most {@code maxRows} of the
+     * oldest eligible rows. The default ignores the bound.
+     */
+    default int deleteExpiredStandouts(Instant cutoff, int maxRows) {
+        return deleteExpiredStandouts(cutoff);
+    }
+
     boolean markStandoutInteracted(UUID standoutId, Instant timestamp);
 
     // ═══ Swipe Sessions ═══
@@ -100,6 +172,14 @@ public interface AnalyticsStorage {
 
     int deleteExpiredSessions(Instant cutoff);
 
+    /**
+     * Bounded variant of {@link #deleteExpiredSessions(Instant)} that removes at most {@code maxRows} of the
+     * oldest eligible rows. The default ignores the bound.
+     */
+    default int deleteExpiredSessions(Instant cutoff, int maxRows) {
+        return deleteExpiredSessions(cutoff);
+    }
+
     /** Aggregated statistics for a user's swipe sessions. */
     public static record SessionAggregates(
             int totalSessions,
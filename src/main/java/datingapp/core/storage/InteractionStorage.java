@@ -271,6 +271,14 @@ public interface InteractionStorage {
                 "InteractionStorage implementation must override purgeDeletedBefore(Instant) to support cleanup");
     }
 
+    /**
+     * Purges at most {@code maxRows} soft-deleted matches, oldest deletion first. The default ignores
+     * the bound and purges everything before {@code threshold}.
+     */
+    default int purgeDeletedBefore(Instant threshold, int maxRows) {
+        return purgeDeletedBefore(threshold);
+    }
+
     /**
      * Indicates whether this storage can execute relationship transition writes
      * atomically across
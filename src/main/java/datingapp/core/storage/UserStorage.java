@@ -166,6 +166,19 @@ public interface UserStorage {
         return result;
     }
 
+    /**
+     * Returns the {@code updatedAt} of each requested user that exists, without loading profiles.
+     * Lets callers check whether derived data is still current before paying for a full load.
+     *
+     * <p>The default delegates to {@link #findByIds(Set)}; storage adapters should override it with a
+     * narrow query.
+     */
+    default Map<UUID, java.time.Instant> findUpdatedAtByIds(Set<UUID> ids) {
+        Map<UUID, java.time.Instant> result = new HashMap<>();
+        findByIds(ids).forEach((id, user) -> result.put(id, user.getUpdatedAt()));
+        return result;
+    }
+
     default Optional<User> findByEmail(String normalizedEmail) {
         if (normalizedEmail == null || normalizedEmail.isBlank()) {
             return Optional.empty();
@@ -218,6 +231,23 @@ public interface UserStorage {
                 "UserStorage implementation must override purgeDeletedBefore(Instant) to support cleanup");
     }
 
+    /**
+     * Chunked form of {@link #purgeDeletedBefore(java.time.Instant)}: purges at most {@code maxRows}
+     * users, oldest deletion first. The default ignores the bound.
+     */
+    default int purgeDeletedBefore(java.time.Instant threshold, int maxRows) {
+        return purgeDeletedBefore(threshold);
+    }
+
+    /**
+     * Chunked purge that also reports the dependent rows removed with the accounts, keyed by table.
+     * The default delegates to {@link #purgeDeletedBefore(java.time.Instant, int)} and reports no
+     * dependent rows.
+     */
+    default AccountCleanupStorage.PurgeResult purgeDeletedAccountsChunk(java.time.Instant threshold, int maxRows) {
+        return new AccountCleanupStorage.PurgeResult(purgeDeletedBefore(threshold, maxRows), Map.of());
+    }
+
     // ═══════════════════════════════════════════════════════════════
     // Profile Notes (from ProfileNoteStorage)
     // ═══════════════════════════════════════════════════════════════
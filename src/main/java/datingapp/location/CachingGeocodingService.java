@@ -0,0 +1,331 @@
+package datingapp.location;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import datingapp.core.AppClock;
+import datingapp.location.LocationModels.Precision;
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Result cache in front of a slow or rate-limited {@link GeocodingService}.
+ *
+ * <p>Results are kept in a bounded LRU keyed by the normalised query and result limit. Empty results
+ * are cached too, for a shorter {@code negativeTtl}, so a query the provider has no match for is not
+ * re-sent on every keystroke. A delegate that fails throws instead, and failures are never cached.
+ * Concurrent misses for the same key share one delegate call. Delegate calls run on virtual threads,
+ * so {@link #searchAsync(String, int)} never parks the caller while the delegate waits out its rate
+ * limit.
+ *
+ * <p>When constructed with a cache file, live entries are loaded at startup and written back (as one
+ * JSON document, replaced atomically) after new results arrive and on {@link #close()}. An unreadable
+ * file is ignored and rewritten.
+ */
+public final class CachingGeocodingService implements GeocodingService, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(CachingGeocodingService.class);
+
+    public static final Path DEFAULT_CACHE_FILE = Path.of("data", "geocoding-cache.json");
+    static final int DEFAULT_MAX_ENTRIES = 1_000;
+    static final Duration DEFAULT_TTL = Duration.ofDays(7);
+    static final Duration DEFAULT_NEGATIVE_TTL = Duration.ofHours(1);
+    private static final int FILE_FORMAT_VERSION = 1;
+    private static final String TEMP_FILE_PREFIX = ".pending-";
+
+    private final GeocodingService delegate;
+    private final Path cacheFile;
+    private final int maxEntries;
+    private final Duration ttl;
+    private final Duration negativeTtl;
+    private final ExecutorService executor;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<Key, CompletableFuture<List<GeocodingResult>>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicBoolean persistScheduled = new AtomicBoolean();
+    private final Object persistLock = new Object();
+
+    /** In-memory cache only. */
+    public CachingGeocodingService(GeocodingService delegate) {
+        this(delegate, null);
+    }
+
+    /** Cache persisted to {@code cacheFile}; {@code null} keeps it in memory only. */
+    public CachingGeocodingService(GeocodingService delegate, Path cacheFile) {
+        this(delegate, cacheFile, DEFAULT_MAX_ENTRIES, DEFAULT_TTL, DEFAULT_NEGATIVE_TTL);
+    }
+
+    CachingGeocodingService(
+            GeocodingService delegate, Path cacheFile, int maxEntries, Duration ttl, Duration negativeTtl) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate cannot be null");
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive");
+        }
+        this.cacheFile = cacheFile;
+        this.maxEntries = maxEntries;
+        this.ttl = requirePositive(ttl, "ttl");
+        this.negativeTtl = requirePositive(negativeTtl, "negativeTtl");
+        this.executor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("geocoding-", 0).factory());
+        load();
+    }
+
+    /**
+     * Blocking variant for existing callers. Waits for {@link #searchAsync(String, int)} and returns
+     * no results if the delegate failed.
+     */
+    @Override
+    public List<GeocodingResult> search(String query, int maxResults) {
+        try {
+            return searchAsync(query, maxResults).join();
+        } catch (CompletionException exception) {
+            if (logger.isDebugEnabled()) {
+                logger.debug("Geocoding lookup failed: {}", String.valueOf(exception.getCause()));
+            }
+            return List.of();
+        }
+    }
+
+    /**
+     * Returns cached results immediately, or a future completed by the delegate on a virtual
+     * thread. The future fails if the delegate throws; failures are not cached.
+     */
+    @Override
+    public CompletableFuture<List<GeocodingResult>> searchAsync(String query, int maxResults) {
+        if (query == null || query.isBlank() || maxResults <= 0) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+        Key key = new Key(normalizeQuery(query), maxResults);
+        List<GeocodingResult> cached = cached(key);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        CompletableFuture<List<GeocodingResult>> created = new CompletableFuture<>();
+        CompletableFuture<List<GeocodingResult>> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            return existing.copy();
+        }
+        try {
+            executor.execute(() -> lookup(key, query.trim(), created));
+        } catch (RejectedExecutionException exception) {
+            inFlight.remove(key, created);
+            created.completeExceptionally(exception);
+        }
+        return created.copy();
+    }
+
+    /** Writes the live entries to the cache file now, if persistence is enabled. */
+    public void flush() {
+        if (cacheFile == null) {
+            return;
+        }
+        synchronized (persistLock) {
+            persistScheduled.set(false);
+            writeSnapshot();
+        }
+    }
+
+    /** Stops accepting lookups and persists the current entries; running lookups finish normally. */
+    @Override
+    public void close() {
+        executor.shutdown();
+        flush();
+    }
+
+    int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private void lookup(Key key, String query, CompletableFuture<List<GeocodingResult>> future) {
+        try {
+            // A delegate that could not answer throws; only a completed lookup, empty or not, is cached.
+            List<GeocodingResult> results = List.copyOf(delegate.search(query, key.maxResults()));
+            store(key, results);
+            inFlight.remove(key, future);
+            future.complete(results);
+            schedulePersist();
+        } catch (RuntimeException exception) {
+            inFlight.remove(key, future);
+            future.completeExceptionally(exception);
+        }
+    }
+
+    private List<GeocodingResult> cached(Key key) {
+        Instant now = AppClock.now();
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (!now.isBefore(entry.expiresAt())) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.results();
+        }
+    }
+
+    private void store(Key key, List<GeocodingResult> results) {
+        Instant expiresAt = AppClock.now().plus(results.isEmpty() ? negativeTtl : ttl);
+        putEntry(key, new Entry(results, expiresAt));
+    }
+
+    private void putEntry(Key key, Entry entry) {
+        synchronized (entries) {
+            entries.put(key, entry);
+            if (entries.size() > maxEntries) {
+                var eldest = entries.keySet().iterator();
+                eldest.next();
+                eldest.remove();
+            }
+        }
+    }
+
+    private void schedulePersist() {
+        if (cacheFile == null || !persistScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(this::flush);
+        } catch (RejectedExecutionException _) {
+            persistScheduled.set(false);
+        }
+    }
+
+    private void writeSnapshot() {
+        Instant now = AppClock.now();
+        ObjectNode root = objectMapper.createObjectNode();
+        root.put("version", FILE_FORMAT_VERSION);
+        ArrayNode entryNodes = root.putArray("entries");
+        synchronized (entries) {
+            entries.forEach((key, entry) -> {
+                if (now.isBefore(entry.expiresAt())) {
+                    entryNodes.add(toJson(key, entry));
+                }
+            });
+        }
+
+        Path temp = null;
+        try {
+            Path directory = cacheFile.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            temp = Files.createTempFile(directory, TEMP_FILE_PREFIX, ".tmp");
+            objectMapper.writeValue(temp.toFile(), root);
+            try {
+                Files.move(temp, cacheFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException _) {
+                Files.move(temp, cacheFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException exception) {
+            logDebug("Failed to write geocoding cache {}: {}", exception.getMessage());
+        } finally {
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException _) {
+                    // best effort cleanup of a temp file that was never moved into place
+                }
+            }
+        }
+    }
+
+    private void load() {
+        if (cacheFile == null) {
+            return;
+        }
+        try {
+            JsonNode root = objectMapper.readTree(cacheFile.toFile());
+            if (root == null || root.path("version").asInt() != FILE_FORMAT_VERSION) {
+                return;
+            }
+            Instant now = AppClock.now();
+            for (JsonNode node : root.path("entries")) {
+                Instant expiresAt = Instant.ofEpochMilli(node.path("expiresAt").asLong());
+                String query = node.path("query").asText("");
+                int maxResults = node.path("maxResults").asInt();
+                if (!now.isBefore(expiresAt) || query.isBlank() || maxResults <= 0) {
+                    continue;
+                }
+                List<GeocodingResult> results = new ArrayList<>();
+                for (JsonNode result : node.path("results")) {
+                    results.add(new GeocodingResult(
+                            result.path("displayName").asText(),
+                            result.path("latitude").asDouble(),
+                            result.path("longitude").asDouble(),
+                            Precision.valueOf(result.path("precision").asText())));
+                }
+                putEntry(new Key(query, maxResults), new Entry(List.copyOf(results), expiresAt));
+            }
+        } catch (NoSuchFileException _) {
+            // nothing persisted yet
+        } catch (IOException | RuntimeException exception) {
+            synchronized (entries) {
+                entries.clear();
+            }
+            logDebug("Ignoring unreadable geocoding cache {}: {}", exception.getMessage());
+        }
+    }
+
+    private ObjectNode toJson(Key key, Entry entry) {
+        ObjectNode node = objectMapper.createObjectNode();
+        node.put("query", key.query());
+        node.put("maxResults", key.maxResults());
+        node.put("expiresAt", entry.expiresAt().toEpochMilli());
+        ArrayNode results = node.putArray("results");
+        for (GeocodingResult result : entry.results()) {
+            results.addObject()
+                    .put("displayName", result.displayName())
+                    .put("latitude", result.latitude())
+                    .put("longitude", result.longitude())
+                    .put("precision", result.precision().name());
+        }
+        return node;
+    }
+
+    private void logDebug(String message, Object detail) {
+        if (logger.isDebugEnabled()) {
+            logger.debug(message, cacheFile, detail);
+        }
+    }
+
+    static String normalizeQuery(String query) {
+        return query.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private static Duration requirePositive(Duration duration, String name) {
+        Objects.requireNonNull(duration, name + " cannot be null");
+        if (duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException(name + " must be positive");
+        }
+        return duration;
+    }
+
+    private record Key(String query, int maxResults) {}
+
+    private record Entry(List<GeocodingResult> results, Instant expiresAt) {}
+}
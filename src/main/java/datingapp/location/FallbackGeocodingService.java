@@ -2,6 +2,7 @@ package datingapp.location;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 /** Uses local results first and falls back to a secondary provider only when needed. */
 public final class FallbackGeocodingService implements GeocodingService {
@@ -17,9 +18,22 @@ public final class FallbackGeocodingService implements GeocodingService {
     @Override
     public List<GeocodingResult> search(String query, int maxResults) {
         List<GeocodingResult> primaryResults = primary.search(query, maxResults);
-        if (!primaryResults.isEmpty() || query == null || query.isBlank()) {
+        if (!needsFallback(primaryResults, query)) {
             return primaryResults;
         }
         return fallback.search(query, maxResults);
     }
+
+    /** Asks the fallback only after the primary came back empty, without blocking the caller on either. */
+    @Override
+    public CompletableFuture<List<GeocodingResult>> searchAsync(String query, int maxResults) {
+        return primary.searchAsync(query, maxResults)
+                .thenCompose(primaryResults -> needsFallback(primaryResults, query)
+                        ? fallback.searchAsync(query, maxResults)
+                        : CompletableFuture.completedFuture(primaryResults));
+    }
+
+    private static boolean needsFallback(List<GeocodingResult> primaryResults, String query) {
+        return primaryResults.isEmpty() && query != null && !query.isBlank();
+    }
 }
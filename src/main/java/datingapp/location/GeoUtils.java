@@ -1,11 +1,48 @@
 package datingapp.location;
 
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
 /**
- * Geographic helpers for coordinate validation and distance calculations.
+ * Geographic helpers for coordinate validation, distance calculations, and geohash cells.
  */
 public final class GeoUtils {
 
-    private static final double EARTH_RADIUS_KM = 6371.0;
+    public static final double EARTH_RADIUS_KM = 6371.0;
+    private static final double KM_PER_DEGREE_LATITUDE = 111.0;
+    private static final double MAX_SEARCH_RADIUS_KM = 20_000.0;
+    private static final double MIN_LONGITUDE_COSINE = 0.0001;
+
+    /** Precision of the geohash stored per user; long enough that every cover prefix is a prefix of it. */
+    public static final int STORED_GEOHASH_PRECISION = 9;
+    /**
+     * Upper bound on cells returned by {@link #geohashCover}, each of which costs the search one index
+     * range probe; searches that need more fall back to the box alone.
+     */
+    public static final int MAX_GEOHASH_COVER_CELLS = 64;
+
+    private static final int MAX_COVER_PRECISION = 7;
+    private static final String GEOHASH_ALPHABET = "0123456789bcdefghjkmnpqrstuvwxyz";
+
+    /**
+     * Latitude/longitude window that fully contains a search radius. When the window crosses the
+     * antimeridian the longitude range is split in two: {@code [lonMin, lonMax]} on the seeker's side
+     * and {@code [wrapLonMin, wrapLonMax]} on the far side. Otherwise both ranges are identical.
+     */
+    public static record BoundingBox(
+            double latMin, double latMax, double lonMin, double lonMax, double wrapLonMin, double wrapLonMax) {
+
+        public boolean crossesAntimeridian() {
+            return lonMin != wrapLonMin || lonMax != wrapLonMax;
+        }
+
+        public boolean contains(double lat, double lon) {
+            return lat >= latMin
+                    && lat <= latMax
+                    && ((lon >= lonMin && lon <= lonMax) || (lon >= wrapLonMin && lon <= wrapLonMax));
+        }
+    }
 
     private GeoUtils() {
         // Utility class
@@ -58,4 +95,151 @@ public final class GeoUtils {
 
         return EARTH_RADIUS_KM * c;
     }
+
+    /**
+     * Computes the bounding box that contains every point within {@code radiusKm} of the center.
+     * Windows that reach a pole cover all longitudes; windows that cross +/-180 degrees are split.
+     */
+    public static BoundingBox boundingBox(double lat, double lon, double radiusKm) {
+        validateLatitude(lat);
+        validateLongitude(lon);
+        double effectiveRadiusKm = Math.clamp(radiusKm, 0.0, MAX_SEARCH_RADIUS_KM);
+        double latDelta = effectiveRadiusKm / KM_PER_DEGREE_LATITUDE;
+        double latMin = Math.max(-90.0, lat - latDelta);
+        double latMax = Math.min(90.0, lat + latDelta);
+        if (latMin <= -90.0 || latMax >= 90.0) {
+            return new BoundingBox(latMin, latMax, -180.0, 180.0, -180.0, 180.0);
+        }
+
+        // Use the window edge farthest from the equator so the box still contains the whole circle.
+        double widestLat = Math.max(Math.abs(latMin), Math.abs(latMax));
+        double cosLat = Math.max(Math.cos(Math.toRadians(widestLat)), MIN_LONGITUDE_COSINE);
+        double lonDelta = effectiveRadiusKm / (KM_PER_DEGREE_LATITUDE * cosLat);
+        if (lonDelta >= 180.0) {
+            return new BoundingBox(latMin, latMax, -180.0, 180.0, -180.0, 180.0);
+        }
+
+        double lonMin = lon - lonDelta;
+        double lonMax = lon + lonDelta;
+        if (lonMin < -180.0) {
+            return new BoundingBox(latMin, latMax, -180.0, lonMax, lonMin + 360.0, 180.0);
+        }
+        if (lonMax > 180.0) {
+            return new BoundingBox(latMin, latMax, lonMin, 180.0, -180.0, lonMax - 360.0);
+        }
+        return new BoundingBox(latMin, latMax, lonMin, lonMax, lonMin, lonMax);
+    }
+
+    /** Encodes the point as a base-32 geohash with {@code precision} characters. */
+    public static String geohash(double lat, double lon, int precision) {
+        validateLatitude(lat);
+        validateLongitude(lon);
+        if (precision < 1 || precision > 12) {
+            throw new IllegalArgumentException("Geohash precision must be between 1 and 12, got " + precision);
+        }
+        double latLow = -90.0;
+        double latHigh = 90.0;
+        double lonLow = -180.0;
+        double lonHigh = 180.0;
+        StringBuilder hash = new StringBuilder(precision);
+        boolean lonBit = true;
+        int bits = 0;
+        int value = 0;
+        while (hash.length() < precision) {
+            if (lonBit) {
+                double mid = (lonLow + lonHigh) / 2;
+                value <<= 1;
+                if (lon >= mid) {
+                    value |= 1;
+                    lonLow = mid;
+                } else {
+                    lonHigh = mid;
+                }
+            } else {
+                double mid = (latLow + latHigh) / 2;
+                value <<= 1;
+                if (lat >= mid) {
+                    value |= 1;
+                    latLow = mid;
+                } else {
+                    latHigh = mid;
+                }
+            }
+            lonBit = !lonBit;
+            if (++bits == 5) {
+                hash.append(GEOHASH_ALPHABET.charAt(value));
+                bits = 0;
+                value = 0;
+            }
+        }
+        return hash.toString();
+    }
+
+    /**
+     * Returns the geohash prefixes whose cells together cover {@link #boundingBox} for the radius,
+     * using the finest precision that needs at most {@link #MAX_GEOHASH_COVER_CELLS} cells. Returns
+     * an empty list, meaning no cell filter should be applied, when those cells are wider or taller
+     * than the radius: such a cover reaches far beyond the box and removes too few rows to be worth
+     * the extra range probes.
+     */
+    public static List<String> geohashCover(double lat, double lon, double radiusKm) {
+        BoundingBox box = boundingBox(lat, lon, radiusKm);
+        for (int precision = MAX_COVER_PRECISION; precision >= 1; precision--) {
+            Set<String> cells = coverCells(box, precision);
+            if (cells != null) {
+                return cellSizeKm(lat, precision) <= radiusKm ? List.copyOf(cells) : List.of();
+            }
+        }
+        return List.of();
+    }
+
+    /** Larger of a geohash cell's height and width, in kilometres, at the given latitude. */
+    static double cellSizeKm(double lat, int precision) {
+        int totalBits = precision * 5;
+        double cellLat = 180.0 / (1L << (totalBits / 2));
+        double cellLon = 360.0 / (1L << ((totalBits + 1) / 2));
+        return Math.max(cellLat, cellLon * Math.cos(Math.toRadians(lat))) * KM_PER_DEGREE_LATITUDE;
+    }
+
+    /** Cells of one precision covering the box, or {@code null} when they exceed the budget. */
+    private static Set<String> coverCells(BoundingBox box, int precision) {
+        int totalBits = precision * 5;
+        double cellLon = 360.0 / (1L << ((totalBits + 1) / 2));
+        double cellLat = 180.0 / (1L << (totalBits / 2));
+        Set<String> cells = new TreeSet<>();
+        if (!addRangeCells(cells, box, box.lonMin(), box.lonMax(), cellLat, cellLon, precision)) {
+            return null;
+        }
+        if (box.crossesAntimeridian()
+                && !addRangeCells(cells, box, box.wrapLonMin(), box.wrapLonMax(), cellLat, cellLon, precision)) {
+            return null;
+        }
+        return cells;
+    }
+
+    private static boolean addRangeCells(
+            Set<String> cells,
+            BoundingBox box,
+            double lonMin,
+            double lonMax,
+            double cellLat,
+            double cellLon,
+            int precision) {
+        long latSteps = (long) Math.ceil((box.latMax() - box.latMin()) / cellLat) + 1;
+        long lonSteps = (long) Math.ceil((lonMax - lonMin) / cellLon) + 1;
+        if (latSteps * lonSteps > MAX_GEOHASH_COVER_CELLS * 4L) {
+            return false;
+        }
+        for (long i = 0; i <= latSteps; i++) {
+            double sampleLat = Math.min(box.latMin() + i * cellLat, box.latMax());
+            for (long j = 0; j <= lonSteps; j++) {
+                double sampleLon = Math.min(lonMin + j * cellLon, lonMax);
+                cells.add(geohash(sampleLat, sampleLon, precision));
+                if (cells.size() > MAX_GEOHASH_COVER_CELLS) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
 }
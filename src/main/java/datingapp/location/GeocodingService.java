@@ -4,12 +4,43 @@ import datingapp.location.LocationModels.Precision;
 import datingapp.location.LocationModels.ResolvedLocation;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 /** Country-specific geocoding abstraction for the profile location flow. */
 public interface GeocodingService {
 
+    /**
+     * Looks up {@code query}. An empty list means the provider answered with no matches; a remote
+     * provider that could not be asked or did not answer throws {@link GeocodingUnavailableException}.
+     */
     List<GeocodingResult> search(String query, int maxResults);
 
+    /**
+     * Non-blocking variant of {@link #search(String, int)}; the future fails with whatever
+     * {@code search} would throw. The default runs {@code search} on the calling thread, which suits
+     * in-memory providers; remote providers override it.
+     */
+    default CompletableFuture<List<GeocodingResult>> searchAsync(String query, int maxResults) {
+        try {
+            return CompletableFuture.completedFuture(search(query, maxResults));
+        } catch (RuntimeException exception) {
+            return CompletableFuture.failedFuture(exception);
+        }
+    }
+
+    /** A remote provider failed to answer, as opposed to answering with no matches. */
+    final class GeocodingUnavailableException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        public GeocodingUnavailableException(String message) {
+            super(message);
+        }
+
+        public GeocodingUnavailableException(String message, Throwable cause) {
+            super(message, cause);
+        }
+    }
+
     record GeocodingResult(String displayName, double latitude, double longitude, Precision precision) {
         public GeocodingResult {
             if (displayName == null || displayName.isBlank()) {
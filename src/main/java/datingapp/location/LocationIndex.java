@@ -0,0 +1,218 @@
+package datingapp.location;
+
+import datingapp.location.LocationModels.City;
+import datingapp.location.LocationModels.ZipRange;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Immutable lookup structures over the built-in city and ZIP tables, built once at class load.
+ *
+ * <p>Reverse lookups go through one {@link SpatialGrid} per table covering every country, so adding
+ * countries adds points to other cells instead of lengthening every scan. Name and ZIP-prefix lookups
+ * are hash maps per country. City search keeps its "name or district contains the query" semantics
+ * through a sorted array of every suffix of the normalised names and districts: the suffixes that
+ * start with the query are exactly the substrings it matches, and they form one contiguous run that
+ * starts at a binary-search position.
+ */
+final class LocationIndex {
+
+    /** Half a degree is roughly 55 km, so a city-radius query touches at most a 2x2 block of cells. */
+    static final double GRID_CELL_DEGREES = 0.5;
+
+    private final Map<String, CountryTables> countries;
+    private final SpatialGrid<City> cityGrid;
+    private final SpatialGrid<ZipRange> zipGrid;
+
+    LocationIndex(Map<String, List<City>> citiesByCountry, Map<String, List<ZipRange>> zipRangesByCountry) {
+        Map<String, CountryTables> tables = new HashMap<>();
+        List<City> allCities = new ArrayList<>();
+        List<ZipRange> allZipRanges = new ArrayList<>();
+        for (var entry : citiesByCountry.entrySet()) {
+            List<ZipRange> zipRanges = zipRangesByCountry.getOrDefault(entry.getKey(), List.of());
+            tables.put(countryKey(entry.getKey()), new CountryTables(entry.getValue(), zipRanges));
+            allCities.addAll(entry.getValue());
+            allZipRanges.addAll(zipRanges);
+        }
+        this.countries = Map.copyOf(tables);
+        this.cityGrid = new SpatialGrid<>(allCities, City::latitude, City::longitude, GRID_CELL_DEGREES);
+        this.zipGrid = new SpatialGrid<>(allZipRanges, ZipRange::latitude, ZipRange::longitude, GRID_CELL_DEGREES);
+    }
+
+    List<City> cities(String countryCode) {
+        return tables(countryCode).map(CountryTables::cities).orElse(List.of());
+    }
+
+    /** Cities in priority order, ties kept in curated table order. */
+    List<City> citiesByPriority(String countryCode) {
+        return tables(countryCode).map(CountryTables::byPriority).orElse(List.of());
+    }
+
+    /** Cities whose normalised name or district contains {@code normalizedQuery}, in priority order. */
+    List<City> search(String countryCode, String normalizedQuery, int limit) {
+        return tables(countryCode)
+                .map(tables -> tables.search(normalizedQuery, limit))
+                .orElse(List.of());
+    }
+
+    Optional<City> findCityByName(String countryCode, String normalizedName) {
+        return tables(countryCode).map(tables -> tables.citiesByName().get(normalizedName));
+    }
+
+    Optional<ZipRange> findZipRange(String countryCode, String prefix) {
+        return tables(countryCode).map(tables -> tables.zipRangesByPrefix().get(prefix));
+    }
+
+    Optional<City> nearestCity(double latitude, double longitude, double maxKm) {
+        return cityGrid.nearest(latitude, longitude, maxKm);
+    }
+
+    Optional<ZipRange> nearestZipRange(double latitude, double longitude, double maxKm) {
+        return zipGrid.nearest(latitude, longitude, maxKm);
+    }
+
+    static String normalize(String text) {
+        String normalized = text == null ? "" : text.trim();
+        normalized = Normalizer.normalize(normalized, Normalizer.Form.NFKC);
+        return normalized.toLowerCase(Locale.ROOT);
+    }
+
+    private Optional<CountryTables> tables(String countryCode) {
+        return countryCode == null ? Optional.empty() : Optional.ofNullable(countries.get(countryKey(countryCode)));
+    }
+
+    private static String countryKey(String countryCode) {
+        return countryCode.toUpperCase(Locale.ROOT);
+    }
+
+    private static final class CountryTables {
+        private final List<City> cities;
+        private final List<City> byPriority;
+        private final int[] priorityRank;
+        private final Map<String, City> citiesByName;
+        private final Map<String, ZipRange> zipRangesByPrefix;
+        private final String[] suffixes;
+        private final int[] suffixOwners;
+
+        private CountryTables(List<City> cities, List<ZipRange> zipRanges) {
+            this.cities = List.copyOf(cities);
+            Integer[] priorityOrder = byPriority(this.cities);
+            this.byPriority = Arrays.stream(priorityOrder).map(this.cities::get).toList();
+            this.priorityRank = rankOf(priorityOrder);
+            this.citiesByName = citiesByName(this.cities);
+            this.zipRangesByPrefix = zipRangesByPrefix(zipRanges);
+            SuffixArray suffixArray = SuffixArray.of(this.cities);
+            this.suffixes = suffixArray.suffixes();
+            this.suffixOwners = suffixArray.owners();
+        }
+
+        private List<City> cities() {
+            return cities;
+        }
+
+        private List<City> byPriority() {
+            return byPriority;
+        }
+
+        private Map<String, City> citiesByName() {
+            return citiesByName;
+        }
+
+        private Map<String, ZipRange> zipRangesByPrefix() {
+            return zipRangesByPrefix;
+        }
+
+        private List<City> search(String normalizedQuery, int limit) {
+            int first = lowerBound(normalizedQuery);
+            BitSet matchedRanks = new BitSet(cities.size());
+            for (int i = first; i < suffixes.length && suffixes[i].startsWith(normalizedQuery); i++) {
+                matchedRanks.set(priorityRank[suffixOwners[i]]);
+            }
+            List<City> results = new ArrayList<>(Math.min(limit, matchedRanks.cardinality()));
+            for (int rank = matchedRanks.nextSetBit(0);
+                    rank >= 0 && results.size() < limit;
+                    rank = matchedRanks.nextSetBit(rank + 1)) {
+                results.add(byPriority.get(rank));
+            }
+            return List.copyOf(results);
+        }
+
+        private int lowerBound(String key) {
+            int low = 0;
+            int high = suffixes.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (suffixes[mid].compareTo(key) < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        private static Integer[] byPriority(List<City> cities) {
+            Integer[] order = new Integer[cities.size()];
+            Arrays.setAll(order, i -> i);
+            Arrays.sort(order, Comparator.comparingInt(i -> cities.get(i).priority()));
+            return order;
+        }
+
+        private static int[] rankOf(Integer[] priorityOrder) {
+            int[] rank = new int[priorityOrder.length];
+            for (int position = 0; position < priorityOrder.length; position++) {
+                rank[priorityOrder[position]] = position;
+            }
+            return rank;
+        }
+
+        private static Map<String, City> citiesByName(List<City> cities) {
+            Map<String, City> byName = new LinkedHashMap<>();
+            cities.forEach(city -> byName.putIfAbsent(normalize(city.name()), city));
+            return Map.copyOf(byName);
+        }
+
+        private static Map<String, ZipRange> zipRangesByPrefix(List<ZipRange> zipRanges) {
+            Map<String, ZipRange> byPrefix = new LinkedHashMap<>();
+            zipRanges.forEach(range -> byPrefix.putIfAbsent(range.prefix(), range));
+            return Map.copyOf(byPrefix);
+        }
+    }
+
+    /** Every suffix of each city's normalised name and district, sorted, with the owning city index. */
+    private record SuffixArray(String[] suffixes, int[] owners) {
+
+        private static SuffixArray of(List<City> cities) {
+            List<String> suffixes = new ArrayList<>();
+            List<Integer> owners = new ArrayList<>();
+            for (int index = 0; index < cities.size(); index++) {
+                City city = cities.get(index);
+                for (String text : List.of(normalize(city.name()), normalize(city.district()))) {
+                    for (int start = 0; start < text.length(); start++) {
+                        suffixes.add(text.substring(start));
+                        owners.add(index);
+                    }
+                }
+            }
+            Integer[] order = new Integer[suffixes.size()];
+            Arrays.setAll(order, i -> i);
+            Arrays.sort(order, Comparator.comparing(suffixes::get));
+            String[] sortedSuffixes = new String[order.length];
+            int[] sortedOwners = new int[order.length];
+            for (int i = 0; i < order.length; i++) {
+                sortedSuffixes[i] = suffixes.get(order[i]);
+                sortedOwners[i] = owners.get(order[i]);
+            }
+            return new SuffixArray(sortedSuffixes, sortedOwners);
+        }
+    }
+}
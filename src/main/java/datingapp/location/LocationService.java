@@ -6,10 +6,9 @@ import datingapp.location.LocationModels.Country;
 import datingapp.location.LocationModels.Precision;
 import datingapp.location.LocationModels.ResolvedLocation;
 import datingapp.location.LocationModels.ZipRange;
-import java.text.Normalizer;
-import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -38,6 +37,7 @@ public final class LocationService {
     private static final double CITY_MATCH_MAX_KM = 12.0;
     private static final double APPROXIMATE_IL_LATITUDE = 31.4117;
     private static final double APPROXIMATE_IL_LONGITUDE = 35.0818;
+    static final int LABEL_MEMO_MAX_ENTRIES = 10_000;
 
     private static final List<Country> COUNTRIES = List.of(
             new Country(COUNTRY_IL, "Israel", "🇮🇱", true, true),
@@ -122,7 +122,12 @@ public final class LocationService {
             new ZipRange("4910", COUNTRY_IL, CITY_PETAH_TIKVA, DISTRICT_CENTRAL, 32.0870, 34.8877),
             new ZipRange("4911", COUNTRY_IL, CITY_PETAH_TIKVA, DISTRICT_CENTRAL, 32.0890, 34.8890));
 
+    private static final LocationIndex INDEX =
+            new LocationIndex(Map.of(COUNTRY_IL, ISRAEL_CITIES), Map.of(COUNTRY_IL, ISRAEL_ZIP_RANGES));
+
     private final ValidationService validationService;
+    /** Display labels by exact coordinates; the tables are static, so entries never go stale. */
+    private final Map<Coordinates, String> labelMemo = new LinkedHashMap<>(16, 0.75f, true);
 
     public LocationService(ValidationService validationService) {
         this.validationService = Objects.requireNonNull(validationService, "validationService cannot be null");
@@ -150,10 +155,8 @@ public final class LocationService {
     }
 
     public List<City> getPopularCities(String countryCode, int limit) {
-        return citiesFor(countryCode).stream()
-                .sorted(Comparator.comparingInt(City::priority))
-                .limit(Math.max(1, limit))
-                .toList();
+        List<City> cities = INDEX.citiesByPriority(countryCode);
+        return List.copyOf(cities.subList(0, Math.min(cities.size(), Math.max(1, limit))));
     }
 
     public List<City> searchCities(String countryCode, String query) {
@@ -164,19 +167,11 @@ public final class LocationService {
         if (query == null || query.isBlank()) {
             return getPopularCities(countryCode, limit);
         }
-        String normalizedQuery = normalizeText(query);
-        return citiesFor(countryCode).stream()
-                .filter(city -> matches(city, normalizedQuery))
-                .sorted(Comparator.comparingInt(City::priority))
-                .limit(Math.max(1, limit))
-                .toList();
+        return INDEX.search(countryCode, LocationIndex.normalize(query), Math.max(1, limit));
     }
 
     public Optional<City> findCityByName(String countryCode, String cityName) {
-        String normalizedName = normalizeText(cityName);
-        return citiesFor(countryCode).stream()
-                .filter(city -> normalizeText(city.name()).equals(normalizedName))
-                .findFirst();
+        return INDEX.findCityByName(countryCode, LocationIndex.normalize(cityName));
     }
 
     public ResolvedLocation resolveCity(City city) {
@@ -255,9 +250,7 @@ public final class LocationService {
         }
         String normalizedZip = normalizeZip(zipCode);
         String prefix = normalizedZip.substring(0, 4);
-        return zipRangesFor(countryCode).stream()
-                .filter(range -> range.prefix().equals(prefix))
-                .findFirst()
+        return INDEX.findZipRange(countryCode, prefix)
                 .map(range -> ZipLookupResult.supported(
                         prefix,
                         new ResolvedLocation(range.latitude(), range.longitude(), range.displayName(), Precision.ZIP)))
@@ -275,23 +268,37 @@ public final class LocationService {
         return findCityForCoordinates(latitude, longitude).map(this::resolveCity);
     }
 
+    /**
+     * Returns the supported label nearest to the coordinates, or the formatted coordinates. Labels
+     * are memoised per exact coordinate pair because list screens and REST lists render the same
+     * stored user locations repeatedly.
+     */
     public String formatForDisplay(double latitude, double longitude) {
-        return reverseLookup(latitude, longitude)
+        Coordinates key = new Coordinates(latitude, longitude);
+        synchronized (labelMemo) {
+            String cached = labelMemo.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        String label = reverseLookup(latitude, longitude)
                 .map(ResolvedLocation::label)
                 .orElse(LocationModels.formatCoordinates(latitude, longitude));
+        synchronized (labelMemo) {
+            labelMemo.put(key, label);
+            if (labelMemo.size() > LABEL_MEMO_MAX_ENTRIES) {
+                var eldest = labelMemo.keySet().iterator();
+                eldest.next();
+                eldest.remove();
+            }
+        }
+        return label;
     }
 
-    private List<City> citiesFor(String countryCode) {
-        return COUNTRY_IL.equalsIgnoreCase(countryCode) ? ISRAEL_CITIES : List.of();
-    }
-
-    private List<ZipRange> zipRangesFor(String countryCode) {
-        return COUNTRY_IL.equalsIgnoreCase(countryCode) ? ISRAEL_ZIP_RANGES : List.of();
-    }
-
-    private boolean matches(City city, String normalizedQuery) {
-        return normalizeText(city.name()).contains(normalizedQuery)
-                || normalizeText(city.district()).contains(normalizedQuery);
+    int memoizedLabelCount() {
+        synchronized (labelMemo) {
+            return labelMemo.size();
+        }
     }
 
     private ResolveSelectionResult approximateZipFallback(String countryCode, String normalizedZip) {
@@ -308,27 +315,11 @@ public final class LocationService {
     }
 
     private Optional<ZipRange> findZipRangeForCoordinates(double latitude, double longitude) {
-        return zipRangesFor(COUNTRY_IL).stream()
-                .map(range -> new ZipRangeCandidate(
-                        GeoUtils.distanceKm(latitude, longitude, range.latitude(), range.longitude()), range))
-                .filter(candidate -> candidate.distanceKm() <= ZIP_MATCH_MAX_KM)
-                .min(Comparator.comparingDouble(ZipRangeCandidate::distanceKm))
-                .map(ZipRangeCandidate::range);
+        return INDEX.nearestZipRange(latitude, longitude, ZIP_MATCH_MAX_KM);
     }
 
     private Optional<City> findCityForCoordinates(double latitude, double longitude) {
-        return citiesFor(COUNTRY_IL).stream()
-                .map(city -> new CityCandidate(
-                        GeoUtils.distanceKm(latitude, longitude, city.latitude(), city.longitude()), city))
-                .filter(candidate -> candidate.distanceKm() <= CITY_MATCH_MAX_KM)
-                .min(Comparator.comparingDouble(CityCandidate::distanceKm))
-                .map(CityCandidate::city);
-    }
-
-    private static String normalizeText(String text) {
-        String normalized = text == null ? "" : text.trim();
-        normalized = Normalizer.normalize(normalized, Normalizer.Form.NFKC);
-        return normalized.toLowerCase(Locale.ROOT);
+        return INDEX.nearestCity(latitude, longitude, CITY_MATCH_MAX_KM);
     }
 
     private static String normalizeZip(String zipCode) {
@@ -390,7 +381,5 @@ public final class LocationService {
         }
     }
 
-    private record ZipRangeCandidate(double distanceKm, ZipRange range) {}
-
-    private record CityCandidate(double distanceKm, City city) {}
+    private record Coordinates(double latitude, double longitude) {}
 }
@@ -20,7 +20,10 @@ import java.util.function.LongSupplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-/** Optional online geocoding backed by Nominatim. */
+/**
+ * Optional online geocoding backed by Nominatim. Non-200 responses, I/O errors and interrupts throw
+ * {@link GeocodingService.GeocodingUnavailableException}, so only a real empty answer reads as no matches.
+ */
 public final class NominatimGeocodingService implements GeocodingService {
 
     private static final Logger logger = LoggerFactory.getLogger(NominatimGeocodingService.class);
@@ -84,23 +87,15 @@ public final class NominatimGeocodingService implements GeocodingService {
             HttpResponse<String> response =
                     httpClient.send(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
             if (response.statusCode() != 200) {
-                if (logger.isDebugEnabled()) {
-                    logger.debug("Nominatim lookup failed with status {}", response.statusCode());
-                }
-                return List.of();
+                // Rate limits and outages are failures, not "no matches"; callers must not cache them.
+                throw new GeocodingUnavailableException("Nominatim lookup failed with status " + response.statusCode());
             }
             return parseResults(response.body(), maxResults);
         } catch (InterruptedException exception) {
             Thread.currentThread().interrupt();
-            if (logger.isDebugEnabled()) {
-                logger.debug("Nominatim lookup interrupted: {}", exception.getMessage());
-            }
-            return List.of();
-        } catch (IOException | RuntimeException exception) {
-            if (logger.isDebugEnabled()) {
-                logger.debug("Nominatim lookup failed: {}", exception.getMessage());
-            }
-            return List.of();
+            throw new GeocodingUnavailableException("Nominatim lookup interrupted", exception);
+        } catch (IOException exception) {
+            throw new GeocodingUnavailableException("Nominatim lookup failed: " + exception.getMessage(), exception);
         }
     }
 
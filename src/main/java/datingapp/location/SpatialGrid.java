@@ -0,0 +1,111 @@
+package datingapp.location;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Immutable fixed-cell latitude/longitude grid for nearest-point lookups within a radius.
+ *
+ * <p>Points are bucketed once at construction. A query only measures the points in the cells that
+ * overlap {@link GeoUtils#boundingBox(double, double, double)} for its radius, so lookup cost depends
+ * on local density rather than on how many points the grid holds. Ties on distance resolve to the
+ * point that came first in the source list, matching a linear scan with {@code Stream.min}.
+ */
+final class SpatialGrid<T> {
+
+    private final double cellDegrees;
+    private final int columns;
+    private final Map<Long, List<Entry<T>>> cells;
+    private final int size;
+
+    SpatialGrid(List<T> points, ToDoubleFunction<T> latitude, ToDoubleFunction<T> longitude, double cellDegrees) {
+        Objects.requireNonNull(points, "points cannot be null");
+        if (!(cellDegrees > 0.0) || cellDegrees > 180.0) {
+            throw new IllegalArgumentException("cellDegrees must be in (0, 180]");
+        }
+        this.cellDegrees = cellDegrees;
+        this.columns = (int) Math.ceil(360.0 / cellDegrees) + 1;
+        Map<Long, List<Entry<T>>> buckets = new HashMap<>();
+        for (int ordinal = 0; ordinal < points.size(); ordinal++) {
+            T point = points.get(ordinal);
+            double lat = latitude.applyAsDouble(point);
+            double lon = longitude.applyAsDouble(point);
+            buckets.computeIfAbsent(cellKey(row(lat), column(lon)), _ -> new ArrayList<>())
+                    .add(new Entry<>(ordinal, lat, lon, point));
+        }
+        buckets.replaceAll((_, bucket) -> List.copyOf(bucket));
+        this.cells = Map.copyOf(buckets);
+        this.size = points.size();
+    }
+
+    /** Returns the closest point no farther than {@code maxKm}, if any. */
+    Optional<T> nearest(double latitude, double longitude, double maxKm) {
+        GeoUtils.BoundingBox box = GeoUtils.boundingBox(latitude, longitude, maxKm);
+        Best<T> best = new Best<>();
+        scan(box.latMin(), box.latMax(), box.lonMin(), box.lonMax(), latitude, longitude, maxKm, best);
+        if (box.crossesAntimeridian()) {
+            scan(box.latMin(), box.latMax(), box.wrapLonMin(), box.wrapLonMax(), latitude, longitude, maxKm, best);
+        }
+        return Optional.ofNullable(best.entry).map(Entry::value);
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void scan(
+            double latMin,
+            double latMax,
+            double lonMin,
+            double lonMax,
+            double latitude,
+            double longitude,
+            double maxKm,
+            Best<T> best) {
+        int lastRow = row(latMax);
+        int lastColumn = column(lonMax);
+        for (int row = row(latMin); row <= lastRow; row++) {
+            for (int column = column(lonMin); column <= lastColumn; column++) {
+                List<Entry<T>> bucket = cells.get(cellKey(row, column));
+                if (bucket == null) {
+                    continue;
+                }
+                for (Entry<T> entry : bucket) {
+                    double distance = GeoUtils.distanceKm(latitude, longitude, entry.latitude(), entry.longitude());
+                    if (distance <= maxKm && best.isImprovedBy(distance, entry.ordinal())) {
+                        best.entry = entry;
+                        best.distanceKm = distance;
+                    }
+                }
+            }
+        }
+    }
+
+    private int row(double latitude) {
+        return (int) Math.floor((latitude + 90.0) / cellDegrees);
+    }
+
+    private int column(double longitude) {
+        return (int) Math.floor((longitude + 180.0) / cellDegrees);
+    }
+
+    private long cellKey(int row, int column) {
+        return (long) row * columns + column;
+    }
+
+    private record Entry<T>(int ordinal, double latitude, double longitude, T value) {}
+
+    private static final class Best<T> {
+        private Entry<T> entry;
+        private double distanceKm;
+
+        private boolean isImprovedBy(double distance, int ordinal) {
+            return entry == null || distance < distanceKm || (distance == distanceKm && ordinal < entry.ordinal());
+        }
+    }
+}
@@ -8,7 +8,9 @@ import datingapp.storage.schema.MigrationRunner;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.time.Duration;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.UnaryOperator;
 
@@ -27,6 +29,11 @@ public final class DatabaseManager {
     private static final String DB_PASSWORD_ENV = "DATING_APP_DB_PASSWORD";
     private static final String DB_PROFILE_PROPERTY = "datingapp.db.profile";
     private static final String DB_PROFILE_ENV = "DATING_APP_DB_PROFILE";
+    private static final String SCHEMA_CHECK_PROPERTY = "datingapp.db.schemaCheck";
+    private static final String SCHEMA_CHECK_ENV = "DATING_APP_DB_SCHEMA_CHECK";
+    private static final String FULL_SCHEMA_CHECK = "full";
+    private static final String GEOHASH_FILTER_PROPERTY = "datingapp.db.geohashFilter";
+    private static final String GEOHASH_FILTER_ENV = "DATING_APP_DB_GEOHASH_FILTER";
     private static final String TEST_PROFILE = "test";
     private static final String DEV_PROFILE = "dev";
     private static final String USER = "sa";
@@ -37,6 +44,7 @@ public final class DatabaseManager {
     private final AtomicReference<RuntimeStorageState> runtimeStorageState = new AtomicReference<>();
     private volatile boolean initialized = false;
     private volatile int queryTimeoutSeconds = 30;
+    private volatile InitializationTimings lastInitializationTimings;
 
     /** Immutable pool configuration swapped atomically to prevent partial reads. */
     private static record PoolConfig(
@@ -209,6 +217,14 @@ public final class DatabaseManager {
         return connection;
     }
 
+    /**
+     * How long the most recent lazy initialization spent opening the pool (up to the first usable
+     * connection) and bringing the schema up to date. Empty until the first connection is handed out.
+     */
+    public Optional<InitializationTimings> lastInitializationTimings() {
+        return Optional.ofNullable(lastInitializationTimings);
+    }
+
     /** Shuts down the database gracefully. */
     @SuppressWarnings("PMD.CloseResource")
     public synchronized void shutdown() {
@@ -233,6 +249,7 @@ public final class DatabaseManager {
             return;
         }
 
+        long poolStart = System.nanoTime();
         if (dataSource.get() == null) {
             initializePool();
         }
@@ -244,12 +261,15 @@ public final class DatabaseManager {
 
         try (Connection conn = localDataSource.getConnection()) {
             applySessionQueryTimeout(conn);
+            long schemaStart = System.nanoTime();
 
             try (Statement stmt = conn.createStatement()) {
 
-                MigrationRunner.runAllPending(stmt);
+                MigrationRunner.runAllPending(stmt, isFullSchemaCheckRequested());
                 initialized = true;
             }
+            lastInitializationTimings = new InitializationTimings(
+                    Duration.ofNanos(schemaStart - poolStart), Duration.ofNanos(System.nanoTime() - schemaStart));
 
         } catch (SQLException e) {
             throw new StorageException("Failed to initialize database schema", e);
@@ -392,6 +412,24 @@ public final class DatabaseManager {
         return RuntimeEnvironment.lookup(DB_PROFILE_PROPERTY, DB_PROFILE_ENV);
     }
 
+    /**
+     * {@code datingapp.db.schemaCheck=full} (or {@code DATING_APP_DB_SCHEMA_CHECK=full}) bypasses the
+     * schema fingerprint fast path and replays the baseline DDL, e.g. after manual changes to the database.
+     */
+    static boolean isFullSchemaCheckRequested() {
+        return FULL_SCHEMA_CHECK.equalsIgnoreCase(RuntimeEnvironment.lookup(SCHEMA_CHECK_PROPERTY, SCHEMA_CHECK_ENV));
+    }
+
+    /**
+     * {@code datingapp.db.geohashFilter=true} (or {@code DATING_APP_DB_GEOHASH_FILTER=true}) makes the H2
+     * candidate search read through the geohash cover instead of the latitude band. That only pays off
+     * when the band holds many users east or west of the search box; for the Israeli metro clusters the
+     * band is already about the box, so the cover is off by default.
+     */
+    static boolean isGeohashCandidateFilterRequested() {
+        return Boolean.parseBoolean(RuntimeEnvironment.lookup(GEOHASH_FILTER_PROPERTY, GEOHASH_FILTER_ENV));
+    }
+
     private static boolean isExplicitDevOrTestProfile(String profile) {
         return TEST_PROFILE.equalsIgnoreCase(profile) || DEV_PROFILE.equalsIgnoreCase(profile);
     }
@@ -470,6 +508,14 @@ public final class DatabaseManager {
 
     private record RuntimeStorageState(AppConfig.StorageConfig storageConfig, DatabaseDialect dialect) {}
 
+    /** Split of one schema initialization into pool start-up and migration/schema-check time. */
+    public record InitializationTimings(Duration pool, Duration schema) {
+        public InitializationTimings {
+            Objects.requireNonNull(pool, "pool cannot be null");
+            Objects.requireNonNull(schema, "schema cannot be null");
+        }
+    }
+
     // ═══════════════════════════════════════════════════════════════
     // StorageException (nested)
     // ═══════════════════════════════════════════════════════════════
@@ -983,9 +983,9 @@ public final class DevDataSeeder {
      * Constructs a fully-formed, ACTIVE seed user from a definition record.
      * Uses explicit-limit setters for discovery preferences.
      * Throws if the profile is still incomplete when {@code activate()} is called.
+     * Shared with {@link SyntheticDataGenerator} so generated users go through the same path.
      */
-    @SuppressWarnings("PMD.UnusedPrivateMethod") // Public API for future callers, tests, and migration
-    private static User build(SeedUserDefinition def) {
+    static User build(SeedUserDefinition def) {
         User user = new User(def.id(), def.name());
         user.setBio(def.bio());
         user.setBirthDate(def.birthDate());
@@ -3,6 +3,7 @@ package datingapp.storage;
 import datingapp.app.event.AppEventBus;
 import datingapp.app.event.InProcessAppEventBus;
 import datingapp.app.event.handlers.AchievementEventHandler;
+import datingapp.app.event.handlers.MatchQualityEventHandler;
 import datingapp.app.event.handlers.MetricsEventHandler;
 import datingapp.app.event.handlers.NotificationEventHandler;
 import datingapp.app.usecase.auth.AuthTokenService;
@@ -123,7 +124,8 @@ public final class StorageFactory {
     }
 
     private static PersistenceComponents createPersistenceComponents(Jdbi jdbi, DatabaseDialect dialect) {
-        OperationalUserStorage userStorage = new JdbiUserStorage(jdbi, dialect);
+        OperationalUserStorage userStorage =
+                new JdbiUserStorage(jdbi, dialect, DatabaseManager.isGeohashCandidateFilterRequested());
         JdbiMatchmakingStorage matchmakingStorage = new JdbiMatchmakingStorage(jdbi, dialect);
         OperationalCommunicationStorage communicationStorage = new JdbiConnectionStorage(jdbi);
         JdbiMetricsStorage metricsStorage = new JdbiMetricsStorage(jdbi, dialect);
@@ -239,6 +241,8 @@ public final class StorageFactory {
         new AchievementEventHandler(domain.achievementService()).register(domain.eventBus());
         new MetricsEventHandler(domain.activityMetricsService()).register(domain.eventBus());
         new NotificationEventHandler(persistence.communicationStorage()).register(domain.eventBus());
+        new MatchQualityEventHandler(domain.matchQualityService(), persistence.interactionStorage())
+                .register(domain.eventBus());
     }
 
     private static ServiceRegistry assembleRegistry(
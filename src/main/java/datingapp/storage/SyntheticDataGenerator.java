@@ -0,0 +1,1052 @@
+package datingapp.storage;
+
+import datingapp.core.AppClock;
+import datingapp.core.connection.ConnectionModels.Conversation;
+import datingapp.core.model.Match;
+import datingapp.core.model.User;
+import datingapp.core.model.User.Gender;
+import datingapp.core.profile.MatchPreferences.Interest;
+import datingapp.core.profile.MatchPreferences.Lifestyle;
+import datingapp.core.profile.MatchPreferences.PacePreferences;
+import datingapp.core.profile.MatchPreferences.PacePreferences.CommunicationStyle;
+import datingapp.core.profile.MatchPreferences.PacePreferences.DepthPreference;
+import datingapp.core.profile.MatchPreferences.PacePreferences.MessagingFrequency;
+import datingapp.core.profile.MatchPreferences.PacePreferences.TimeToFirstDate;
+import datingapp.location.GeoUtils;
+import datingapp.storage.DatabaseManager.StorageException;
+import datingapp.storage.DevDataSeeder.SeedUserDefinition;
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Generates production-sized synthetic datasets for capacity testing.
+ *
+ * <p>Where {@link DevDataSeeder} hand-writes 30 users, this generator derives any number of
+ * {@link SeedUserDefinition}s from a seed and an index, builds each one through the same
+ * {@link DevDataSeeder#build(SeedUserDefinition)} path, and streams the rows straight into the
+ * database with JDBC batches or PostgreSQL {@code COPY}. Nothing goes through
+ * {@code UserStorage.save}, so 10M users is a matter of minutes rather than hours.
+ *
+ * <p><strong>Determinism:</strong> every user and every interaction owned by a user is drawn from a
+ * random stream keyed by {@code (seed, index)}, never from shared state, so the dataset is identical
+ * however the work is partitioned across threads. User ids embed the seed, which keeps datasets
+ * generated with different seeds from colliding; re-running the same seed against a populated
+ * database fails on primary keys.
+ *
+ * <p><strong>Graph shape:</strong> users like others in their own geographic cluster whose gender
+ * they are interested in. Each unordered pair is owned by exactly one of its users, which lets every
+ * partition emit its likes, matches, conversations and messages without coordinating with the others.
+ *
+ * <p>Standalone use: {@code java datingapp.storage.SyntheticDataGenerator} loads the configured
+ * database; see {@link #optionsFromSystemProperties()} for the knobs.
+ */
+public final class SyntheticDataGenerator {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+    static final String PROPERTY_PREFIX = "datingapp.loadgen.";
+
+    private static final long TRAITS_STREAM = 1L;
+    private static final long PROFILE_STREAM = 2L;
+    private static final long GRAPH_STREAM = 3L;
+    private static final long LIKE_ID_STREAM = 4L;
+    private static final long MESSAGE_ID_STREAM = 5L;
+    private static final long USER_ID_STREAM = 6L;
+    private static final double KM_PER_DEGREE = 111.32;
+    private static final int PARTITIONS_PER_THREAD = 4;
+    /** Message ids pack the message position into 16 bits. */
+    private static final int MAX_MESSAGES_PER_MATCH = 1_000;
+
+    private static final String[] MALE_NAMES = {"Adam", "Ben", "Daniel", "Eitan", "Guy", "Itai", "Noam", "Omer"};
+    private static final String[] FEMALE_NAMES = {"Avital", "Dana", "Gali", "Maya", "Noa", "Shira", "Tamar", "Yael"};
+    private static final String[] OTHER_NAMES = {"Alex", "Eden", "Gael", "Harper", "Indie", "Jordan", "Sky", "Tal"};
+    private static final String[] LAST_NAMES = {
+        "Cohen", "Levi", "Mizrahi", "Peretz", "Biton", "Friedman", "Avraham", "Shapiro", "Katz", "Ofer", "Ziv"
+    };
+    private static final String[] MESSAGE_LINES = {
+        "Hey! How's your week going?",
+        "Your travel photos look amazing.",
+        "Coffee this weekend?",
+        "Ha, same here.",
+        "What are you reading at the moment?",
+        "Sounds good, see you then!"
+    };
+
+    private static final TableSpec USERS = new TableSpec(
+            "users",
+            "id",
+            "name",
+            "bio",
+            "birth_date",
+            "gender",
+            "lat",
+            "lon",
+            "has_location_set",
+            "geohash",
+            "max_distance_km",
+            "min_age",
+            "max_age",
+            "state",
+            "created_at",
+            "updated_at",
+            "smoking",
+            "drinking",
+            "wants_kids",
+            "looking_for",
+            "education",
+            "height_cm",
+            "pace_messaging_frequency",
+            "pace_time_to_first_date",
+            "pace_communication_style",
+            "pace_depth_preference");
+    private static final TableSpec USER_PHOTOS =
+            new TableSpec("user_photos", "user_id", "position", "url", "created_at");
+    private static final TableSpec USER_INTERESTS = new TableSpec("user_interests", "user_id", "interest");
+    private static final TableSpec USER_INTERESTED_IN = new TableSpec("user_interested_in", "user_id", "gender");
+    private static final TableSpec LIKES =
+            new TableSpec("likes", "id", "who_likes", "who_got_liked", "direction", "created_at");
+    private static final TableSpec MATCHES =
+            new TableSpec("matches", "id", "user_a", "user_b", "created_at", "updated_at", "state");
+    private static final TableSpec CONVERSATIONS =
+            new TableSpec("conversations", "id", "user_a", "user_b", "created_at", "last_message_at");
+    private static final TableSpec MESSAGES =
+            new TableSpec("messages", "id", "conversation_id", "sender_id", "content", "created_at");
+
+    /** How rows reach the database. {@code AUTO} uses {@code COPY} whenever the connection is PostgreSQL. */
+    public static enum WriteMode {
+        AUTO,
+        BATCH,
+        COPY
+    }
+
+    /** A geographic area users are scattered uniformly across, picked in proportion to {@code weight}. */
+    public static record GeoCluster(String name, double lat, double lon, double radiusKm, double weight) {
+        public GeoCluster {
+            Objects.requireNonNull(name, "name cannot be null");
+            if (lat < -90 || lat > 90 || lon < -180 || lon > 180) {
+                throw new IllegalArgumentException("Cluster " + name + " has an invalid centre");
+            }
+            if (radiusKm <= 0 || weight <= 0) {
+                throw new IllegalArgumentException("Cluster " + name + " needs a positive radius and weight");
+            }
+        }
+    }
+
+    /** Relative share of each gender; the values need not sum to one. */
+    public static record GenderMix(double male, double female, double other) {
+        public GenderMix {
+            requireWeights(male, female, other);
+        }
+    }
+
+    /**
+     * Relative share of interest patterns: the other binary gender (both binary genders for
+     * {@code OTHER}), the user's own gender, or everyone.
+     */
+    public static record PreferenceMix(double opposite, double same, double everyone) {
+        public PreferenceMix {
+            requireWeights(opposite, same, everyone);
+        }
+    }
+
+    /**
+     * Generation parameters.
+     *
+     * @param anchor "now" of the dataset; every generated timestamp precedes it by up to a year
+     * @param likesPerUser mean number of likes each user sends
+     * @param matchRate probability that a like to a compatible user is returned and becomes a match
+     * @param messagesPerMatch mean number of messages exchanged per match
+     * @param batchSize rows buffered per partition before a flush and commit
+     */
+    public static record Options(
+            long userCount,
+            long seed,
+            Instant anchor,
+            List<GeoCluster> clusters,
+            GenderMix genderMix,
+            PreferenceMix preferenceMix,
+            int likesPerUser,
+            double matchRate,
+            int messagesPerMatch,
+            int batchSize,
+            int parallelism,
+            WriteMode writeMode) {
+        public Options {
+            Objects.requireNonNull(anchor, "anchor cannot be null");
+            clusters = List.copyOf(Objects.requireNonNull(clusters, "clusters cannot be null"));
+            Objects.requireNonNull(genderMix, "genderMix cannot be null");
+            Objects.requireNonNull(preferenceMix, "preferenceMix cannot be null");
+            Objects.requireNonNull(writeMode, "writeMode cannot be null");
+            if (userCount <= 0 || userCount > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("userCount must be between 1 and " + Integer.MAX_VALUE);
+            }
+            if (clusters.isEmpty()) {
+                throw new IllegalArgumentException("at least one cluster is required");
+            }
+            if (likesPerUser < 0 || messagesPerMatch < 0 || messagesPerMatch > MAX_MESSAGES_PER_MATCH) {
+                throw new IllegalArgumentException("likesPerUser and messagesPerMatch are out of range");
+            }
+            if (matchRate < 0 || matchRate > 1) {
+                throw new IllegalArgumentException("matchRate must be between 0 and 1");
+            }
+            if (batchSize <= 0 || parallelism <= 0) {
+                throw new IllegalArgumentException("batchSize and parallelism must be positive");
+            }
+        }
+
+        /** Israeli metro clusters matching the dev seed, with a typical dating-app mix. */
+        public static Options defaults(long userCount, long seed) {
+            return new Options(
+                    userCount,
+                    seed,
+                    AppClock.now().truncatedTo(ChronoUnit.DAYS),
+                    List.of(
+                            new GeoCluster("tel-aviv", 32.07, 34.79, 8, 0.45),
+                            new GeoCluster("haifa", 32.81, 34.99, 10, 0.15),
+                            new GeoCluster("jerusalem", 31.78, 35.22, 10, 0.2),
+                            new GeoCluster("beer-sheva", 31.25, 34.79, 8, 0.1),
+                            new GeoCluster("eilat", 29.56, 34.95, 5, 0.1)),
+                    new GenderMix(0.48, 0.48, 0.04),
+                    new PreferenceMix(0.85, 0.08, 0.07),
+                    20,
+                    0.15,
+                    6,
+                    5_000,
+                    Math.clamp(Runtime.getRuntime().availableProcessors(), 1, 8),
+                    WriteMode.AUTO);
+        }
+    }
+
+    /** Rows written per table group and the wall-clock time it took. */
+    public static record Report(
+            long users, long profileRows, long likes, long matches, long messages, long totalRows, Duration elapsed) {
+
+        public double rowsPerSecond() {
+            long millis = Math.max(1L, elapsed.toMillis());
+            return totalRows * 1000.0 / millis;
+        }
+    }
+
+    /** Opens a connection per partition; implementations must hand out a fresh connection each call. */
+    @FunctionalInterface
+    public static interface ConnectionSource {
+        Connection open() throws SQLException;
+    }
+
+    /** The cheap per-user attributes the graph generator needs for other users. */
+    record Traits(Gender gender, Set<Gender> interestedIn, int cluster, Instant createdAt) {}
+
+    /** One like owned by {@code liker}; mutual likes also carry the match and its message count. */
+    record Edge(long liker, long liked, Instant likedAt, boolean mutual, Instant matchedAt, int messages) {}
+
+    private final Options options;
+    private final double[] clusterWeights;
+    private final double[] genderWeights;
+    private final double[] preferenceWeights;
+    private volatile CandidatePools candidatePools;
+
+    public SyntheticDataGenerator(Options options) {
+        this.options = Objects.requireNonNull(options, "options cannot be null");
+        this.clusterWeights = cumulative(
+                options.clusters().stream().mapToDouble(GeoCluster::weight).toArray());
+        GenderMix genders = options.genderMix();
+        this.genderWeights = cumulative(new double[] {genders.male(), genders.female(), genders.other()});
+        PreferenceMix preferences = options.preferenceMix();
+        this.preferenceWeights =
+                cumulative(new double[] {preferences.opposite(), preferences.same(), preferences.everyone()});
+    }
+
+    /**
+     * Generates the whole dataset: users and their profile collections first, then the interaction
+     * graph, each phase spread across {@link Options#parallelism()} threads.
+     */
+    public Report generate(ConnectionSource connections) {
+        Objects.requireNonNull(connections, "connections cannot be null");
+        Counters counters = new Counters();
+        long started = System.nanoTime();
+        runPhase("users", connections, counters, started, this::writeUser);
+        runPhase("interactions", connections, counters, started, this::writeInteractions);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+        return new Report(
+                counters.users.sum(),
+                counters.profileRows.sum(),
+                counters.likes.sum(),
+                counters.matches.sum(),
+                counters.messages.sum(),
+                counters.totalRows.sum(),
+                elapsed);
+    }
+
+    /** Deterministic id of the user at {@code index}; the seed is folded into the high bits. */
+    UUID userId(long index) {
+        long mostSignificant = mix(options.seed() ^ mix(USER_ID_STREAM));
+        return new UUID(mostSignificant & 0xFFFF_FFFF_FFFF_0FFFL | 0x4000L, index | Long.MIN_VALUE);
+    }
+
+    Traits traitsOf(long index) {
+        SplittableRandom random = random(index, TRAITS_STREAM);
+        Gender gender = Gender.values()[pick(genderWeights, random)];
+        Set<Gender> interestedIn =
+                switch (pick(preferenceWeights, random)) {
+                    case 0 ->
+                        switch (gender) {
+                            case MALE -> EnumSet.of(Gender.FEMALE);
+                            case FEMALE -> EnumSet.of(Gender.MALE);
+                            case OTHER -> EnumSet.of(Gender.MALE, Gender.FEMALE);
+                        };
+                    case 1 -> EnumSet.of(gender);
+                    default -> EnumSet.allOf(Gender.class);
+                };
+        int cluster = pick(clusterWeights, random);
+        Instant createdAt = options.anchor().minusSeconds(1 + random.nextLong(Duration.ofDays(365).toSeconds()));
+        return new Traits(gender, Collections.unmodifiableSet(interestedIn), cluster, createdAt);
+    }
+
+    /** Full profile of the user at {@code index}, shaped like the hand-written dev seed users. */
+    SeedUserDefinition definitionFor(long index) {
+        Traits traits = traitsOf(index);
+        SplittableRandom random = random(index, PROFILE_STREAM);
+        String[] firstNames =
+                switch (traits.gender()) {
+                    case MALE -> MALE_NAMES;
+                    case FEMALE -> FEMALE_NAMES;
+                    case OTHER -> OTHER_NAMES;
+                };
+        String name = pickFrom(firstNames, random) + " " + pickFrom(LAST_NAMES, random);
+        // Two uniform draws give a 20–42 spread that peaks around 31.
+        int age = 20 + random.nextInt(12) + random.nextInt(12);
+        LocalDate anchorDate = LocalDate.ofInstant(options.anchor(), ZoneOffset.UTC);
+        LocalDate birthDate = anchorDate.minusYears(age).minusDays(random.nextInt(365));
+
+        GeoCluster cluster = options.clusters().get(traits.cluster());
+        double distanceKm = cluster.radiusKm() * Math.sqrt(random.nextDouble());
+        double bearing = random.nextDouble(2 * Math.PI);
+        double lat = cluster.lat() + distanceKm * Math.cos(bearing) / KM_PER_DEGREE;
+        double lon = cluster.lon()
+                + distanceKm * Math.sin(bearing) / (KM_PER_DEGREE * Math.cos(Math.toRadians(cluster.lat())));
+
+        Set<Interest> interests = EnumSet.noneOf(Interest.class);
+        int interestCount = 3 + random.nextInt(3);
+        while (interests.size() < interestCount) {
+            interests.add(pickFrom(Interest.values(), random));
+        }
+        int baseHeight = traits.gender() == Gender.MALE ? 165 : 155;
+        return SeedUserDefinition.builder(userId(index), name, birthDate, traits.gender())
+                .interestedIn(traits.interestedIn())
+                .bio("Synthetic load-test profile " + index + ".")
+                .location(lat, lon)
+                .maxDistanceKm(10 + 10 * random.nextInt(10))
+                .ageRange(Math.max(18, age - 3 - random.nextInt(5)), age + 3 + random.nextInt(8))
+                .smoking(pickFrom(Lifestyle.Smoking.values(), random))
+                .drinking(pickFrom(Lifestyle.Drinking.values(), random))
+                .wantsKids(pickFrom(Lifestyle.WantsKids.values(), random))
+                .lookingFor(pickFrom(Lifestyle.LookingFor.values(), random))
+                .education(pickFrom(Lifestyle.Education.values(), random))
+                .heightCm(baseHeight + random.nextInt(30))
+                .interests(interests)
+                .pace(new PacePreferences(
+                        pickFrom(MessagingFrequency.values(), random),
+                        pickFrom(TimeToFirstDate.values(), random),
+                        pickFrom(CommunicationStyle.values(), random),
+                        pickFrom(DepthPreference.values(), random)))
+                .build();
+    }
+
+    /**
+     * Likes owned by the user at {@code index}: compatible users in the same cluster, drawn at
+     * random from the candidates the user owns the pair with. The user sends {@code likesPerUser} on
+     * average, fewer only when its cluster has too few such candidates. A like is mutual when the
+     * target is interested back and wins the match-rate draw.
+     */
+    List<Edge> edgesFor(long index) {
+        if (options.userCount() < 2) {
+            return List.of();
+        }
+        SplittableRandom random = random(index, GRAPH_STREAM);
+        Traits liker = traitsOf(index);
+        int wanted = random.nextInt(2 * options.likesPerUser() + 1);
+        if (wanted == 0) {
+            return List.of();
+        }
+        List<Edge> edges = new ArrayList<>(wanted);
+        for (long target : candidatePools().pickOwned(liker, (int) index, wanted, random)) {
+            Traits liked = traitsOf(target);
+            Instant earliest = liker.createdAt().isAfter(liked.createdAt()) ? liker.createdAt() : liked.createdAt();
+            Instant likedAt = between(earliest, options.anchor(), random);
+            boolean mutual =
+                    liked.interestedIn().contains(liker.gender()) && random.nextDouble() < options.matchRate();
+            Instant matchedAt = mutual ? between(likedAt, options.anchor(), random) : null;
+            int messages = mutual ? random.nextInt(2 * options.messagesPerMatch() + 1) : 0;
+            edges.add(new Edge(index, target, likedAt, mutual, matchedAt, messages));
+        }
+        return edges;
+    }
+
+    /** Built on first use and shared by every partition; it depends only on the options. */
+    private CandidatePools candidatePools() {
+        CandidatePools pools = candidatePools;
+        if (pools == null) {
+            synchronized (this) {
+                pools = candidatePools;
+                if (pools == null) {
+                    pools = CandidatePools.build(this);
+                    candidatePools = pools;
+                }
+            }
+        }
+        return pools;
+    }
+
+    /**
+     * Assigns every unordered pair to exactly one of its users: same-parity pairs to the lower index,
+     * mixed-parity pairs to the higher one, so each user owns about half of all possible pairs.
+     */
+    static boolean owns(long owner, long other) {
+        return ((owner ^ other) & 1L) == 0 ? owner < other : owner > other;
+    }
+
+    /**
+     * User indexes grouped by cluster, gender and index parity, each group in ascending order. The
+     * pairs a user owns within a group are then a contiguous range: same-parity users above it and
+     * mixed-parity users below it, see {@link #owns(long, long)}.
+     */
+    private static final class CandidatePools {
+
+        private static final int GENDERS = Gender.values().length;
+
+        private final int[][] pools;
+
+        private CandidatePools(int[][] pools) {
+            this.pools = pools;
+        }
+
+        static CandidatePools build(SyntheticDataGenerator generator) {
+            int userCount = (int) generator.options.userCount();
+            int[][] pools = new int[generator.options.clusters().size() * GENDERS * 2][];
+            int[] keys = new int[userCount];
+            int[] sizes = new int[pools.length];
+            IntStream.range(0, userCount).parallel().forEach(index -> {
+                Traits traits = generator.traitsOf(index);
+                keys[index] = key(traits.cluster(), traits.gender(), index & 1);
+            });
+            for (int key : keys) {
+                sizes[key]++;
+            }
+            for (int key = 0; key < pools.length; key++) {
+                pools[key] = new int[sizes[key]];
+                sizes[key] = 0;
+            }
+            for (int index = 0; index < userCount; index++) {
+                pools[keys[index]][sizes[keys[index]]++] = index;
+            }
+            return new CandidatePools(pools);
+        }
+
+        /**
+         * Picks up to {@code wanted} distinct users that {@code liker} owns the pair with, in its
+         * cluster and of a gender it is interested in; all of them when there are no more than that.
+         */
+        long[] pickOwned(Traits liker, int index, int wanted, SplittableRandom random) {
+            List<Slice> slices = new ArrayList<>();
+            long available = 0;
+            for (Gender gender : liker.interestedIn()) {
+                int[] sameParity = pools[key(liker.cluster(), gender, index & 1)];
+                int[] otherParity = pools[key(liker.cluster(), gender, (index & 1) ^ 1)];
+                int above = insertionPoint(sameParity, index + 1);
+                int below = insertionPoint(otherParity, index);
+                slices.add(new Slice(sameParity, above, sameParity.length));
+                slices.add(new Slice(otherParity, 0, below));
+                available += (sameParity.length - above) + below;
+            }
+            if (available <= wanted) {
+                long[] all = new long[(int) available];
+                for (int offset = 0; offset < all.length; offset++) {
+                    all[offset] = candidateAt(slices, offset);
+                }
+                return all;
+            }
+            long[] picked = new long[wanted];
+            if (2L * wanted >= available) {
+                // Dense pick: a partial shuffle of the whole range avoids long rejection runs.
+                int[] offsets = IntStream.range(0, (int) available).toArray();
+                for (int i = 0; i < wanted; i++) {
+                    int j = i + random.nextInt(offsets.length - i);
+                    int swap = offsets[i];
+                    offsets[i] = offsets[j];
+                    offsets[j] = swap;
+                    picked[i] = candidateAt(slices, offsets[i]);
+                }
+                return picked;
+            }
+            Set<Long> seen = new HashSet<>();
+            int count = 0;
+            while (count < wanted) {
+                long target = candidateAt(slices, random.nextLong(available));
+                if (seen.add(target)) {
+                    picked[count++] = target;
+                }
+            }
+            return picked;
+        }
+
+        private static long candidateAt(List<Slice> slices, long offset) {
+            long remaining = offset;
+            for (Slice slice : slices) {
+                int length = slice.to() - slice.from();
+                if (remaining < length) {
+                    return slice.pool()[slice.from() + (int) remaining];
+                }
+                remaining -= length;
+            }
+            throw new IndexOutOfBoundsException("No candidate at offset " + offset);
+        }
+
+        /** Position of the first element not below {@code value} in an ascending array. */
+        private static int insertionPoint(int[] pool, int value) {
+            int found = Arrays.binarySearch(pool, value);
+            return found >= 0 ? found : -found - 1;
+        }
+
+        private static int key(int cluster, Gender gender, int parity) {
+            return (cluster * GENDERS + gender.ordinal()) * 2 + parity;
+        }
+
+        /** The users {@code pool[from]} up to, but excluding, {@code pool[to]}. */
+        private record Slice(int[] pool, int from, int to) {}
+    }
+
+    private void writeUser(long index, PartitionWriter writer) throws SQLException {
+        SeedUserDefinition definition = definitionFor(index);
+        User user = DevDataSeeder.build(definition);
+        Instant createdAt = traitsOf(index).createdAt();
+        PacePreferences pace = user.getPacePreferences();
+        writer.add(
+                USERS,
+                user.getId(),
+                user.getName(),
+                user.getBio(),
+                user.getBirthDate(),
+                user.getGender().name(),
+                user.getLat(),
+                user.getLon(),
+                true,
+                GeoUtils.geohash(user.getLat(), user.getLon(), GeoUtils.STORED_GEOHASH_PRECISION),
+                user.getMaxDistanceKm(),
+                user.getMinAge(),
+                user.getMaxAge(),
+                user.getState().name(),
+                createdAt,
+                createdAt,
+                user.getSmoking().name(),
+                user.getDrinking().name(),
+                user.getWantsKids().name(),
+                user.getLookingFor().name(),
+                user.getEducation().name(),
+                user.getHeightCm(),
+                pace.messagingFrequency().name(),
+                pace.timeToFirstDate().name(),
+                pace.communicationStyle().name(),
+                pace.depthPreference().name());
+        List<String> photos = user.getPhotoUrls();
+        for (int position = 0; position < photos.size(); position++) {
+            writer.add(USER_PHOTOS, user.getId(), position, photos.get(position), createdAt);
+        }
+        for (Interest interest : user.getInterests()) {
+            writer.add(USER_INTERESTS, user.getId(), interest.name());
+        }
+        for (Gender gender : user.getInterestedIn()) {
+            writer.add(USER_INTERESTED_IN, user.getId(), gender.name());
+        }
+        writer.counters.users.increment();
+        writer.counters.profileRows.add(photos.size()
+                + user.getInterests().size()
+                + user.getInterestedIn().size());
+    }
+
+    private void writeInteractions(long index, PartitionWriter writer) throws SQLException {
+        UUID likerId = userId(index);
+        for (Edge edge : edgesFor(index)) {
+            UUID likedId = userId(edge.liked());
+            UUID likeId = syntheticId(LIKE_ID_STREAM, index, edge.liked());
+            writer.add(LIKES, likeId, likerId, likedId, "LIKE", edge.likedAt());
+            writer.counters.likes.increment();
+            if (!edge.mutual()) {
+                continue;
+            }
+            Instant matchedAt = edge.matchedAt();
+            writer.add(LIKES, syntheticId(LIKE_ID_STREAM, edge.liked(), index), likedId, likerId, "LIKE", matchedAt);
+            writer.counters.likes.increment();
+            Match match = Match.create(likerId, likedId);
+            writer.add(MATCHES, match.getId(), match.getUserA(), match.getUserB(), matchedAt, matchedAt, "ACTIVE");
+            writer.counters.matches.increment();
+            if (edge.messages() > 0) {
+                writeConversation(edge, likerId, likedId, match, writer);
+            }
+        }
+    }
+
+    private void writeConversation(Edge edge, UUID likerId, UUID likedId, Match match, PartitionWriter writer)
+            throws SQLException {
+        SplittableRandom random = random(edge.liker() ^ mix(edge.liked()), MESSAGE_ID_STREAM);
+        String conversationId = Conversation.generateId(likerId, likedId);
+        List<Object[]> messages = new ArrayList<>(edge.messages());
+        Instant sentAt = edge.matchedAt();
+        int firstSender = random.nextInt(2);
+        for (int i = 0; i < edge.messages(); i++) {
+            sentAt = sentAt.plusSeconds(60 + random.nextLong(Duration.ofHours(3).toSeconds()));
+            UUID sender = (i + firstSender) % 2 == 0 ? likerId : likedId;
+            UUID messageId = syntheticId(MESSAGE_ID_STREAM, edge.liker(), (edge.liked() << 16) | i);
+            messages.add(new Object[] {messageId, conversationId, sender, pickFrom(MESSAGE_LINES, random), sentAt});
+        }
+        // The conversation row must precede its messages in the same flush for the foreign key.
+        writer.add(CONVERSATIONS, conversationId, match.getUserA(), match.getUserB(), edge.matchedAt(), sentAt);
+        for (Object[] message : messages) {
+            writer.add(MESSAGES, message);
+        }
+        writer.counters.messages.add(messages.size());
+    }
+
+    private void runPhase(
+            String phase, ConnectionSource connections, Counters counters, long startedNanos, RowProducer producer) {
+        long userCount = options.userCount();
+        int partitions = (int) Math.min(userCount, (long) options.parallelism() * PARTITIONS_PER_THREAD);
+        long partitionSize = (userCount + partitions - 1) / partitions;
+        AtomicInteger finished = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(
+                options.parallelism(),
+                Thread.ofPlatform().name("datingapp-loadgen-" + phase + "-", 0).factory());
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (long from = 0; from < userCount; from += partitionSize) {
+                long start = from;
+                long end = Math.min(userCount, from + partitionSize);
+                futures.add(pool.submit(() -> {
+                    writePartition(start, end, connections, counters, producer);
+                    logProgress(phase, finished.incrementAndGet(), partitions, counters, startedNanos);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            throw new StorageException("Synthetic data generation failed in the " + phase + " phase", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StorageException("Synthetic data generation interrupted in the " + phase + " phase", e);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private void writePartition(
+            long from, long to, ConnectionSource connections, Counters counters, RowProducer producer)
+            throws SQLException {
+        try (Connection connection = connections.open()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try (PartitionWriter writer = new PartitionWriter(connection, useCopy(connection), counters)) {
+                for (long index = from; index < to; index++) {
+                    producer.produce(index, writer);
+                    if (writer.pendingRows >= options.batchSize()) {
+                        writer.flush();
+                    }
+                }
+                writer.flush();
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+    }
+
+    private boolean useCopy(Connection connection) throws SQLException {
+        WriteMode mode = options.writeMode();
+        if (mode == WriteMode.BATCH) {
+            return false;
+        }
+        DatabaseDialect dialect = DatabaseDialect.fromDatabaseProductName(
+                connection.getMetaData().getDatabaseProductName());
+        boolean copyAvailable = dialect == DatabaseDialect.POSTGRESQL && connection.isWrapperFor(PGConnection.class);
+        if (mode == WriteMode.COPY && !copyAvailable) {
+            throw new IllegalStateException("COPY write mode requires a PostgreSQL connection, got " + dialect);
+        }
+        return copyAvailable;
+    }
+
+    private static void logProgress(String phase, int finished, int partitions, Counters counters, long startedNanos) {
+        if (LOG.isInfoEnabled()) {
+            long rows = counters.totalRows.sum();
+            long millis = Math.max(1L, (System.nanoTime() - startedNanos) / 1_000_000L);
+            LOG.info(
+                    "Load data {} phase: {}/{} partitions, {} rows ({} rows/s)",
+                    phase,
+                    finished,
+                    partitions,
+                    rows,
+                    rows * 1000L / millis);
+        }
+    }
+
+    private SplittableRandom random(long index, long stream) {
+        return new SplittableRandom(mix(options.seed() ^ mix(index * 0x9E37_79B9_7F4A_7C15L + stream)));
+    }
+
+    /** Hash-derived version-4 style id; collisions need a 122-bit hash collision. */
+    private UUID syntheticId(long stream, long first, long second) {
+        long mostSignificant = mix(options.seed() ^ mix(stream * 0xC2B2_AE3D_27D4_EB4FL + first));
+        long leastSignificant = mix(mostSignificant ^ mix(second) ^ first);
+        return new UUID(
+                mostSignificant & 0xFFFF_FFFF_FFFF_0FFFL | 0x4000L,
+                leastSignificant & 0x3FFF_FFFF_FFFF_FFFFL | Long.MIN_VALUE);
+    }
+
+    private static Instant between(Instant from, Instant to, SplittableRandom random) {
+        long seconds = Math.max(1L, Duration.between(from, to).toSeconds());
+        return from.plusSeconds(random.nextLong(seconds));
+    }
+
+    private static int pick(double[] cumulativeWeights, SplittableRandom random) {
+        double roll = random.nextDouble(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (roll < cumulativeWeights[i]) {
+                return i;
+            }
+        }
+        return cumulativeWeights.length - 1;
+    }
+
+    private static <T> T pickFrom(T[] values, SplittableRandom random) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static double[] cumulative(double[] weights) {
+        double[] cumulative = new double[weights.length];
+        double total = 0;
+        for (int i = 0; i < weights.length; i++) {
+            total += weights[i];
+            cumulative[i] = total;
+        }
+        return cumulative;
+    }
+
+    private static void requireWeights(double... weights) {
+        double total = 0;
+        for (double weight : weights) {
+            if (weight < 0) {
+                throw new IllegalArgumentException("weights cannot be negative");
+            }
+            total += weight;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("at least one weight must be positive");
+        }
+    }
+
+    /** SplitMix64 finalizer. */
+    private static long mix(long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xBF58_476D_1CE4_E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D0_49BB_1331_11EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Reads options from {@code datingapp.loadgen.*} system properties, falling back to
+     * {@link Options#defaults(long, long)}: {@code users}, {@code seed}, {@code likesPerUser},
+     * {@code matchRate}, {@code messagesPerMatch}, {@code batchSize}, {@code parallelism},
+     * {@code writeMode} and {@code clusters} as {@code name:lat:lon:radiusKm:weight} entries separated
+     * by {@code ;}.
+     */
+    static Options optionsFromSystemProperties() {
+        long users = Long.parseLong(property("users", "100000"));
+        long seed = Long.parseLong(property("seed", "42"));
+        Options defaults = Options.defaults(users, seed);
+        String clusters = property("clusters", null);
+        return new Options(
+                users,
+                seed,
+                defaults.anchor(),
+                clusters == null ? defaults.clusters() : parseClusters(clusters),
+                defaults.genderMix(),
+                defaults.preferenceMix(),
+                Integer.parseInt(property("likesPerUser", String.valueOf(defaults.likesPerUser()))),
+                Double.parseDouble(property("matchRate", String.valueOf(defaults.matchRate()))),
+                Integer.parseInt(property("messagesPerMatch", String.valueOf(defaults.messagesPerMatch()))),
+                Integer.parseInt(property("batchSize", String.valueOf(defaults.batchSize()))),
+                Integer.parseInt(property("parallelism", String.valueOf(defaults.parallelism()))),
+                WriteMode.valueOf(property("writeMode", defaults.writeMode().name()).toUpperCase(Locale.ROOT)));
+    }
+
+    static List<GeoCluster> parseClusters(String spec) {
+        List<GeoCluster> clusters = new ArrayList<>();
+        for (String entry : spec.split(";")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 5) {
+                throw new IllegalArgumentException("Expected name:lat:lon:radiusKm:weight but got " + entry);
+            }
+            clusters.add(new GeoCluster(
+                    parts[0],
+                    Double.parseDouble(parts[1]),
+                    Double.parseDouble(parts[2]),
+                    Double.parseDouble(parts[3]),
+                    Double.parseDouble(parts[4])));
+        }
+        return clusters;
+    }
+
+    private static String property(String name, String fallback) {
+        String value = System.getProperty(PROPERTY_PREFIX + name);
+        return value == null || value.isBlank() ? fallback : value.trim();
+    }
+
+    public static void main(String[] args) {
+        Options options = optionsFromSystemProperties();
+        if (LOG.isInfoEnabled()) {
+            LOG.info(
+                    "Generating {} synthetic users (seed {}, {} clusters, {} threads)",
+                    options.userCount(),
+                    options.seed(),
+                    options.clusters().size(),
+                    options.parallelism());
+        }
+        DatabaseManager databaseManager = DatabaseManager.getInstance();
+        try {
+            Report report = new SyntheticDataGenerator(options).generate(databaseManager::getConnection);
+            if (LOG.isInfoEnabled()) {
+                LOG.info(
+                        "Generated {} users, {} profile rows, {} likes, {} matches, {} messages"
+                                + " ({} rows in {} ms, {} rows/s)",
+                        report.users(),
+                        report.profileRows(),
+                        report.likes(),
+                        report.matches(),
+                        report.messages(),
+                        report.totalRows(),
+                        report.elapsed().toMillis(),
+                        Math.round(report.rowsPerSecond()));
+            }
+        } finally {
+            databaseManager.shutdown();
+        }
+    }
+
+    @FunctionalInterface
+    private static interface RowProducer {
+        void produce(long index, PartitionWriter writer) throws SQLException;
+    }
+
+    private static final class Counters {
+        private final LongAdder users = new LongAdder();
+        private final LongAdder profileRows = new LongAdder();
+        private final LongAdder likes = new LongAdder();
+        private final LongAdder matches = new LongAdder();
+        private final LongAdder messages = new LongAdder();
+        private final LongAdder totalRows = new LongAdder();
+    }
+
+    private static record TableSpec(String table, List<String> columns) {
+        private TableSpec(String table, String... columns) {
+            this(table, List.of(columns));
+        }
+
+        private String insertSql() {
+            String placeholders = columns.stream().map(_ -> "?").collect(Collectors.joining(", "));
+            return "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES (" + placeholders + ")";
+        }
+
+        private String copySql() {
+            return "COPY " + table + " (" + String.join(", ", columns) + ") FROM STDIN WITH (FORMAT csv)";
+        }
+    }
+
+    /**
+     * Per-partition row buffers, one per table, flushed together in foreign-key order and committed
+     * as one transaction.
+     */
+    private static final class PartitionWriter implements AutoCloseable {
+        private static final List<TableSpec> FLUSH_ORDER = List.of(
+                USERS, USER_PHOTOS, USER_INTERESTS, USER_INTERESTED_IN, LIKES, MATCHES, CONVERSATIONS, MESSAGES);
+
+        private final Connection connection;
+        private final Counters counters;
+        private final TableSink[] sinks = new TableSink[FLUSH_ORDER.size()];
+        private final CopyManager copyManager;
+        private int pendingRows;
+
+        private PartitionWriter(Connection connection, boolean copy, Counters counters) throws SQLException {
+            this.connection = connection;
+            this.counters = counters;
+            this.copyManager = copy ? connection.unwrap(PGConnection.class).getCopyAPI() : null;
+        }
+
+        private void add(TableSpec spec, Object... values) throws SQLException {
+            int slot = FLUSH_ORDER.indexOf(spec);
+            if (sinks[slot] == null) {
+                sinks[slot] = copyManager != null
+                        ? new CopySink(copyManager, spec)
+                        : new BatchSink(connection.prepareStatement(spec.insertSql()));
+            }
+            sinks[slot].add(values);
+            pendingRows++;
+        }
+
+        private void flush() throws SQLException {
+            if (pendingRows == 0) {
+                return;
+            }
+            for (TableSink sink : sinks) {
+                if (sink != null) {
+                    sink.flush();
+                }
+            }
+            connection.commit();
+            counters.totalRows.add(pendingRows);
+            pendingRows = 0;
+        }
+
+        @Override
+        public void close() throws SQLException {
+            for (TableSink sink : sinks) {
+                if (sink != null) {
+                    sink.close();
+                }
+            }
+        }
+    }
+
+    private static interface TableSink extends AutoCloseable {
+        void add(Object[] values) throws SQLException;
+
+        void flush() throws SQLException;
+
+        @Override
+        void close() throws SQLException;
+    }
+
+    private static final class BatchSink implements TableSink {
+        private final PreparedStatement statement;
+        private boolean pending;
+
+        private BatchSink(PreparedStatement statement) {
+            this.statement = statement;
+        }
+
+        @Override
+        public void add(Object[] values) throws SQLException {
+            for (int i = 0; i < values.length; i++) {
+                statement.setObject(i + 1, jdbcValue(values[i]));
+            }
+            statement.addBatch();
+            pending = true;
+        }
+
+        @Override
+        public void flush() throws SQLException {
+            if (pending) {
+                statement.executeBatch();
+                pending = false;
+            }
+        }
+
+        @Override
+        public void close() throws SQLException {
+            statement.close();
+        }
+
+        private static Object jdbcValue(Object value) {
+            return value instanceof Instant instant ? OffsetDateTime.ofInstant(instant, ZoneOffset.UTC) : value;
+        }
+    }
+
+    /** Buffers rows as CSV and streams them with one {@code COPY ... FROM STDIN} per flush. */
+    private static final class CopySink implements TableSink {
+        private final CopyManager copyManager;
+        private final String sql;
+        private final StringBuilder buffer = new StringBuilder();
+
+        private CopySink(CopyManager copyManager, TableSpec spec) {
+            this.copyManager = copyManager;
+            this.sql = spec.copySql();
+        }
+
+        @Override
+        public void add(Object[] values) {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    buffer.append(',');
+                }
+                appendCsv(values[i]);
+            }
+            buffer.append('\n');
+        }
+
+        @Override
+        public void flush() throws SQLException {
+            if (buffer.isEmpty()) {
+                return;
+            }
+            try {
+                copyManager.copyIn(sql, new StringReader(buffer.toString()));
+            } catch (IOException e) {
+                throw new SQLException("COPY failed for: " + sql, e);
+            }
+            buffer.setLength(0);
+        }
+
+        @Override
+        public void close() {
+            buffer.setLength(0);
+        }
+
+        private void appendCsv(Object value) {
+            if (value == null) {
+                return;
+            }
+            if (value instanceof String text) {
+                buffer.append('"').append(text.replace("\"", "\"\"")).append('"');
+            } else if (value instanceof Instant instant) {
+                buffer.append(OffsetDateTime.ofInstant(instant, ZoneOffset.UTC));
+            } else {
+                buffer.append(value);
+            }
+        }
+    }
+}
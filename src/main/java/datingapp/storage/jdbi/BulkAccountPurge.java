@@ -0,0 +1,179 @@
+package datingapp.storage.jdbi;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.jdbi.v3.core.Handle;
+
+/**
+ * Set-based hard delete of soft-deleted accounts and everything that references them.
+ *
+ * <p>Eligible user ids are staged once into a session-local temporary table, numbered oldest
+ * deletion first. Each chunk then removes a contiguous range of staged ids from every dependent
+ * table with one {@code DELETE ... WHERE col IN (staged range)} per table before deleting the users
+ * themselves, so the database never has to fan a per-row {@code ON DELETE CASCADE} out across two
+ * dozen tables. Tables without a foreign key to {@code users} (such as {@code undo_states}) are
+ * covered too.
+ */
+final class BulkAccountPurge {
+
+    static final String USERS_TABLE = "users";
+
+    private static final String STAGING_TABLE = "purge_account_ids";
+    private static final String THRESHOLD_BIND = "threshold";
+    private static final String LIMIT_BIND = "limit";
+    private static final String FROM_SEQ_BIND = "fromSeq";
+    private static final String TO_SEQ_BIND = "toSeq";
+    private static final String STAGED_RANGE =
+            "(SELECT id FROM " + STAGING_TABLE + " WHERE seq > :fromSeq AND seq <= :toSeq)";
+
+    /**
+     * Dependent tables in delete order. Messages go before conversations because they are also
+     * reachable through a purged user's conversations.
+     */
+    private static final List<Target> TARGETS = List.of(
+            new Target(
+                    "messages",
+                    "sender_id IN " + STAGED_RANGE + " OR conversation_id IN (SELECT id FROM conversations WHERE "
+                            + anyColumnInRange("user_a", "user_b") + ")"),
+            Target.of("conversations", "user_a", "user_b"),
+            Target.of("likes", "who_likes", "who_got_liked"),
+            Target.of("matches", "user_a", "user_b", "ended_by"),
+            Target.of("profile_notes", "author_id", "subject_id"),
+            Target.of("profile_views", "viewer_id", "viewed_id"),
+            Target.of("profile_view_summaries", "viewed_id"),
+            Target.of("user_photos", "user_id"),
+            Target.of("user_interests", "user_id"),
+            Target.of("user_interested_in", "user_id"),
+            Target.of("user_db_smoking", "user_id"),
+            Target.of("user_db_drinking", "user_id"),
+            Target.of("user_db_wants_kids", "user_id"),
+            Target.of("user_db_looking_for", "user_id"),
+            Target.of("user_db_education", "user_id"),
+            Target.of("user_stats", "user_id"),
+            Target.of("user_achievements", "user_id"),
+            Target.of("user_achievement_counters", "user_id"),
+            Target.of("daily_pick_views", "user_id"),
+            Target.of("daily_picks", "user_id", "picked_user_id"),
+            Target.of("swipe_sessions", "user_id"),
+            Target.of("standouts", "seeker_id", "standout_user_id"),
+            Target.of("friend_requests", "from_user_id", "to_user_id"),
+            Target.of("notifications", "user_id"),
+            Target.of("blocks", "blocker_id", "blocked_id"),
+            Target.of("reports", "reporter_id", "reported_user_id"),
+            Target.of("undo_states", "user_id"),
+            Target.of("auth_refresh_tokens", "user_id"),
+            Target.of("user_credentials", "user_id"),
+            Target.of(USERS_TABLE, "id"));
+
+    private final Handle handle;
+    private final Instant threshold;
+    private final Map<String, Long> deletedByTable = new LinkedHashMap<>();
+    private long staged;
+    private long purged;
+
+    private BulkAccountPurge(Handle handle, Instant threshold) {
+        this.handle = handle;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Stages up to {@code maxAccounts} of the oldest eligible accounts and purges them
+     * {@code chunkSize} at a time, one transaction per chunk.
+     *
+     * @return rows deleted per table, with {@link #USERS_TABLE} holding the accounts purged
+     */
+    static Map<String, Long> run(Handle handle, Instant threshold, long maxAccounts, int chunkSize) {
+        Objects.requireNonNull(handle, "handle cannot be null");
+        Objects.requireNonNull(threshold, "threshold cannot be null");
+        if (maxAccounts <= 0) {
+            throw new IllegalArgumentException("maxAccounts must be positive");
+        }
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive");
+        }
+        BulkAccountPurge purge = new BulkAccountPurge(handle, threshold);
+        // Temp-table DDL runs outside the chunk transactions; some engines commit implicitly on DDL.
+        handle.execute("CREATE LOCAL TEMPORARY TABLE IF NOT EXISTS " + STAGING_TABLE
+                + " (seq BIGINT PRIMARY KEY, id UUID NOT NULL)");
+        try {
+            handle.execute("DELETE FROM " + STAGING_TABLE);
+            purge.stage(maxAccounts);
+            for (long fromSeq = 0; fromSeq < purge.staged; fromSeq += chunkSize) {
+                long toSeq = Math.min(purge.staged, fromSeq + chunkSize);
+                long from = fromSeq;
+                handle.useTransaction(transaction -> purge.purgeRange(from, toSeq));
+            }
+        } finally {
+            handle.execute("DROP TABLE IF EXISTS " + STAGING_TABLE);
+        }
+        purge.deletedByTable.put(USERS_TABLE, purge.purged);
+        return purge.deletedByTable;
+    }
+
+    private void stage(long maxAccounts) {
+        try (var update = handle.createUpdate("""
+                INSERT INTO purge_account_ids (seq, id)
+                SELECT ROW_NUMBER() OVER (ORDER BY deleted_at, id), id
+                FROM users
+                WHERE deleted_at IS NOT NULL AND deleted_at < :threshold
+                ORDER BY deleted_at, id
+                LIMIT :limit
+                """)) {
+            staged = update.bind(THRESHOLD_BIND, threshold)
+                    .bind(LIMIT_BIND, maxAccounts)
+                    .execute();
+        }
+    }
+
+    private void purgeRange(long fromSeq, long toSeq) {
+        // An account restored after staging must keep its rows; drop it from this range first.
+        try (var update = handle.createUpdate("""
+                DELETE FROM purge_account_ids
+                WHERE seq > :fromSeq AND seq <= :toSeq
+                  AND NOT EXISTS (
+                      SELECT 1 FROM users u
+                      WHERE u.id = purge_account_ids.id
+                        AND u.deleted_at IS NOT NULL
+                        AND u.deleted_at < :threshold
+                  )
+                """)) {
+            update.bind(FROM_SEQ_BIND, fromSeq)
+                    .bind(TO_SEQ_BIND, toSeq)
+                    .bind(THRESHOLD_BIND, threshold)
+                    .execute();
+        }
+        for (Target target : TARGETS) {
+            int deleted;
+            try (var update = handle.createUpdate("DELETE FROM " + target.table() + " WHERE " + target.predicate())) {
+                deleted = update.bind(FROM_SEQ_BIND, fromSeq)
+                        .bind(TO_SEQ_BIND, toSeq)
+                        .execute();
+            }
+            if (USERS_TABLE.equals(target.table())) {
+                purged += deleted;
+            } else {
+                deletedByTable.merge(target.table(), (long) deleted, Long::sum);
+            }
+        }
+    }
+
+    private static String anyColumnInRange(String... columns) {
+        StringBuilder predicate = new StringBuilder();
+        for (String column : columns) {
+            if (!predicate.isEmpty()) {
+                predicate.append(" OR ");
+            }
+            predicate.append(column).append(" IN ").append(STAGED_RANGE);
+        }
+        return predicate.toString();
+    }
+
+    private static record Target(String table, String predicate) {
+        static Target of(String table, String... columns) {
+            return new Target(table, anyColumnInRange(columns));
+        }
+    }
+}
@@ -4,12 +4,17 @@ import datingapp.core.model.User;
 import datingapp.core.storage.AccountCleanupStorage;
 import datingapp.storage.DatabaseManager.StorageException;
 import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.Jdbi;
 
-/** JDBI-backed account cleanup storage that soft-deletes the user and all related graph rows in one transaction. */
+/**
+ * JDBI-backed account cleanup storage that soft-deletes the user and all related graph rows in one transaction, and
+ * hard-purges expired accounts in set-based chunks.
+ */
 public final class JdbiAccountCleanupStorage implements AccountCleanupStorage {
 
     private static final String USER_ID_BIND = "userId";
@@ -43,6 +48,7 @@ public final class JdbiAccountCleanupStorage implements AccountCleanupStorage {
                 // ── Stats & achievements ──
                 deleteUserStats(handle, user.getId());
                 deleteUserAchievements(handle, user.getId());
+                deleteAchievementCounters(handle, user.getId());
                 deleteDailyPickViews(handle, user.getId());
                 deleteDailyPicks(handle, user.getId());
                 deleteSwipeSessions(handle, user.getId());
@@ -75,6 +81,24 @@ public final class JdbiAccountCleanupStorage implements AccountCleanupStorage {
         }
     }
 
+    @Override
+    public PurgeResult purgeDeletedAccountsBefore(Instant threshold, int chunkSize) {
+        Objects.requireNonNull(threshold, "threshold cannot be null");
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive");
+        }
+
+        Map<String, Long> deleted;
+        try {
+            deleted = new LinkedHashMap<>(
+                    jdbi.withHandle(handle -> BulkAccountPurge.run(handle, threshold, Long.MAX_VALUE, chunkSize)));
+        } catch (Exception e) {
+            throw new StorageException("Failed to purge accounts deleted before " + threshold, e);
+        }
+        long accounts = deleted.remove(BulkAccountPurge.USERS_TABLE);
+        return new PurgeResult((int) Math.min(Integer.MAX_VALUE, accounts), deleted);
+    }
+
     private static void softDeleteUser(Handle handle, UUID userId, Instant deletedAt) {
         try (var update = handle.createUpdate("""
             UPDATE users
@@ -146,6 +170,7 @@ public final class JdbiAccountCleanupStorage implements AccountCleanupStorage {
 
     private static void deleteProfileViews(Handle handle, UUID userId) {
         executeHardDelete(handle, "DELETE FROM profile_views WHERE viewer_id = :userId OR viewed_id = :userId", userId);
+        executeHardDelete(handle, "DELETE FROM profile_view_summaries WHERE viewed_id = :userId", userId);
     }
 
     private static void deleteUserPhotos(Handle handle, UUID userId) {
@@ -176,6 +201,10 @@ public final class JdbiAccountCleanupStorage implements AccountCleanupStorage {
         executeHardDelete(handle, "DELETE FROM user_achievements WHERE user_id = :userId", userId);
     }
 
+    private static void deleteAchievementCounters(Handle handle, UUID userId) {
+        executeHardDelete(handle, "DELETE FROM user_achievement_counters WHERE user_id = :userId", userId);
+    }
+
     private static void deleteDailyPickViews(Handle handle, UUID userId) {
         executeHardDelete(handle, "DELETE FROM daily_pick_views WHERE user_id = :userId", userId);
     }
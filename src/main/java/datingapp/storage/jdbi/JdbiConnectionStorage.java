@@ -39,6 +39,18 @@ public final class JdbiConnectionStorage implements OperationalCommunicationStor
     private static final String ERR_USER_ID_NULL = "userId cannot be null";
     private static final String PARAM_CONVERSATION_IDS = "conversationIds";
     private static final String COLUMN_CONVERSATION_ID = "conversation_id";
+    /** One page of a conversation; public so plan capture explains the statement the DAO runs. */
+    public static final String SQL_GET_MESSAGES = """
+                                SELECT m.id, m.conversation_id, m.sender_id, m.content, m.created_at
+                                FROM messages m
+                                JOIN conversations c ON c.id = m.conversation_id
+                        WHERE m.conversation_id = :conversationId
+                                AND m.deleted_at IS NULL
+                                AND c.deleted_at IS NULL
+                                AND (c.visible_to_user_a = TRUE OR c.visible_to_user_b = TRUE)
+                                ORDER BY m.created_at ASC, m.id ASC
+                LIMIT :limit OFFSET :offset
+                """;
     private static final String SQL_LATEST_MESSAGES_BY_CONVERSATION_IDS = """
                         SELECT ranked.id, ranked.conversation_id, ranked.sender_id, ranked.content, ranked.created_at
                         FROM (
@@ -548,17 +560,7 @@ public final class JdbiConnectionStorage implements OperationalCommunicationStor
                 """)
         void saveMessage(@org.jdbi.v3.sqlobject.customizer.BindMethods Message message);
 
-        @SqlQuery("""
-                                SELECT m.id, m.conversation_id, m.sender_id, m.content, m.created_at
-                                FROM messages m
-                                JOIN conversations c ON c.id = m.conversation_id
-                        WHERE m.conversation_id = :conversationId
-                                AND m.deleted_at IS NULL
-                                AND c.deleted_at IS NULL
-                                AND (c.visible_to_user_a = TRUE OR c.visible_to_user_b = TRUE)
-                                ORDER BY m.created_at ASC, m.id ASC
-                LIMIT :limit OFFSET :offset
-                """)
+        @SqlQuery(SQL_GET_MESSAGES)
         List<Message> getMessages(
                 @Bind("conversationId") String conversationId, @Bind("limit") int limit, @Bind("offset") int offset);
 
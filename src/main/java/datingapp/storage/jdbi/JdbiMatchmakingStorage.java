@@ -71,6 +71,15 @@ public final class JdbiMatchmakingStorage implements OperationalInteractionStora
     private static final String ERR_UPDATED_MATCH_NULL = "updatedMatch cannot be null";
     private static final String ERR_ARCHIVED_CONVERSATION_NULL = "archivedConversation cannot be null";
 
+    /** Daily like-limit count; public so plan capture explains the statement the DAO runs. */
+    public static final String SQL_COUNT_LIKES_TODAY = """
+            SELECT COUNT(*) FROM likes
+            WHERE who_likes = :userId
+              AND direction = 'LIKE'
+              AND created_at >= :startOfDay
+              AND deleted_at IS NULL
+            """;
+
     private static final String SQL_ACTIVE_LIKE_EXISTS = """
             SELECT EXISTS (
             SELECT 1
@@ -706,6 +715,11 @@ public final class JdbiMatchmakingStorage implements OperationalInteractionStora
         return matchDao.purgeDeletedBefore(threshold);
     }
 
+    @Override
+    public int purgeDeletedBefore(Instant threshold, int maxRows) {
+        return matchDao.purgeDeletedBeforeChunk(threshold, maxRows);
+    }
+
     private void saveNotification(Handle handle, Notification notification) {
         JdbiConnectionStorage.insertNotification(handle, notification);
     }
@@ -929,13 +943,7 @@ public final class JdbiMatchmakingStorage implements OperationalInteractionStora
             """)
         int countMutualLikes(@Bind("userId") UUID userId);
 
-        @SqlQuery("""
-            SELECT COUNT(*) FROM likes
-            WHERE who_likes = :userId
-              AND direction = 'LIKE'
-              AND created_at >= :startOfDay
-              AND deleted_at IS NULL
-            """)
+        @SqlQuery(SQL_COUNT_LIKES_TODAY)
         int countLikesToday(@Bind("userId") UUID userId, @Bind("startOfDay") Instant startOfDay);
 
         @SqlQuery("""
@@ -1037,6 +1045,17 @@ public final class JdbiMatchmakingStorage implements OperationalInteractionStora
 
         @SqlUpdate("DELETE FROM matches WHERE deleted_at < :threshold")
         int purgeDeletedBefore(@Bind("threshold") Instant threshold);
+
+        @SqlUpdate("""
+                DELETE FROM matches
+                WHERE id IN (
+                    SELECT id FROM matches
+                    WHERE deleted_at < :threshold
+                    ORDER BY deleted_at
+                    LIMIT :limit
+                )
+                """)
+        int purgeDeletedBeforeChunk(@Bind("threshold") Instant threshold, @Bind("limit") int limit);
     }
 
     @RegisterRowMapper(UndoStateMapper.class)
@@ -1,8 +1,10 @@
 package datingapp.storage.jdbi;
 
 import datingapp.core.AppClock;
+import datingapp.core.EnumSetUtil;
 import datingapp.core.matching.Standout;
 import datingapp.core.metrics.EngagementDomain.Achievement;
+import datingapp.core.metrics.EngagementDomain.Achievement.ProgressCounters;
 import datingapp.core.metrics.EngagementDomain.Achievement.UserAchievement;
 import datingapp.core.metrics.EngagementDomain.PlatformStats;
 import datingapp.core.metrics.EngagementDomain.UserStats;
@@ -11,13 +13,26 @@ import datingapp.core.storage.AnalyticsStorage;
 import datingapp.storage.DatabaseDialect;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.Jdbi;
 import org.jdbi.v3.core.mapper.RowMapper;
 import org.jdbi.v3.core.statement.PreparedBatch;
@@ -27,13 +42,24 @@ import org.jdbi.v3.sqlobject.customizer.Bind;
 import org.jdbi.v3.sqlobject.customizer.BindMethods;
 import org.jdbi.v3.sqlobject.statement.SqlQuery;
 import org.jdbi.v3.sqlobject.statement.SqlUpdate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Consolidated JDBI storage for stats, achievements, profile views, daily
  * picks, and swipe sessions.
+ *
+ * <p>Profile views are write-behind: {@link #recordProfileView(UUID, UUID)} only buffers the event,
+ * and a background flush writes each batch to {@code profile_views} while folding it into the
+ * per-profile {@code profile_view_summaries} row (a running total plus a HyperLogLog sketch of
+ * distinct viewers). View reads never flush: they overlay the still-buffered views on the stored
+ * rows, so callers observe their own writes without paying for a write on the request thread, and
+ * the counts come from the summary row instead of scanning the raw history.
  */
 public final class JdbiMetricsStorage implements AnalyticsStorage, Standout.Storage {
 
+    private static final Logger logger = LoggerFactory.getLogger(JdbiMetricsStorage.class);
+
     private static final String USER_ID_COLUMN = "user_id";
     private static final String USER_ID_BIND = "userId";
     private static final String VIEWED_AT_COLUMN = "viewed_at";
@@ -48,18 +74,39 @@ public final class JdbiMetricsStorage implements AnalyticsStorage, Standout.Stor
     private static final String FEATURED_DATE_COLUMN = "featured_date";
     private static final String SEEKER_ID_COLUMN = "seeker_id";
     private static final String STANDOUT_USER_ID_COLUMN = "standout_user_id";
+    private static final String VIEWED_ID_BIND = "viewedId";
+
+    private static final int PROFILE_VIEW_FLUSH_BATCH_SIZE = 256;
+    private static final int PROFILE_VIEW_MAX_PENDING = 10_000;
+    private static final Duration PROFILE_VIEW_FLUSH_DELAY = Duration.ofSeconds(2);
+    private static final ScheduledExecutorService PROFILE_VIEW_FLUSHER = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("profile-view-flusher").daemon().factory());
+    private static final String PROFILE_VIEW_SUMMARY_SELECT_SQL =
+            "SELECT view_count, viewer_sketch FROM profile_view_summaries WHERE viewed_id = :viewedId";
 
     private final Jdbi jdbi;
     private final StatsDao statsDao;
     private final SessionDao sessionDao;
     private final StandoutDao standoutDao;
-    private final String profileViewUpsertSql;
+    private final String profileViewInsertSql;
+    private final String profileViewSummaryUpsertSql;
     private final String userAchievementUpsertSql;
+    private final String achievementCountersUpsertSql;
     private final String dailyPickViewUpsertSql;
     private final String dailyPickUserUpsertSql;
     private final String sessionUpsertSql;
     private final String sessionAggregatesSql;
     private final String standoutUpsertSql;
+    private final Object pendingProfileViewsLock = new Object();
+    private final ReentrantLock profileViewFlushLock = new ReentrantLock();
+    private Set<PendingProfileView> pendingProfileViews = new LinkedHashSet<>();
+    private boolean profileViewFlushScheduled;
+
+    /** A buffered view event; identical events collapse just like the raw table's primary key. */
+    private static record PendingProfileView(UUID viewerId, UUID viewedId, Instant viewedAt) {}
+
+    /** Stored per-profile view totals. */
+    private static record ProfileViewSummary(long viewCount, HyperLogLogSketch viewers) {}
 
     public JdbiMetricsStorage(Jdbi jdbi) {
         this(jdbi, SqlDialectSupport.detectDialect(jdbi));
@@ -71,8 +118,10 @@ public final class JdbiMetricsStorage implements AnalyticsStorage, Standout.Stor
         this.statsDao = jdbi.onDemand(StatsDao.class);
         this.sessionDao = jdbi.onDemand(SessionDao.class);
         this.standoutDao = jdbi.onDemand(StandoutDao.class);
-        this.profileViewUpsertSql = buildProfileViewUpsertSql(dialect);
+        this.profileViewInsertSql = buildProfileViewInsertSql(dialect);
+        this.profileViewSummaryUpsertSql = buildProfileViewSummaryUpsertSql(dialect);
         this.userAchievementUpsertSql = buildUserAchievementUpsertSql(dialect);
+        this.achievementCountersUpsertSql = buildAchievementCountersUpsertSql(dialect);
         this.dailyPickViewUpsertSql = buildDailyPickViewUpsertSql(dialect);
         this.dailyPickUserUpsertSql = buildDailyPickUserUpsertSql(dialect);
         this.sessionUpsertSql = buildSessionUpsertSql(dialect);
@@ -125,34 +174,218 @@ public final class JdbiMetricsStorage implements AnalyticsStorage, Standout.Stor
         if (viewerId.equals(viewedId)) {
             return;
         }
-        jdbi.useHandle(handle -> {
-            try (var update = handle.createUpdate(profileViewUpsertSql)) {
-                update.bind("viewerId", viewerId)
-                        .bind("viewedId", viewedId)
-                        .bind("viewedAt", AppClock.now())
-                        .execute();
-            }
-        });
+        int pending;
+        boolean scheduleFlush;
+        synchronized (pendingProfileViewsLock) {
+            pendingProfileViews.add(new PendingProfileView(viewerId, viewedId, AppClock.now()));
+            pending = pendingProfileViews.size();
+            scheduleFlush = !profileViewFlushScheduled;
+            profileViewFlushScheduled = true;
+        }
+        if (pending >= PROFILE_VIEW_MAX_PENDING) {
+            // The flusher is falling behind; apply backpressure instead of growing the buffer.
+            flushPendingProfileViewsQuietly();
+        } else if (pending == PROFILE_VIEW_FLUSH_BATCH_SIZE) {
+            PROFILE_VIEW_FLUSHER.execute(this::flushPendingProfileViewsQuietly);
+        } else if (scheduleFlush) {
+            PROFILE_VIEW_FLUSHER.schedule(
+                    this::flushPendingProfileViewsQuietly, PROFILE_VIEW_FLUSH_DELAY.toMillis(), TimeUnit.MILLISECONDS);
+        }
     }
 
     @Override
     public int getProfileViewCount(UUID userId) {
-        return statsDao.getProfileViewCount(userId);
+        long stored = loadProfileViewSummary(userId)
+                .map(ProfileViewSummary::viewCount)
+                .orElse(0L);
+        return (int) Math.min(Integer.MAX_VALUE, stored + pendingProfileViewsOf(userId).size());
     }
 
     @Override
     public int getUniqueViewerCount(UUID userId) {
-        return statsDao.getUniqueViewerCount(userId);
+        Optional<ProfileViewSummary> stored = loadProfileViewSummary(userId);
+        List<PendingProfileView> pending = pendingProfileViewsOf(userId);
+        HyperLogLogSketch viewers = stored.map(ProfileViewSummary::viewers).orElseGet(HyperLogLogSketch::new);
+        for (PendingProfileView view : pending) {
+            viewers.add(view.viewerId());
+        }
+        long viewCount = stored.map(ProfileViewSummary::viewCount).orElse(0L) + pending.size();
+        // The sketch is an estimate; it can never legitimately exceed the number of views.
+        return (int) Math.min(Integer.MAX_VALUE, Math.min(viewers.estimate(), viewCount));
     }
 
     @Override
     public List<UUID> getRecentViewers(UUID userId, int limit) {
-        return statsDao.getRecentViewers(userId, limit);
+        List<UUID> stored = statsDao.getRecentViewers(userId, limit);
+        List<PendingProfileView> pending = new ArrayList<>(pendingProfileViewsOf(userId));
+        if (pending.isEmpty()) {
+            return stored;
+        }
+        pending.sort(Comparator.comparing(PendingProfileView::viewedAt).reversed());
+        Set<UUID> viewers = new LinkedHashSet<>();
+        pending.forEach(view -> viewers.add(view.viewerId()));
+        viewers.addAll(stored);
+        return viewers.stream().limit(Math.max(0, limit)).toList();
     }
 
     @Override
     public boolean hasViewedProfile(UUID viewerId, UUID viewedId) {
-        return statsDao.hasViewedProfile(viewerId, viewedId);
+        return pendingProfileViewsOf(viewedId).stream().anyMatch(view -> view.viewerId().equals(viewerId))
+                || statsDao.hasViewedProfile(viewerId, viewedId);
+    }
+
+    /**
+     * Buffered views of {@code viewedId}. Readers query the stored rows first and this buffer second:
+     * a view leaves the buffer before its flush commits, so that order can briefly miss a view that is
+     * being written but never counts one twice.
+     */
+    private List<PendingProfileView> pendingProfileViewsOf(UUID viewedId) {
+        synchronized (pendingProfileViewsLock) {
+            return pendingProfileViews.stream()
+                    .filter(view -> view.viewedId().equals(viewedId))
+                    .toList();
+        }
+    }
+
+    /**
+     * Writes every buffered view to {@code profile_views} and its summary row in one transaction.
+     * Flushes are serialized, so a caller that returns from here observes every view recorded
+     * before the call.
+     */
+    @Override
+    public void flushPendingProfileViews() {
+        profileViewFlushLock.lock();
+        try {
+            List<PendingProfileView> batch;
+            synchronized (pendingProfileViewsLock) {
+                batch = new ArrayList<>(pendingProfileViews);
+                pendingProfileViews = new LinkedHashSet<>();
+                profileViewFlushScheduled = false;
+            }
+            if (!batch.isEmpty()) {
+                writeProfileViews(batch);
+            }
+        } finally {
+            profileViewFlushLock.unlock();
+        }
+    }
+
+    private void flushPendingProfileViewsQuietly() {
+        try {
+            flushPendingProfileViews();
+        } catch (RuntimeException e) {
+            // View tracking is analytics; a failed batch is dropped rather than retried forever.
+            logWarn("Dropped buffered profile views after a failed flush", e);
+        }
+    }
+
+    private void writeProfileViews(List<PendingProfileView> batch) {
+        Instant now = AppClock.now();
+        jdbi.useTransaction(handle -> {
+            int[] updateCounts;
+            try (PreparedBatch insert = handle.prepareBatch(profileViewInsertSql)) {
+                for (PendingProfileView view : batch) {
+                    insert.bind("viewerId", view.viewerId())
+                            .bind(VIEWED_ID_BIND, view.viewedId())
+                            .bind("viewedAt", view.viewedAt())
+                            .add();
+                }
+                updateCounts = insert.execute();
+            }
+            // Only rows that were actually written are counted; a view already stored is skipped.
+            Map<UUID, List<PendingProfileView>> insertedByViewed = new LinkedHashMap<>();
+            for (int i = 0; i < batch.size(); i++) {
+                if (updateCounts[i] > 0 || updateCounts[i] == Statement.SUCCESS_NO_INFO) {
+                    PendingProfileView view = batch.get(i);
+                    insertedByViewed
+                            .computeIfAbsent(view.viewedId(), _ -> new ArrayList<>())
+                            .add(view);
+                }
+            }
+            for (Map.Entry<UUID, List<PendingProfileView>> entry : insertedByViewed.entrySet()) {
+                foldIntoSummary(handle, entry.getKey(), entry.getValue(), now);
+            }
+        });
+    }
+
+    private void foldIntoSummary(Handle handle, UUID viewedId, List<PendingProfileView> views, Instant now) {
+        Optional<ProfileViewSummary> existing = handle.createQuery(PROFILE_VIEW_SUMMARY_SELECT_SQL + " FOR UPDATE")
+                .bind(VIEWED_ID_BIND, viewedId)
+                .map((rs, ctx) -> readProfileViewSummary(rs))
+                .findOne();
+        if (existing.isEmpty()) {
+            // First summary for this profile: the raw rows just written are included in the rebuild.
+            rebuildProfileViewSummary(handle, viewedId, now);
+            return;
+        }
+        HyperLogLogSketch viewers = existing.get().viewers();
+        for (PendingProfileView view : views) {
+            viewers.add(view.viewerId());
+        }
+        saveProfileViewSummary(
+                handle, viewedId, new ProfileViewSummary(existing.get().viewCount() + views.size(), viewers), now);
+    }
+
+    private Optional<ProfileViewSummary> loadProfileViewSummary(UUID viewedId) {
+        Optional<ProfileViewSummary> existing = jdbi.withHandle(handle -> selectProfileViewSummary(handle, viewedId));
+        if (existing.isPresent() || !statsDao.hasAnyProfileView(viewedId)) {
+            return existing;
+        }
+        // Views without a summary predate the summary table. Rebuild under the flush lock so a batch
+        // that is being folded in concurrently is not counted twice.
+        profileViewFlushLock.lock();
+        try {
+            return jdbi.inTransaction(handle -> {
+                Optional<ProfileViewSummary> current = selectProfileViewSummary(handle, viewedId);
+                return current.isPresent() ? current : rebuildProfileViewSummary(handle, viewedId, AppClock.now());
+            });
+        } finally {
+            profileViewFlushLock.unlock();
+        }
+    }
+
+    private static Optional<ProfileViewSummary> selectProfileViewSummary(Handle handle, UUID viewedId) {
+        return handle.createQuery(PROFILE_VIEW_SUMMARY_SELECT_SQL)
+                .bind(VIEWED_ID_BIND, viewedId)
+                .map((rs, ctx) -> readProfileViewSummary(rs))
+                .findOne();
+    }
+
+    /**
+     * Recomputes a profile's summary from the raw view history. Runs once per profile, for views
+     * recorded before the summary table existed.
+     */
+    private Optional<ProfileViewSummary> rebuildProfileViewSummary(Handle handle, UUID viewedId, Instant now) {
+        long viewCount = handle.createQuery("SELECT COUNT(*) FROM profile_views WHERE viewed_id = :viewedId")
+                .bind(VIEWED_ID_BIND, viewedId)
+                .mapTo(Long.class)
+                .one();
+        if (viewCount == 0) {
+            return Optional.empty();
+        }
+        HyperLogLogSketch viewers = new HyperLogLogSketch();
+        handle.createQuery("SELECT DISTINCT viewer_id FROM profile_views WHERE viewed_id = :viewedId")
+                .bind(VIEWED_ID_BIND, viewedId)
+                .mapTo(UUID.class)
+                .forEach(viewers::add);
+        ProfileViewSummary summary = new ProfileViewSummary(viewCount, viewers);
+        saveProfileViewSummary(handle, viewedId, summary, now);
+        return Optional.of(summary);
+    }
+
+    private void saveProfileViewSummary(Handle handle, UUID viewedId, ProfileViewSummary summary, Instant now) {
+        try (var update = handle.createUpdate(profileViewSummaryUpsertSql)) {
+            update.bind(VIEWED_ID_BIND, viewedId)
+                    .bind("viewCount", summary.viewCount())
+                    .bind("viewerSketch", summary.viewers().toBytes())
+                    .bind("updatedAt", now)
+                    .execute();
+        }
+    }
+
+    private static ProfileViewSummary readProfileViewSummary(ResultSet rs) throws SQLException {
+        return new ProfileViewSummary(
+                rs.getLong("view_count"), HyperLogLogSketch.fromBytes(rs.getBytes("viewer_sketch")));
     }
 
     @Override
@@ -183,6 +416,41 @@ public final class JdbiMetricsStorage implements AnalyticsStorage, Standout.Stor
         return statsDao.countUnlockedAchievements(userId);
     }
 
+    @Override
+    public EnumSet<Achievement> getUnlockedAchievementSet(UUID userId) {
+        return EnumSetUtil.safeCopy(
+                NormalizedEnumParser.parseNames(statsDao.getUnlockedAchievementNames(userId), Achievement.class),
+                Achievement.class);
+    }
+
+    @Override
+    public Optional<ProgressCounters> getAchievementCounters(UUID userId) {
+        return statsDao.getAchievementCounters(userId);
+    }
+
+    @Override
+    public void saveAchievementCounters(ProgressCounters counters) {
+        jdbi.useHandle(handle -> {
+            try (var update = handle.createUpdate(achievementCountersUpsertSql)) {
+                update.bind(USER_ID_BIND, counters.userId())
+                        .bind("matchCount", counters.matchCount())
+                        .bind("likeCount", counters.likeCount())
+                        .bind("passCount", counters.passCount())
+                        .bind("reportCount", counters.reportCount())
+                        .bind("updatedAt", counters.updatedAt())
+                        .execute();
+            }
+        });
+    }
+
+    @Override
+    public boolean incrementAchievementCounters(
+            UUID userId, int matchDelta, int likeDelta, int passDelta, int reportDelta) {
+        return statsDao.incrementAchievementCounters(
+                        userId, matchDelta, likeDelta, passDelta, reportDelta, AppClock.now())
+                > 0;
+    }
+
     @Override
     public void markDailyPickAsViewed(UUID userId, LocalDate date) {
         jdbi.useHandle(handle -> {
@@ -228,11 +496,21 @@ public final class JdbiMetricsStorage implements AnalyticsStorage, Standout.Stor
         return statsDao.deleteExpiredDailyPickViews(cutoff);
     }
 
+    @Override
+    public int deleteExpiredDailyPickViews(Instant cutoff, int maxRows) {
+        return statsDao.deleteExpiredDailyPickViewsChunk(cutoff, maxRows);
+    }
+
     @Override
     public int deleteExpiredStandouts(Instant cutoff) {
         return standoutDao.deleteExpiredStandouts(cutoff);
     }
 
+    @Override
+    public int deleteExpiredStandouts(Instant cutoff, int maxRows) {
+        return standoutDao.deleteExpiredStandoutsChunk(cutoff, maxRows);
+    }
+
     @Override
     public boolean markStandoutInteracted(UUID standoutId, Instant timestamp) {
         return standoutDao.markStandoutInteractedRaw(standoutId, timestamp) > 0;
@@ -303,6 +581,11 @@ public final class JdbiMetricsStorage implements AnalyticsStorage, Standout.Stor
         return sessionDao.deleteExpiredSessions(cutoff);
     }
 
+    @Override
+    public int deleteExpiredSessions(Instant cutoff, int maxRows) {
+        return sessionDao.deleteExpiredSessionsChunk(cutoff, maxRows);
+    }
+
     @Override
     public void saveStandouts(UUID seekerId, List<Standout> standouts, LocalDate date) {
         Objects.requireNonNull(seekerId, "seekerId cannot be null");
@@ -464,12 +747,6 @@ public final class JdbiMetricsStorage implements AnalyticsStorage, Standout.Stor
         @RegisterRowMapper(PlatformStatsMapper.class)
         List<PlatformStats> getPlatformStatsHistory(@Bind("limit") int limit);
 
-        @SqlQuery("SELECT COUNT(*) FROM profile_views WHERE viewed_id = :userId")
-        int getProfileViewCount(@Bind("userId") UUID userId);
-
-        @SqlQuery("SELECT COUNT(DISTINCT viewer_id) FROM profile_views WHERE viewed_id = :userId")
-        int getUniqueViewerCount(@Bind("userId") UUID userId);
-
         @SqlQuery("""
                 SELECT viewer_id, MAX(viewed_at) as last_view
                 FROM profile_views
@@ -493,6 +770,9 @@ public final class JdbiMetricsStorage implements AnalyticsStorage, Standout.Stor
                 """)
         boolean hasViewedProfile(@Bind("viewerId") UUID viewerId, @Bind("viewedId") UUID viewedId);
 
+        @SqlQuery("SELECT EXISTS (SELECT 1 FROM profile_views WHERE viewed_id = :viewedId)")
+        boolean hasAnyProfileView(@Bind("viewedId") UUID viewedId);
+
         @SqlQuery("""
                 SELECT id, user_id, achievement, unlocked_at
                 FROM user_achievements
@@ -510,6 +790,34 @@ public final class JdbiMetricsStorage implements AnalyticsStorage, Standout.Stor
         @SqlQuery("SELECT COUNT(*) FROM user_achievements WHERE user_id = :userId")
         int countUnlockedAchievements(@Bind("userId") UUID userId);
 
+        @SqlQuery("SELECT achievement FROM user_achievements WHERE user_id = :userId")
+        List<String> getUnlockedAchievementNames(@Bind("userId") UUID userId);
+
+        @SqlQuery("""
+                SELECT user_id, match_count, like_count, pass_count, report_count, updated_at
+                FROM user_achievement_counters
+                WHERE user_id = :userId
+                """)
+        @RegisterRowMapper(ProgressCountersMapper.class)
+        Optional<ProgressCounters> getAchievementCounters(@Bind("userId") UUID userId);
+
+        @SqlUpdate("""
+                UPDATE user_achievement_counters
+                SET match_count = match_count + :matchDelta,
+                    like_count = like_count + :likeDelta,
+                    pass_count = pass_count + :passDelta,
+                    report_count = report_count + :reportDelta,
+                    updated_at = :updatedAt
+                WHERE user_id = :userId
+                """)
+        int incrementAchievementCounters(
+                @Bind("userId") UUID userId,
+                @Bind("matchDelta") int matchDelta,
+                @Bind("likeDelta") int likeDelta,
+                @Bind("passDelta") int passDelta,
+                @Bind("reportDelta") int reportDelta,
+                @Bind("updatedAt") Instant updatedAt);
+
         @SqlQuery("SELECT COUNT(*) > 0 FROM daily_pick_views WHERE user_id = :userId AND viewed_date = :date")
         boolean isDailyPickViewed(@Bind("userId") UUID userId, @Bind("date") LocalDate date);
 
@@ -521,6 +829,17 @@ public final class JdbiMetricsStorage implements AnalyticsStorage, Standout.Stor
 
         @SqlUpdate("DELETE FROM daily_pick_views WHERE viewed_at < :cutoff")
         int deleteExpiredDailyPickViews(@Bind("cutoff") Instant cutoff);
+
+        @SqlUpdate("""
+                DELETE FROM daily_pick_views
+                WHERE (user_id, viewed_date) IN (
+                    SELECT user_id, viewed_date FROM daily_pick_views
+                    WHERE viewed_at < :cutoff
+                    ORDER BY viewed_at
+                    LIMIT :limit
+                )
+                """)
+        int deleteExpiredDailyPickViewsChunk(@Bind("cutoff") Instant cutoff, @Bind("limit") int limit);
     }
 
     @RegisterRowMapper(SwipeSessionMapper.class)
@@ -575,6 +894,17 @@ public final class JdbiMetricsStorage implements AnalyticsStorage, Standout.Stor
 
         @SqlUpdate("DELETE FROM swipe_sessions WHERE state <> 'ACTIVE' AND started_at < :cutoff")
         int deleteExpiredSessions(@Bind("cutoff") Instant cutoff);
+
+        @SqlUpdate("""
+                DELETE FROM swipe_sessions
+                WHERE id IN (
+                    SELECT id FROM swipe_sessions
+                    WHERE state <> 'ACTIVE' AND started_at < :cutoff
+                    ORDER BY started_at
+                    LIMIT :limit
+                )
+                """)
+        int deleteExpiredSessionsChunk(@Bind("cutoff") Instant cutoff, @Bind("limit") int limit);
     }
 
     @RegisterRowMapper(StandoutMapper.class)
@@ -605,6 +935,17 @@ public final class JdbiMetricsStorage implements AnalyticsStorage, Standout.Stor
         @SqlUpdate("DELETE FROM standouts WHERE created_at < :cutoff")
         int deleteExpiredStandouts(@Bind("cutoff") Instant cutoff);
 
+        @SqlUpdate("""
+                DELETE FROM standouts
+                WHERE id IN (
+                    SELECT id FROM standouts
+                    WHERE created_at < :cutoff
+                    ORDER BY created_at
+                    LIMIT :limit
+                )
+                """)
+        int deleteExpiredStandoutsChunk(@Bind("cutoff") Instant cutoff, @Bind("limit") int limit);
+
         @SqlUpdate("UPDATE standouts SET interacted_at = :timestamp WHERE id = :id AND interacted_at IS NULL")
         int markStandoutInteractedRaw(@Bind("id") UUID standoutId, @Bind("timestamp") Instant timestamp);
     }
@@ -662,6 +1003,19 @@ public final class JdbiMetricsStorage implements AnalyticsStorage, Standout.Stor
         }
     }
 
+    public static class ProgressCountersMapper implements RowMapper<ProgressCounters> {
+        @Override
+        public ProgressCounters map(ResultSet rs, StatementContext ctx) throws SQLException {
+            return new ProgressCounters(
+                    JdbiTypeCodecs.SqlRowReaders.readUuid(rs, USER_ID_COLUMN),
+                    rs.getInt("match_count"),
+                    rs.getInt("like_count"),
+                    rs.getInt("pass_count"),
+                    rs.getInt("report_count"),
+                    JdbiTypeCodecs.SqlRowReaders.readInstant(rs, "updated_at"));
+        }
+    }
+
     public static class SwipeSessionMapper implements RowMapper<Session> {
         @Override
         public Session map(ResultSet rs, StatementContext ctx) throws SQLException {
@@ -723,15 +1077,47 @@ public final class JdbiMetricsStorage implements AnalyticsStorage, Standout.Stor
         }
     }
 
-    private static String buildProfileViewUpsertSql(DatabaseDialect dialect) {
+    /**
+     * Inserts a view unless the identical event is already stored, reporting an update count of 0 for
+     * the duplicate. H2's {@code MERGE ... KEY} reports 1 for a matched row, so H2 uses a standard
+     * {@code MERGE} with only a {@code WHEN NOT MATCHED} branch instead.
+     */
+    private static String buildProfileViewInsertSql(DatabaseDialect dialect) {
+        return switch (dialect) {
+            case H2 -> """
+                    MERGE INTO profile_views
+                    USING (SELECT CAST(:viewerId AS UUID) AS viewer_id,
+                                  CAST(:viewedId AS UUID) AS viewed_id,
+                                  CAST(:viewedAt AS TIMESTAMP WITH TIME ZONE) AS viewed_at) AS incoming
+                    ON profile_views.viewer_id = incoming.viewer_id
+                        AND profile_views.viewed_id = incoming.viewed_id
+                        AND profile_views.viewed_at = incoming.viewed_at
+                    WHEN NOT MATCHED THEN
+                        INSERT (viewer_id, viewed_id, viewed_at)
+                        VALUES (incoming.viewer_id, incoming.viewed_id, incoming.viewed_at)
+                    """;
+            case POSTGRESQL ->
+                SqlDialectSupport.upsertSql(
+                        dialect,
+                        "profile_views",
+                        List.of(
+                                new SqlDialectSupport.ColumnBinding("viewer_id", "viewerId"),
+                                new SqlDialectSupport.ColumnBinding("viewed_id", VIEWED_ID_BIND),
+                                new SqlDialectSupport.ColumnBinding(VIEWED_AT_COLUMN, "viewedAt")),
+                        List.of("viewer_id", "viewed_id", VIEWED_AT_COLUMN));
+        };
+    }
+
+    private static String buildProfileViewSummaryUpsertSql(DatabaseDialect dialect) {
         return SqlDialectSupport.upsertSql(
                 dialect,
-                "profile_views",
+                "profile_view_summaries",
                 List.of(
-                        new SqlDialectSupport.ColumnBinding("viewer_id", "viewerId"),
-                        new SqlDialectSupport.ColumnBinding("viewed_id", "viewedId"),
-                        new SqlDialectSupport.ColumnBinding(VIEWED_AT_COLUMN, "viewedAt")),
-                List.of("viewer_id", "viewed_id", VIEWED_AT_COLUMN));
+                        new SqlDialectSupport.ColumnBinding("viewed_id", VIEWED_ID_BIND),
+                        new SqlDialectSupport.ColumnBinding("view_count", "viewCount"),
+                        new SqlDialectSupport.ColumnBinding("viewer_sketch", "viewerSketch"),
+                        new SqlDialectSupport.ColumnBinding("updated_at", "updatedAt")),
+                List.of("viewed_id"));
     }
 
     private static String buildUserAchievementUpsertSql(DatabaseDialect dialect) {
@@ -746,6 +1132,20 @@ public final class JdbiMetricsStorage implements AnalyticsStorage, Standout.Stor
                 List.of(USER_ID_COLUMN, ACHIEVEMENT_COLUMN));
     }
 
+    private static String buildAchievementCountersUpsertSql(DatabaseDialect dialect) {
+        return SqlDialectSupport.upsertSql(
+                dialect,
+                "user_achievement_counters",
+                List.of(
+                        new SqlDialectSupport.ColumnBinding(USER_ID_COLUMN, USER_ID_BIND),
+                        new SqlDialectSupport.ColumnBinding("match_count", "matchCount"),
+                        new SqlDialectSupport.ColumnBinding("like_count", "likeCount"),
+                        new SqlDialectSupport.ColumnBinding("pass_count", "passCount"),
+                        new SqlDialectSupport.ColumnBinding("report_count", "reportCount"),
+                        new SqlDialectSupport.ColumnBinding("updated_at", "updatedAt")),
+                List.of(USER_ID_COLUMN));
+    }
+
     private static String buildDailyPickViewUpsertSql(DatabaseDialect dialect) {
         return SqlDialectSupport.upsertSql(
                 dialect,
@@ -843,4 +1243,10 @@ public final class JdbiMetricsStorage implements AnalyticsStorage, Standout.Stor
                         new SqlDialectSupport.ColumnBinding("interacted_at", "interactedAt")),
                 List.of(SEEKER_ID_COLUMN, STANDOUT_USER_ID_COLUMN, FEATURED_DATE_COLUMN));
     }
+
+    private static void logWarn(String message, Object... args) {
+        if (logger.isWarnEnabled()) {
+            logger.warn(message, args);
+        }
+    }
 }
@@ -45,7 +45,8 @@ public final class JdbiTrustSafetyStorage implements TrustSafetyStorage {
             )
             """;
 
-    private static final String IS_BLOCKED_SQL = """
+    /** Block check in either direction; public so plan capture explains the statement storage runs. */
+    public static final String IS_BLOCKED_SQL = """
             SELECT EXISTS (
                 SELECT 1 FROM blocks
                 WHERE deleted_at IS NULL
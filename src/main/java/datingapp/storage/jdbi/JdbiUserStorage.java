@@ -9,8 +9,11 @@ import datingapp.core.model.User.VerificationMethod;
 import datingapp.core.profile.MatchPreferences.Dealbreakers;
 import datingapp.core.profile.MatchPreferences.Lifestyle;
 import datingapp.core.profile.MatchPreferences.PacePreferences;
+import datingapp.core.profile.ProfileService;
+import datingapp.core.storage.AccountCleanupStorage.PurgeResult;
 import datingapp.core.storage.OperationalUserStorage;
 import datingapp.core.storage.PageData;
+import datingapp.location.GeoUtils;
 import datingapp.storage.DatabaseDialect;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -20,6 +23,7 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -42,6 +46,7 @@ import org.jdbi.v3.sqlobject.statement.SqlUpdate;
 public final class JdbiUserStorage implements OperationalUserStorage {
 
     private static final int MAX_CACHE_SIZE = 500;
+    private static final int PURGE_CHUNK_SIZE = 500;
     private static final Duration CACHE_TTL = Duration.ofMinutes(5);
     private static final String AUTHOR_ID_COLUMN = "author_id";
     private static final String SUBJECT_ID_COLUMN = "subject_id";
@@ -59,6 +64,10 @@ public final class JdbiUserStorage implements OperationalUserStorage {
     private static final String EDUCATION_COLUMN = "education";
     private static final String EMAIL_COLUMN = "email";
     private static final String PHONE_COLUMN = "phone";
+    private static final String PROFILE_COMPLETION_SCORE_COLUMN = "profile_completion_score";
+    private static final String PROFILE_COMPLETION_TIER_COLUMN = "profile_completion_tier";
+    private static final String GEOHASH_COLUMN = "geohash";
+    private static final String USERS_TABLE = "users";
 
     private final Jdbi jdbi;
     private final Dao dao;
@@ -66,6 +75,7 @@ public final class JdbiUserStorage implements OperationalUserStorage {
     private final NormalizedProfileHydrator normalizedProfileHydrator;
     private final String userUpsertSql;
     private final String profileNoteUpsertSql;
+    private final CandidateQuery candidateQuery;
     private final Map<UUID, CacheEntry<User>> userCache = new LinkedHashMap<>(16, 0.75f, true);
 
     enum NormalizedGroup {
@@ -86,12 +96,23 @@ public final class JdbiUserStorage implements OperationalUserStorage {
     }
 
     public JdbiUserStorage(Jdbi jdbi, DatabaseDialect dialect) {
+        this(jdbi, dialect, false);
+    }
+
+    /**
+     * Creates the storage, optionally narrowing H2 candidate searches by geohash cell.
+     *
+     * @param geohashFilter on H2, read candidates through the geohash cover of the search radius
+     *     instead of the latitude band of its bounding box; ignored on PostgreSQL
+     */
+    public JdbiUserStorage(Jdbi jdbi, DatabaseDialect dialect, boolean geohashFilter) {
         this.jdbi = Objects.requireNonNull(jdbi, "jdbi cannot be null");
         this.dao = jdbi.onDemand(Dao.class);
         this.normalizedProfileRepository = new NormalizedProfileRepository(jdbi);
         this.normalizedProfileHydrator = new NormalizedProfileHydrator(new DealbreakerAssembler());
         Objects.requireNonNull(dialect, "dialect cannot be null");
         this.userUpsertSql = buildUserUpsertSql(dialect);
+        this.candidateQuery = buildCandidateQuery(dialect, geohashFilter);
         this.profileNoteUpsertSql = buildProfileNoteUpsertSql(dialect);
     }
 
@@ -143,36 +164,14 @@ public final class JdbiUserStorage implements OperationalUserStorage {
         if (genders == null || genders.isEmpty()) {
             return List.of();
         }
-        List<String> genderNames = genders.stream().map(Enum::name).toList();
-        LocalDate today = AppClock.today(ZoneOffset.UTC);
-        LocalDate oldestBirthDate = today.minusYears(maxAge);
-        LocalDate youngestBirthDate = today.minusYears(minAge);
+        CandidateSearch search = candidateSearch(
+                candidateQuery, excludeId, genders, minAge, maxAge, seekerLat, seekerLon, maxDistanceKm);
 
         return jdbi.withHandle(handle -> {
-            int effectiveDistanceKm = Math.clamp(maxDistanceKm, 0, 20_000);
-            double latDelta = effectiveDistanceKm / 111.0;
-            double cosLat = Math.max(Math.cos(Math.toRadians(Math.abs(seekerLat))), 0.0001);
-            double lonDelta = Math.min(effectiveDistanceKm / (111.0 * cosLat), 180.0);
-
-            List<User> candidates = handle.createQuery("SELECT * FROM users WHERE id <> :excludeId"
-                            + " AND state = 'ACTIVE'"
-                            + " AND deleted_at IS NULL"
-                            + " AND gender IN (<genders>)"
-                            + " AND birth_date BETWEEN :oldestBirthDate AND :youngestBirthDate"
-                            + " AND has_location_set = TRUE"
-                            + " AND lat BETWEEN :latMin AND :latMax"
-                            + " AND lon BETWEEN :lonMin AND :lonMax")
-                    .bindList("genders", genderNames)
-                    .bind("excludeId", excludeId)
-                    .bind("oldestBirthDate", oldestBirthDate)
-                    .bind("youngestBirthDate", youngestBirthDate)
-                    .bind("latMin", seekerLat - latDelta)
-                    .bind("latMax", seekerLat + latDelta)
-                    .bind("lonMin", seekerLon - lonDelta)
-                    .bind("lonMax", seekerLon + lonDelta)
-                    .map(new Mapper())
-                    .list();
-            return hydrateUsers(handle, candidates);
+            var query = handle.createQuery(search.sql()).bindList("genders", search.genders());
+            search.definitions().forEach(query::define);
+            search.bindings().forEach(query::bind);
+            return hydrateUsers(handle, query.map(new Mapper()).list());
         });
     }
 
@@ -227,6 +226,35 @@ public final class JdbiUserStorage implements OperationalUserStorage {
         return result;
     }
 
+    @Override
+    public Map<UUID, Instant> findUpdatedAtByIds(Set<UUID> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return Map.of();
+        }
+
+        java.util.HashMap<UUID, Instant> result = new java.util.HashMap<>();
+        List<UUID> uncachedIds = new ArrayList<>();
+        for (UUID id : ids) {
+            Optional<User> cached = getCachedUser(id);
+            if (cached.isPresent()) {
+                result.put(id, cached.get().getUpdatedAt());
+            } else {
+                uncachedIds.add(id);
+            }
+        }
+
+        if (!uncachedIds.isEmpty()) {
+            jdbi.useHandle(handle -> handle.createQuery(
+                            "SELECT id, updated_at FROM users WHERE id IN (<userIds>) AND deleted_at IS NULL")
+                    .bindList("userIds", uncachedIds)
+                    .map((rs, _) -> Map.entry(
+                            JdbiTypeCodecs.SqlRowReaders.readUuid(rs, "id"),
+                            JdbiTypeCodecs.SqlRowReaders.readInstant(rs, UPDATED_AT_COLUMN)))
+                    .forEach(entry -> result.put(entry.getKey(), entry.getValue())));
+        }
+        return result;
+    }
+
     @Override
     public Optional<User> findByEmail(String normalizedEmail) {
         if (normalizedEmail == null || normalizedEmail.isBlank()) {
@@ -251,7 +279,26 @@ public final class JdbiUserStorage implements OperationalUserStorage {
 
     @Override
     public int purgeDeletedBefore(Instant threshold) {
-        return dao.purgeDeletedBefore(threshold);
+        return purgeAccounts(threshold, Long.MAX_VALUE).accountsPurged();
+    }
+
+    @Override
+    public int purgeDeletedBefore(Instant threshold, int maxRows) {
+        return purgeAccounts(threshold, maxRows).accountsPurged();
+    }
+
+    @Override
+    public PurgeResult purgeDeletedAccountsChunk(Instant threshold, int maxRows) {
+        return purgeAccounts(threshold, maxRows);
+    }
+
+    /** Hard-deletes expired accounts with set-based deletes per dependent table instead of per-row cascades. */
+    private PurgeResult purgeAccounts(Instant threshold, long maxAccounts) {
+        Objects.requireNonNull(threshold, "threshold cannot be null");
+        Map<String, Long> deleted = new LinkedHashMap<>(jdbi.withHandle(
+                handle -> BulkAccountPurge.run(handle, threshold, maxAccounts, PURGE_CHUNK_SIZE)));
+        long accounts = deleted.remove(BulkAccountPurge.USERS_TABLE);
+        return new PurgeResult((int) Math.min(Integer.MAX_VALUE, accounts), deleted);
     }
 
     @Override
@@ -533,9 +580,6 @@ public final class JdbiUserStorage implements OperationalUserStorage {
         @SqlUpdate("DELETE FROM users WHERE id = :id")
         void delete(@Bind("id") UUID id);
 
-        @SqlUpdate("DELETE FROM users WHERE deleted_at IS NOT NULL AND deleted_at < :threshold")
-        int purgeDeletedBefore(@Bind("threshold") Instant threshold);
-
         @SqlQuery("""
                 SELECT author_id, subject_id, content, created_at, updated_at
                 FROM profile_notes
@@ -569,7 +613,8 @@ public final class JdbiUserStorage implements OperationalUserStorage {
             Double lon = JdbiTypeCodecs.SqlRowReaders.readDouble(rs, "lon");
             Boolean hasLocationFlag = rs.getObject("has_location_set", Boolean.class);
             boolean hasLocationSet = Boolean.TRUE.equals(hasLocationFlag);
-            User user = User.StorageBuilder.create(
+            Dealbreakers dealbreakers = readDealbreakers(rs);
+            return User.StorageBuilder.create(
                             JdbiTypeCodecs.SqlRowReaders.readUuid(rs, "id"),
                             canonicalStoredName(rs.getString("name")),
                             JdbiTypeCodecs.SqlRowReaders.readInstant(rs, CREATED_AT_COLUMN))
@@ -597,14 +642,11 @@ public final class JdbiUserStorage implements OperationalUserStorage {
                     .verifiedAt(JdbiTypeCodecs.SqlRowReaders.readInstant(rs, "verified_at"))
                     .pacePreferences(readPacePreferences(rs))
                     .deletedAt(JdbiTypeCodecs.SqlRowReaders.readInstant(rs, DELETED_AT_COLUMN))
+                    .dealbreakers(dealbreakers.hasAnyDealbreaker() ? dealbreakers : null)
+                    .profileCompletion(
+                            JdbiTypeCodecs.SqlRowReaders.readInteger(rs, PROFILE_COMPLETION_SCORE_COLUMN),
+                            rs.getString(PROFILE_COMPLETION_TIER_COLUMN))
                     .build();
-
-            Dealbreakers dealbreakers = readDealbreakers(rs);
-            if (dealbreakers.hasAnyDealbreaker()) {
-                user.setDealbreakers(dealbreakers);
-            }
-
-            return user;
         }
 
         private Dealbreakers readDealbreakers(ResultSet rs) throws SQLException {
@@ -655,6 +697,10 @@ public final class JdbiUserStorage implements OperationalUserStorage {
         if (user.getName() == null || user.getName().isBlank()) {
             user.setName(User.SIGNUP_PLACEHOLDER_NAME);
         }
+        if (user.getProfileCompletionScore() == null) {
+            ProfileService.CompletionResult completion = ProfileService.computeCompletion(user);
+            user.recordProfileCompletion(completion.score(), completion.tier());
+        }
     }
 
     private static String canonicalStoredName(String name) {
@@ -706,6 +752,12 @@ public final class JdbiUserStorage implements OperationalUserStorage {
             return user.hasLocationSet();
         }
 
+        public String getGeohash() {
+            return user.hasLocationSet()
+                    ? GeoUtils.geohash(user.getLat(), user.getLon(), GeoUtils.STORED_GEOHASH_PRECISION)
+                    : null;
+        }
+
         public int getMaxDistanceKm() {
             return user.getMaxDistanceKm();
         }
@@ -823,6 +875,14 @@ public final class JdbiUserStorage implements OperationalUserStorage {
         public Instant getDeletedAt() {
             return user.getDeletedAt();
         }
+
+        public Integer getProfileCompletionScore() {
+            return user.getProfileCompletionScore();
+        }
+
+        public String getProfileCompletionTier() {
+            return user.getProfileCompletionTier();
+        }
     }
 
     private static String buildUserUpsertSql(DatabaseDialect dialect) {
@@ -838,6 +898,7 @@ public final class JdbiUserStorage implements OperationalUserStorage {
                         new SqlDialectSupport.ColumnBinding("lat", "lat"),
                         new SqlDialectSupport.ColumnBinding("lon", "lon"),
                         new SqlDialectSupport.ColumnBinding("has_location_set", "hasLocationSet"),
+                        new SqlDialectSupport.ColumnBinding(GEOHASH_COLUMN, GEOHASH_COLUMN),
                         new SqlDialectSupport.ColumnBinding("max_distance_km", "maxDistanceKm"),
                         new SqlDialectSupport.ColumnBinding("min_age", "minAge"),
                         new SqlDialectSupport.ColumnBinding("max_age", "maxAge"),
@@ -864,10 +925,119 @@ public final class JdbiUserStorage implements OperationalUserStorage {
                         new SqlDialectSupport.ColumnBinding("pace_time_to_first_date", "paceTimeToFirstDate"),
                         new SqlDialectSupport.ColumnBinding("pace_communication_style", "paceCommunicationStyle"),
                         new SqlDialectSupport.ColumnBinding("pace_depth_preference", "paceDepthPreference"),
-                        new SqlDialectSupport.ColumnBinding(DELETED_AT_COLUMN, DELETED_AT_BIND)),
+                        new SqlDialectSupport.ColumnBinding(DELETED_AT_COLUMN, DELETED_AT_BIND),
+                        new SqlDialectSupport.ColumnBinding(PROFILE_COMPLETION_SCORE_COLUMN, "profileCompletionScore"),
+                        new SqlDialectSupport.ColumnBinding(PROFILE_COMPLETION_TIER_COLUMN, "profileCompletionTier")),
                 List.of("id"));
     }
 
+    /**
+     * Candidate search statement for one seeker: the SQL template, the {@code <genders>} list, the
+     * template attributes to define, and the named bindings. {@link #findCandidates} runs exactly this,
+     * and {@code QueryPlanCapture} renders it for {@code EXPLAIN}, so the captured plan is always the
+     * plan of the query the app runs.
+     */
+    public record CandidateSearch(
+            String sql, List<String> genders, Map<String, String> definitions, Map<String, Object> bindings) {
+        public CandidateSearch {
+            Objects.requireNonNull(sql, "sql cannot be null");
+            genders = List.copyOf(Objects.requireNonNull(genders, "genders cannot be null"));
+            definitions = Map.copyOf(Objects.requireNonNull(definitions, "definitions cannot be null"));
+            // excludeId may legitimately be null, which Map.copyOf rejects.
+            bindings = Collections.unmodifiableMap(
+                    new LinkedHashMap<>(Objects.requireNonNull(bindings, "bindings cannot be null")));
+        }
+    }
+
+    /**
+     * Builds the candidate search statement {@link #findCandidates} would run on {@code dialect}, with
+     * or without the H2 geohash cover.
+     */
+    public static CandidateSearch candidateSearch(
+            DatabaseDialect dialect,
+            boolean geohashFilter,
+            UUID excludeId,
+            Set<Gender> genders,
+            int minAge,
+            int maxAge,
+            double seekerLat,
+            double seekerLon,
+            int maxDistanceKm) {
+        Objects.requireNonNull(dialect, "dialect cannot be null");
+        return candidateSearch(
+                buildCandidateQuery(dialect, geohashFilter),
+                excludeId,
+                genders,
+                minAge,
+                maxAge,
+                seekerLat,
+                seekerLon,
+                maxDistanceKm);
+    }
+
+    private static CandidateSearch candidateSearch(
+            CandidateQuery candidateQuery,
+            UUID excludeId,
+            Set<Gender> genders,
+            int minAge,
+            int maxAge,
+            double seekerLat,
+            double seekerLon,
+            int maxDistanceKm) {
+        List<String> genderNames = genders.stream().map(Enum::name).toList();
+        LocalDate today = AppClock.today(ZoneOffset.UTC);
+        int effectiveDistanceKm = Math.clamp(maxDistanceKm, 0, 20_000);
+        GeoUtils.BoundingBox box = GeoUtils.boundingBox(seekerLat, seekerLon, effectiveDistanceKm);
+
+        Map<String, Object> bindings = new LinkedHashMap<>();
+        bindings.put("excludeId", excludeId);
+        bindings.put("oldestBirthDate", today.minusYears(maxAge));
+        bindings.put("youngestBirthDate", today.minusYears(minAge));
+        bindings.put("latMin", box.latMin());
+        bindings.put("latMax", box.latMax());
+        bindings.put("lonMin", box.lonMin());
+        bindings.put("lonMax", box.lonMax());
+        bindings.put("wrapLonMin", box.wrapLonMin());
+        bindings.put("wrapLonMax", box.wrapLonMax());
+        if (candidateQuery.exactInSql()) {
+            bindings.put("seekerLat", seekerLat);
+            bindings.put("seekerLon", seekerLon);
+            bindings.put("maxDistanceKm", (double) effectiveDistanceKm);
+        }
+        Map<String, String> definitions = Map.of();
+        if (candidateQuery.geohashCells()) {
+            List<String> cover = GeoUtils.geohashCover(seekerLat, seekerLon, effectiveDistanceKm);
+            definitions = Map.of(
+                    "geohashCover", SqlDialectSupport.geohashCoverSource(USERS_TABLE, GEOHASH_COLUMN, cover.size()));
+            for (int i = 0; i < cover.size(); i++) {
+                String cell = cover.get(i);
+                bindings.put("geohashCell" + i, cell);
+                bindings.put("geohashCellEnd" + i, SqlDialectSupport.geohashPrefixEnd(cell));
+            }
+        }
+        return new CandidateSearch(candidateQuery.sql(), genderNames, definitions, bindings);
+    }
+
+    /** Candidate search SQL plus which optional bindings and attributes it needs. */
+    private record CandidateQuery(String sql, boolean exactInSql, boolean geohashCells) {}
+
+    private static CandidateQuery buildCandidateQuery(DatabaseDialect dialect, boolean geohashFilter) {
+        SqlDialectSupport.GeoFilter geoFilter = SqlDialectSupport.candidateGeoFilter(dialect, "lat", "lon");
+        boolean geohashCells = geoFilter.geohashCells() && geohashFilter;
+        String source = geohashCells ? "<geohashCover>" : USERS_TABLE;
+        String sql = "SELECT users.* FROM " + source + " WHERE id <> :excludeId"
+                + " AND state = 'ACTIVE'"
+                + " AND deleted_at IS NULL"
+                + " AND gender IN (<genders>)"
+                + " AND birth_date BETWEEN :oldestBirthDate AND :youngestBirthDate"
+                + " AND has_location_set = TRUE"
+                + " AND " + geoFilter.whereClause();
+        if (!geoFilter.orderByClause().isEmpty()) {
+            sql += " " + geoFilter.orderByClause() + ", id ASC";
+        }
+        return new CandidateQuery(sql, geoFilter.exactInSql(), geohashCells);
+    }
+
     private static String buildProfileNoteUpsertSql(DatabaseDialect dialect) {
         return SqlDialectSupport.upsertSql(
                 dialect,
@@ -21,12 +21,12 @@ final class NormalizedProfileHydrator {
 
         for (User user : users) {
             var userId = user.getId();
-            user.setPhotoUrls(normalizedProfileData.photoUrlsByUserId().getOrDefault(userId, List.of()));
-            user.setInterests(NormalizedEnumParser.parseNames(
-                    normalizedProfileData.interestsByUserId().getOrDefault(userId, Set.of()), Interest.class));
-            user.setInterestedIn(NormalizedEnumParser.parseNames(
-                    normalizedProfileData.interestedInByUserId().getOrDefault(userId, Set.of()), Gender.class));
-            user.setDealbreakers(
+            user.applyStoredProfileData(
+                    normalizedProfileData.photoUrlsByUserId().getOrDefault(userId, List.of()),
+                    NormalizedEnumParser.parseNames(
+                            normalizedProfileData.interestsByUserId().getOrDefault(userId, Set.of()), Interest.class),
+                    NormalizedEnumParser.parseNames(
+                            normalizedProfileData.interestedInByUserId().getOrDefault(userId, Set.of()), Gender.class),
                     dealbreakerAssembler.assemble(user, userId, normalizedProfileData.dealbreakerValuesByUserId()));
         }
 
@@ -13,10 +13,11 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
-import java.util.function.BiConsumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.statement.PreparedBatch;
 import org.jdbi.v3.core.statement.Query;
 
 final class NormalizedProfileRepository {
@@ -24,6 +25,12 @@ final class NormalizedProfileRepository {
     private static final String USER_ID_BIND = "userId";
     private static final String NORMALIZED_VALUE_COLUMN = "value";
     private static final String GENDER_COLUMN = "gender";
+    private static final String INTEREST_COLUMN = "interest";
+    private static final String QUOTED_VALUE_COLUMN = "\"value\"";
+    private static final String POSITION_BIND = "position";
+    private static final String URL_BIND = "url";
+    private static final String USER_INTERESTS_TABLE = "user_interests";
+    private static final String USER_INTERESTED_IN_TABLE = "user_interested_in";
     private static final String USER_DB_SMOKING = "user_db_smoking";
     private static final String USER_DB_DRINKING = "user_db_drinking";
     private static final String USER_DB_WANTS_KIDS = "user_db_wants_kids";
@@ -36,38 +43,44 @@ final class NormalizedProfileRepository {
         this.jdbi = Objects.requireNonNull(jdbi, "jdbi cannot be null");
     }
 
+    /**
+     * Writes the user's normalized collections as a diff against what is already stored: unchanged
+     * collections issue no writes, and changed ones delete and insert only the differing rows. The
+     * stored state is read inside the caller's transaction rather than taken from a read cache, because
+     * fragment writes and other storage instances bypass that cache.
+     */
     void saveNormalizedProfileData(Handle handle, User user) {
         UUID userId = user.getId();
-        saveUserPhotos(handle, userId, user.getPhotoUrls());
-        saveUserInterests(handle, userId, enumNames(user.getInterests()));
-        saveUserInterestedIn(handle, userId, enumNames(user.getInterestedIn()));
-
-        Dealbreakers dealbreakers = user.getDealbreakers();
-        saveDealbreaker(
-                handle,
-                userId,
-                USER_DB_SMOKING,
-                dealbreakers != null ? enumNames(dealbreakers.acceptableSmoking()) : Set.of());
-        saveDealbreaker(
-                handle,
-                userId,
-                USER_DB_DRINKING,
-                dealbreakers != null ? enumNames(dealbreakers.acceptableDrinking()) : Set.of());
-        saveDealbreaker(
-                handle,
-                userId,
-                USER_DB_WANTS_KIDS,
-                dealbreakers != null ? enumNames(dealbreakers.acceptableKidsStance()) : Set.of());
-        saveDealbreaker(
+        NormalizedProfileData stored = loadNormalizedProfileData(handle, List.of(userId));
+        syncUserPhotos(
+                handle, userId, stored.photoUrlsByUserId().getOrDefault(userId, List.of()), user.getPhotoUrls());
+        syncValueSet(
                 handle,
                 userId,
-                USER_DB_LOOKING_FOR,
-                dealbreakers != null ? enumNames(dealbreakers.acceptableLookingFor()) : Set.of());
-        saveDealbreaker(
+                USER_INTERESTS_TABLE,
+                INTEREST_COLUMN,
+                stored.interestsByUserId().getOrDefault(userId, Set.of()),
+                enumNames(user.getInterests()));
+        syncValueSet(
                 handle,
                 userId,
-                USER_DB_EDUCATION,
-                dealbreakers != null ? enumNames(dealbreakers.acceptableEducation()) : Set.of());
+                USER_INTERESTED_IN_TABLE,
+                GENDER_COLUMN,
+                stored.interestedInByUserId().getOrDefault(userId, Set.of()),
+                enumNames(user.getInterestedIn()));
+
+        Dealbreakers dealbreakers = user.getDealbreakers();
+        Map<DealbreakerTable, Set<String>> storedDealbreakers =
+                stored.dealbreakerValuesByUserId().getOrDefault(userId, Map.of());
+        for (DealbreakerTable table : DealbreakerTable.values()) {
+            syncValueSet(
+                    handle,
+                    userId,
+                    table.storageName,
+                    QUOTED_VALUE_COLUMN,
+                    storedDealbreakers.getOrDefault(table, Set.of()),
+                    dealbreakers != null ? enumNames(table.valuesOf(dealbreakers)) : Set.of());
+        }
     }
 
     void saveUserPhotos(UUID userId, List<String> urls) {
@@ -105,15 +118,7 @@ final class NormalizedProfileRepository {
     }
 
     void saveUserPhotos(Handle handle, UUID userId, List<String> urls) {
-        replaceNormalizedCollection(
-                handle,
-                userId,
-                "DELETE FROM user_photos WHERE user_id = ?",
-                "INSERT INTO user_photos (user_id, position, url) VALUES (:userId, :position, :url)",
-                urls,
-                (batch, indexedValue) -> batch.bind(USER_ID_BIND, userId)
-                        .bind("position", indexedValue.index())
-                        .bind("url", indexedValue.value()));
+        syncUserPhotos(handle, userId, loadUserPhotos(handle, userId), urls);
     }
 
     List<String> loadUserPhotos(Handle handle, UUID userId) {
@@ -124,13 +129,8 @@ final class NormalizedProfileRepository {
     }
 
     void saveUserInterests(Handle handle, UUID userId, Set<String> interests) {
-        replaceNormalizedCollection(
-                handle,
-                userId,
-                "DELETE FROM user_interests WHERE user_id = ?",
-                "INSERT INTO user_interests (user_id, interest) VALUES (:userId, :interest)",
-                interests,
-                (batch, indexedValue) -> batch.bind(USER_ID_BIND, userId).bind("interest", indexedValue.value()));
+        syncValueSet(
+                handle, userId, USER_INTERESTS_TABLE, INTEREST_COLUMN, loadUserInterests(handle, userId), interests);
     }
 
     Set<String> loadUserInterests(Handle handle, UUID userId) {
@@ -141,13 +141,13 @@ final class NormalizedProfileRepository {
     }
 
     void saveUserInterestedIn(Handle handle, UUID userId, Set<String> genders) {
-        replaceNormalizedCollection(
+        syncValueSet(
                 handle,
                 userId,
-                "DELETE FROM user_interested_in WHERE user_id = ?",
-                "INSERT INTO user_interested_in (user_id, gender) VALUES (:userId, :gender)",
-                genders,
-                (batch, indexedValue) -> batch.bind(USER_ID_BIND, userId).bind(GENDER_COLUMN, indexedValue.value()));
+                USER_INTERESTED_IN_TABLE,
+                GENDER_COLUMN,
+                loadUserInterestedIn(handle, userId),
+                genders);
     }
 
     Set<String> loadUserInterestedIn(Handle handle, UUID userId) {
@@ -159,14 +159,13 @@ final class NormalizedProfileRepository {
 
     void saveDealbreaker(Handle handle, UUID userId, String tableName, Set<String> values) {
         DealbreakerTable dealbreakerTable = dealbreakerTableFromStorage(tableName);
-        replaceNormalizedCollection(
+        syncValueSet(
                 handle,
                 userId,
-                "DELETE FROM " + dealbreakerTable.storageName + " WHERE user_id = ?",
-                "INSERT INTO " + dealbreakerTable.storageName + " (user_id, \"value\") VALUES (:userId, :value)",
-                values,
-                (batch, indexedValue) ->
-                        batch.bind(USER_ID_BIND, userId).bind(NORMALIZED_VALUE_COLUMN, indexedValue.value()));
+                dealbreakerTable.storageName,
+                QUOTED_VALUE_COLUMN,
+                loadDealbreaker(handle, userId, tableName),
+                values);
     }
 
     Set<String> loadDealbreaker(Handle handle, UUID userId, String tableName) {
@@ -313,29 +312,90 @@ final class NormalizedProfileRepository {
         return values.stream().map(Enum::name).collect(Collectors.toSet());
     }
 
-    private <T> void replaceNormalizedCollection(
-            Handle handle,
-            UUID userId,
-            String deleteSql,
-            String insertSql,
-            Collection<T> values,
-            BiConsumer<org.jdbi.v3.core.statement.PreparedBatch, IndexedValue<T>> binder) {
-        handle.execute(deleteSql, userId);
-        if (values == null || values.isEmpty()) {
+    /**
+     * Brings {@code user_photos} from {@code stored} to {@code desired} by position: changed slots are
+     * updated in place, surplus slots deleted and new trailing slots inserted.
+     */
+    private static void syncUserPhotos(Handle handle, UUID userId, List<String> stored, List<String> desired) {
+        List<String> target = desired != null ? desired : List.of();
+        if (stored.equals(target)) {
             return;
         }
-        try (var batch = handle.prepareBatch(insertSql)) {
-            int index = 0;
-            for (T value : values) {
-                binder.accept(batch, new IndexedValue<>(index, value));
-                index++;
-                batch.add();
+        // Positions are re-read so legacy rows with gaps in their numbering are rewritten correctly.
+        Map<Integer, String> storedByPosition = new HashMap<>();
+        try (Query query = handle.createQuery("SELECT position, url FROM user_photos WHERE user_id = :userId")
+                .bind(USER_ID_BIND, userId)) {
+            query.map((rs, ctx) -> Map.entry(rs.getInt("position"), rs.getString("url")))
+                    .forEach(entry -> storedByPosition.put(entry.getKey(), entry.getValue()));
+        }
+
+        List<Integer> surplusPositions = new ArrayList<>();
+        for (int position : storedByPosition.keySet()) {
+            if (position < 0 || position >= target.size()) {
+                surplusPositions.add(position);
+            }
+        }
+        if (!surplusPositions.isEmpty()) {
+            try (var update = handle.createUpdate(
+                    "DELETE FROM user_photos WHERE user_id = :userId AND position IN (<positions>)")) {
+                update.bind(USER_ID_BIND, userId)
+                        .bindList("positions", surplusPositions)
+                        .execute();
             }
-            batch.execute();
+        }
+
+        try (var updates = handle.prepareBatch(
+                        "UPDATE user_photos SET url = :url WHERE user_id = :userId AND position = :position");
+                var inserts = handle.prepareBatch(
+                        "INSERT INTO user_photos (user_id, position, url) VALUES (:userId, :position, :url)")) {
+            for (int position = 0; position < target.size(); position++) {
+                String url = target.get(position);
+                String storedUrl = storedByPosition.get(position);
+                if (url.equals(storedUrl)) {
+                    continue;
+                }
+                var batch = storedUrl != null ? updates : inserts;
+                batch.bind(USER_ID_BIND, userId)
+                        .bind(POSITION_BIND, position)
+                        .bind(URL_BIND, url)
+                        .add();
+            }
+            executeIfPending(updates);
+            executeIfPending(inserts);
         }
     }
 
-    private record IndexedValue<T>(int index, T value) {}
+    /** Deletes values no longer wanted and inserts new ones; values present on both sides are untouched. */
+    private static void syncValueSet(
+            Handle handle, UUID userId, String tableName, String column, Set<String> stored, Set<String> desired) {
+        Set<String> target = desired != null ? desired : Set.of();
+        List<String> removed =
+                stored.stream().filter(value -> !target.contains(value)).toList();
+        List<String> added =
+                target.stream().filter(value -> !stored.contains(value)).toList();
+
+        if (!removed.isEmpty()) {
+            try (var update = handle.createUpdate(
+                    "DELETE FROM " + tableName + " WHERE user_id = :userId AND " + column + " IN (<values>)")) {
+                update.bind(USER_ID_BIND, userId).bindList("values", removed).execute();
+            }
+        }
+        if (!added.isEmpty()) {
+            try (var batch = handle.prepareBatch(
+                    "INSERT INTO " + tableName + " (user_id, " + column + ") VALUES (:userId, :value)")) {
+                for (String value : added) {
+                    batch.bind(USER_ID_BIND, userId).bind(NORMALIZED_VALUE_COLUMN, value).add();
+                }
+                batch.execute();
+            }
+        }
+    }
+
+    private static void executeIfPending(PreparedBatch batch) {
+        if (batch.size() > 0) {
+            batch.execute();
+        }
+    }
 
     private record NormalizedProfileRow(UUID userId, String groupName, String groupKey, String itemValue) {}
 
@@ -351,16 +411,22 @@ final class NormalizedProfileRepository {
     }
 
     enum DealbreakerTable {
-        SMOKING(USER_DB_SMOKING),
-        DRINKING(USER_DB_DRINKING),
-        WANTS_KIDS(USER_DB_WANTS_KIDS),
-        LOOKING_FOR(USER_DB_LOOKING_FOR),
-        EDUCATION(USER_DB_EDUCATION);
+        SMOKING(USER_DB_SMOKING, Dealbreakers::acceptableSmoking),
+        DRINKING(USER_DB_DRINKING, Dealbreakers::acceptableDrinking),
+        WANTS_KIDS(USER_DB_WANTS_KIDS, Dealbreakers::acceptableKidsStance),
+        LOOKING_FOR(USER_DB_LOOKING_FOR, Dealbreakers::acceptableLookingFor),
+        EDUCATION(USER_DB_EDUCATION, Dealbreakers::acceptableEducation);
 
         private final String storageName;
+        private final Function<Dealbreakers, Set<? extends Enum<?>>> accessor;
 
-        DealbreakerTable(String storageName) {
+        DealbreakerTable(String storageName, Function<Dealbreakers, Set<? extends Enum<?>>> accessor) {
             this.storageName = storageName;
+            this.accessor = accessor;
+        }
+
+        private Set<? extends Enum<?>> valuesOf(Dealbreakers dealbreakers) {
+            return accessor.apply(dealbreakers);
         }
     }
 }
@@ -1,5 +1,6 @@
 package datingapp.storage.jdbi;
 
+import datingapp.location.GeoUtils;
 import datingapp.storage.DatabaseDialect;
 import java.sql.SQLException;
 import java.util.ArrayList;
@@ -60,6 +61,94 @@ public final class SqlDialectSupport {
         };
     }
 
+    /**
+     * Returns the candidate geo filter for the dialect. Both modes bind {@code :latMin}/{@code :latMax}
+     * and the two longitude ranges from {@link GeoUtils.BoundingBox} ({@code :lonMin}/{@code :lonMax}
+     * and {@code :wrapLonMin}/{@code :wrapLonMax}). When {@link GeoFilter#exactInSql()} is set, the
+     * filter also binds {@code :seekerLat}, {@code :seekerLon} and {@code :maxDistanceKm}.
+     *
+     * <p>H2 narrows rows by joining geohash prefix ranges (the caller's FROM source, see
+     * {@link #geohashCoverSource}) and applies the plain bounding-box predicate, leaving the exact
+     * radius check and ordering to the caller. PostgreSQL matches the box against a GiST-indexed
+     * {@code point(lon, lat)} expression, then applies the exact haversine radius and orders by
+     * distance in SQL.
+     */
+    public static GeoFilter candidateGeoFilter(DatabaseDialect dialect, String latColumn, String lonColumn) {
+        Objects.requireNonNull(dialect, "dialect cannot be null");
+        requireNonBlank(latColumn, "latColumn");
+        requireNonBlank(lonColumn, "lonColumn");
+
+        return switch (dialect) {
+            case H2 ->
+                new GeoFilter(
+                        ("%1$s BETWEEN :latMin AND :latMax"
+                                        + " AND (%2$s BETWEEN :lonMin AND :lonMax"
+                                        + " OR %2$s BETWEEN :wrapLonMin AND :wrapLonMax)")
+                                .formatted(latColumn, lonColumn),
+                        "",
+                        false,
+                        true);
+            case POSTGRESQL -> {
+                String point = "point(%s, %s)".formatted(lonColumn, latColumn);
+                String distance = haversineKmExpression(latColumn, lonColumn);
+                yield new GeoFilter(
+                        "(%1$s <@ box(point(:lonMin, :latMin), point(:lonMax, :latMax))"
+                                        .formatted(point)
+                                + " OR %1$s <@ box(point(:wrapLonMin, :latMin), point(:wrapLonMax, :latMax)))"
+                                        .formatted(point)
+                                + " AND %s <= :maxDistanceKm".formatted(distance),
+                        "ORDER BY %s ASC".formatted(distance),
+                        true,
+                        false);
+            }
+        };
+    }
+
+    /**
+     * Returns the FROM source for a search over {@code table} restricted to geohash cells. With cells,
+     * the table is joined to a {@code VALUES} list of prefix ranges binding {@code :geohashCellN} and
+     * {@code :geohashCellEndN} (see {@link #geohashPrefixEnd}), so H2 resolves every cell as its own
+     * range probe on the geohash index; an OR of the same ranges is not index-eligible. The cells are
+     * equal-length prefixes, so the ranges are disjoint and no row is joined twice. An empty cover
+     * yields the bare table.
+     */
+    public static String geohashCoverSource(String table, String geohashColumn, int cellCount) {
+        requireNonBlank(table, "table");
+        requireNonBlank(geohashColumn, "geohashColumn");
+        if (cellCount < 0) {
+            throw new IllegalArgumentException("cellCount cannot be negative");
+        }
+        if (cellCount == 0) {
+            return table;
+        }
+        StringJoiner cells = new StringJoiner(", ", "(VALUES ", ")");
+        for (int i = 0; i < cellCount; i++) {
+            cells.add("(CAST(:geohashCell%1$d AS VARCHAR(12)), CAST(:geohashCellEnd%1$d AS VARCHAR(12)))"
+                    .formatted(i));
+        }
+        return ("%1$s AS geohash_cover(cell_start, cell_end) JOIN %2$s"
+                        + " ON %2$s.%3$s >= geohash_cover.cell_start AND %2$s.%3$s < geohash_cover.cell_end")
+                .formatted(cells, table, geohashColumn);
+    }
+
+    /** Exclusive upper bound for every geohash starting with {@code prefix}. */
+    public static String geohashPrefixEnd(String prefix) {
+        requireNonBlank(prefix, "prefix");
+        // '{' sorts directly after 'z', the last character of the geohash alphabet.
+        return prefix + "{";
+    }
+
+    /**
+     * Great-circle distance in kilometres between the row's coordinates and
+     * {@code :seekerLat}/{@code :seekerLon}. {@code LEAST} guards {@code ASIN} against rounding above 1.
+     */
+    static String haversineKmExpression(String latColumn, String lonColumn) {
+        return ("(2 * %1$s * ASIN(LEAST(1.0, SQRT(POWER(SIN(RADIANS(%2$s - :seekerLat) / 2), 2)"
+                        + " + COS(RADIANS(:seekerLat)) * COS(RADIANS(%2$s))"
+                        + " * POWER(SIN(RADIANS(%3$s - :seekerLon) / 2), 2)))))")
+                .formatted(GeoUtils.EARTH_RADIUS_KM, latColumn, lonColumn);
+    }
+
     public static DatabaseDialect detectDialect(Jdbi jdbi) {
         Objects.requireNonNull(jdbi, "jdbi cannot be null");
         return jdbi.withHandle(handle -> {
@@ -74,6 +163,14 @@ public final class SqlDialectSupport {
 
     public record ColumnBinding(String column, String binding) {}
 
+    /**
+     * Dialect-specific geo predicate and ordering. {@code exactInSql} is {@code true} when the
+     * predicate already enforces the exact radius and {@code orderByClause} sorts by distance;
+     * {@code geohashCells} is {@code true} when the caller should select from
+     * {@link #geohashCoverSource} to narrow rows by geohash cell.
+     */
+    public record GeoFilter(String whereClause, String orderByClause, boolean exactInSql, boolean geohashCells) {}
+
     private static String joinColumns(List<ColumnBinding> columns) {
         StringJoiner joiner = new StringJoiner(", ");
         for (ColumnBinding column : columns) {
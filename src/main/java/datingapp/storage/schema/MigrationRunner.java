@@ -1,11 +1,13 @@
 package datingapp.storage.schema;
 
+import datingapp.location.GeoUtils;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.List;
 import java.util.Locale;
+import java.util.Optional;
 
 /**
  * Versioned migration runner: applies schema migrations in version order, each
@@ -35,6 +37,7 @@ public final class MigrationRunner {
     private static final String SQL_TABLE_MATCHES = "matches";
     private static final String TABLE_USERS = "USERS";
     private static final String SQL_TABLE_USERS = "users";
+    private static final int GEOHASH_BACKFILL_BATCH_SIZE = 500;
     private static final String TABLE_CONVERSATIONS = "CONVERSATIONS";
     private static final String SQL_TABLE_CONVERSATIONS = "conversations";
     private static final String TABLE_MESSAGES = "MESSAGES";
@@ -57,6 +60,10 @@ public final class MigrationRunner {
     private static final String TABLE_NOTIFICATIONS = "notifications";
     private static final String SQL_SELECT_COUNT_FROM = "SELECT COUNT(*) FROM ";
     private static final String SQL_WHERE_FRAGMENT = " WHERE ";
+    private static final int SCHEMA_FINGERPRINT_ROW_ID = 1;
+    private static final String SQL_SELECT_SCHEMA_FINGERPRINT = "SELECT f.version, f.ddl_checksum, "
+            + "(SELECT COUNT(*) FROM schema_version), (SELECT MAX(version) FROM schema_version) "
+            + "FROM schema_fingerprint f WHERE f.id = " + SCHEMA_FINGERPRINT_ROW_ID;
     private static final String SQL_CREATE_IDX_CONVERSATIONS_USER_A_LAST_MSG =
             "CREATE INDEX IF NOT EXISTS idx_conversations_user_a_last_msg ON conversations(user_a, last_message_at DESC)";
     private static final String SQL_CREATE_IDX_CONVERSATIONS_USER_B_LAST_MSG =
@@ -190,7 +197,35 @@ public final class MigrationRunner {
             new VersionedMigration(
                     19,
                     "Add user credential and refresh-token tables for REST authentication",
-                    MigrationRunner::applyV19));
+                    MigrationRunner::applyV19),
+            new VersionedMigration(
+                    20,
+                    "Add user_achievement_counters table for event-driven achievement progress",
+                    MigrationRunner::applyV20),
+            new VersionedMigration(
+                    21,
+                    "Add materialised profile_completion_score and profile_completion_tier columns to users",
+                    MigrationRunner::applyV21),
+            new VersionedMigration(
+                    22,
+                    "Add composite/partial indexes for candidate search, daily like counts, live messages, and reverse block checks",
+                    MigrationRunner::applyV22),
+            new VersionedMigration(
+                    23,
+                    "Add PostgreSQL GiST point index for exact-radius candidate search",
+                    MigrationRunner::applyV23),
+            new VersionedMigration(
+                    24,
+                    "Add users.geohash column and index, backfilled from stored coordinates",
+                    MigrationRunner::applyV24),
+            new VersionedMigration(
+                    25,
+                    "Add profile_view_summaries table for buffered view counters and distinct-viewer sketches",
+                    MigrationRunner::applyV25),
+            new VersionedMigration(
+                    26,
+                    "Add retention timestamp indexes for chunked cleanup",
+                    MigrationRunner::applyV26));
 
     // ═══════════════════════════════════════════════════════════════
     // Public entry point
@@ -201,23 +236,84 @@ public final class MigrationRunner {
      * Fresh-database bootstraps use the direct baseline path; existing databases execute pending
      * migrations incrementally.
      *
+     * <p>When the recorded schema fingerprint (latest version plus {@link SchemaChecksum} of the
+     * baseline DDL) matches this build, the whole call costs one query; see {@link #isSchemaCurrent}.
+     *
      * @param stmt a JDBC statement connected to the target database
      * @throws SQLException if any migration statement fails
      */
     public static void runAllPending(Statement stmt) throws SQLException {
-        runWithMigrationTransaction(stmt, () -> runAllPendingInternal(stmt));
+        runAllPending(stmt, false);
+    }
+
+    /**
+     * Variant of {@link #runAllPending(Statement)} that can force the slow path.
+     *
+     * @param fullCheck skip the fingerprint fast path and replay the baseline DDL over an existing
+     *     database, recreating any missing {@code IF NOT EXISTS} tables and indexes
+     */
+    public static void runAllPending(Statement stmt, boolean fullCheck) throws SQLException {
+        if (!fullCheck && stmt.getConnection().getAutoCommit() && isSchemaCurrent(stmt.getConnection())) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Schema fingerprint matches V{}; skipping migration checks", latestVersion());
+            }
+            return;
+        }
+        runWithMigrationTransaction(stmt, () -> runAllPendingInternal(stmt, fullCheck));
+    }
+
+    /**
+     * Fast-path check used on every startup: one query against {@code schema_fingerprint} and
+     * {@code schema_version} instead of table-metadata introspection plus a lookup per migration.
+     * Returns {@code true} only when every registered version is recorded and the fingerprint was
+     * written for the latest version with the baseline DDL checksum of this build.
+     *
+     * <p>Only call this in auto-commit mode: on PostgreSQL a failed probe of a missing table would
+     * abort an enclosing transaction.
+     */
+    public static boolean isSchemaCurrent(Connection conn) throws SQLException {
+        Optional<String> checksum = baselineChecksum(conn);
+        if (checksum.isEmpty()) {
+            return false;
+        }
+        try (var pstmt = conn.prepareStatement(SQL_SELECT_SCHEMA_FINGERPRINT);
+                ResultSet rs = pstmt.executeQuery()) {
+            return rs.next()
+                    && rs.getInt(1) == latestVersion()
+                    && checksum.get().equals(rs.getString(2))
+                    && rs.getInt(3) == MIGRATIONS.size()
+                    && rs.getInt(4) == latestVersion();
+        } catch (SQLException e) {
+            if (isMissingTable(e)) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    /** The highest registered migration version. */
+    public static int latestVersion() {
+        return MIGRATIONS.getLast().version();
     }
 
-    private static void runAllPendingInternal(Statement stmt) throws SQLException {
+    private static void runAllPendingInternal(Statement stmt, boolean fullCheck) throws SQLException {
         boolean freshDatabase = isFreshApplicationSchema(stmt);
         createSchemaVersionTable(stmt);
+        createSchemaFingerprintTable(stmt);
+        Optional<String> checksum = baselineChecksum(stmt.getConnection());
 
         if (freshDatabase) {
             applyFreshBaseline(stmt);
-            return;
+        } else {
+            applyPendingMigrations(stmt);
+            if (fullCheck || baselineDdlChanged(stmt.getConnection(), checksum)) {
+                if (LOG.isInfoEnabled()) {
+                    LOG.info("Replaying baseline DDL over existing schema ({})", fullCheck ? "requested" : "changed");
+                }
+                SchemaInitializer.createAllTables(stmt);
+            }
         }
-
-        applyPendingMigrations(stmt);
+        recordSchemaFingerprint(stmt, checksum);
     }
 
     private static void applyFreshBaseline(Statement stmt) throws SQLException {
@@ -680,6 +776,108 @@ public final class MigrationRunner {
         SchemaInitializer.createAuthSchema(stmt);
     }
 
+    /**
+     * V20 migration: adds the achievement progress counter table. Existing users get their row
+     * seeded lazily from the source tables the first time {@code AchievementService} sees them.
+     */
+    private static void applyV20(Statement stmt) throws SQLException {
+        SchemaInitializer.createAchievementCountersTable(stmt);
+    }
+
+    /**
+     * V21 migration: adds the materialised profile-completion columns. Existing rows stay NULL and
+     * are filled the next time the profile is saved; readers fall back to computing the score.
+     */
+    private static void applyV21(Statement stmt) throws SQLException {
+        if (!hasTable(stmt, TABLE_USERS)) {
+            return;
+        }
+        stmt.execute("ALTER TABLE users ADD COLUMN IF NOT EXISTS profile_completion_score INT");
+        stmt.execute("ALTER TABLE users ADD COLUMN IF NOT EXISTS profile_completion_tier VARCHAR(20)");
+        addCheckConstraintIfMissing(
+                stmt,
+                SQL_TABLE_USERS,
+                "ck_users_profile_completion_score",
+                "profile_completion_score IS NULL OR profile_completion_score BETWEEN 0 AND 100");
+    }
+
+    /**
+     * V22 migration: adds the hot-query composite indexes from the fresh baseline. Every target
+     * table predates this version, so the baseline helper can be reused as-is.
+     */
+    private static void applyV22(Statement stmt) throws SQLException {
+        SchemaInitializer.createHotQueryIndexes(stmt);
+    }
+
+    /** V23 migration: adds the PostgreSQL GiST point index used by the candidate geo filter. */
+    private static void applyV23(Statement stmt) throws SQLException {
+        SchemaInitializer.createGeoIndexes(stmt);
+    }
+
+    /**
+     * V24 migration: adds the stored geohash used by the H2 candidate search and backfills it for
+     * every row with a location. Later saves keep it current.
+     */
+    private static void applyV24(Statement stmt) throws SQLException {
+        if (!hasTable(stmt, TABLE_USERS)) {
+            return;
+        }
+        stmt.execute("ALTER TABLE users ADD COLUMN IF NOT EXISTS geohash VARCHAR(12)");
+        SchemaInitializer.createGeohashIndexes(stmt);
+        backfillUserGeohashes(stmt.getConnection());
+    }
+
+    /**
+     * V25 migration: adds the profile view summary table. Existing profiles get their summary rebuilt
+     * lazily from {@code profile_views} the first time their counts are read or a new view is flushed.
+     */
+    private static void applyV25(Statement stmt) throws SQLException {
+        if (!hasTable(stmt, TABLE_USERS)) {
+            return;
+        }
+        SchemaInitializer.createProfileViewSummaryTable(stmt);
+    }
+
+    /**
+     * V26 migration: indexes the retention timestamps scanned by chunked cleanup. Every target table
+     * predates this version, so the baseline helper can be reused as-is.
+     */
+    private static void applyV26(Statement stmt) throws SQLException {
+        SchemaInitializer.createRetentionIndexes(stmt);
+    }
+
+    static int backfillUserGeohashes(Connection connection) throws SQLException {
+        int updated = 0;
+        try (var select = connection.prepareStatement(
+                        "SELECT id, lat, lon FROM users WHERE has_location_set = TRUE AND geohash IS NULL"
+                                + " AND lat IS NOT NULL AND lon IS NOT NULL");
+                var update = connection.prepareStatement("UPDATE users SET geohash = ? WHERE id = ?");
+                ResultSet rs = select.executeQuery()) {
+            int pending = 0;
+            while (rs.next()) {
+                double lat = rs.getDouble("lat");
+                double lon = rs.getDouble("lon");
+                if (lat < -90.0 || lat > 90.0 || lon < -180.0 || lon > 180.0) {
+                    LOG.warn("Skipping geohash backfill for user {} with out-of-range coordinates", rs.getObject("id"));
+                    continue;
+                }
+                update.setString(1, GeoUtils.geohash(lat, lon, GeoUtils.STORED_GEOHASH_PRECISION));
+                update.setObject(2, rs.getObject("id"));
+                update.addBatch();
+                if (++pending == GEOHASH_BACKFILL_BATCH_SIZE) {
+                    updated += pending;
+                    update.executeBatch();
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                updated += pending;
+                update.executeBatch();
+            }
+        }
+        return updated;
+    }
+
     private static void rebuildConversationActivityIndexes(Statement stmt) throws SQLException {
         stmt.execute("DROP INDEX IF EXISTS idx_conversations_user_a_last_msg");
         stmt.execute("DROP INDEX IF EXISTS idx_conversations_user_b_last_msg");
@@ -1488,6 +1686,73 @@ public final class MigrationRunner {
                 """);
     }
 
+    /**
+     * Creates the single-row {@code schema_fingerprint} table if it does not exist. Like
+     * {@code schema_version} it is bookkeeping, not part of the versioned schema.
+     */
+    static void createSchemaFingerprintTable(Statement stmt) throws SQLException {
+        stmt.execute("""
+                CREATE TABLE IF NOT EXISTS schema_fingerprint (
+                    id INT PRIMARY KEY,
+                    version INT NOT NULL,
+                    ddl_checksum VARCHAR(64) NOT NULL,
+                    recorded_at TIMESTAMP WITH TIME ZONE NOT NULL
+                )
+                """);
+    }
+
+    /**
+     * Records the latest version and baseline checksum once the schema is known to be current. With no
+     * checksum the row is removed so {@link #isSchemaCurrent(Connection)} keeps taking the slow path.
+     */
+    static void recordSchemaFingerprint(Statement stmt, Optional<String> checksum) throws SQLException {
+        Connection connection = stmt.getConnection();
+        if (checksum.isEmpty()) {
+            stmt.executeUpdate("DELETE FROM schema_fingerprint");
+            return;
+        }
+        String updateSql = "UPDATE schema_fingerprint SET version = ?, ddl_checksum = ?, "
+                + "recorded_at = CURRENT_TIMESTAMP WHERE id = ?";
+        try (var pstmt = connection.prepareStatement(updateSql)) {
+            pstmt.setInt(1, latestVersion());
+            pstmt.setString(2, checksum.get());
+            pstmt.setInt(3, SCHEMA_FINGERPRINT_ROW_ID);
+            if (pstmt.executeUpdate() > 0) {
+                return;
+            }
+        }
+
+        String insertSql = "INSERT INTO schema_fingerprint (id, version, ddl_checksum, recorded_at) "
+                + "VALUES (?, ?, ?, CURRENT_TIMESTAMP)";
+        try (var pstmt = connection.prepareStatement(insertSql)) {
+            pstmt.setInt(1, SCHEMA_FINGERPRINT_ROW_ID);
+            pstmt.setInt(2, latestVersion());
+            pstmt.setString(3, checksum.get());
+            pstmt.executeUpdate();
+        }
+    }
+
+    /**
+     * Whether a fingerprint was recorded with a different baseline checksum, i.e. the fresh-install
+     * DDL changed without a new migration. A missing fingerprint (first boot with fingerprints) is not
+     * treated as a change: pending migrations alone decide the schema, as before.
+     */
+    private static boolean baselineDdlChanged(Connection conn, Optional<String> checksum) throws SQLException {
+        if (checksum.isEmpty()) {
+            return false;
+        }
+        try (var pstmt = conn.prepareStatement("SELECT ddl_checksum FROM schema_fingerprint WHERE id = ?")) {
+            pstmt.setInt(1, SCHEMA_FINGERPRINT_ROW_ID);
+            try (ResultSet rs = pstmt.executeQuery()) {
+                return rs.next() && !checksum.get().equals(rs.getString(1));
+            }
+        }
+    }
+
+    private static Optional<String> baselineChecksum(Connection conn) throws SQLException {
+        return SchemaChecksum.forProduct(conn.getMetaData().getDatabaseProductName());
+    }
+
     /**
      * Checks whether a given schema version has already been applied.
      *
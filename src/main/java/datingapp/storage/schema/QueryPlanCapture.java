@@ -0,0 +1,289 @@
+package datingapp.storage.schema;
+
+import datingapp.core.AppClock;
+import datingapp.core.model.User.Gender;
+import datingapp.storage.DatabaseDialect;
+import datingapp.storage.DatabaseManager;
+import datingapp.storage.jdbi.JdbiConnectionStorage;
+import datingapp.storage.jdbi.JdbiMatchmakingStorage;
+import datingapp.storage.jdbi.JdbiTrustSafetyStorage;
+import datingapp.storage.jdbi.JdbiUserStorage;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Captures {@code EXPLAIN} plans for the registered hot query shapes on H2 and PostgreSQL.
+ *
+ * <p>Each {@link HotQuery} is rendered from the SQL a storage hot path runs and lists the indexes the
+ * planner is expected to pick. {@link #regressions(List)} reports plans that use none of them, so a
+ * dropped index or a query rewrite that stops matching its index is caught early. Run against a
+ * realistically sized database; tiny tables legitimately favour scans.
+ *
+ * <p>Standalone use: {@code java datingapp.storage.schema.QueryPlanCapture} logs every plan for the
+ * configured database and fails when a regression is found.
+ */
+public final class QueryPlanCapture {
+
+    private static final org.slf4j.Logger LOG = org.slf4j.LoggerFactory.getLogger(QueryPlanCapture.class);
+    private static final Pattern H2_INDEX_PATTERN = Pattern.compile("/\\*\\s*\"?\\w+\"?\\.\"?(\\w+)\"?(?=[:\\s*])");
+    private static final Pattern POSTGRES_INDEX_PATTERN =
+            Pattern.compile("(?:Index(?: Only)? Scan(?: Backward)? using|Bitmap Index Scan on)\\s+\"?(\\w+)\"?");
+    private static final Pattern NAMED_PARAMETER_PATTERN = Pattern.compile("(?<![:\\w]):(\\w+)");
+    private static final String SAMPLE_CONVERSATION_ID = "0".repeat(SchemaInitializer.PAIR_ID_LENGTH);
+    private static final double SAMPLE_SEEKER_LAT = 32.08;
+    private static final double SAMPLE_SEEKER_LON = 34.78;
+    private static final int SAMPLE_DISTANCE_KM = 50;
+    private static final int SAMPLE_PAGE_SIZE = 50;
+
+    /** A registered hot query: its SQL shape, representative parameters, and acceptable indexes. */
+    public static record HotQuery(String name, String sql, List<Object> sampleParameters, Set<String> expectedIndexes) {
+        public HotQuery {
+            Objects.requireNonNull(name, "name cannot be null");
+            Objects.requireNonNull(sql, "sql cannot be null");
+            sampleParameters = List.copyOf(Objects.requireNonNull(sampleParameters, "sampleParameters cannot be null"));
+            expectedIndexes = normalizeNames(Objects.requireNonNull(expectedIndexes, "expectedIndexes cannot be null"));
+        }
+    }
+
+    /** Captured plan for one hot query on one dialect. */
+    public static record QueryPlan(HotQuery query, DatabaseDialect dialect, String planText, Set<String> indexesUsed) {
+        public QueryPlan {
+            Objects.requireNonNull(query, "query cannot be null");
+            Objects.requireNonNull(dialect, "dialect cannot be null");
+            Objects.requireNonNull(planText, "planText cannot be null");
+            indexesUsed = normalizeNames(Objects.requireNonNull(indexesUsed, "indexesUsed cannot be null"));
+        }
+
+        public boolean usesExpectedIndex() {
+            return indexesUsed.stream().anyMatch(query.expectedIndexes()::contains);
+        }
+    }
+
+    private QueryPlanCapture() {
+        // Utility class — static methods only
+    }
+
+    /**
+     * Returns the registered hot queries for {@code dialect}. Every query is rendered from the
+     * statement the storage layer actually runs: the candidate search from
+     * {@link JdbiUserStorage#candidateSearch}, the others from the SQL constants their DAOs use.
+     */
+    public static List<HotQuery> hotQueries(DatabaseDialect dialect) {
+        Objects.requireNonNull(dialect, "dialect cannot be null");
+        List<HotQuery> queries = new ArrayList<>();
+        queries.add(candidateSearchQuery(dialect, false));
+        if (dialect == DatabaseDialect.H2) {
+            queries.add(candidateSearchQuery(dialect, true));
+        }
+        queries.addAll(fixedHotQueries());
+        return List.copyOf(queries);
+    }
+
+    private static List<HotQuery> fixedHotQueries() {
+        LocalDate today = AppClock.today(ZoneOffset.UTC);
+        OffsetDateTime startOfDay = today.atStartOfDay().atOffset(ZoneOffset.UTC);
+        UUID userA = UUID.randomUUID();
+        UUID userB = UUID.randomUUID();
+        return List.of(
+                renderNamed(
+                        "likes.countLikesToday",
+                        JdbiMatchmakingStorage.SQL_COUNT_LIKES_TODAY,
+                        Map.of(),
+                        Map.of("userId", UUID.randomUUID(), "startOfDay", startOfDay),
+                        Set.of("idx_likes_daily_counts")),
+                renderNamed(
+                        "messages.getMessages",
+                        JdbiConnectionStorage.SQL_GET_MESSAGES,
+                        Map.of(),
+                        Map.of("conversationId", SAMPLE_CONVERSATION_ID, "limit", SAMPLE_PAGE_SIZE, "offset", 0),
+                        Set.of("idx_messages_conversation_live", "idx_messages_conversation_created")),
+                renderNamed(
+                        "blocks.isBlockedEitherDirection",
+                        JdbiTrustSafetyStorage.IS_BLOCKED_SQL,
+                        Map.of(),
+                        Map.of("userA", userA, "userB", userB),
+                        Set.of(
+                                "idx_blocks_reverse_pair",
+                                "idx_blocks_blocker",
+                                "idx_blocks_blocked",
+                                "blocks_blocker_id_blocked_id_key")));
+    }
+
+    /** Captures plans for every registered hot query using the connection's dialect. */
+    public static List<QueryPlan> capture(Connection connection) throws SQLException {
+        Objects.requireNonNull(connection, "connection cannot be null");
+        DatabaseDialect dialect = DatabaseDialect.fromDatabaseProductName(
+                connection.getMetaData().getDatabaseProductName());
+        List<QueryPlan> plans = new ArrayList<>();
+        for (HotQuery query : hotQueries(dialect)) {
+            plans.add(explain(connection, dialect, query));
+        }
+        return List.copyOf(plans);
+    }
+
+    /** Runs {@code EXPLAIN} for a single query and parses the indexes the plan touches. */
+    public static QueryPlan explain(Connection connection, DatabaseDialect dialect, HotQuery query)
+            throws SQLException {
+        Objects.requireNonNull(connection, "connection cannot be null");
+        Objects.requireNonNull(dialect, "dialect cannot be null");
+        Objects.requireNonNull(query, "query cannot be null");
+        StringBuilder plan = new StringBuilder();
+        try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + query.sql())) {
+            List<Object> parameters = query.sampleParameters();
+            for (int i = 0; i < parameters.size(); i++) {
+                statement.setObject(i + 1, parameters.get(i));
+            }
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    if (!plan.isEmpty()) {
+                        plan.append('\n');
+                    }
+                    plan.append(rs.getString(1));
+                }
+            }
+        }
+        String planText = plan.toString();
+        return new QueryPlan(query, dialect, planText, parseIndexes(dialect, planText));
+    }
+
+    /** Returns the plans whose index usage does not match any expected index. */
+    public static List<QueryPlan> regressions(List<QueryPlan> plans) {
+        Objects.requireNonNull(plans, "plans cannot be null");
+        return plans.stream().filter(plan -> !plan.usesExpectedIndex()).toList();
+    }
+
+    static Set<String> parseIndexes(DatabaseDialect dialect, String planText) {
+        if (planText == null || planText.isBlank()) {
+            return Set.of();
+        }
+        Pattern pattern = dialect == DatabaseDialect.POSTGRESQL ? POSTGRES_INDEX_PATTERN : H2_INDEX_PATTERN;
+        Set<String> indexes = new LinkedHashSet<>();
+        Matcher matcher = pattern.matcher(planText);
+        while (matcher.find()) {
+            indexes.add(matcher.group(1).toLowerCase(Locale.ROOT));
+        }
+        return indexes;
+    }
+
+    /**
+     * The candidate search for a seeker in central Israel looking 25 to 40 years old within 50 km. The
+     * geohash variant is registered separately so its cover join is checked against
+     * {@code idx_users_geohash}.
+     */
+    static HotQuery candidateSearchQuery(DatabaseDialect dialect, boolean geohashFilter) {
+        JdbiUserStorage.CandidateSearch search = JdbiUserStorage.candidateSearch(
+                dialect,
+                geohashFilter,
+                UUID.randomUUID(),
+                EnumSet.of(Gender.MALE, Gender.FEMALE),
+                25,
+                40,
+                SAMPLE_SEEKER_LAT,
+                SAMPLE_SEEKER_LON,
+                SAMPLE_DISTANCE_KM);
+        Map<String, String> definitions = new LinkedHashMap<>(search.definitions());
+        Map<String, Object> bindings = new LinkedHashMap<>(search.bindings());
+        StringJoiner genders = new StringJoiner(", ");
+        for (int i = 0; i < search.genders().size(); i++) {
+            genders.add(":genders" + i);
+            bindings.put("genders" + i, search.genders().get(i));
+        }
+        definitions.put("genders", genders.toString());
+        if (geohashFilter) {
+            return renderNamed(
+                    "users.findCandidates.geohashCover",
+                    search.sql(),
+                    definitions,
+                    bindings,
+                    Set.of("idx_users_geohash"));
+        }
+        return renderNamed(
+                "users.findCandidates",
+                search.sql(),
+                definitions,
+                bindings,
+                Set.of(
+                        "idx_users_candidate_search",
+                        "idx_users_location_state",
+                        "idx_users_gender_state",
+                        "idx_users_geo_point"));
+    }
+
+    /**
+     * Renders a JDBI-style statement for JDBC: substitutes each {@code <attribute>} definition, then
+     * rewrites every {@code :name} binding to a positional parameter in the order it appears.
+     */
+    static HotQuery renderNamed(
+            String name,
+            String template,
+            Map<String, String> definitions,
+            Map<String, Object> bindings,
+            Set<String> expectedIndexes) {
+        String sql = template;
+        for (Map.Entry<String, String> definition : definitions.entrySet()) {
+            sql = sql.replace("<" + definition.getKey() + ">", definition.getValue());
+        }
+        List<Object> parameters = new ArrayList<>();
+        Matcher matcher = NAMED_PARAMETER_PATTERN.matcher(sql);
+        StringBuilder positional = new StringBuilder();
+        while (matcher.find()) {
+            String binding = matcher.group(1);
+            if (!bindings.containsKey(binding)) {
+                throw new IllegalArgumentException(name + " has no value for :" + binding);
+            }
+            parameters.add(bindings.get(binding));
+            matcher.appendReplacement(positional, "?");
+        }
+        matcher.appendTail(positional);
+        return new HotQuery(name, positional.toString(), parameters, expectedIndexes);
+    }
+
+    private static Set<String> normalizeNames(Set<String> names) {
+        Set<String> normalized = new LinkedHashSet<>();
+        for (String name : names) {
+            normalized.add(name.toLowerCase(Locale.ROOT));
+        }
+        return Set.copyOf(normalized);
+    }
+
+    public static void main(String[] args) throws SQLException {
+        List<QueryPlan> plans;
+        try (Connection connection = DatabaseManager.getInstance().getConnection()) {
+            plans = capture(connection);
+        }
+        for (QueryPlan plan : plans) {
+            if (LOG.isInfoEnabled()) {
+                LOG.info(
+                        "[{}] {} uses {} (expected one of {})\n{}",
+                        plan.dialect(),
+                        plan.query().name(),
+                        plan.indexesUsed(),
+                        plan.query().expectedIndexes(),
+                        plan.planText());
+            }
+        }
+        List<QueryPlan> regressions = regressions(plans);
+        if (!regressions.isEmpty()) {
+            throw new IllegalStateException("Index regressions detected for: "
+                    + regressions.stream().map(plan -> plan.query().name()).toList());
+        }
+    }
+}
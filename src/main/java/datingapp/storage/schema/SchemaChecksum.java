@@ -0,0 +1,109 @@
+package datingapp.storage.schema;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * SHA-256 over the DDL that {@link SchemaInitializer#createAllTables(Statement)} issues for a given
+ * database product, captured by running it against a recording {@link Statement} that executes nothing.
+ *
+ * <p>{@link MigrationRunner} stores this next to the schema version so a boot whose DDL is unchanged
+ * can skip the replay. The baseline consults {@code getDatabaseProductName()} (PostgreSQL gets extra
+ * indexes), so checksums are per product and cached per product. If the baseline ever starts asking
+ * the connection for anything else, capture fails and the checksum is empty, which simply disables
+ * the fast path.
+ */
+final class SchemaChecksum {
+
+    private static final org.slf4j.Logger LOG = org.slf4j.LoggerFactory.getLogger(SchemaChecksum.class);
+    private static final Map<String, Optional<String>> CACHE = new ConcurrentHashMap<>();
+
+    private SchemaChecksum() {}
+
+    static Optional<String> forProduct(String databaseProductName) {
+        Objects.requireNonNull(databaseProductName, "databaseProductName cannot be null");
+        return CACHE.computeIfAbsent(databaseProductName, SchemaChecksum::compute);
+    }
+
+    /** The DDL statements the fresh baseline would execute, in order. */
+    static List<String> baselineStatements(String databaseProductName) throws SQLException {
+        List<String> statements = new ArrayList<>();
+        SchemaInitializer.createAllTables(recordingStatement(databaseProductName, statements));
+        return statements;
+    }
+
+    static String sha256(List<String> statements) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String statement : statements) {
+                digest.update(statement.strip().getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) '\n');
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static Optional<String> compute(String databaseProductName) {
+        try {
+            return Optional.of(sha256(baselineStatements(databaseProductName)));
+        } catch (SQLException | RuntimeException e) {
+            if (LOG.isWarnEnabled()) {
+                LOG.warn("Could not capture baseline DDL for checksum; schema fast path disabled: {}", e.toString());
+            }
+            return Optional.empty();
+        }
+    }
+
+    private static Statement recordingStatement(String databaseProductName, List<String> statements) {
+        DatabaseMetaData metaData = proxy(DatabaseMetaData.class, (proxy, method, args) -> {
+            if ("getDatabaseProductName".equals(method.getName())) {
+                return databaseProductName;
+            }
+            return unsupported(proxy, method, args);
+        });
+        Connection connection = proxy(Connection.class, (proxy, method, args) -> {
+            if ("getMetaData".equals(method.getName())) {
+                return metaData;
+            }
+            return unsupported(proxy, method, args);
+        });
+        return proxy(Statement.class, (proxy, method, args) -> switch (method.getName()) {
+            case "execute" -> {
+                statements.add((String) args[0]);
+                yield false;
+            }
+            case "getConnection" -> connection;
+            default -> unsupported(proxy, method, args);
+        });
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, handler));
+    }
+
+    private static Object unsupported(Object proxy, Method method, Object[] args) {
+        return switch (method.getName()) {
+            case "toString" -> "SchemaChecksum recording " + method.getDeclaringClass().getSimpleName();
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "equals" -> proxy == args[0];
+            default -> throw new UnsupportedOperationException(method.getName());
+        };
+    }
+}
@@ -1,5 +1,6 @@
 package datingapp.storage.schema;
 
+import datingapp.storage.DatabaseDialect;
 import java.sql.SQLException;
 import java.sql.Statement;
 
@@ -58,6 +59,7 @@ public final class SchemaInitializer {
         createDailyPicksTable(stmt);
         createDailyPickViewsTable(stmt);
         createUserAchievementsTable(stmt);
+        createAchievementCountersTable(stmt);
         createMessagingSchema(stmt);
         createSocialSchema(stmt);
         createModerationSchema(stmt);
@@ -70,6 +72,10 @@ public final class SchemaInitializer {
         createCoreIndexes(stmt);
         createStatsIndexes(stmt);
         createAdditionalIndexes(stmt);
+        createHotQueryIndexes(stmt);
+        createGeoIndexes(stmt);
+        createGeohashIndexes(stmt);
+        createRetentionIndexes(stmt);
     }
 
     // ═══════════════════════════════════════════════════════════════
@@ -87,6 +93,7 @@ public final class SchemaInitializer {
                     lat DOUBLE PRECISION,
                     lon DOUBLE PRECISION,
                     has_location_set BOOLEAN DEFAULT FALSE,
+                    geohash VARCHAR(12),
                     max_distance_km INT DEFAULT 50,
                     min_age INT DEFAULT 18,
                     max_age INT DEFAULT 99,
@@ -114,6 +121,8 @@ public final class SchemaInitializer {
                     pace_communication_style VARCHAR(30),
                     pace_depth_preference VARCHAR(30),
                     deleted_at TIMESTAMP WITH TIME ZONE,
+                    profile_completion_score INT,
+                    profile_completion_tier VARCHAR(20),
                     CONSTRAINT ck_users_state_values CHECK (
                         state IN ('INCOMPLETE', 'ACTIVE', 'PAUSED', 'BANNED')
                     ),
@@ -154,6 +163,9 @@ public final class SchemaInitializer {
                     CONSTRAINT ck_users_phone_trimmed CHECK (
                         phone IS NULL OR phone = TRIM(phone)
                     ),
+                    CONSTRAINT ck_users_profile_completion_score CHECK (
+                        profile_completion_score IS NULL OR profile_completion_score BETWEEN 0 AND 100
+                    ),
                     CONSTRAINT ck_users_pace_msg_freq_values CHECK (
                         pace_messaging_frequency IS NULL
                             OR pace_messaging_frequency IN ('RARELY', 'OFTEN', 'CONSTANTLY', 'WILDCARD')
@@ -395,6 +407,24 @@ public final class SchemaInitializer {
                 """);
     }
 
+    static void createAchievementCountersTable(Statement stmt) throws SQLException {
+        stmt.execute("""
+                CREATE TABLE IF NOT EXISTS user_achievement_counters (
+                    user_id UUID PRIMARY KEY,
+                    match_count INT NOT NULL DEFAULT 0,
+                    like_count INT NOT NULL DEFAULT 0,
+                    pass_count INT NOT NULL DEFAULT 0,
+                    report_count INT NOT NULL DEFAULT 0,
+                    updated_at TIMESTAMP WITH TIME ZONE NOT NULL,
+                    CONSTRAINT fk_user_achievement_counters_user FOREIGN KEY (user_id)
+                        REFERENCES users(id) ON DELETE CASCADE,
+                    CONSTRAINT ck_user_achievement_counters_nonnegative CHECK (
+                        match_count >= 0 AND like_count >= 0 AND pass_count >= 0 AND report_count >= 0
+                    )
+                )
+                """);
+    }
+
     // ═══════════════════════════════════════════════════════════════
     // Composite schemas (multi-table features)
     // ═══════════════════════════════════════════════════════════════
@@ -573,7 +603,7 @@ public final class SchemaInitializer {
         stmt.execute("CREATE INDEX IF NOT EXISTS idx_reports_reported ON reports(reported_user_id)");
     }
 
-    /** Creates profile-related tables (profile_notes, profile_views). */
+    /** Creates profile-related tables (profile_notes, profile_views, profile_view_summaries). */
     static void createProfileSchema(Statement stmt) throws SQLException {
         stmt.execute("""
                 CREATE TABLE IF NOT EXISTS profile_notes (
@@ -610,6 +640,26 @@ public final class SchemaInitializer {
 
         stmt.execute("CREATE INDEX IF NOT EXISTS idx_profile_views_viewed_id ON profile_views(viewed_id)");
         stmt.execute("CREATE INDEX IF NOT EXISTS idx_profile_views_viewed_at ON profile_views(viewed_at DESC)");
+
+        createProfileViewSummaryTable(stmt);
+    }
+
+    /**
+     * Per-profile view counters maintained by the buffered view writer: a running view total and a
+     * serialized HyperLogLog sketch of distinct viewers, so counts no longer scan the raw history.
+     */
+    static void createProfileViewSummaryTable(Statement stmt) throws SQLException {
+        stmt.execute("""
+                CREATE TABLE IF NOT EXISTS profile_view_summaries (
+                    viewed_id UUID PRIMARY KEY,
+                    view_count BIGINT NOT NULL DEFAULT 0,
+                    viewer_sketch BYTEA NOT NULL,
+                    updated_at TIMESTAMP WITH TIME ZONE NOT NULL,
+                    CONSTRAINT fk_profile_view_summaries_user FOREIGN KEY (viewed_id)
+                        REFERENCES users(id) ON DELETE CASCADE,
+                    CONSTRAINT ck_profile_view_summaries_nonnegative CHECK (view_count >= 0)
+                )
+                """);
     }
 
     /** Creates standouts table for daily ranked matches. */
@@ -814,6 +864,69 @@ public final class SchemaInitializer {
                         + "ON standouts(seeker_id, interacted_at DESC)");
     }
 
+    /**
+     * Composite indexes shaped after the hottest multi-column filters (see {@link QueryPlanCapture}
+     * for the registered query shapes). PostgreSQL gets partial indexes over live rows; H2, which
+     * has no partial indexes, falls back to the same leading columns.
+     */
+    static void createHotQueryIndexes(Statement stmt) throws SQLException {
+        createIndexWithFallback(
+                stmt,
+                "CREATE INDEX IF NOT EXISTS idx_users_candidate_search "
+                        + "ON users(gender, birth_date, lat, lon) WHERE state = 'ACTIVE' AND deleted_at IS NULL",
+                "CREATE INDEX IF NOT EXISTS idx_users_candidate_search "
+                        + "ON users(state, gender, birth_date, lat, lon)");
+        createIndexWithFallback(
+                stmt,
+                "CREATE INDEX IF NOT EXISTS idx_likes_daily_counts "
+                        + "ON likes(who_likes, direction, created_at) WHERE deleted_at IS NULL",
+                "CREATE INDEX IF NOT EXISTS idx_likes_daily_counts ON likes(who_likes, direction, created_at)");
+        createIndexWithFallback(
+                stmt,
+                "CREATE INDEX IF NOT EXISTS idx_messages_conversation_live "
+                        + "ON messages(conversation_id, created_at, id) WHERE deleted_at IS NULL",
+                "CREATE INDEX IF NOT EXISTS idx_messages_conversation_live "
+                        + "ON messages(conversation_id, deleted_at, created_at)");
+        createIndexWithFallback(
+                stmt,
+                "CREATE INDEX IF NOT EXISTS idx_blocks_reverse_pair "
+                        + "ON blocks(blocked_id, blocker_id) WHERE deleted_at IS NULL",
+                "CREATE INDEX IF NOT EXISTS idx_blocks_reverse_pair ON blocks(blocked_id, blocker_id, deleted_at)");
+    }
+
+    /**
+     * PostgreSQL-only GiST index over {@code point(lon, lat)} for live users, matching the
+     * bounding-box containment test that {@code SqlDialectSupport.candidateGeoFilter} emits. H2 has
+     * no GiST support and keeps using {@code idx_users_candidate_search}.
+     */
+    static void createGeoIndexes(Statement stmt) throws SQLException {
+        String productName = stmt.getConnection().getMetaData().getDatabaseProductName();
+        if (DatabaseDialect.fromDatabaseProductName(productName) != DatabaseDialect.POSTGRESQL) {
+            return;
+        }
+        stmt.execute("CREATE INDEX IF NOT EXISTS idx_users_geo_point ON users USING gist (point(lon, lat)) "
+                + "WHERE state = 'ACTIVE' AND deleted_at IS NULL AND has_location_set = TRUE");
+    }
+
+    /**
+     * Index over the stored geohash so the H2 candidate search can resolve each covering cell as a
+     * prefix range scan instead of a single wide latitude range.
+     */
+    static void createGeohashIndexes(Statement stmt) throws SQLException {
+        stmt.execute("CREATE INDEX IF NOT EXISTS idx_users_geohash ON users(geohash)");
+    }
+
+    /**
+     * Indexes on the retention timestamps so chunked cleanup can pick the oldest expired rows with an
+     * index range scan instead of rescanning the table for every chunk.
+     */
+    static void createRetentionIndexes(Statement stmt) throws SQLException {
+        stmt.execute("CREATE INDEX IF NOT EXISTS idx_daily_pick_views_viewed_at ON daily_pick_views(viewed_at)");
+        stmt.execute("CREATE INDEX IF NOT EXISTS idx_standouts_created_at ON standouts(created_at)");
+        stmt.execute("CREATE INDEX IF NOT EXISTS idx_matches_deleted_at ON matches(deleted_at)");
+        stmt.execute("CREATE INDEX IF NOT EXISTS idx_users_deleted_at ON users(deleted_at)");
+    }
+
     private static void createIndexWithFallback(Statement stmt, String preferredSql, String fallbackSql)
             throws SQLException {
         try {
@@ -3,6 +3,9 @@ package datingapp.ui;
 import datingapp.app.bootstrap.ApplicationStartup;
 import datingapp.core.ServiceRegistry;
 import datingapp.ui.viewmodel.ViewModelFactory;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import javafx.application.Application;
 import javafx.stage.Stage;
 import org.slf4j.Logger;
@@ -23,9 +26,9 @@ public class DatingApp extends Application {
     public void init() throws Exception {
         logger.info("Initializing Dating App GUI...");
 
-        // Initialize application with centralized bootstrap
+        // Initialize application with centralized bootstrap; FXML classes load while migrations run
         logger.debug("Initializing application services...");
-        ServiceRegistry serviceRegistry = ApplicationStartup.initialize();
+        ServiceRegistry serviceRegistry = ApplicationStartup.initialize(Map.of("fxml", DatingApp::preloadFxmlClasses));
         logger.debug("ServiceRegistry initialized.");
 
         // Initialize UI framework components
@@ -76,6 +79,13 @@ public class DatingApp extends Application {
         ApplicationStartup.shutdown();
     }
 
+    private static void preloadFxmlClasses() {
+        List<String> fxmlPaths = Arrays.stream(NavigationService.ViewType.values())
+                .map(NavigationService.ViewType::getFxmlPath)
+                .toList();
+        FxmlClassPreloader.preload(DatingApp.class.getClassLoader(), fxmlPaths);
+    }
+
     public static void main(String[] args) {
         launch(args);
     }
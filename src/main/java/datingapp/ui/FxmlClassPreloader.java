@@ -0,0 +1,86 @@
+package datingapp.ui;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Start-up warm-up that loads the classes FXML files refer to ({@code <?import?>} instructions and
+ * {@code fx:controller}) before the first screen is shown, so the first {@code FXMLLoader.load()} does
+ * not pay for class loading and verification on the FX thread.
+ *
+ * <p>Classes are loaded without being initialized: static initializers of JavaFX controls may expect
+ * the FX thread, and loading alone is the bulk of the cost. Wildcard imports are skipped. Missing
+ * resources or classes are ignored; the real load reports them.
+ */
+final class FxmlClassPreloader {
+
+    private static final Logger logger = LoggerFactory.getLogger(FxmlClassPreloader.class);
+
+    private static final Pattern IMPORT = Pattern.compile("<\\?import\\s+([\\w.$]+)\\s*\\?>");
+    private static final Pattern CONTROLLER = Pattern.compile("fx:controller\\s*=\\s*\"([\\w.$]+)\"");
+    private static final String FXML_LOADER_CLASS = "javafx.fxml.FXMLLoader";
+
+    private FxmlClassPreloader() {}
+
+    /**
+     * Loads the classes referenced by each FXML resource (absolute paths such as {@code /fxml/login.fxml}).
+     *
+     * @return how many distinct classes were loaded
+     */
+    static int preload(ClassLoader classLoader, Iterable<String> fxmlPaths) {
+        Objects.requireNonNull(classLoader, "classLoader cannot be null");
+        Set<String> classNames = new LinkedHashSet<>();
+        classNames.add(FXML_LOADER_CLASS);
+        for (String path : fxmlPaths) {
+            String fxml = readResource(classLoader, path);
+            if (fxml != null) {
+                classNames.addAll(referencedClassNames(fxml));
+            }
+        }
+
+        int loaded = 0;
+        for (String className : classNames) {
+            try {
+                Class.forName(className, false, classLoader);
+                loaded++;
+            } catch (ClassNotFoundException | LinkageError _) {
+                // the FXMLLoader reports this properly when the screen is actually loaded
+            }
+        }
+        if (logger.isDebugEnabled()) {
+            logger.debug("Preloaded {} of {} FXML-referenced classes", loaded, classNames.size());
+        }
+        return loaded;
+    }
+
+    /** Fully qualified class names imported by, or used as the controller of, an FXML document. */
+    static Set<String> referencedClassNames(String fxml) {
+        Set<String> names = new LinkedHashSet<>();
+        collect(IMPORT.matcher(fxml), names);
+        collect(CONTROLLER.matcher(fxml), names);
+        return names;
+    }
+
+    private static void collect(Matcher matcher, Set<String> names) {
+        while (matcher.find()) {
+            names.add(matcher.group(1));
+        }
+    }
+
+    private static String readResource(ClassLoader classLoader, String path) {
+        String resource = path.startsWith("/") ? path.substring(1) : path;
+        try (InputStream input = classLoader.getResourceAsStream(resource)) {
+            return input == null ? null : new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException _) {
+            return null;
+        }
+    }
+}
@@ -1,20 +1,24 @@
 package datingapp.ui;
 
+import datingapp.app.support.PhotoRenditions;
 import datingapp.core.model.TextNormalization;
+import java.io.IOException;
 import java.net.URI;
-import java.util.Collections;
-import java.util.LinkedHashMap;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutorService;
+import java.util.concurrent.PriorityBlockingQueue;
 import java.util.concurrent.RejectedExecutionException;
-import java.util.concurrent.ThreadFactory;
-import java.util.concurrent.ThreadPoolExecutor;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 import javafx.application.Platform;
 import javafx.scene.image.Image;
@@ -25,20 +29,45 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Thread-safe LRU image cache for avatars and profile photos.
+ * Thread-safe image cache for avatars and profile photos, bounded by decoded pixel bytes.
  *
- * <p>Uses LinkedHashMap with access-order for true LRU eviction.
- * Cache keys are composed of path and requested size for efficient lookups.
+ * <p>Entries live in a {@link ConcurrentHashMap} and carry an access tick; once the decoded bytes
+ * exceed the heap budget the least-recently-accessed entries are evicted, so a handful of full-size
+ * photos and hundreds of avatars compete on their real memory cost rather than on entry count.
+ * Cache keys are composed of path and requested size for efficient lookups. Local photos are decoded
+ * from the smallest stored {@link PhotoRenditions rendition} that covers the requested size, so list
+ * avatars never decode the full-resolution original.
+ *
+ * <p>Asynchronous loads run on a few virtual threads fed by a priority queue: visible cards
+ * ({@link Priority#VISIBLE}) overtake speculative preloads. An optional {@link ImageDiskCache} tier
+ * keeps downscaled pixels on disk so scrolling back through matches does not decode the same JPEGs
+ * again; enable it with the {@value #DISK_CACHE_DIR_PROPERTY} system property or
+ * {@link #enableDiskTier(Path, long)}.
  */
 public final class ImageCache {
 
     private static final Logger logger = LoggerFactory.getLogger(ImageCache.class);
 
-    /** Maximum number of images to cache before eviction. */
-    private static final int MAX_CACHE_SIZE = UiConstants.IMAGE_CACHE_MAX_SIZE;
+    /** Overrides {@link UiConstants#IMAGE_CACHE_MAX_BYTES}. */
+    static final String MAX_BYTES_PROPERTY = "datingapp.imageCache.maxBytes";
+
+    /** Directory for the optional on-disk tier; the tier is disabled when unset. */
+    static final String DISK_CACHE_DIR_PROPERTY = "datingapp.imageCache.diskDir";
+
+    /** Overrides {@link UiConstants#IMAGE_DISK_CACHE_MAX_BYTES}. */
+    static final String DISK_MAX_BYTES_PROPERTY = "datingapp.imageCache.diskMaxBytes";
+
+    /** Heap budget for decoded pixels. */
+    private static volatile long maxCacheBytes = Long.getLong(MAX_BYTES_PROPERTY, UiConstants.IMAGE_CACHE_MAX_BYTES);
+
+    /** Decoded JavaFX images are stored as 32-bit BGRA. */
+    private static final int BYTES_PER_PIXEL = 4;
 
-    /** Maximum number of queued preload requests waiting behind the worker. */
-    private static final int PRELOAD_QUEUE_CAPACITY = Math.max(16, MAX_CACHE_SIZE / 2);
+    /** Maximum number of virtual threads draining the load queue at once. */
+    private static final int LOAD_CONCURRENCY = 4;
+
+    /** Maximum number of queued prefetch requests; visible requests are never rejected. */
+    private static final int PRELOAD_QUEUE_CAPACITY = 64;
 
     /** Path to default avatar resource. */
     private static final String DEFAULT_AVATAR_PATH = UiConstants.DEFAULT_AVATAR_PATH;
@@ -46,39 +75,29 @@ public final class ImageCache {
     /** Test/development escape hatch for loopback-host image fixtures. */
     private static final String ALLOW_UNSAFE_REMOTE_IMAGE_HOSTS_PROPERTY = "datingapp.allowUnsafeRemoteImageHosts";
 
-    /**
-     * Single bounded preload worker that prevents repeated calls from creating
-     * an unbounded number of blocked threads.
-     */
-    private static final ExecutorService PRELOAD_EXECUTOR = new ThreadPoolExecutor(
-            1,
-            1,
-            0L,
-            TimeUnit.MILLISECONDS,
-            new ArrayBlockingQueue<>(PRELOAD_QUEUE_CAPACITY),
-            new PreloadThreadFactory(),
-            new ThreadPoolExecutor.AbortPolicy());
+    /** Scheduling priority of an asynchronous load. */
+    public static enum Priority {
+        /** The image is on screen now. */
+        VISIBLE,
+        /** The image will probably be needed soon. */
+        PREFETCH
+    }
+
+    private static final PriorityBlockingQueue<QueuedLoad> LOAD_QUEUE = new PriorityBlockingQueue<>();
+    private static final AtomicLong LOAD_SEQUENCE = new AtomicLong();
+    private static final AtomicInteger ACTIVE_LOAD_WORKERS = new AtomicInteger();
 
     /** Tracks in-flight preload requests so repeated calls for the same image stay cheap. */
     private static final Set<String> IN_FLIGHT_PRELOADS = ConcurrentHashMap.newKeySet();
 
     private static final Map<String, CompletableFuture<Image>> IN_FLIGHT_LOADS = new ConcurrentHashMap<>();
 
-    /**
-     * Thread-safe LRU cache using LinkedHashMap with access-order.
-     * Access-order (true) means get() operations move entries to the end,
-     * so oldest/least-recently-used entries are at the beginning.
-     */
-    private static final Map<String, Image> CACHE = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
-        @Override
-        protected boolean removeEldestEntry(Map.Entry<String, Image> eldest) {
-            boolean shouldRemove = size() > MAX_CACHE_SIZE;
-            if (shouldRemove) {
-                logDebug("LRU evicted cached image: {}", eldest.getKey());
-            }
-            return shouldRemove;
-        }
-    });
+    private static final Map<String, CacheEntry> CACHE = new ConcurrentHashMap<>();
+    private static final AtomicLong CACHE_BYTES = new AtomicLong();
+    private static final AtomicLong ACCESS_CLOCK = new AtomicLong();
+    private static final ReentrantLock EVICTION_LOCK = new ReentrantLock();
+
+    private static volatile ImageDiskCache diskTier = diskTierFromSystemProperties();
 
     private ImageCache() {
         // Utility class - no instantiation
@@ -110,11 +129,12 @@ public final class ImageCache {
 
         String key = cacheKey(path, width, height);
 
-        return getOrLoadCachedImage(key, () -> loadImage(path, width, height));
+        return getOrLoadCachedImage(key, () -> loadThroughDiskTier(key, path, width, height));
     }
 
     /**
-     * Loads an image off the caller thread and dispatches the callback on the FX thread.
+     * Loads an image off the caller thread at {@link Priority#VISIBLE} and dispatches the callback on
+     * the FX thread.
      */
     public static void getImageAsync(String path, double width, double height, Consumer<Image> callback) {
         Objects.requireNonNull(callback, "callback cannot be null");
@@ -125,46 +145,67 @@ public final class ImageCache {
         }
 
         String key = cacheKey(path, width, height);
-        synchronized (CACHE) {
-            Image cached = CACHE.get(key);
-            if (cached != null) {
-                dispatchToFx(() -> callback.accept(cached));
-                return;
-            }
+        Image cached = cachedImage(key);
+        if (cached != null) {
+            dispatchToFx(() -> callback.accept(cached));
+            return;
         }
 
         try {
-            attachAsyncCallback(startAsyncLoad(key, path, width, height), width, height, callback);
+            attachAsyncCallback(startAsyncLoad(key, path, width, height, Priority.VISIBLE), width, height, callback);
         } catch (RejectedExecutionException _) {
             logDebug("Dropped async image request for {} because the queue is full", path);
             dispatchToFx(() -> callback.accept(getDefaultAvatar(width, height)));
         }
     }
 
-    /** Loads an image with error handling. */
-    private static Image loadImage(String path, double width, double height) {
+    /**
+     * Loads an image through the optional disk tier, falling back to the default avatar on error.
+     * Freshly decoded pixels are written to the disk tier on a virtual thread so the caller, possibly
+     * the FX thread, never waits on disk I/O.
+     */
+    private static Image loadThroughDiskTier(String key, String path, double width, double height) {
+        ImageDiskCache disk = diskTier;
+        if (disk != null) {
+            Image stored = disk.read(key);
+            if (stored != null) {
+                return stored;
+            }
+        }
+        Image decoded = decodeImage(path, width, height);
+        if (decoded == null) {
+            return getDefaultAvatar(width, height);
+        }
+        if (disk != null) {
+            Thread.ofVirtual().name("image-disk-writer").start(() -> disk.write(key, decoded));
+        }
+        return decoded;
+    }
+
+    /** Decodes an image with error handling; returns {@code null} when it cannot be loaded. */
+    private static Image decodeImage(String path, double width, double height) {
         try {
             URI remoteUri = remoteHttpUri(path);
             if (remoteUri != null
                     && !allowUnsafeRemoteImageHosts()
                     && TextNormalization.isUnsafeHost(remoteUri.getHost())) {
                 logWarn("Rejected unsafe remote image host: {}", path);
-                return getDefaultAvatar(width, height);
+                return null;
             }
 
             // Synchronous loading to ensure isError() reflects final load status
-            Image image = new Image(path, width, height, true, true, false);
+            Image image = new Image(renditionSource(path, width, height), width, height, true, true, false);
 
             // Check for load errors
             if (image.isError()) {
                 logWarn("Failed to load image: {}", path, image.getException());
-                return getDefaultAvatar(width, height);
+                return null;
             }
 
             return image;
         } catch (Exception e) {
             logWarn("Exception loading image: {}", path, e);
-            return getDefaultAvatar(width, height);
+            return null;
         }
     }
 
@@ -176,11 +217,9 @@ public final class ImageCache {
 
     @SuppressWarnings("java:S1181")
     static Image getOrLoadCachedImage(String key, java.util.function.Supplier<Image> loader) {
-        synchronized (CACHE) {
-            Image cached = CACHE.get(key);
-            if (cached != null) {
-                return cached;
-            }
+        Image cached = cachedImage(key);
+        if (cached != null) {
+            return cached;
         }
 
         CompletableFuture<Image> newLoad = new CompletableFuture<>();
@@ -190,15 +229,7 @@ public final class ImageCache {
         }
 
         try {
-            Image loaded = loader.get();
-            synchronized (CACHE) {
-                Image cached = CACHE.get(key);
-                if (cached != null) {
-                    newLoad.complete(cached);
-                    return cached;
-                }
-                CACHE.put(key, loaded);
-            }
+            Image loaded = cacheImage(key, loader.get());
             newLoad.complete(loaded);
             return loaded;
         } catch (Throwable throwable) { // NOPMD - must complete the in-flight future even when the loader throws Error
@@ -223,20 +254,83 @@ public final class ImageCache {
         return IN_FLIGHT_LOADS.get(key);
     }
 
-    private static CompletableFuture<Image> startAsyncLoad(String key, String path, double width, double height) {
+    /** Returns the cached image for {@code key} and marks it recently used, or {@code null}. */
+    private static Image cachedImage(String key) {
+        CacheEntry entry = CACHE.get(key);
+        if (entry == null) {
+            return null;
+        }
+        entry.lastAccess().set(ACCESS_CLOCK.incrementAndGet());
+        return entry.image();
+    }
+
+    /**
+     * Caches {@code image} unless another thread won the race, returning whichever image is cached,
+     * then evicts least-recently-used entries while the heap budget is exceeded.
+     */
+    private static Image cacheImage(String key, Image image) {
+        CacheEntry entry = new CacheEntry(image, weightOf(image), new AtomicLong(ACCESS_CLOCK.incrementAndGet()));
+        CacheEntry existing = CACHE.putIfAbsent(key, entry);
+        if (existing != null) {
+            existing.lastAccess().set(ACCESS_CLOCK.incrementAndGet());
+            return existing.image();
+        }
+        if (CACHE_BYTES.addAndGet(entry.weightBytes()) > maxCacheBytes) {
+            evictToBudget(key);
+        }
+        return image;
+    }
+
+    /** Evicts the oldest entries until the cache fits its budget; the just-inserted key is kept. */
+    private static void evictToBudget(String protectedKey) {
+        if (!EVICTION_LOCK.tryLock()) {
+            return; // another thread is already evicting
+        }
+        try {
+            if (CACHE_BYTES.get() <= maxCacheBytes) {
+                return;
+            }
+            List<Map.Entry<String, CacheEntry>> byAge = new ArrayList<>(CACHE.entrySet());
+            byAge.sort(Comparator.comparingLong(candidate -> candidate.getValue().lastAccess().get()));
+            for (Map.Entry<String, CacheEntry> candidate : byAge) {
+                if (CACHE_BYTES.get() <= maxCacheBytes) {
+                    break;
+                }
+                if (candidate.getKey().equals(protectedKey)) {
+                    continue;
+                }
+                if (CACHE.remove(candidate.getKey(), candidate.getValue())) {
+                    CACHE_BYTES.addAndGet(-candidate.getValue().weightBytes());
+                    logDebug("Evicted cached image: {}", candidate.getKey());
+                }
+            }
+        } finally {
+            EVICTION_LOCK.unlock();
+        }
+    }
+
+    static long weightOf(Image image) {
+        long pixels = Math.round(image.getWidth()) * Math.round(image.getHeight());
+        return Math.max(1L, pixels * BYTES_PER_PIXEL);
+    }
+
+    private static CompletableFuture<Image> startAsyncLoad(
+            String key, String path, double width, double height, Priority priority) {
         CompletableFuture<Image> inFlight = IN_FLIGHT_LOADS.get(key);
         if (inFlight != null) {
+            promote(inFlight, priority);
             return inFlight;
         }
 
-        CompletableFuture<Image> newLoad = new CompletableFuture<>();
+        AsyncLoad newLoad = new AsyncLoad(key, path, width, height);
         CompletableFuture<Image> existing = IN_FLIGHT_LOADS.putIfAbsent(key, newLoad);
         if (existing != null) {
+            promote(existing, priority);
             return existing;
         }
 
         try {
-            PRELOAD_EXECUTOR.execute(() -> completeAsyncLoad(key, newLoad, path, width, height));
+            enqueue(newLoad, priority);
             return newLoad;
         } catch (RejectedExecutionException exception) {
             IN_FLIGHT_LOADS.remove(key, newLoad);
@@ -244,35 +338,73 @@ public final class ImageCache {
         }
     }
 
-    private static void completeAsyncLoad(
-            String key, CompletableFuture<Image> loadFuture, String path, double width, double height) {
-        try {
-            loadFuture.complete(loadAndCacheImage(key, path, width, height));
-        } catch (Throwable throwable) { // NOPMD - must complete the shared future on every failure path
-            loadFuture.completeExceptionally(throwable);
-        } finally {
-            IN_FLIGHT_LOADS.remove(key, loadFuture);
-            IN_FLIGHT_PRELOADS.remove(key);
+    /**
+     * Re-queues a still-waiting prefetch at visible priority; whichever queue entry runs first claims
+     * the load and the other becomes a no-op.
+     */
+    private static void promote(CompletableFuture<Image> inFlight, Priority priority) {
+        if (priority == Priority.VISIBLE && inFlight instanceof AsyncLoad load && !load.claimed.get()) {
+            enqueue(load, Priority.VISIBLE);
         }
     }
 
-    private static Image loadAndCacheImage(String key, String path, double width, double height) {
-        synchronized (CACHE) {
-            Image cached = CACHE.get(key);
-            if (cached != null) {
-                return cached;
+    private static void enqueue(AsyncLoad load, Priority priority) {
+        if (priority == Priority.PREFETCH && LOAD_QUEUE.size() >= PRELOAD_QUEUE_CAPACITY) {
+            throw new RejectedExecutionException("Image preload queue is full");
+        }
+        if (priority == Priority.VISIBLE) {
+            load.visible = true;
+        }
+        LOAD_QUEUE.add(new QueuedLoad(priority, LOAD_SEQUENCE.incrementAndGet(), load));
+        startLoadWorkerIfNeeded();
+    }
+
+    private static void startLoadWorkerIfNeeded() {
+        while (!LOAD_QUEUE.isEmpty()) {
+            int active = ACTIVE_LOAD_WORKERS.get();
+            if (active >= LOAD_CONCURRENCY) {
+                return;
+            }
+            if (ACTIVE_LOAD_WORKERS.compareAndSet(active, active + 1)) {
+                Thread.ofVirtual().name("image-load-worker").start(ImageCache::drainLoadQueue);
+                return;
             }
         }
+    }
 
-        Image loaded = loadImage(path, width, height);
-        synchronized (CACHE) {
-            Image cached = CACHE.get(key);
-            if (cached != null) {
-                return cached;
+    private static void drainLoadQueue() {
+        try {
+            QueuedLoad next;
+            while ((next = LOAD_QUEUE.poll()) != null) {
+                AsyncLoad load = next.load();
+                if (load.claimed.compareAndSet(false, true)) {
+                    completeAsyncLoad(load);
+                }
             }
-            CACHE.put(key, loaded);
-            return loaded;
+        } finally {
+            ACTIVE_LOAD_WORKERS.decrementAndGet();
+            // Work enqueued between the last poll and the decrement must not be stranded.
+            startLoadWorkerIfNeeded();
+        }
+    }
+
+    private static void completeAsyncLoad(AsyncLoad load) {
+        try {
+            load.complete(loadAndCacheImage(load.key, load.path, load.width, load.height));
+        } catch (Throwable throwable) { // NOPMD - must complete the shared future on every failure path
+            load.completeExceptionally(throwable);
+        } finally {
+            IN_FLIGHT_LOADS.remove(load.key, load);
+            IN_FLIGHT_PRELOADS.remove(load.key);
+        }
+    }
+
+    private static Image loadAndCacheImage(String key, String path, double width, double height) {
+        Image cached = cachedImage(key);
+        if (cached != null) {
+            return cached;
         }
+        return cacheImage(key, loadThroughDiskTier(key, path, width, height));
     }
 
     private static void attachAsyncCallback(
@@ -359,12 +491,14 @@ public final class ImageCache {
     }
 
     /**
-     * Clears the entire image cache.
-     * Useful when user logs out or memory pressure is detected.
+     * Clears the entire in-memory image cache.
+     * Useful when user logs out or memory pressure is detected. The disk tier, when enabled, is kept.
      */
     public static void clearCache() {
-        synchronized (CACHE) {
-            CACHE.clear();
+        for (Map.Entry<String, CacheEntry> entry : CACHE.entrySet()) {
+            if (CACHE.remove(entry.getKey(), entry.getValue())) {
+                CACHE_BYTES.addAndGet(-entry.getValue().weightBytes());
+            }
         }
         logInfo("Image cache cleared");
     }
@@ -375,13 +509,60 @@ public final class ImageCache {
      * @return number of cached images
      */
     public static int getCacheSize() {
-        synchronized (CACHE) {
-            return CACHE.size();
+        return CACHE.size();
+    }
+
+    /** Returns the decoded pixel bytes currently held in memory. */
+    public static long getCacheBytes() {
+        return CACHE_BYTES.get();
+    }
+
+    /** Returns whether the image for this path and size is already decoded in memory. */
+    public static boolean isCached(String path, double width, double height) {
+        return path != null && !path.isBlank() && CACHE.containsKey(cacheKey(path, width, height));
+    }
+
+    /**
+     * Cancels a queued prefetch that no worker has started yet. Loads that a visible request is
+     * waiting on, or that are already decoding, are left alone.
+     *
+     * @return {@code true} when the queued load was cancelled
+     */
+    public static boolean cancelPreload(String path, double width, double height) {
+        if (path == null || path.isBlank()) {
+            return false;
         }
+        String key = cacheKey(path, width, height);
+        if (!(IN_FLIGHT_LOADS.get(key) instanceof AsyncLoad load) || load.visible) {
+            return false;
+        }
+        if (!load.claimed.compareAndSet(false, true)) {
+            return false;
+        }
+        // The stale queue entry is skipped by the worker because the load is now claimed.
+        IN_FLIGHT_LOADS.remove(key, load);
+        IN_FLIGHT_PRELOADS.remove(key);
+        load.cancel(false);
+        return true;
     }
 
     /**
-     * Pre-loads an image into the cache asynchronously.
+     * Enables the on-disk tier of decoded, downscaled images.
+     *
+     * @param directory cache directory, created when missing
+     * @param maxBytes  disk budget in bytes
+     */
+    public static void enableDiskTier(Path directory, long maxBytes) throws IOException {
+        diskTier = new ImageDiskCache(directory, maxBytes);
+    }
+
+    /** Disables the on-disk tier; existing files are left in place. */
+    public static void disableDiskTier() {
+        diskTier = null;
+    }
+
+    /**
+     * Pre-loads an image into the cache asynchronously at {@link Priority#PREFETCH}.
      * Useful for pre-caching profile photos before they're displayed.
      *
      * @param path   image path
@@ -389,23 +570,34 @@ public final class ImageCache {
      * @param height requested height
      */
     public static void preload(String path, double width, double height) {
+        preload(path, width, height, Priority.PREFETCH);
+    }
+
+    /**
+     * Pre-loads an image into the cache asynchronously at the given priority. Prefetches are dropped
+     * when the queue is full; visible requests are always queued and overtake pending prefetches.
+     */
+    public static void preload(String path, double width, double height, Priority priority) {
+        Objects.requireNonNull(priority, "priority cannot be null");
         if (path == null || path.isBlank()) {
             return;
         }
 
         String key = cacheKey(path, width, height);
-        synchronized (CACHE) {
-            if (CACHE.containsKey(key)) {
-                return;
-            }
+        if (CACHE.containsKey(key)) {
+            return;
         }
 
         if (!IN_FLIGHT_PRELOADS.add(key)) {
+            CompletableFuture<Image> inFlight = IN_FLIGHT_LOADS.get(key);
+            if (inFlight != null) {
+                promote(inFlight, priority);
+            }
             return;
         }
 
         try {
-            startAsyncLoad(key, path, width, height).thenRun(() -> logDebug("Preloaded image: {}", path));
+            startAsyncLoad(key, path, width, height, priority).thenRun(() -> logDebug("Preloaded image: {}", path));
         } catch (RejectedExecutionException _) {
             IN_FLIGHT_PRELOADS.remove(key);
             logDebug("Dropped preload request for {} because the queue is full", path);
@@ -416,6 +608,24 @@ public final class ImageCache {
         return path + "@" + width + "x" + height;
     }
 
+    /**
+     * Selects the smallest existing rendition of a local {@code file:} photo that covers the requested
+     * size; other sources, and photos without renditions, load as-is.
+     */
+    static String renditionSource(String path, double width, double height) {
+        try {
+            URI uri = URI.create(path);
+            if (!"file".equalsIgnoreCase(uri.getScheme())) {
+                return path;
+            }
+            Path original = Path.of(uri);
+            Path selected = PhotoRenditions.bestAvailable(original, width, height);
+            return selected.equals(original) ? path : selected.toUri().toString();
+        } catch (IllegalArgumentException _) {
+            return path;
+        }
+    }
+
     private static boolean allowUnsafeRemoteImageHosts() {
         return Boolean.getBoolean(ALLOW_UNSAFE_REMOTE_IMAGE_HOSTS_PROPERTY);
     }
@@ -437,14 +647,51 @@ public final class ImageCache {
         }
     }
 
-    private static final class PreloadThreadFactory implements ThreadFactory {
+    static void setMaxCacheBytesForTests(long maxBytes) {
+        maxCacheBytes = maxBytes;
+    }
+
+    private static ImageDiskCache diskTierFromSystemProperties() {
+        String directory = System.getProperty(DISK_CACHE_DIR_PROPERTY);
+        if (directory == null || directory.isBlank()) {
+            return null;
+        }
+        try {
+            return new ImageDiskCache(
+                    Path.of(directory), Long.getLong(DISK_MAX_BYTES_PROPERTY, UiConstants.IMAGE_DISK_CACHE_MAX_BYTES));
+        } catch (IOException | RuntimeException e) {
+            logWarn("Image disk cache disabled; cannot use {}", directory, e);
+            return null;
+        }
+    }
+
+    /** Cached image with its decoded byte weight and last access tick. */
+    private static record CacheEntry(Image image, long weightBytes, AtomicLong lastAccess) {}
+
+    /** Shared future of one asynchronous load; {@link #claimed} ensures only one queue entry runs it. */
+    private static final class AsyncLoad extends CompletableFuture<Image> {
+        private final String key;
+        private final String path;
+        private final double width;
+        private final double height;
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        private volatile boolean visible;
+
+        private AsyncLoad(String key, String path, double width, double height) {
+            this.key = key;
+            this.path = path;
+            this.width = width;
+            this.height = height;
+        }
+    }
 
+    /** Queue entry ordered by priority, then FIFO within a priority. */
+    private static record QueuedLoad(Priority priority, long sequence, AsyncLoad load)
+            implements Comparable<QueuedLoad> {
         @Override
-        public Thread newThread(Runnable runnable) {
-            Thread thread =
-                    Thread.ofPlatform().name("image-preload-worker", 0).daemon().unstarted(runnable);
-            thread.setPriority(Thread.NORM_PRIORITY - 1);
-            return thread;
+        public int compareTo(QueuedLoad other) {
+            int byPriority = priority.compareTo(other.priority);
+            return byPriority != 0 ? byPriority : Long.compare(sequence, other.sequence);
         }
     }
 
@@ -0,0 +1,223 @@
+package datingapp.ui;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.WritableImage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Optional on-disk tier behind {@link ImageCache} holding already-decoded, already-downscaled pixels.
+ *
+ * <p>Entries are raw ARGB rasters keyed by the memory cache key, so an image evicted from the heap
+ * tier comes back with a sequential read instead of a fresh JPEG decode and rescale. The directory is
+ * trimmed oldest-first once it grows past its byte budget; reads refresh an entry's modification time
+ * so trimming approximates LRU.
+ */
+final class ImageDiskCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImageDiskCache.class);
+
+    private static final int MAGIC = 0x44414943;
+    private static final int HEADER_BYTES = 3 * Integer.BYTES;
+    private static final String FILE_SUFFIX = ".argb";
+    private static final String TEMP_FILE_PREFIX = ".pending-";
+
+    private final Path directory;
+    private final long maxBytes;
+    private final AtomicLong approximateBytes = new AtomicLong();
+
+    ImageDiskCache(Path directory, long maxBytes) throws IOException {
+        this.directory = Objects.requireNonNull(directory, "directory cannot be null");
+        if (maxBytes <= 0) {
+            throw new IllegalArgumentException("maxBytes must be positive");
+        }
+        this.maxBytes = maxBytes;
+        Files.createDirectories(directory);
+        approximateBytes.set(totalBytes(listEntries()));
+    }
+
+    /** Returns the cached pixels for {@code key}, or {@code null} on a miss or unreadable entry. */
+    Image read(String key) {
+        Path file = directory.resolve(fileName(key));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES) {
+                throw new IOException("Truncated image cache entry");
+            }
+            ByteBuffer buffer = ByteBuffer.allocate((int) size).order(ByteOrder.BIG_ENDIAN);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // keep reading until the entry is fully buffered
+            }
+            buffer.flip();
+            int magic = buffer.getInt();
+            int width = buffer.getInt();
+            int height = buffer.getInt();
+            if (magic != MAGIC || width <= 0 || height <= 0 || buffer.remaining() != (long) width * height * 4) {
+                throw new IOException("Malformed image cache entry");
+            }
+            int[] pixels = new int[width * height];
+            buffer.asIntBuffer().get(pixels);
+            WritableImage image = new WritableImage(width, height);
+            image.getPixelWriter().setPixels(0, 0, width, height, PixelFormat.getIntArgbInstance(), pixels, 0, width);
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            return image;
+        } catch (NoSuchFileException _) {
+            return null;
+        } catch (IOException | RuntimeException e) {
+            logDebug("Discarding unreadable image cache entry {}: {}", file.getFileName(), e.getMessage());
+            deleteQuietly(file);
+            return null;
+        }
+    }
+
+    /** Stores the decoded pixels of {@code image} under {@code key}, replacing any previous entry. */
+    void write(String key, Image image) {
+        PixelReader reader = image.getPixelReader();
+        int width = (int) image.getWidth();
+        int height = (int) image.getHeight();
+        if (reader == null || width <= 0 || height <= 0) {
+            return;
+        }
+        int[] pixels = new int[width * height];
+        reader.getPixels(0, 0, width, height, PixelFormat.getIntArgbInstance(), pixels, 0, width);
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + pixels.length * 4).order(ByteOrder.BIG_ENDIAN);
+        buffer.putInt(MAGIC).putInt(width).putInt(height);
+        buffer.asIntBuffer().put(pixels);
+        buffer.rewind();
+
+        Path target = directory.resolve(fileName(key));
+        Path temp = null;
+        try {
+            temp = Files.createTempFile(directory, TEMP_FILE_PREFIX, ".tmp");
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException _) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            if (approximateBytes.addAndGet(buffer.capacity()) > maxBytes) {
+                trim();
+            }
+        } catch (IOException e) {
+            logDebug("Failed to write image cache entry {}: {}", target.getFileName(), e.getMessage());
+        } finally {
+            if (temp != null) {
+                deleteQuietly(temp);
+            }
+        }
+    }
+
+    /** Removes every entry. */
+    void clear() {
+        for (Path entry : listEntries()) {
+            deleteQuietly(entry);
+        }
+        approximateBytes.set(0);
+    }
+
+    long approximateBytes() {
+        return approximateBytes.get();
+    }
+
+    /** Deletes the oldest entries until the directory fits its budget again. */
+    synchronized void trim() {
+        List<Path> entries = listEntries();
+        long total = totalBytes(entries);
+        if (total > maxBytes) {
+            entries.sort(Comparator.comparing(ImageDiskCache::lastModified));
+            for (Path entry : entries) {
+                if (total <= maxBytes) {
+                    break;
+                }
+                long size = sizeOf(entry);
+                deleteQuietly(entry);
+                total -= size;
+            }
+        }
+        approximateBytes.set(total);
+    }
+
+    static String fileName(String key) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(key.getBytes(StandardCharsets.UTF_8))) + FILE_SUFFIX;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private List<Path> listEntries() {
+        try (Stream<Path> files = Files.list(directory)) {
+            return new ArrayList<>(files.filter(file -> file.getFileName().toString().endsWith(FILE_SUFFIX))
+                    .toList());
+        } catch (IOException _) {
+            return new ArrayList<>();
+        }
+    }
+
+    private static long totalBytes(List<Path> entries) {
+        long total = 0;
+        for (Path entry : entries) {
+            total += sizeOf(entry);
+        }
+        return total;
+    }
+
+    private static long sizeOf(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException _) {
+            return 0;
+        }
+    }
+
+    private static FileTime lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException _) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException _) {
+            // Best-effort cleanup; a stale entry is trimmed or overwritten later.
+        }
+    }
+
+    private static void logDebug(String message, Object... args) {
+        if (logger.isDebugEnabled()) {
+            logger.debug(message, args);
+        }
+    }
+}
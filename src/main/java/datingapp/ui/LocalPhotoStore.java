@@ -4,6 +4,7 @@ import com.drew.imaging.ImageMetadataReader;
 import com.drew.metadata.Metadata;
 import com.drew.metadata.exif.ExifDirectoryBase;
 import com.drew.metadata.exif.ExifIFD0Directory;
+import datingapp.app.support.PhotoRenditions;
 import java.awt.Graphics2D;
 import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
@@ -24,7 +25,9 @@ import javax.imageio.ImageIO;
  * Manages desktop-local profile photo storage under the user's home directory.
  *
  * <p>Photos are copied into a managed application folder and referenced via {@code file://} URIs.
- * The store also owns lifecycle operations such as delete and primary-photo reordering.
+ * The store also owns lifecycle operations such as delete and primary-photo reordering. Each stored
+ * photo gets downscaled {@link PhotoRenditions} written next to it in the background so list views
+ * can decode a small file; {@link ImageCache} picks them up when present.
  */
 public final class LocalPhotoStore {
 
@@ -138,8 +141,9 @@ public final class LocalPhotoStore {
             return;
         }
         Path managedPath = toManagedPath(photoUrl);
-        if (managedPath != null && Files.exists(managedPath)) {
-            Files.delete(managedPath);
+        if (managedPath != null) {
+            Files.deleteIfExists(managedPath);
+            PhotoRenditions.deleteRenditions(managedPath);
         }
     }
 
@@ -161,6 +165,7 @@ public final class LocalPhotoStore {
             throws IOException {
         if (!validatedImage.requiresNormalization()) {
             Files.copy(sourceFile, destination, StandardCopyOption.REPLACE_EXISTING);
+            PhotoRenditions.deriveAsync(destination, validatedImage.image());
             return;
         }
 
@@ -168,6 +173,7 @@ public final class LocalPhotoStore {
         if (!ImageIO.write(normalized, validatedImage.formatName(), destination.toFile())) {
             throw new IOException("Failed to write normalized image");
         }
+        PhotoRenditions.deriveAsync(destination, normalized);
     }
 
     private Path createManagedPhotoPath(UUID userId, String extension) {
@@ -4,11 +4,14 @@ import datingapp.core.i18n.I18n;
 import datingapp.ui.screen.BaseController;
 import datingapp.ui.viewmodel.ViewModelFactory;
 import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.Deque;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentLinkedDeque;
+import javafx.animation.Animation;
 import javafx.animation.FadeTransition;
 import javafx.animation.Interpolator;
 import javafx.animation.ParallelTransition;
@@ -69,9 +72,23 @@ public final class NavigationService {
     /** Current controller for cleanup when navigating away. */
     private Object currentController;
 
+    /** Current screen and its root node, parked in {@link #viewCache} when navigating away. */
+    private ViewType currentViewType;
+
+    private Parent currentView;
+
+    /** Recently used screens kept loaded so switching back skips the FXML parse. */
+    private final ViewCache viewCache = new ViewCache();
+
+    private Animation activeTransition;
+    private boolean prewarmScheduled;
+
     /** Maximum history size to prevent memory leaks. */
     private static final int MAX_HISTORY_SIZE = 20;
 
+    /** Screens most often opened from the dashboard, loaded ahead of time after sign-in. */
+    private static final List<ViewType> PREWARM_VIEWS = List.of(ViewType.MATCHING, ViewType.MATCHES, ViewType.CHAT);
+
     /** Enum defining available views and their FXML resource paths. */
     public static enum ViewType {
         LOGIN("/fxml/login.fxml"),
@@ -224,46 +241,98 @@ public final class NavigationService {
 
         logInfo("Navigating to: {} with transition: {}", viewType, type);
 
+        stopActiveTransition();
+        long started = System.nanoTime();
+        ViewCache.CachedView cached = viewType == currentViewType ? null : viewCache.take(viewType).orElse(null);
+        LoadedView loaded;
+        if (cached != null) {
+            loaded = new LoadedView(cached.view(), cached.controller());
+            resetTransitionState(loaded.view());
+            long elapsed = System.nanoTime() - started;
+            viewCache.recordHit(elapsed);
+            logDebug("Served {} from the view cache in {} ms", viewType, elapsed / 1_000_000.0);
+        } else {
+            loaded = loadView(viewType, true);
+            if (loaded == null) {
+                return false;
+            }
+            long elapsed = System.nanoTime() - started;
+            viewCache.recordMiss(elapsed);
+            logDebug("Loaded {} from FXML in {} ms", viewType, elapsed / 1_000_000.0);
+        }
+
+        // Park or clean up the old controller before switching
+        detachCurrentView(viewType);
+        if (viewType == ViewType.LOGIN) {
+            // Never carry loaded screens across a sign-in boundary
+            viewCache.clear();
+            prewarmScheduled = false;
+        }
+
+        currentController = loaded.controller();
+        currentView = loaded.view();
+        currentViewType = viewType;
+
+        if (addToHistory) {
+            recordNavigation(viewType);
+        }
+
+        showView(loaded.view(), type);
+        if (cached != null) {
+            cached.controller().onReattached();
+        }
+        schedulePrewarm(viewType);
+        return true;
+    }
+
+    private LoadedView loadView(ViewType viewType, boolean reportErrors) {
         java.net.URL fxmlUrl = getClass().getResource(viewType.getFxmlPath());
         if (fxmlUrl == null) {
             logError("FXML resource not found for view: {}", viewType);
-            UiFeedbackService.showError("Unable to load screen: " + viewType);
-            return false;
+            if (reportErrors) {
+                UiFeedbackService.showError("Unable to load screen: " + viewType);
+            }
+            return null;
         }
 
         FXMLLoader loader = new FXMLLoader(fxmlUrl, I18n.bundle());
         loader.setControllerFactory(viewModelFactory::createController);
 
-        Parent newView;
         try {
-            newView = loader.load();
+            Parent view = loader.load();
+            return new LoadedView(view, loader.getController());
         } catch (IOException | RuntimeException e) {
             logError("Failed to navigate to {}: {}", viewType, e.getMessage(), e);
-            UiFeedbackService.showError("Failed to load screen. Please try again.");
-            return false;
+            if (reportErrors) {
+                UiFeedbackService.showError("Failed to load screen. Please try again.");
+            }
+            return null;
         }
+    }
 
-        // Cleanup old controller before switching
-        if (currentController instanceof BaseController bc) {
-            bc.cleanup();
+    private void detachCurrentView(ViewType nextViewType) {
+        if (!(currentController instanceof BaseController bc)) {
+            return;
         }
-
-        // Store new controller for future cleanup
-        currentController = loader.getController();
-
-        if (addToHistory) {
-            recordNavigation(viewType);
+        boolean parked = currentView != null
+                && currentViewType != null
+                && currentViewType != nextViewType
+                && viewCache.park(new ViewCache.CachedView(currentViewType, currentView, bc));
+        if (!parked) {
+            bc.cleanup();
         }
+    }
 
+    private void showView(Parent newView, TransitionType type) {
         if (type == TransitionType.NONE) {
             rootLayout.setCenter(newView);
-            return true;
+            return;
         }
 
         Parent oldView = (Parent) rootLayout.getCenter();
         if (oldView == null) {
             rootLayout.setCenter(newView);
-            return true;
+            return;
         }
 
         // Create transition container
@@ -276,8 +345,63 @@ public final class NavigationService {
             case SLIDE_RIGHT -> playSlideTransition(oldView, newView, false);
             default -> rootLayout.setCenter(newView);
         }
+    }
 
-        return true;
+    /** Settles an unfinished transition so the next switch starts from the current view alone. */
+    private void stopActiveTransition() {
+        if (activeTransition == null) {
+            return;
+        }
+        activeTransition.stop();
+        activeTransition = null;
+        if (currentView != null) {
+            resetTransitionState(currentView);
+            rootLayout.setCenter(currentView);
+        }
+    }
+
+    /** Undoes what an interrupted or finished transition left on a view that is shown again. */
+    private static void resetTransitionState(Parent view) {
+        view.setOpacity(1);
+        view.setTranslateX(0);
+    }
+
+    /**
+     * After the first post-sign-in dashboard is shown, loads {@link #PREWARM_VIEWS} into the view
+     * cache one per FX pulse so the dashboard stays responsive while they load.
+     */
+    private void schedulePrewarm(ViewType shownView) {
+        if (prewarmScheduled || shownView != ViewType.DASHBOARD) {
+            return;
+        }
+        prewarmScheduled = true;
+        Deque<ViewType> pending = new ArrayDeque<>(PREWARM_VIEWS);
+        Platform.runLater(() -> prewarmNext(pending));
+    }
+
+    private void prewarmNext(Deque<ViewType> pending) {
+        ViewType next = pending.poll();
+        if (next == null || !prewarmScheduled) {
+            return;
+        }
+        // A pending navigation payload belongs to a real navigation; never let a pre-warm consume it
+        if (next != currentViewType && !viewCache.contains(next) && navigationContext.get() == null) {
+            long started = System.nanoTime();
+            LoadedView loaded = loadView(next, false);
+            if (loaded != null && loaded.controller() instanceof BaseController bc) {
+                if (viewCache.park(new ViewCache.CachedView(next, loaded.view(), bc))) {
+                    logDebug("Pre-warmed {} in {} ms", next, (System.nanoTime() - started) / 1_000_000.0);
+                } else {
+                    bc.cleanup();
+                }
+            }
+        }
+        Platform.runLater(() -> prewarmNext(pending));
+    }
+
+    /** Hit/miss counts and average load times of the navigation view cache. */
+    public ViewCacheStats getViewCacheStats() {
+        return viewCache.stats();
     }
 
     private void recordNavigation(ViewType viewType) {
@@ -304,8 +428,10 @@ public final class NavigationService {
         ParallelTransition parallel = new ParallelTransition(fadeOut, fadeIn);
         parallel.setOnFinished(e -> {
             e.consume();
+            activeTransition = null;
             rootLayout.setCenter(newView);
         });
+        activeTransition = parallel;
         parallel.play();
     }
 
@@ -328,9 +454,11 @@ public final class NavigationService {
         ParallelTransition parallel = new ParallelTransition(slideOut, slideIn);
         parallel.setOnFinished(e -> {
             e.consume();
+            activeTransition = null;
             newView.setTranslateX(0);
             rootLayout.setCenter(newView);
         });
+        activeTransition = parallel;
         parallel.play();
     }
 
@@ -375,6 +503,10 @@ public final class NavigationService {
     public void resetNavigationState() {
         clearHistory();
         navigationContext.set(null);
+        prewarmScheduled = false;
+        if (viewCache.size() > 0) {
+            runOnFx(viewCache::clear);
+        }
     }
 
     /**
@@ -453,12 +585,27 @@ public final class NavigationService {
         }
     }
 
+    private void logDebug(String message, Object... args) {
+        if (logger.isDebugEnabled()) {
+            logger.debug(message, args);
+        }
+    }
+
     private void logError(String message, Object... args) {
         if (logger.isErrorEnabled()) {
             logger.error(message, args);
         }
     }
 
+    /**
+     * Navigation view cache counters. A hit is a screen switch served from the cache; a miss is one
+     * that parsed FXML. Averages cover producing the view and exclude transition animations.
+     */
+    public record ViewCacheStats(
+            long hits, long misses, long evictions, double averageHitMillis, double averageMissMillis) {}
+
+    private record LoadedView(Parent view, Object controller) {}
+
     private void applyTheme(Scene scene, UiPreferencesStore.ThemeMode themeMode) {
         Objects.requireNonNull(scene, "scene cannot be null");
         String darkTheme = UiStyles.getThemeUrl();
@@ -52,8 +52,11 @@ public final class UiConstants {
 
     // ── Cache & resources ───────────────────────────────────────────────────
 
-    /** Maximum number of images to cache before eviction. */
-    public static final int IMAGE_CACHE_MAX_SIZE = 100;
+    /** Heap budget for decoded images held by {@link ImageCache}, in bytes. */
+    public static final long IMAGE_CACHE_MAX_BYTES = 96L * 1024 * 1024;
+
+    /** Disk budget for the optional decoded-image tier, in bytes. */
+    public static final long IMAGE_DISK_CACHE_MAX_BYTES = 256L * 1024 * 1024;
 
     /** Default avatar resource path. */
     public static final String DEFAULT_AVATAR_PATH = "/images/default-avatar.png";
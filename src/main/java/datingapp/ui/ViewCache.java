@@ -0,0 +1,123 @@
+package datingapp.ui;
+
+import datingapp.ui.NavigationService.ViewType;
+import datingapp.ui.screen.BaseController;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import javafx.scene.Parent;
+
+/**
+ * Bounded LRU of loaded-but-hidden screens owned by {@link NavigationService}.
+ *
+ * <p>Only views whose controller reports {@link BaseController#isReusable()} are parked. Parking calls
+ * {@link BaseController#onDetached()}; a view evicted past {@code maxEntries}, or dropped by
+ * {@link #clear()}, gets {@link BaseController#cleanup()} as if it had never been cached. Entries are
+ * touched on the FX thread only; the hit/miss counters may be read from any thread.
+ */
+final class ViewCache {
+
+    static final int DEFAULT_MAX_ENTRIES = 4;
+
+    private final int maxEntries;
+    private final Map<ViewType, CachedView> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder hitNanos = new LongAdder();
+    private final LongAdder missNanos = new LongAdder();
+
+    ViewCache() {
+        this(DEFAULT_MAX_ENTRIES);
+    }
+
+    ViewCache(int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive");
+        }
+        this.maxEntries = maxEntries;
+    }
+
+    /** Removes and returns the parked view for {@code type}; the caller now owns it. */
+    Optional<CachedView> take(ViewType type) {
+        return Optional.ofNullable(entries.remove(type));
+    }
+
+    /**
+     * Parks a view that is being navigated away from. Returns {@code false} (and parks nothing) when
+     * the controller is not reusable, in which case the caller should clean it up as before.
+     */
+    boolean park(CachedView view) {
+        Objects.requireNonNull(view, "view cannot be null");
+        if (!view.controller().isReusable()) {
+            return false;
+        }
+        view.controller().onDetached();
+        CachedView replaced = entries.put(view.type(), view);
+        if (replaced != null && replaced.controller() != view.controller()) {
+            replaced.controller().cleanup();
+        }
+        List<CachedView> evicted = new ArrayList<>();
+        var eldest = entries.values().iterator();
+        while (entries.size() > maxEntries && eldest.hasNext()) {
+            evicted.add(eldest.next());
+            eldest.remove();
+        }
+        evicted.forEach(entry -> entry.controller().cleanup());
+        evictions.add(evicted.size());
+        return true;
+    }
+
+    boolean contains(ViewType type) {
+        return entries.containsKey(type);
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    /** Cleans up and drops every parked view, e.g. when the signed-in user changes. */
+    void clear() {
+        List<CachedView> dropped = new ArrayList<>(entries.values());
+        entries.clear();
+        dropped.forEach(entry -> entry.controller().cleanup());
+    }
+
+    void recordHit(long elapsedNanos) {
+        hits.increment();
+        hitNanos.add(elapsedNanos);
+    }
+
+    void recordMiss(long elapsedNanos) {
+        misses.increment();
+        missNanos.add(elapsedNanos);
+    }
+
+    NavigationService.ViewCacheStats stats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        return new NavigationService.ViewCacheStats(
+                hitCount,
+                missCount,
+                evictions.sum(),
+                averageMillis(hitNanos.sum(), hitCount),
+                averageMillis(missNanos.sum(), missCount));
+    }
+
+    private static double averageMillis(long totalNanos, long count) {
+        return count == 0 ? 0.0 : totalNanos / (count * 1_000_000.0);
+    }
+
+    /** A loaded screen: its root node and the controller that owns it. */
+    record CachedView(ViewType type, Parent view, BaseController controller) {
+        CachedView {
+            Objects.requireNonNull(type, "type cannot be null");
+            Objects.requireNonNull(view, "view cannot be null");
+            Objects.requireNonNull(controller, "controller cannot be null");
+        }
+    }
+}
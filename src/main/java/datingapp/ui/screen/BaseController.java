@@ -38,6 +38,7 @@ public abstract class BaseController {
     private final List<Subscription> subscriptions = new ArrayList<>();
     private final List<Node> overlays = new ArrayList<>();
     private final List<Animation> animations = new ArrayList<>();
+    private final List<Animation> pausedAnimations = new ArrayList<>();
     protected final Logger logger = LoggerFactory.getLogger(getClass());
 
     protected final void logDebug(String message, Object... args) {
@@ -113,10 +114,50 @@ public abstract class BaseController {
         // Stop all tracked animations to prevent CPU waste and memory leaks
         animations.forEach(Animation::stop);
         animations.clear();
+        pausedAnimations.clear();
 
         subscriptions.forEach(Subscription::unsubscribe);
         subscriptions.clear();
 
+        removeOverlays();
+    }
+
+    /**
+     * Whether {@link NavigationService} may keep this controller's view loaded after navigating
+     * away, so returning to the screen skips the FXML parse. Reusable controllers must refresh
+     * their data in {@link #onReattached()} instead of relying on {@code initialize} running again.
+     *
+     * @return {@code false} unless the controller opts in
+     */
+    public boolean isReusable() {
+        return false;
+    }
+
+    /**
+     * Called instead of {@link #cleanup()} when the view is parked in the navigation view cache.
+     * Subscriptions stay registered; running tracked animations are paused and overlays removed.
+     * {@link #cleanup()} still runs if the parked view is later evicted.
+     */
+    public void onDetached() {
+        for (Animation animation : animations) {
+            if (animation.getStatus() == Animation.Status.RUNNING) {
+                animation.pause();
+                pausedAnimations.add(animation);
+            }
+        }
+        removeOverlays();
+    }
+
+    /**
+     * Called after a parked view has been shown again. Resumes the animations paused by
+     * {@link #onDetached()}; overrides should call this and then refresh their data.
+     */
+    public void onReattached() {
+        pausedAnimations.forEach(Animation::play);
+        pausedAnimations.clear();
+    }
+
+    private void removeOverlays() {
         StackPane rootStack = overlayRootStack();
         for (Node overlay : overlays) {
             if (overlay != null) {
@@ -841,6 +841,24 @@ public class ChatController extends BaseController implements Initializable {
         });
     }
 
+    @Override
+    public boolean isReusable() {
+        return true;
+    }
+
+    @Override
+    public void onDetached() {
+        viewModel.pausePolling();
+        super.onDetached();
+    }
+
+    @Override
+    public void onReattached() {
+        super.onReattached();
+        viewModel.resumePolling();
+        restoreNavigationSelection();
+    }
+
     @Override
     public void cleanup() {
         if (activeMessagesListener != null) {
@@ -145,28 +145,18 @@ public final class LocationSelectionDialog {
                 errorLabel,
                 confirmButton);
 
+        LocationSelectionDialogViewModel dialogViewModel =
+                new LocationSelectionDialogViewModel(geocodingService, controls);
         if (seed.isPresent() && seed.orElseThrow().selectedCity().isPresent()) {
             City selectedCity = seed.orElseThrow().selectedCity().orElseThrow();
             controls.citySearchField().setText(selectedCity.name());
-            controls.cityListView()
-                    .getItems()
-                    .setAll(geocodingService.search(selectedCity.name(), SEARCH_RESULT_LIMIT));
-            controls.cityListView()
-                    .getSelectionModel()
-                    .select(controls.cityListView().getItems().stream()
-                            .filter(result -> Objects.equals(
-                                    result.displayName(),
-                                    seed.orElseThrow().pendingLocation().label()))
-                            .findFirst()
-                            .orElse(null));
+            dialogViewModel.loadSuggestions(selectedCity.name(), seed.orElseThrow().pendingLocation().label());
             controls.zipField().setText(seed.orElseThrow().zipText());
         } else {
-            controls.cityListView().getItems().setAll(geocodingService.search("", SEARCH_RESULT_LIMIT));
+            dialogViewModel.loadSuggestions("", null);
         }
 
         AtomicReference<ResolvedLocation> pendingLocation = new AtomicReference<>(seededLocation.get());
-        LocationSelectionDialogViewModel dialogViewModel =
-                new LocationSelectionDialogViewModel(geocodingService, controls);
         bindDialogInteractions(
                 locationService, geocodingService, controls, seededLocation, pendingLocation, dialogViewModel);
 
@@ -518,26 +508,38 @@ public final class LocationSelectionDialog {
         }
 
         private void refreshCitySuggestions() {
-            String query = controls.citySearchField().getText();
+            loadSuggestions(controls.citySearchField().getText(), null);
+        }
+
+        /** Loads suggestions off the FX thread and, once they arrive, selects the one labelled {@code selectLabel}. */
+        private void loadSuggestions(String query, String selectLabel) {
             asyncScope.runLatest(
                     SEARCH_TASK_KEY,
                     "load location suggestions",
                     () -> searchSuggestions(query),
-                    this::applySearchSuggestions);
+                    update -> applySearchSuggestions(update, selectLabel));
         }
 
         private CitySearchUpdate searchSuggestions(String query) {
             try {
-                return CitySearchUpdate.success(geocodingService.search(query, SEARCH_RESULT_LIMIT));
+                // The scope runs this on a virtual thread, so waiting here never parks a platform thread
+                // while a remote provider waits out its rate limit.
+                return CitySearchUpdate.success(geocodingService.searchAsync(query, SEARCH_RESULT_LIMIT).join());
             } catch (Exception exception) {
                 logger.warn("Location search failed for query '{}'", query, exception);
                 return CitySearchUpdate.failure("Could not load location suggestions. Try again.");
             }
         }
 
-        private void applySearchSuggestions(CitySearchUpdate update) {
+        private void applySearchSuggestions(CitySearchUpdate update, String selectLabel) {
             if (update.success()) {
                 controls.cityListView().getItems().setAll(update.results());
+                if (selectLabel != null) {
+                    update.results().stream()
+                            .filter(result -> Objects.equals(result.displayName(), selectLabel))
+                            .findFirst()
+                            .ifPresent(controls.cityListView().getSelectionModel()::select);
+                }
                 return;
             }
             controls.cityListView().getItems().clear();
@@ -860,6 +860,17 @@ public class MatchesController extends BaseController implements Initializable {
         super.cleanup();
     }
 
+    @Override
+    public boolean isReusable() {
+        return true;
+    }
+
+    @Override
+    public void onReattached() {
+        super.onReattached();
+        viewModel.initialize();
+    }
+
     private void registerNewMatchBadgeAnimation(String key, Animation animation) {
         Animation previous = newMatchBadgeAnimations.put(key, animation);
         if (previous != null) {
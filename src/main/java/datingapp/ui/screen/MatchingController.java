@@ -13,9 +13,11 @@ import datingapp.ui.UiStyles;
 import datingapp.ui.viewmodel.MatchingViewModel;
 import java.net.URL;
 import java.time.ZoneId;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.ResourceBundle;
+import java.util.Set;
 import java.util.UUID;
 import javafx.animation.FadeTransition;
 import javafx.animation.Interpolator;
@@ -134,7 +136,12 @@ public class MatchingController extends BaseController implements Initializable
     private boolean firstCandidateRendered;
     private long candidatePhotoRequestId;
 
+    /** Primary photos of upcoming candidates warmed in {@link ImageCache} and not yet shown. */
+    private final Set<String> prefetchedCandidatePhotos = new LinkedHashSet<>();
+
     private static final double DRAG_THRESHOLD = 150;
+    private static final double CARD_PHOTO_WIDTH = 400;
+    private static final double CARD_PHOTO_HEIGHT = 350;
 
     private final MatchingViewModel viewModel;
     private final ZoneId userTimeZone;
@@ -215,6 +222,9 @@ public class MatchingController extends BaseController implements Initializable
     }
 
     private void bindPhotoState() {
+        addSubscription(viewModel.currentCandidateProperty().subscribe(this::recordCandidatePhotoPrefetch));
+        addSubscription(
+                viewModel.upcomingCandidatePhotoUrlsProperty().subscribe(this::prefetchUpcomingCandidatePhotos));
         addSubscription(viewModel.currentCandidatePhotoUrlProperty().subscribe(this::updateCandidatePhoto));
         addSubscription(
                 viewModel.currentCandidatePhotoUrlsProperty().subscribe(urls -> updatePhotoControlsVisibility()));
@@ -260,7 +270,7 @@ public class MatchingController extends BaseController implements Initializable
         }
 
         candidatePhoto.setImage(null);
-        ImageCache.getImageAsync(url, 400, 350, image -> {
+        ImageCache.getImageAsync(url, CARD_PHOTO_WIDTH, CARD_PHOTO_HEIGHT, image -> {
             if (requestId != candidatePhotoRequestId) {
                 return;
             }
@@ -275,8 +285,33 @@ public class MatchingController extends BaseController implements Initializable
             return;
         }
         int currentIndex = viewModel.currentCandidatePhotoIndexProperty().get();
-        preloadPhotoAtIndex(photoUrls, currentIndex - 1, 400, 350);
-        preloadPhotoAtIndex(photoUrls, currentIndex + 1, 400, 350);
+        preloadPhotoAtIndex(photoUrls, currentIndex - 1, CARD_PHOTO_WIDTH, CARD_PHOTO_HEIGHT);
+        preloadPhotoAtIndex(photoUrls, currentIndex + 1, CARD_PHOTO_WIDTH, CARD_PHOTO_HEIGHT);
+    }
+
+    /** Warms the cache with the next candidates' primary photos at the exact card size. */
+    private void prefetchUpcomingCandidatePhotos(List<String> photoUrls) {
+        if (photoUrls == null) {
+            return;
+        }
+        for (String photoUrl : photoUrls) {
+            if (!ImageCache.isCached(photoUrl, CARD_PHOTO_WIDTH, CARD_PHOTO_HEIGHT)) {
+                ImageCache.preload(photoUrl, CARD_PHOTO_WIDTH, CARD_PHOTO_HEIGHT);
+            }
+            prefetchedCandidatePhotos.add(photoUrl);
+        }
+    }
+
+    /** Reports whether a prefetched primary photo was already decoded when its card appeared. */
+    private void recordCandidatePhotoPrefetch(User candidate) {
+        if (candidate == null || candidate.getPhotoUrls().isEmpty()) {
+            return;
+        }
+        String primaryPhoto = candidate.getPhotoUrls().getFirst();
+        if (prefetchedCandidatePhotos.remove(primaryPhoto)) {
+            viewModel.recordCandidatePhotoPrefetch(
+                    ImageCache.isCached(primaryPhoto, CARD_PHOTO_WIDTH, CARD_PHOTO_HEIGHT));
+        }
     }
 
     private static void preloadPhotoAtIndex(List<String> photoUrls, int index, double width, double height) {
@@ -289,12 +324,38 @@ public class MatchingController extends BaseController implements Initializable
         }
     }
 
+    @Override
+    public boolean isReusable() {
+        return true;
+    }
+
+    @Override
+    public void onDetached() {
+        cancelPhotoPrefetches();
+        super.onDetached();
+    }
+
+    @Override
+    public void onReattached() {
+        super.onReattached();
+        viewModel.initialize(consumeSelectedCandidateId());
+        updateCandidateUI(viewModel.currentCandidateProperty().get());
+    }
+
     @Override
     public void cleanup() {
-        candidatePhotoRequestId++;
+        cancelPhotoPrefetches();
         super.cleanup();
     }
 
+    private void cancelPhotoPrefetches() {
+        candidatePhotoRequestId++;
+        for (String photoUrl : prefetchedCandidatePhotos) {
+            ImageCache.cancelPreload(photoUrl, CARD_PHOTO_WIDTH, CARD_PHOTO_HEIGHT);
+        }
+        prefetchedCandidatePhotos.clear();
+    }
+
     private void updatePhotoControlsVisibility() {
         if (viewModel.currentCandidatePhotoUrlsProperty().get() == null) {
             return;
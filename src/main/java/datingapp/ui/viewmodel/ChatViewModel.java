@@ -404,6 +404,22 @@ public class ChatViewModel extends BaseViewModel {
         refreshConversations(false);
     }
 
+    /** Stops background polling while the chat screen is parked in the navigation view cache. */
+    public void pausePolling() {
+        stopConversationsPolling();
+        stopMessagesPolling();
+    }
+
+    /** Refreshes and restarts polling when a parked chat screen is shown again. */
+    public void resumePolling() {
+        initialize();
+        ConversationPreview selected = selectedConversation.get();
+        if (selected != null) {
+            loadMessages(selected);
+            startMessagesPolling();
+        }
+    }
+
     private void refreshConversations(boolean silent) {
         User user = ensureCurrentUser();
         if (asyncScope.isDisposed() || user == null) {
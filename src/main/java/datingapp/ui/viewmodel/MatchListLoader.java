@@ -52,12 +52,14 @@ final class MatchListLoader {
         var page = matchesResult.data().page();
         Map<UUID, User> otherUsers = matchesResult.data().usersById();
 
+        Map<String, MatchingUseCases.MatchQualitySnapshot> qualities = resolveMatchQualities(userId, page.items());
+
         List<MatchesViewModel.MatchCardData> cards = new ArrayList<>();
         for (Match match : page.items()) {
             UUID otherUserId = match.getOtherUser(userId);
             User otherUser = otherUsers.get(otherUserId);
             if (otherUser != null) {
-                MatchQualitySummary qualitySummary = resolveMatchQualitySummary(userId, match);
+                MatchQualitySummary qualitySummary = MatchQualitySummary.of(qualities.get(match.getId()));
                 cards.add(new MatchesViewModel.MatchCardData(
                         match.getId(),
                         otherUser.getId(),
@@ -142,14 +144,10 @@ final class MatchListLoader {
         return List.copyOf(sent);
     }
 
-    private MatchQualitySummary resolveMatchQualitySummary(UUID userId, Match match) {
-        var quality =
-                matchingUseCases.matchQuality(new MatchingUseCases.MatchQualityQuery(UserContext.ui(userId), match));
-        if (!quality.success()) {
-            return MatchQualitySummary.empty();
-        }
-        return new MatchQualitySummary(
-                quality.data().compatibilityScore(), quality.data().getCompatibilityLabel());
+    private Map<String, MatchingUseCases.MatchQualitySnapshot> resolveMatchQualities(UUID userId, List<Match> matches) {
+        var qualities = matchingUseCases.matchQualities(
+                new MatchingUseCases.MatchQualitiesQuery(UserContext.ui(userId), matches));
+        return qualities.success() ? qualities.data() : Map.of();
     }
 
     private Map<UUID, User> loadUsersByIds(List<UUID> userIds) {
@@ -183,8 +181,10 @@ final class MatchListLoader {
     record MatchPageResult(List<MatchesViewModel.MatchCardData> cards, int totalCount, boolean hasMore) {}
 
     private record MatchQualitySummary(Integer score, String label) {
-        private static MatchQualitySummary empty() {
-            return new MatchQualitySummary(null, null);
+        private static MatchQualitySummary of(MatchingUseCases.MatchQualitySnapshot quality) {
+            return quality == null
+                    ? new MatchQualitySummary(null, null)
+                    : new MatchQualitySummary(quality.compatibilityScore(), quality.getCompatibilityLabel());
         }
     }
 }
@@ -3,7 +3,8 @@ package datingapp.ui.viewmodel;
 import datingapp.app.usecase.common.UseCaseResult;
 import datingapp.app.usecase.common.UserContext;
 import datingapp.app.usecase.matching.MatchingUseCases;
-import datingapp.app.usecase.matching.MatchingUseCases.BrowseCandidatesCommand;
+import datingapp.app.usecase.matching.MatchingUseCases.BrowseCandidatesPage;
+import datingapp.app.usecase.matching.MatchingUseCases.BrowseCandidatesPageCommand;
 import datingapp.app.usecase.matching.MatchingUseCases.ProcessSwipeCommand;
 import datingapp.app.usecase.matching.MatchingUseCases.UndoSwipeCommand;
 import datingapp.app.usecase.social.SocialUseCases;
@@ -25,9 +26,11 @@ import datingapp.ui.async.UiThreadDispatcher;
 import datingapp.ui.viewmodel.UiDataAdapters.UiProfileNoteDataAccess;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Queue;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -45,9 +48,24 @@ import javafx.beans.property.StringProperty;
  * ViewModel for the Matching screen.
  * Handles the logic for browsing candidates, liking/passing, undoing swipes,
  * and detecting matches.
+ *
+ * <p>To keep fast swipes from stalling on photo decode, the primary photos of the next
+ * {@value #PREFETCH_CANDIDATE_COUNT} queued candidates are published through
+ * {@link #upcomingCandidatePhotoUrlsProperty()} for the view to warm its image cache. Candidates are
+ * loaded from a paged browse session {@value #CANDIDATE_PAGE_SIZE} at a time, and the next page is
+ * fetched by cursor in the background once the queue runs low.
  */
 public class MatchingViewModel extends BaseViewModel {
 
+    /** Number of queued candidates whose primary photo is prefetched ahead of the current card. */
+    static final int PREFETCH_CANDIDATE_COUNT = 3;
+
+    /** Queue depth at which the next page of candidates is fetched in the background. */
+    static final int CANDIDATE_REFILL_THRESHOLD = 3;
+
+    /** Candidates requested per browse page. */
+    static final int CANDIDATE_PAGE_SIZE = 20;
+
     private final CandidateFinder candidateFinder;
     private final UndoService undoService;
     private final MatchingUseCases matchingUseCases;
@@ -69,6 +87,8 @@ public class MatchingViewModel extends BaseViewModel {
     private final StringProperty noteContent = new SimpleStringProperty("");
     private final StringProperty noteStatusMessage = new SimpleStringProperty();
     private final BooleanProperty noteBusy = new SimpleBooleanProperty(false);
+    private final ObjectProperty<List<String>> upcomingCandidatePhotoUrls = new SimpleObjectProperty<>(List.of());
+    private final ObjectProperty<PrefetchMetrics> prefetchMetrics = new SimpleObjectProperty<>(PrefetchMetrics.EMPTY);
     private final IntegerProperty undoCountdownSeconds = new SimpleIntegerProperty(0);
     private final BooleanProperty undoAvailable = new SimpleBooleanProperty(false);
 
@@ -81,6 +101,11 @@ public class MatchingViewModel extends BaseViewModel {
     private UUID prioritizedCandidateId;
     private final AtomicBoolean swipeInProgress = new AtomicBoolean(false);
     private final AtomicInteger noteLoadToken = new AtomicInteger();
+    private final AtomicInteger candidateGeneration = new AtomicInteger();
+    private final Set<UUID> seenCandidateIds = new HashSet<>();
+    private boolean candidateRefillInFlight;
+    /** Cursor of the next browse page; {@code null} once the session has no more candidates. */
+    private String candidateCursor;
     private TaskHandle undoCountdownHandle;
 
     @FunctionalInterface
@@ -167,11 +192,21 @@ public class MatchingViewModel extends BaseViewModel {
         }
 
         UUID requestedCandidateId = prioritizedCandidateId;
+        int generation = candidateGeneration.incrementAndGet();
         asyncScope.runLatest(
-                "matching-refresh", "refresh candidates", () -> fetchCandidates(user, requestedCandidateId), result -> {
+                "matching-refresh",
+                "refresh candidates",
+                () -> fetchFirstCandidatePage(user, requestedCandidateId),
+                result -> {
+                    if (generation != candidateGeneration.get()) {
+                        return;
+                    }
                     locationMissing.set(result.locationMissing());
                     candidateQueue.clear();
                     candidateQueue.addAll(result.candidates());
+                    seenCandidateIds.clear();
+                    candidateRefillInFlight = false;
+                    candidateCursor = result.nextCursor();
                     prioritizedCandidateId = null;
                     if (result.requestedCandidateUnavailable()) {
                         infoMessage.set("That profile is no longer available. Showing other nearby people instead.");
@@ -180,41 +215,62 @@ public class MatchingViewModel extends BaseViewModel {
                 });
     }
 
-    private RefreshResult fetchCandidates(User user, UUID requestedCandidateId) {
-        List<User> candidates = List.of();
-        boolean locationMissingLocal = false;
-        boolean requestedCandidateUnavailable = false;
+    /**
+     * Opens a new browse session and loads its first page. When a specific candidate was requested
+     * and is not on that page, later pages are loaded until it turns up or the session runs out.
+     */
+    private RefreshResult fetchFirstCandidatePage(User user, UUID requestedCandidateId) {
+        logDebug(
+                "Refreshing candidates for user: {} (state={}, isComplete={}, gender={}, interestedIn={})",
+                user.getName(),
+                user.getState(),
+                user.isComplete(),
+                user.getGender(),
+                user.getInterestedIn());
+        RefreshResult page = fetchCandidatePage(user, null);
+        List<User> candidates = new ArrayList<>(page.candidates());
+        String nextCursor = page.nextCursor();
+        while (requestedCandidateId != null
+                && nextCursor != null
+                && !containsCandidate(candidates, requestedCandidateId)) {
+            RefreshResult more = fetchCandidatePage(user, nextCursor);
+            candidates.addAll(more.candidates());
+            nextCursor = more.nextCursor();
+        }
+        CandidatePrioritization prioritization = prioritizeCandidate(List.copyOf(candidates), requestedCandidateId);
+        logDebug("Found {} candidates after filtering", prioritization.candidates().size());
+        return new RefreshResult(
+                prioritization.candidates(),
+                page.locationMissing(),
+                prioritization.requestedCandidateUnavailable(),
+                nextCursor);
+    }
+
+    private RefreshResult fetchCandidatePage(User user, String cursor) {
         try {
-            logDebug(
-                    "Refreshing candidates for user: {} (state={}, isComplete={}, gender={}, interestedIn={})",
-                    user.getName(),
-                    user.getState(),
-                    user.isComplete(),
-                    user.getGender(),
-                    user.getInterestedIn());
-
-            var browseResult =
-                    matchingUseCases.browseCandidates(new BrowseCandidatesCommand(UserContext.ui(user.getId()), user));
-            if (browseResult.success()) {
-                candidates = browseResult.data().candidates();
-                locationMissingLocal = browseResult.data().locationMissing();
-                CandidatePrioritization prioritization = prioritizeCandidate(candidates, requestedCandidateId);
-                candidates = prioritization.candidates();
-                requestedCandidateUnavailable = prioritization.requestedCandidateUnavailable();
-            } else if (user.getState() != UserState.ACTIVE) {
+            var pageResult = matchingUseCases.browseCandidatesPage(new BrowseCandidatesPageCommand(
+                    UserContext.ui(user.getId()), user, cursor, CANDIDATE_PAGE_SIZE));
+            if (pageResult.success()) {
+                BrowseCandidatesPage page = pageResult.data();
+                return new RefreshResult(page.candidates(), page.locationMissing(), false, page.nextCursor());
+            }
+            if (user.getState() != UserState.ACTIVE) {
                 logWarn(
                         "Current user {} is NOT ACTIVE (state={}). Cannot browse candidates. Profile complete: {}",
                         user.getName(),
                         user.getState(),
                         user.isComplete());
             } else {
-                logWarn("Failed to refresh candidates: {}", browseResult.error().message());
+                logWarn("Failed to refresh candidates: {}", pageResult.error().message());
             }
-            logDebug("Found {} candidates after filtering", candidates.size());
         } catch (Exception e) {
             logWarn("Failed to refresh candidates", e);
         }
-        return new RefreshResult(candidates, locationMissingLocal, requestedCandidateUnavailable);
+        return new RefreshResult(List.of(), false, false, null);
+    }
+
+    private static boolean containsCandidate(List<User> candidates, UUID candidateId) {
+        return candidates.stream().anyMatch(candidate -> candidateId.equals(candidate.getId()));
     }
 
     private CandidatePrioritization prioritizeCandidate(List<User> candidates, UUID requestedCandidateId) {
@@ -256,14 +312,92 @@ public class MatchingViewModel extends BaseViewModel {
             }
             hasMoreCandidates.set(next != null);
             if (next != null) {
+                seenCandidateIds.add(next.getId());
                 loadNoteForCandidate(next);
             } else {
                 clearNoteState();
             }
             swipeInProgress.set(false);
+            publishUpcomingCandidatePhotos();
+            refillCandidatesIfLow();
         });
     }
 
+    /** Publishes the primary photo of the next few queued candidates for the view to prefetch. */
+    private void publishUpcomingCandidatePhotos() {
+        List<String> upcoming = new ArrayList<>(PREFETCH_CANDIDATE_COUNT);
+        for (User queued : candidateQueue) {
+            if (upcoming.size() == PREFETCH_CANDIDATE_COUNT) {
+                break;
+            }
+            queued.getPhotoUrls().stream()
+                    .filter(url -> url != null && !url.isBlank())
+                    .findFirst()
+                    .ifPresent(upcoming::add);
+        }
+        upcomingCandidatePhotoUrls.set(List.copyOf(upcoming));
+    }
+
+    /**
+     * Fetches the next page of the browse session in the background once the queue runs low, so the
+     * user does not hit an empty deck after fast swipes. Candidates already shown or queued are
+     * skipped, which matters when an expired session restarts from its first page.
+     */
+    private void refillCandidatesIfLow() {
+        if (isDisposed()
+                || candidateRefillInFlight
+                || candidateCursor == null
+                || candidateQueue.size() >= CANDIDATE_REFILL_THRESHOLD) {
+            return;
+        }
+        User user = ensureCurrentUser();
+        if (user == null) {
+            return;
+        }
+        candidateRefillInFlight = true;
+        int generation = candidateGeneration.get();
+        String cursor = candidateCursor;
+        asyncScope.runLatestSilently(
+                "matching-refill", "prefetch candidates", () -> fetchCandidatePage(user, cursor), result -> {
+                    if (generation != candidateGeneration.get()) {
+                        return;
+                    }
+                    candidateRefillInFlight = false;
+                    candidateCursor = result.nextCursor();
+                    appendRefilledCandidates(result.candidates());
+                });
+    }
+
+    private void appendRefilledCandidates(List<User> candidates) {
+        Set<UUID> known = new HashSet<>(seenCandidateIds);
+        candidateQueue.forEach(queued -> known.add(queued.getId()));
+        int appended = 0;
+        for (User candidate : candidates) {
+            if (known.add(candidate.getId())) {
+                candidateQueue.add(candidate);
+                appended++;
+            }
+        }
+        if (appended == 0) {
+            refillCandidatesIfLow();
+            return;
+        }
+        logDebug("Prefetched {} more candidates", appended);
+        if (currentCandidate.get() == null) {
+            nextCandidate();
+        } else {
+            publishUpcomingCandidatePhotos();
+        }
+    }
+
+    /**
+     * Records whether a candidate's primary photo was already decoded when its card was shown, which
+     * is the hit rate of the prefetch stage.
+     */
+    public void recordCandidatePhotoPrefetch(boolean hit) {
+        prefetchMetrics.set(prefetchMetrics.get().record(hit));
+    }
+
     private void loadNoteForCandidate(User candidate) {
         User user = ensureCurrentUser();
         if (candidate == null || user == null) {
@@ -633,6 +767,14 @@ public class MatchingViewModel extends BaseViewModel {
         return currentCandidatePhotoUrl;
     }
 
+    public ObjectProperty<List<String>> upcomingCandidatePhotoUrlsProperty() {
+        return upcomingCandidatePhotoUrls;
+    }
+
+    public ObjectProperty<PrefetchMetrics> prefetchMetricsProperty() {
+        return prefetchMetrics;
+    }
+
     public void blockCandidate(UUID targetId) {
         User user = ensureCurrentUser();
         if (user == null || targetId == null) {
@@ -706,13 +848,41 @@ public class MatchingViewModel extends BaseViewModel {
     @Override
     protected void onDispose() {
         stopUndoCountdown();
+        candidateGeneration.incrementAndGet();
         candidateQueue.clear();
+        upcomingCandidatePhotoUrls.set(List.of());
+        PrefetchMetrics metrics = prefetchMetrics.get();
+        if (metrics.total() > 0) {
+            logDebug("Candidate photo prefetch hit rate {}% over {} cards", metrics.hitRatePercent(), metrics.total());
+        }
         matchedUser.set(null);
         lastMatch.set(null);
     }
 
+    /** Candidate photo prefetch outcomes for this screen session. */
+    public static record PrefetchMetrics(int hits, int misses) {
+        static final PrefetchMetrics EMPTY = new PrefetchMetrics(0, 0);
+
+        public int total() {
+            return hits + misses;
+        }
+
+        public double hitRate() {
+            int total = total();
+            return total == 0 ? 0.0 : (double) hits / total;
+        }
+
+        public long hitRatePercent() {
+            return Math.round(hitRate() * 100);
+        }
+
+        PrefetchMetrics record(boolean hit) {
+            return hit ? new PrefetchMetrics(hits + 1, misses) : new PrefetchMetrics(hits, misses + 1);
+        }
+    }
+
     private record RefreshResult(
-            List<User> candidates, boolean locationMissing, boolean requestedCandidateUnavailable) {}
+            List<User> candidates, boolean locationMissing, boolean requestedCandidateUnavailable, String nextCursor) {}
 
     private record CandidatePrioritization(List<User> candidates, boolean requestedCandidateUnavailable) {}
 }
@@ -1,9 +1,9 @@
 package datingapp.ui.viewmodel;
 
 import datingapp.app.usecase.common.UserContext;
-import datingapp.app.usecase.profile.ProfileInsightsUseCases.AchievementsQuery;
-import datingapp.app.usecase.profile.ProfileInsightsUseCases.SessionHistoryQuery;
-import datingapp.app.usecase.profile.ProfileInsightsUseCases.StatsQuery;
+import datingapp.app.usecase.profile.ProfileInsightsUseCases;
+import datingapp.app.usecase.profile.ProfileInsightsUseCases.InsightsOverview;
+import datingapp.app.usecase.profile.ProfileInsightsUseCases.InsightsOverviewQuery;
 import datingapp.app.usecase.profile.ProfileUseCases;
 import datingapp.core.AppSession;
 import datingapp.core.connection.ConnectionService;
@@ -54,6 +54,11 @@ public class StatsViewModel extends BaseViewModel {
     private final StringProperty loadFailureMessage = new SimpleStringProperty("");
 
     private static final String UNKNOWN = "unknown";
+    private static final int SESSION_HISTORY_LIMIT = 60;
+    private static final Set<String> REQUIRED_SECTIONS = Set.of(
+            ProfileInsightsUseCases.SECTION_ACHIEVEMENTS,
+            ProfileInsightsUseCases.SECTION_STATS,
+            ProfileInsightsUseCases.SECTION_SESSION_HISTORY);
 
     private final AtomicReference<User> currentUser = new AtomicReference<>();
 
@@ -115,7 +120,11 @@ public class StatsViewModel extends BaseViewModel {
 
     private StatsRefreshData loadStats(User user) {
         try {
-            return StatsRefreshData.success(fetchAchievements(user.getId()), fetchStats(user.getId()), user);
+            InsightsOverview overview = fetchInsightsOverview(user.getId());
+            List<Achievement> unlocked = overview.unlocked().stream()
+                    .map(UserAchievement::achievement)
+                    .toList();
+            return StatsRefreshData.success(unlocked, toStatsData(user.getId(), overview), user);
         } catch (Exception e) {
             logWarn("Failed to load stats for {}: {}", maskUserIdentifier(user), e.getMessage(), e);
             return StatsRefreshData.failure(user, e);
@@ -141,25 +150,35 @@ public class StatsViewModel extends BaseViewModel {
         logInfo("Refreshed stats for user: {}", maskUserIdentifier(data.user()));
     }
 
-    private List<Achievement> fetchAchievements(java.util.UUID userId) {
-        var result = profileUseCases.getAchievements(new AchievementsQuery(UserContext.ui(userId), false));
+    /**
+     * Loads achievements, statistics and session history in one parallel overview. The screen shows
+     * nothing rather than a partial picture, so a degraded section it needs fails the refresh.
+     */
+    private InsightsOverview fetchInsightsOverview(java.util.UUID userId) {
+        var result = profileUseCases.getInsightsOverview(
+                new InsightsOverviewQuery(UserContext.ui(userId), SESSION_HISTORY_LIMIT));
         if (!result.success()) {
-            throw new IllegalStateException(
-                    result.error() != null ? result.error().message() : "Failed to load achievements");
+            String message = result.error() != null ? result.error().message() : UNKNOWN;
+            logWarn("profileUseCases.getInsightsOverview failed: {}", message);
+            throw new IllegalStateException(message);
         }
-        return result.data().unlocked().stream()
-                .map(UserAchievement::achievement)
+        List<String> missing = result.data().degradedSections().stream()
+                .filter(REQUIRED_SECTIONS::contains)
                 .toList();
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("Failed to load " + String.join(", ", missing));
+        }
+        return result.data();
     }
 
-    private StatsData fetchStats(java.util.UUID userId) {
-        UserStats stats = resolveUserStats(userId);
+    private StatsData toStatsData(java.util.UUID userId, InsightsOverview overview) {
+        UserStats stats = overview.stats().orElseThrow(() -> new IllegalStateException("Statistics are unavailable"));
 
         int likesGiven = stats.likesGiven();
         int likesReceived = stats.likesReceived();
         int matchesCount = stats.activeMatches();
         int messageCount = fetchMessagesExchanged(userId);
-        int streakDays = computeLoginStreak(userId);
+        int streakDays = computeLoginStreak(overview.sessionHistory());
 
         String rateText = "--";
         if (likesReceived > 0) {
@@ -170,34 +189,11 @@ public class StatsViewModel extends BaseViewModel {
         return new StatsData(likesGiven, likesReceived, matchesCount, messageCount, streakDays, rateText);
     }
 
-    private UserStats resolveUserStats(java.util.UUID userId) {
-        var result = profileUseCases.getOrComputeStats(new StatsQuery(UserContext.ui(userId)));
-        if (result.success()) {
-            return result.data();
-        }
-        logWarn(
-                "profileUseCases.getOrComputeStats failed: {}",
-                result.error() != null ? result.error().message() : UNKNOWN);
-        throw new IllegalStateException(result.error() != null ? result.error().message() : UNKNOWN);
-    }
-
     private int fetchMessagesExchanged(java.util.UUID userId) {
         return connectionService.getTotalMessagesExchanged(userId);
     }
 
-    private List<Session> fetchSessionHistory(java.util.UUID userId) {
-        var result = profileUseCases.getSessionHistory(new SessionHistoryQuery(UserContext.ui(userId), 60));
-        if (result.success()) {
-            return result.data();
-        }
-        logWarn(
-                "profileUseCases.getSessionHistory failed: {}",
-                result.error() != null ? result.error().message() : UNKNOWN);
-        throw new IllegalStateException(result.error() != null ? result.error().message() : UNKNOWN);
-    }
-
-    private int computeLoginStreak(java.util.UUID userId) {
-        List<Session> sessions = fetchSessionHistory(userId);
+    private int computeLoginStreak(List<Session> sessions) {
         if (sessions.isEmpty()) {
             return 0;
         }
@@ -0,0 +1,95 @@
+package datingapp.app.api;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free log-linear latency histogram in microseconds, in the style of HdrHistogram.
+ *
+ * <p>Values below {@value #SUB_BUCKETS} µs are recorded exactly; above that each power of two is
+ * split into {@value #HALF_SUB_BUCKETS} linear buckets, so any reported percentile is within about
+ * 1.6% of the true value. Values past {@link #MAX_TRACKABLE_MICROS} (about 18 minutes) are clamped.
+ * Recording is safe from any number of threads; reads see a consistent-enough view for reporting.
+ */
+final class LatencyHistogram {
+
+    static final long MAX_TRACKABLE_MICROS = 1L << 30;
+
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int HALF_SUB_BUCKETS = SUB_BUCKETS / 2;
+    private static final int BUCKET_COUNT = bucketIndex(MAX_TRACKABLE_MICROS) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong totalMicros = new AtomicLong();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    void recordNanos(long nanos) {
+        recordMicros(TimeUnit.NANOSECONDS.toMicros(nanos));
+    }
+
+    void recordMicros(long micros) {
+        long value = Math.clamp(micros, 0L, MAX_TRACKABLE_MICROS);
+        counts.incrementAndGet(bucketIndex(value));
+        totalCount.incrementAndGet();
+        totalMicros.addAndGet(value);
+        maxMicros.accumulateAndGet(value, Math::max);
+    }
+
+    long count() {
+        return totalCount.get();
+    }
+
+    long maxMicros() {
+        return maxMicros.get();
+    }
+
+    double meanMicros() {
+        long count = totalCount.get();
+        return count == 0 ? 0.0 : (double) totalMicros.get() / count;
+    }
+
+    /**
+     * Returns the value at {@code percentile} (0–100], reported as the midpoint of its bucket and
+     * never above the recorded maximum; {@code 0} when nothing has been recorded.
+     */
+    long percentileMicros(double percentile) {
+        if (percentile <= 0 || percentile > 100) {
+            throw new IllegalArgumentException("percentile must be in (0, 100]");
+        }
+        long count = totalCount.get();
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1L, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(bucketMidpoint(i), maxMicros.get());
+            }
+        }
+        return maxMicros.get();
+    }
+
+    static int bucketIndex(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) micros;
+        }
+        int shift = Long.SIZE - Long.numberOfLeadingZeros(micros) - SUB_BUCKET_BITS;
+        int subBucket = (int) (micros >>> shift) - HALF_SUB_BUCKETS;
+        return SUB_BUCKETS + (shift - 1) * HALF_SUB_BUCKETS + subBucket;
+    }
+
+    static long bucketMidpoint(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKETS) / HALF_SUB_BUCKETS + 1;
+        long subBucket = (index - SUB_BUCKETS) % HALF_SUB_BUCKETS + HALF_SUB_BUCKETS;
+        long lowest = subBucket << shift;
+        return lowest + ((1L << shift) >>> 1);
+    }
+}
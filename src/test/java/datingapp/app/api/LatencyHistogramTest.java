@@ -0,0 +1,99 @@
+package datingapp.app.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+@Timeout(10)
+@DisplayName("LatencyHistogram")
+class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("small values are exact and percentiles follow rank")
+    void smallValuesAreExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long micros = 1; micros <= 100; micros++) {
+            histogram.recordMicros(micros);
+        }
+
+        assertEquals(100, histogram.count());
+        assertEquals(50, histogram.percentileMicros(50));
+        assertEquals(99, histogram.percentileMicros(99));
+        assertEquals(100, histogram.percentileMicros(100));
+        assertEquals(50.5, histogram.meanMicros(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("large values stay within the bucket precision")
+    void largeValuesStayWithinPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1_000; i++) {
+            histogram.recordMicros(i * 1_000L);
+        }
+
+        assertWithin(500_000, histogram.percentileMicros(50), 0.016);
+        assertWithin(990_000, histogram.percentileMicros(99), 0.016);
+        assertEquals(1_000_000, histogram.maxMicros());
+    }
+
+    @Test
+    @DisplayName("bucket indexes are contiguous and midpoints fall inside their bucket")
+    void bucketsAreContiguous() {
+        int previous = LatencyHistogram.bucketIndex(0);
+        for (long micros = 1; micros < 1 << 16; micros++) {
+            int index = LatencyHistogram.bucketIndex(micros);
+            assertTrue(index == previous || index == previous + 1, "Gap at " + micros);
+            previous = index;
+            assertWithin(micros, LatencyHistogram.bucketMidpoint(index), 0.016);
+        }
+    }
+
+    @Test
+    @DisplayName("values past the trackable range are clamped")
+    void clampsOutOfRangeValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.recordMicros(Long.MAX_VALUE);
+        histogram.recordMicros(-5);
+
+        assertEquals(LatencyHistogram.MAX_TRACKABLE_MICROS, histogram.maxMicros());
+        assertEquals(0, histogram.percentileMicros(50));
+        assertThrows(IllegalArgumentException.class, () -> histogram.percentileMicros(0));
+    }
+
+    @Test
+    @DisplayName("concurrent recording loses no samples")
+    void concurrentRecordingLosesNoSamples() throws Exception {
+        LatencyHistogram histogram = new LatencyHistogram();
+        List<Future<?>> futures = new ArrayList<>();
+        try (ExecutorService pool = Executors.newFixedThreadPool(4)) {
+            for (int t = 0; t < 4; t++) {
+                futures.add(pool.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        histogram.recordNanos(2_000_000L);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        assertEquals(40_000, histogram.count());
+        assertWithin(2_000, histogram.percentileMicros(99.9), 0.016);
+    }
+
+    private static void assertWithin(long expected, long actual, double relativeError) {
+        assertTrue(
+                Math.abs(actual - expected) <= expected * relativeError,
+                "Expected " + actual + " within " + relativeError + " of " + expected);
+    }
+}
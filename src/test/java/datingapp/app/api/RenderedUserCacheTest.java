@@ -0,0 +1,119 @@
+package datingapp.app.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import datingapp.app.event.AppEvent;
+import datingapp.app.testutil.TestEventBus;
+import datingapp.core.model.User;
+import datingapp.core.testutil.TestClock;
+import datingapp.core.testutil.TestUserFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("RenderedUserCache")
+class RenderedUserCacheTest {
+
+    private static final Instant NOW = Instant.parse("2026-06-01T12:00:00Z");
+    private static final ZoneId ZONE = ZoneId.of("UTC");
+
+    private final AtomicInteger lookups = new AtomicInteger();
+    private RenderedUserCache cache;
+
+    @BeforeEach
+    void setUp() {
+        TestClock.setFixed(NOW);
+        cache = new RenderedUserCache(ZONE, user -> "Label " + lookups.incrementAndGet(), 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TestClock.reset();
+    }
+
+    @Test
+    @DisplayName("reuses the rendered label and summary while the profile is unchanged")
+    void reusesRenderingWhileProfileUnchanged() {
+        User user = locatedUser("Alice");
+
+        var first = cache.summary(user);
+
+        assertSame(first, cache.summary(user));
+        assertEquals("Label 1", cache.locationLabel(user));
+        assertEquals("Label 1", first.approximateLocation());
+        assertEquals(1, lookups.get());
+    }
+
+    @Test
+    @DisplayName("re-renders when updatedAt moves or the day rolls over")
+    void reRendersOnUpdateOrNewDay() {
+        User user = locatedUser("Alice");
+        cache.locationLabel(user);
+
+        TestClock.setFixed(NOW.plusSeconds(5));
+        user.setLocation(32.1, 34.8);
+        assertEquals("Label 2", cache.locationLabel(user));
+
+        TestClock.setFixed(NOW.plus(Duration.ofDays(1)));
+        assertEquals("Label 3", cache.locationLabel(user));
+    }
+
+    @Test
+    @DisplayName("profile-save and deletion events evict the user's entry")
+    void eventsEvictEntries() {
+        TestEventBus eventBus = new TestEventBus();
+        cache.register(eventBus);
+        User alice = locatedUser("Alice");
+        User bob = locatedUser("Bob");
+        cache.locationLabel(alice);
+        cache.locationLabel(bob);
+
+        eventBus.publish(new AppEvent.ProfileSaved(alice.getId(), false, NOW));
+        eventBus.publish(new AppEvent.AccountDeleted(bob.getId(), AppEvent.DeletionReason.USER_REQUEST, NOW));
+
+        assertEquals(0, cache.size());
+        assertEquals("Label 3", cache.locationLabel(alice));
+    }
+
+    @Test
+    @DisplayName("users without a location render without a lookup")
+    void usersWithoutLocationSkipLookup() {
+        User user = TestUserFactory.createUser(UUID.randomUUID(), "Nowhere");
+
+        assertNull(cache.locationLabel(user));
+        assertNull(cache.locationLabel(null));
+        assertEquals(0, lookups.get());
+    }
+
+    @Test
+    @DisplayName("evicts the least recently used entry at capacity")
+    void evictsLeastRecentlyUsed() {
+        User alice = locatedUser("Alice");
+        User bob = locatedUser("Bob");
+        User carol = locatedUser("Carol");
+        cache.locationLabel(alice);
+        cache.locationLabel(bob);
+        cache.locationLabel(alice);
+        cache.locationLabel(carol);
+
+        assertEquals(2, cache.size());
+        cache.locationLabel(alice);
+        assertEquals(3, lookups.get());
+        cache.locationLabel(bob);
+        assertEquals(4, lookups.get());
+    }
+
+    private static User locatedUser(String name) {
+        User user = TestUserFactory.createActiveUser(UUID.randomUUID(), name);
+        user.setLocation(32.0853, 34.7818);
+        return user;
+    }
+}
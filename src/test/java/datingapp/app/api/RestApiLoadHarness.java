@@ -0,0 +1,567 @@
+package datingapp.app.api;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import datingapp.app.bootstrap.ApplicationStartup;
+import datingapp.core.AppClock;
+import datingapp.core.ServiceRegistry;
+import datingapp.core.model.User;
+import datingapp.core.model.User.Gender;
+import datingapp.core.model.User.UserState;
+import datingapp.core.profile.MatchPreferences.PacePreferences;
+import datingapp.core.profile.MatchPreferences.PacePreferences.CommunicationStyle;
+import datingapp.core.profile.MatchPreferences.PacePreferences.DepthPreference;
+import datingapp.core.profile.MatchPreferences.PacePreferences.MessagingFrequency;
+import datingapp.core.profile.MatchPreferences.PacePreferences.TimeToFirstDate;
+import datingapp.core.storage.UserStorage;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * End-to-end load test for {@link RestApiServer} on localhost.
+ *
+ * <p>Starts the server on an ephemeral loopback port against whatever database
+ * {@link ApplicationStartup} is configured for (H2 by default, or a local PostgreSQL), signs up a
+ * pool of virtual users and completes their profiles, then replays a scripted session mix from one
+ * virtual thread per user: login, browse, a run of likes and passes, the conversation list, and a
+ * short chat in the newest conversation. Latency is recorded per route template in a
+ * {@link LatencyHistogram}, skipping a warm-up window; failed requests go to a histogram of their
+ * own so fast rejections cannot flatter the percentiles. The resulting {@link Report} is written as
+ * JSON so runs on different commits can be compared with {@link #compare(Report, Report, double)}.
+ *
+ * <p>The harness lives in the test source set and is not packaged with the application; it is named
+ * {@code *Harness} so Surefire's {@code *Test} pattern does not treat it as a test class. Standalone
+ * use: {@code mvn test-compile exec:exec -Dexec.classpathScope=test -Dexec.args="--enable-preview
+ * -classpath %classpath datingapp.app.api.RestApiLoadHarness --users=200 --duration=120
+ * --label=$(git rev-parse --short HEAD) --baseline=target/loadtest/main.json"}. Daily swipe limits
+ * still apply; raise them with {@code DATING_APP_DAILY_LIKE_LIMIT=-1} and
+ * {@code DATING_APP_DAILY_PASS_LIMIT=-1} for long runs. Accounts are created with a run-specific
+ * email prefix and left in place.
+ */
+public final class RestApiLoadHarness {
+
+    private static final Logger logger = LoggerFactory.getLogger(RestApiLoadHarness.class);
+
+    static final String ROUTE_LOGIN = "POST /api/auth/login";
+    static final String ROUTE_BROWSE = "GET /api/users/{id}/browse";
+    static final String ROUTE_LIKE = "POST /api/users/{id}/like/{targetId}";
+    static final String ROUTE_PASS = "POST /api/users/{id}/pass/{targetId}";
+    static final String ROUTE_CONVERSATIONS = "GET /api/users/{id}/conversations";
+    static final String ROUTE_MESSAGES = "GET /api/conversations/{conversationId}/messages";
+    static final String ROUTE_SEND_MESSAGE = "POST /api/conversations/{conversationId}/messages";
+
+    private static final String PASSWORD = "LoadTest-Password-1";
+    private static final String HEADER_AUTHORIZATION = "Authorization";
+    private static final String JSON = "application/json";
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final int UNLIMITED_RATE = Integer.MAX_VALUE;
+    private static final double BASE_LAT = 32.07;
+    private static final double BASE_LON = 34.79;
+
+    /**
+     * Load shape and reporting settings.
+     *
+     * @param virtualUsers concurrent clients, each replaying sessions back to back
+     * @param likeRatio share of swipes that are likes rather than passes
+     * @param thinkTime pause between steps of a session; zero for a closed-loop stress run
+     * @param baselinePath earlier report to compare against, or {@code null}
+     * @param maxP99Increase tolerated relative p99 growth per route before a run counts as regressed
+     */
+    public static record Options(
+            int virtualUsers,
+            Duration duration,
+            Duration warmup,
+            int swipesPerSession,
+            double likeRatio,
+            int messagesPerSession,
+            Duration thinkTime,
+            long seed,
+            String label,
+            Path reportPath,
+            Path baselinePath,
+            double maxP99Increase) {
+        public Options {
+            Objects.requireNonNull(duration, "duration cannot be null");
+            Objects.requireNonNull(warmup, "warmup cannot be null");
+            Objects.requireNonNull(thinkTime, "thinkTime cannot be null");
+            Objects.requireNonNull(label, "label cannot be null");
+            Objects.requireNonNull(reportPath, "reportPath cannot be null");
+            if (virtualUsers < 2) {
+                throw new IllegalArgumentException("virtualUsers must be at least 2");
+            }
+            if (duration.isNegative() || duration.isZero() || warmup.isNegative() || thinkTime.isNegative()) {
+                throw new IllegalArgumentException("duration must be positive; warmup and thinkTime non-negative");
+            }
+            if (swipesPerSession < 0 || messagesPerSession < 0 || likeRatio < 0 || likeRatio > 1) {
+                throw new IllegalArgumentException("session mix is out of range");
+            }
+            if (maxP99Increase < 0) {
+                throw new IllegalArgumentException("maxP99Increase cannot be negative");
+            }
+        }
+
+        static Options defaults() {
+            return new Options(
+                    50,
+                    Duration.ofSeconds(60),
+                    Duration.ofSeconds(10),
+                    10,
+                    0.6,
+                    3,
+                    Duration.ofMillis(50),
+                    42L,
+                    "local",
+                    Path.of("target", "loadtest", "report.json"),
+                    null,
+                    0.2);
+        }
+    }
+
+    /**
+     * Latency summary of one route template, in milliseconds. {@code requests} counts every response;
+     * the percentiles cover successful ones only, and failures are summarised by the error fields.
+     */
+    public static record RouteReport(
+            String route,
+            long requests,
+            long errors,
+            double meanMillis,
+            double p50Millis,
+            double p90Millis,
+            double p99Millis,
+            double p999Millis,
+            double maxMillis,
+            double errorMeanMillis,
+            double errorP99Millis) {}
+
+    /** A finished run; serialised as JSON for comparison across commits. */
+    public static record Report(
+            String label,
+            String startedAt,
+            int virtualUsers,
+            long measuredSeconds,
+            long totalRequests,
+            long totalErrors,
+            double requestsPerSecond,
+            List<RouteReport> routes) {
+        public Report {
+            routes = routes == null ? List.of() : List.copyOf(routes);
+        }
+    }
+
+    /** A route whose p99 grew past the tolerated increase, or that only fails now. */
+    public static record Regression(String route, double baselineP99Millis, double currentP99Millis) {}
+
+    private final ServiceRegistry services;
+    private final Options options;
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final Map<String, RouteStats> stats = new ConcurrentHashMap<>();
+    private HttpClient client;
+    private String baseUrl;
+    private volatile long measureFromNanos;
+
+    public RestApiLoadHarness(ServiceRegistry services, Options options) {
+        this.services = Objects.requireNonNull(services, "services cannot be null");
+        this.options = Objects.requireNonNull(options, "options cannot be null");
+    }
+
+    /** Runs provisioning, warm-up and the measured window, then returns the report. */
+    public Report run() throws InterruptedException {
+        RestApiServer server = new RestApiServer(
+                services, "127.0.0.1", 0, null, Set.of(), Duration.ofSeconds(1), UNLIMITED_RATE);
+        server.start();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            baseUrl = "http://127.0.0.1:" + server.getApp().port();
+            client = HttpClient.newBuilder()
+                    .executor(clients)
+                    .connectTimeout(REQUEST_TIMEOUT)
+                    .build();
+            List<VirtualUser> users = provision(clients);
+            Instant startedAt = AppClock.now();
+            long started = System.nanoTime();
+            measureFromNanos = started + options.warmup().toNanos();
+            long deadline = measureFromNanos + options.duration().toNanos();
+            List<Future<?>> sessions = new ArrayList<>();
+            for (VirtualUser user : users) {
+                sessions.add(clients.submit(() -> replaySessions(user, deadline)));
+            }
+            awaitAll(sessions);
+            return buildReport(startedAt);
+        } finally {
+            server.stop();
+        }
+    }
+
+    private List<VirtualUser> provision(ExecutorService clients) throws InterruptedException {
+        String runPrefix = "loadtest-" + System.currentTimeMillis() + "-";
+        UserStorage userStorage = services.getUserStorage();
+        List<Future<VirtualUser>> signups = new ArrayList<>();
+        for (int i = 0; i < options.virtualUsers(); i++) {
+            int index = i;
+            signups.add(clients.submit(() -> {
+                String email = runPrefix + index + "@example.com";
+                JsonNode session = postJson(null, "/api/auth/signup", Map.of(
+                        "email", email,
+                        "password", PASSWORD,
+                        "dateOfBirth", LocalDate.of(1990 + index % 10, 1 + index % 12, 1 + index % 28).toString(),
+                        "name", "Load Tester " + index));
+                UUID id = UUID.fromString(session.path("user").path("id").asText());
+                userStorage.save(completeProfile(userStorage, id, index));
+                return new VirtualUser(id, email, new SplittableRandom(options.seed() + index));
+            }));
+        }
+        List<VirtualUser> users = new ArrayList<>();
+        for (Future<VirtualUser> signup : signups) {
+            try {
+                users.add(signup.get());
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Failed to provision load-test users", e.getCause());
+            }
+        }
+        logInfo("Provisioned {} load-test users against {}", users.size(), baseUrl);
+        return users;
+    }
+
+    /**
+     * Fills in the profile a signup leaves incomplete: alternating binary genders interested in each
+     * other, all within a few kilometres, so browse has candidates and mutual likes become matches.
+     */
+    private static User completeProfile(UserStorage userStorage, UUID id, int index) {
+        User signedUp = userStorage.get(id).orElseThrow(() -> new IllegalStateException("Missing user " + id));
+        boolean male = index % 2 == 0;
+        return User.StorageBuilder.create(id, signedUp.getName(), signedUp.getCreatedAt())
+                .email(signedUp.getEmail())
+                .birthDate(signedUp.getBirthDate())
+                .bio("Load-test user " + index)
+                .gender(male ? Gender.MALE : Gender.FEMALE)
+                .interestedIn(EnumSet.of(male ? Gender.FEMALE : Gender.MALE))
+                .location(BASE_LAT + (index % 50) * 0.001, BASE_LON + (index / 50 % 50) * 0.001)
+                .maxDistanceKm(50)
+                .ageRange(18, 60)
+                .rawPhotoUrls(List.of("https://example.com/loadtest/" + index + ".jpg"))
+                .pacePreferences(new PacePreferences(
+                        MessagingFrequency.OFTEN,
+                        TimeToFirstDate.FEW_DAYS,
+                        CommunicationStyle.TEXT_ONLY,
+                        DepthPreference.SMALL_TALK))
+                .state(UserState.ACTIVE)
+                .updatedAt(AppClock.now())
+                .build();
+    }
+
+    private void replaySessions(VirtualUser user, long deadline) {
+        while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+            try {
+                replaySession(user, deadline);
+            } catch (InterruptedException _) {
+                Thread.currentThread().interrupt();
+            } catch (IOException | RuntimeException e) {
+                // The failed request is already counted; start the next session from login.
+                logDebug("Session for {} aborted: {}", user.id(), e.getMessage());
+            }
+        }
+    }
+
+    private void replaySession(VirtualUser user, long deadline) throws IOException, InterruptedException {
+        JsonNode login = timed(
+                ROUTE_LOGIN, null, "POST", "/api/auth/login", Map.of("email", user.email(), "password", PASSWORD));
+        String token = "Bearer " + login.path("accessToken").asText();
+        pause();
+
+        JsonNode browse = timed(ROUTE_BROWSE, token, "GET", "/api/users/" + user.id() + "/browse", null);
+        List<String> candidates = new ArrayList<>();
+        for (JsonNode candidate : browse.path("candidates")) {
+            candidates.add(candidate.path("id").asText());
+        }
+        for (int i = 0; i < Math.min(options.swipesPerSession(), candidates.size()); i++) {
+            if (System.nanoTime() >= deadline) {
+                return;
+            }
+            boolean like = user.random().nextDouble() < options.likeRatio();
+            String action = like ? "/like/" : "/pass/";
+            String path = "/api/users/" + user.id() + action + candidates.get(i);
+            timed(like ? ROUTE_LIKE : ROUTE_PASS, token, "POST", path, null);
+            pause();
+        }
+
+        JsonNode conversations =
+                timed(ROUTE_CONVERSATIONS, token, "GET", "/api/users/" + user.id() + "/conversations", null);
+        if (conversations.isArray() && conversations.size() > 0) {
+            String conversationId = conversations.get(0).path("id").asText();
+            String messagesPath = "/api/conversations/" + conversationId + "/messages";
+            timed(ROUTE_MESSAGES, token, "GET", messagesPath, null);
+            for (int i = 0; i < options.messagesPerSession() && System.nanoTime() < deadline; i++) {
+                pause();
+                timed(ROUTE_SEND_MESSAGE, token, "POST", messagesPath, Map.of(
+                        "senderId", user.id().toString(), "content", "Load-test message " + i));
+            }
+        }
+        pause();
+    }
+
+    private JsonNode timed(String route, String token, String method, String path, Object body)
+            throws IOException, InterruptedException {
+        long started = System.nanoTime();
+        HttpResponse<String> response;
+        try {
+            response = client.send(request(token, method, path, body), HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            record(route, started, false);
+            throw e;
+        }
+        boolean success = response.statusCode() / 100 == 2;
+        record(route, started, success);
+        if (!success) {
+            throw new IOException(route + " returned HTTP " + response.statusCode());
+        }
+        return response.body().isBlank() ? mapper.readTree("{}") : mapper.readTree(response.body());
+    }
+
+    private JsonNode postJson(String token, String path, Object body) throws IOException, InterruptedException {
+        HttpResponse<String> response =
+                client.send(request(token, "POST", path, body), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() / 100 != 2) {
+            throw new IOException("POST " + path + " returned HTTP " + response.statusCode() + ": " + response.body());
+        }
+        return mapper.readTree(response.body());
+    }
+
+    private HttpRequest request(String token, String method, String path, Object body) throws IOException {
+        HttpRequest.Builder builder =
+                HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(REQUEST_TIMEOUT);
+        if (token != null) {
+            builder.header(HEADER_AUTHORIZATION, token);
+        }
+        if (body == null) {
+            return builder.method(method, HttpRequest.BodyPublishers.noBody()).build();
+        }
+        return builder.header("Content-Type", JSON)
+                .method(method, HttpRequest.BodyPublishers.ofString(mapper.writeValueAsString(body)))
+                .build();
+    }
+
+    private void record(String route, long startedNanos, boolean success) {
+        if (startedNanos < measureFromNanos) {
+            return;
+        }
+        RouteStats routeStats = stats.computeIfAbsent(route, _ -> new RouteStats());
+        LatencyHistogram latency = success ? routeStats.successes : routeStats.failures;
+        latency.recordNanos(System.nanoTime() - startedNanos);
+    }
+
+    private void pause() throws InterruptedException {
+        if (!options.thinkTime().isZero()) {
+            Thread.sleep(options.thinkTime());
+        }
+    }
+
+    private Report buildReport(Instant startedAt) {
+        List<RouteReport> routes = new ArrayList<>();
+        long totalRequests = 0;
+        long totalErrors = 0;
+        for (Map.Entry<String, RouteStats> entry : stats.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .toList()) {
+            RouteReport route = toRouteReport(entry.getKey(), entry.getValue().successes, entry.getValue().failures);
+            routes.add(route);
+            totalRequests += route.requests();
+            totalErrors += route.errors();
+        }
+        long seconds = Math.max(1L, options.duration().toSeconds());
+        return new Report(
+                options.label(),
+                startedAt.toString(),
+                options.virtualUsers(),
+                seconds,
+                totalRequests,
+                totalErrors,
+                (double) totalRequests / seconds,
+                routes);
+    }
+
+    static RouteReport toRouteReport(String route, LatencyHistogram successes, LatencyHistogram failures) {
+        return new RouteReport(
+                route,
+                successes.count() + failures.count(),
+                failures.count(),
+                successes.meanMicros() / 1000.0,
+                successes.percentileMicros(50) / 1000.0,
+                successes.percentileMicros(90) / 1000.0,
+                successes.percentileMicros(99) / 1000.0,
+                successes.percentileMicros(99.9) / 1000.0,
+                successes.maxMicros() / 1000.0,
+                failures.meanMicros() / 1000.0,
+                failures.percentileMicros(99) / 1000.0);
+    }
+
+    /**
+     * Lists routes whose p99 grew by more than {@code maxP99Increase} (0.2 = 20%) over the baseline,
+     * or that had requests in the baseline but none succeeded now. Only successful responses feed
+     * the p99, so a route without successes in the baseline has no p99 to regress from. Routes new in
+     * {@code current} are not regressions.
+     */
+    public static List<Regression> compare(Report baseline, Report current, double maxP99Increase) {
+        Objects.requireNonNull(baseline, "baseline cannot be null");
+        Objects.requireNonNull(current, "current cannot be null");
+        Map<String, RouteReport> currentRoutes = new HashMap<>();
+        current.routes().forEach(route -> currentRoutes.put(route.route(), route));
+        List<Regression> regressions = new ArrayList<>();
+        for (RouteReport before : baseline.routes()) {
+            RouteReport after = currentRoutes.get(before.route());
+            if (after == null || before.requests() == 0) {
+                continue;
+            }
+            boolean succeededBefore = before.errors() < before.requests();
+            boolean nowFailing = after.errors() == after.requests() && succeededBefore;
+            boolean slower = succeededBefore && after.p99Millis() > before.p99Millis() * (1 + maxP99Increase);
+            if (nowFailing || slower) {
+                regressions.add(new Regression(before.route(), before.p99Millis(), after.p99Millis()));
+            }
+        }
+        return regressions;
+    }
+
+    private void awaitAll(List<Future<?>> futures) throws InterruptedException {
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                logDebug("Virtual user failed: {}", e.getCause().getMessage());
+            }
+        }
+    }
+
+    static Options parseOptions(String[] args) {
+        Options defaults = Options.defaults();
+        int users = defaults.virtualUsers();
+        long durationSeconds = defaults.duration().toSeconds();
+        long warmupSeconds = defaults.warmup().toSeconds();
+        int swipes = defaults.swipesPerSession();
+        double likeRatio = defaults.likeRatio();
+        int messages = defaults.messagesPerSession();
+        long thinkMillis = defaults.thinkTime().toMillis();
+        long seed = defaults.seed();
+        String label = defaults.label();
+        Path report = defaults.reportPath();
+        Path baseline = defaults.baselinePath();
+        double maxIncrease = defaults.maxP99Increase();
+        for (String arg : args) {
+            if (arg == null || arg.isBlank()) {
+                continue;
+            }
+            int split = arg.indexOf('=');
+            if (!arg.startsWith("--") || split < 0) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            String value = arg.substring(split + 1).trim();
+            switch (arg.substring(2, split)) {
+                case "users" -> users = Integer.parseInt(value);
+                case "duration" -> durationSeconds = Long.parseLong(value);
+                case "warmup" -> warmupSeconds = Long.parseLong(value);
+                case "swipes" -> swipes = Integer.parseInt(value);
+                case "like-ratio" -> likeRatio = Double.parseDouble(value);
+                case "messages" -> messages = Integer.parseInt(value);
+                case "think-ms" -> thinkMillis = Long.parseLong(value);
+                case "seed" -> seed = Long.parseLong(value);
+                case "label" -> label = value;
+                case "report" -> report = Path.of(value);
+                case "baseline" -> baseline = Path.of(value);
+                case "max-p99-increase" -> maxIncrease = Double.parseDouble(value);
+                default -> throw new IllegalArgumentException("Unknown load-test argument: " + arg);
+            }
+        }
+        return new Options(
+                users,
+                Duration.ofSeconds(durationSeconds),
+                Duration.ofSeconds(warmupSeconds),
+                swipes,
+                likeRatio,
+                messages,
+                Duration.ofMillis(thinkMillis),
+                seed,
+                label,
+                report,
+                baseline,
+                maxIncrease);
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Options options = parseOptions(args);
+        ServiceRegistry services = ApplicationStartup.initialize();
+        Report report;
+        try {
+            report = new RestApiLoadHarness(services, options).run();
+        } finally {
+            ApplicationStartup.shutdown();
+        }
+
+        ObjectMapper mapper = new ObjectMapper();
+        Path reportPath = options.reportPath().toAbsolutePath();
+        Files.createDirectories(reportPath.getParent());
+        Files.writeString(reportPath, mapper.writerWithDefaultPrettyPrinter().writeValueAsString(report));
+        for (RouteReport route : report.routes()) {
+            logInfo(
+                    "{}: {} req, p50 {} ms, p99 {} ms, max {} ms; {} err, error p99 {} ms",
+                    route.route(),
+                    route.requests(),
+                    route.p50Millis(),
+                    route.p99Millis(),
+                    route.maxMillis(),
+                    route.errors(),
+                    route.errorP99Millis());
+        }
+        logInfo("{} requests/s overall; report written to {}", Math.round(report.requestsPerSecond()), reportPath);
+
+        if (options.baselinePath() != null) {
+            Report baseline = mapper.readValue(Files.readString(options.baselinePath()), Report.class);
+            List<Regression> regressions = compare(baseline, report, options.maxP99Increase());
+            if (!regressions.isEmpty()) {
+                throw new IllegalStateException("p99 regressions against " + baseline.label() + ": " + regressions);
+            }
+            logInfo("No p99 regressions against baseline {}", baseline.label());
+        }
+    }
+
+    private static void logInfo(String message, Object... args) {
+        if (logger.isInfoEnabled()) {
+            logger.info(message, args);
+        }
+    }
+
+    private static void logDebug(String message, Object... args) {
+        if (logger.isDebugEnabled()) {
+            logger.debug(message, args);
+        }
+    }
+
+    private static record VirtualUser(UUID id, String email, SplittableRandom random) {}
+
+    private static final class RouteStats {
+        private final LatencyHistogram successes = new LatencyHistogram();
+        private final LatencyHistogram failures = new LatencyHistogram();
+    }
+}
@@ -0,0 +1,96 @@
+package datingapp.app.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import datingapp.app.api.RestApiLoadHarness.Options;
+import datingapp.app.api.RestApiLoadHarness.Regression;
+import datingapp.app.api.RestApiLoadHarness.Report;
+import datingapp.app.api.RestApiLoadHarness.RouteReport;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("RestApiLoadHarness options and report comparison")
+class RestApiLoadHarnessTest {
+
+    @Test
+    @DisplayName("parses command-line overrides on top of the defaults")
+    void parsesArguments() {
+        Options options = RestApiLoadHarness.parseOptions(new String[] {
+            "--users=200", "--duration=120", "--think-ms=0", "--label=abc123", "--baseline=target/base.json"
+        });
+
+        assertEquals(200, options.virtualUsers());
+        assertEquals(Duration.ofSeconds(120), options.duration());
+        assertEquals(Duration.ZERO, options.thinkTime());
+        assertEquals("abc123", options.label());
+        assertEquals(Path.of("target/base.json"), options.baselinePath());
+        assertEquals(Options.defaults().swipesPerSession(), options.swipesPerSession());
+    }
+
+    @Test
+    @DisplayName("rejects unknown and malformed arguments")
+    void rejectsUnknownArguments() {
+        assertThrows(IllegalArgumentException.class, () -> RestApiLoadHarness.parseOptions(new String[] {"--turbo=1"}));
+        assertThrows(IllegalArgumentException.class, () -> RestApiLoadHarness.parseOptions(new String[] {"users"}));
+        assertNull(RestApiLoadHarness.parseOptions(new String[0]).baselinePath());
+    }
+
+    @Test
+    @DisplayName("summarises successes in milliseconds and keeps error latency apart")
+    void summarisesHistogram() {
+        LatencyHistogram successes = new LatencyHistogram();
+        for (int i = 1; i <= 100; i++) {
+            successes.recordMicros(i);
+        }
+        LatencyHistogram failures = new LatencyHistogram();
+        failures.recordMicros(2_000);
+        failures.recordMicros(4_000);
+        failures.recordMicros(6_000);
+
+        RouteReport report = RestApiLoadHarness.toRouteReport(RestApiLoadHarness.ROUTE_BROWSE, successes, failures);
+
+        assertEquals(103, report.requests());
+        assertEquals(3, report.errors());
+        assertEquals(0.05, report.p50Millis(), 1e-9);
+        assertEquals(0.1, report.maxMillis(), 1e-9);
+        assertEquals(4.0, report.errorMeanMillis(), 1e-9);
+        assertEquals(6.0, report.errorP99Millis(), 0.1);
+    }
+
+    @Test
+    @DisplayName("flags p99 growth beyond the tolerance and routes that now only fail")
+    void comparesAgainstBaseline() {
+        Report baseline = report(
+                route(RestApiLoadHarness.ROUTE_BROWSE, 100, 0, 40.0),
+                route(RestApiLoadHarness.ROUTE_LIKE, 100, 0, 10.0),
+                route(RestApiLoadHarness.ROUTE_SEND_MESSAGE, 50, 0, 8.0));
+        Report current = report(
+                route(RestApiLoadHarness.ROUTE_BROWSE, 100, 0, 47.0),
+                route(RestApiLoadHarness.ROUTE_LIKE, 100, 0, 13.0),
+                route(RestApiLoadHarness.ROUTE_SEND_MESSAGE, 20, 20, 1.0),
+                route(RestApiLoadHarness.ROUTE_LOGIN, 10, 0, 300.0));
+
+        List<Regression> regressions = RestApiLoadHarness.compare(baseline, current, 0.2);
+
+        assertEquals(
+                List.of(RestApiLoadHarness.ROUTE_LIKE, RestApiLoadHarness.ROUTE_SEND_MESSAGE),
+                regressions.stream().map(Regression::route).toList());
+        assertTrue(RestApiLoadHarness.compare(baseline, baseline, 0.0).isEmpty());
+        Report failingBaseline = report(route(RestApiLoadHarness.ROUTE_LOGIN, 10, 10, 0.0));
+        assertTrue(RestApiLoadHarness.compare(failingBaseline, current, 0.2).isEmpty());
+    }
+
+    private static Report report(RouteReport... routes) {
+        return new Report("test", "2026-01-01T00:00:00Z", 10, 60, 0, 0, 0, List.of(routes));
+    }
+
+    private static RouteReport route(String name, long requests, long errors, double p99) {
+        return new RouteReport(name, requests, errors, p99 / 2, p99 / 2, p99 * 0.9, p99, p99, p99, 0, 0);
+    }
+}
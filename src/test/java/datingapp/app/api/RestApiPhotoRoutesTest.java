@@ -24,6 +24,7 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.UUID;
@@ -83,6 +84,8 @@ class RestApiPhotoRoutesTest {
         assertEquals(photoUrl, uploadJson.get("primaryPhotoUrl").asText());
         assertEquals(List.of(photoUrl), MAPPER.convertValue(uploadJson.get("photoUrls"), List.class));
         assertTrue(photoUrl.startsWith("http://localhost:"), photoUrl);
+        assertTrue(photoUrl.endsWith("?size=320"), photoUrl);
+        String detailPhotoUrl = photoUrl.replace("?size=320", "?size=1080");
 
         User storedUser = userStorage.get(alice.getId()).orElseThrow();
         assertEquals(1, storedUser.getPhotoUrls().size());
@@ -94,8 +97,8 @@ class RestApiPhotoRoutesTest {
                 authorizedGet(services, port, "/api/users/" + alice.getId(), alice.getId(), alice.getEmail());
         assertEquals(200, userResponse.statusCode(), userResponse.body());
         JsonNode userJson = MAPPER.readTree(userResponse.body());
-        assertEquals(photoUrl, userJson.get("primaryPhotoUrl").asText());
-        assertEquals(photoUrl, userJson.get("photoUrls").get(0).asText());
+        assertEquals(detailPhotoUrl, userJson.get("primaryPhotoUrl").asText());
+        assertEquals(detailPhotoUrl, userJson.get("photoUrls").get(0).asText());
 
         HttpResponse<byte[]> staticPhotoResponse = CLIENT.send(
                 HttpRequest.newBuilder(URI.create(photoUrl)).GET().build(), HttpResponse.BodyHandlers.ofByteArray());
@@ -288,6 +291,120 @@ class RestApiPhotoRoutesTest {
         assertEquals(404, separatorResponse.statusCode());
     }
 
+    @Test
+    @DisplayName("static photo route serves a derived rendition for ?size= and falls back to the original")
+    void staticPhotoRouteServesRequestedRendition() throws Exception {
+        TestStorages.Users userStorage = new TestStorages.Users();
+        TestStorages.Communications communicationStorage = new TestStorages.Communications();
+        TestStorages.Interactions interactionStorage = new TestStorages.Interactions(communicationStorage);
+        User alice = activeUser(UUID.randomUUID(), "Alice", "alice@example.com");
+        userStorage.save(alice);
+
+        ServiceRegistry services = RestApiTestFixture.builder(userStorage, interactionStorage, communicationStorage)
+                .config(photoConfig())
+                .build();
+
+        Path userDirectory = tempDir.resolve("photos").resolve(alice.getId().toString());
+        Files.createDirectories(userDirectory);
+        byte[] originalBytes = pngBytes(0x55AA11);
+        byte[] thumbnailBytes = pngBytes(0x1122FF);
+        Files.write(userDirectory.resolve("sized.png"), originalBytes);
+        Files.write(userDirectory.resolve("sized_96.png"), thumbnailBytes);
+
+        server = new RestApiServer(services, 0);
+        server.start();
+        String photoUrl = BASE_URL + server.getApp().port() + "/photos/" + alice.getId() + "/sized.png";
+
+        HttpResponse<byte[]> thumbnail = CLIENT.send(
+                HttpRequest.newBuilder(URI.create(photoUrl + "?size=96")).GET().build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        assertEquals(200, thumbnail.statusCode());
+        assertArrayEquals(thumbnailBytes, thumbnail.body());
+        assertEquals("\"sized_96.png\"", thumbnail.headers().firstValue("ETag").orElseThrow());
+        assertEquals(
+                RestApiPhotoServing.CACHE_CONTROL_IMMUTABLE,
+                thumbnail.headers().firstValue("Cache-Control").orElseThrow());
+
+        HttpResponse<byte[]> missingRendition = CLIENT.send(
+                HttpRequest.newBuilder(URI.create(photoUrl + "?size=320")).GET().build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        assertEquals(200, missingRendition.statusCode());
+        assertArrayEquals(originalBytes, missingRendition.body());
+        assertEquals(
+                RestApiPhotoServing.CACHE_CONTROL_FALLBACK,
+                missingRendition.headers().firstValue("Cache-Control").orElseThrow());
+
+        HttpResponse<byte[]> unknownSize = CLIENT.send(
+                HttpRequest.newBuilder(URI.create(photoUrl + "?size=abc")).GET().build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        assertEquals(200, unknownSize.statusCode());
+        assertArrayEquals(originalBytes, unknownSize.body());
+    }
+
+    @Test
+    @DisplayName("static photo route sends cache validators, honours If-None-Match and serves byte ranges")
+    void staticPhotoRouteSupportsConditionalAndRangeRequests() throws Exception {
+        TestStorages.Users userStorage = new TestStorages.Users();
+        TestStorages.Communications communicationStorage = new TestStorages.Communications();
+        TestStorages.Interactions interactionStorage = new TestStorages.Interactions(communicationStorage);
+        User alice = activeUser(UUID.randomUUID(), "Alice", "alice@example.com");
+        userStorage.save(alice);
+
+        ServiceRegistry services = RestApiTestFixture.builder(userStorage, interactionStorage, communicationStorage)
+                .config(photoConfig())
+                .build();
+
+        Path userDirectory = tempDir.resolve("photos").resolve(alice.getId().toString());
+        Files.createDirectories(userDirectory);
+        byte[] imageBytes = pngBytes(0x55AA11);
+        Files.write(userDirectory.resolve("cached.png"), imageBytes);
+
+        server = new RestApiServer(services, 0);
+        server.start();
+        URI photoUri = URI.create(BASE_URL + server.getApp().port() + "/photos/" + alice.getId() + "/cached.png");
+
+        HttpResponse<byte[]> full = CLIENT.send(
+                HttpRequest.newBuilder(photoUri).GET().build(), HttpResponse.BodyHandlers.ofByteArray());
+        assertEquals(200, full.statusCode());
+        assertArrayEquals(imageBytes, full.body());
+        String etag = full.headers().firstValue("ETag").orElseThrow();
+        assertEquals("\"cached.png\"", etag);
+        assertEquals(
+                RestApiPhotoServing.CACHE_CONTROL_IMMUTABLE,
+                full.headers().firstValue("Cache-Control").orElseThrow());
+        assertEquals("bytes", full.headers().firstValue("Accept-Ranges").orElseThrow());
+        assertTrue(full.headers().firstValue("Last-Modified").isPresent());
+
+        HttpResponse<byte[]> notModified = CLIENT.send(
+                HttpRequest.newBuilder(photoUri)
+                        .header("If-None-Match", etag)
+                        .GET()
+                        .build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        assertEquals(304, notModified.statusCode());
+        assertEquals(0, notModified.body().length);
+
+        HttpResponse<byte[]> partial = CLIENT.send(
+                HttpRequest.newBuilder(photoUri).header("Range", "bytes=0-9").GET().build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        assertEquals(206, partial.statusCode());
+        assertArrayEquals(Arrays.copyOfRange(imageBytes, 0, 10), partial.body());
+        assertEquals(
+                "bytes 0-9/" + imageBytes.length,
+                partial.headers().firstValue("Content-Range").orElseThrow());
+
+        HttpResponse<byte[]> unsatisfiable = CLIENT.send(
+                HttpRequest.newBuilder(photoUri)
+                        .header("Range", "bytes=" + imageBytes.length + "-")
+                        .GET()
+                        .build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        assertEquals(416, unsatisfiable.statusCode());
+        assertEquals(
+                "bytes */" + imageBytes.length,
+                unsatisfiable.headers().firstValue("Content-Range").orElseThrow());
+    }
+
     @Test
     @DisplayName("list photos returns managed photos with IDs and URLs")
     void listPhotosReturnsManagedPhotosWithIdsAndUrls() throws Exception {
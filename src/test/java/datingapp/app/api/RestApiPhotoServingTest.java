@@ -0,0 +1,89 @@
+package datingapp.app.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import datingapp.app.api.RestApiPhotoServing.RangeDecision;
+import datingapp.app.api.RestApiPhotoStorage.PhotoFile;
+import java.nio.file.Path;
+import java.time.Instant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("REST API photo serving")
+class RestApiPhotoServingTest {
+
+    private static final Instant LAST_MODIFIED = Instant.parse("2026-02-01T10:15:30.250Z");
+    private static final String ETAG = RestApiPhotoServing.etag("photo.jpg");
+    private static final PhotoFile PHOTO =
+            new PhotoFile(Path.of("photo.jpg"), "photo.jpg", "image/jpeg", 1000, LAST_MODIFIED);
+
+    @Test
+    @DisplayName("If-None-Match matches the strong, weak, wildcard and listed forms of the ETag")
+    void ifNoneMatchMatchesEtagForms() {
+        assertTrue(RestApiPhotoServing.isNotModified(ETAG, null, ETAG, PHOTO));
+        assertTrue(RestApiPhotoServing.isNotModified("W/" + ETAG, null, ETAG, PHOTO));
+        assertTrue(RestApiPhotoServing.isNotModified("*", null, ETAG, PHOTO));
+        assertTrue(RestApiPhotoServing.isNotModified("\"other.jpg\", " + ETAG, null, ETAG, PHOTO));
+        assertFalse(RestApiPhotoServing.isNotModified("\"other.jpg\"", null, ETAG, PHOTO));
+    }
+
+    @Test
+    @DisplayName("renditions are cached as immutable while an original served in their place is short-lived")
+    void fallbackOriginalIsNotCachedAsImmutable() {
+        assertEquals(RestApiPhotoServing.CACHE_CONTROL_IMMUTABLE, RestApiPhotoServing.cacheControl(PHOTO));
+        assertEquals(RestApiPhotoServing.CACHE_CONTROL_FALLBACK, RestApiPhotoServing.cacheControl(PHOTO.asFallback()));
+    }
+
+    @Test
+    @DisplayName("If-Modified-Since compares at second precision and is ignored when If-None-Match is sent")
+    void ifModifiedSinceUsesSecondPrecision() {
+        String sameSecond = RestApiPhotoServing.formatHttpDate(LAST_MODIFIED);
+        String earlier = RestApiPhotoServing.formatHttpDate(LAST_MODIFIED.minusSeconds(60));
+
+        assertTrue(RestApiPhotoServing.isNotModified(null, sameSecond, ETAG, PHOTO));
+        assertFalse(RestApiPhotoServing.isNotModified(null, earlier, ETAG, PHOTO));
+        assertFalse(RestApiPhotoServing.isNotModified("\"other.jpg\"", sameSecond, ETAG, PHOTO));
+        assertFalse(RestApiPhotoServing.isNotModified(null, "not a date", ETAG, PHOTO));
+    }
+
+    @Test
+    @DisplayName("single byte ranges resolve to partial content, clamped to the file size")
+    void singleRangesResolveToPartialContent() {
+        assertEquals(range(RangeDecision.Kind.PARTIAL, 0, 10), resolve("bytes=0-9"));
+        assertEquals(range(RangeDecision.Kind.PARTIAL, 900, 100), resolve("bytes=900-"));
+        assertEquals(range(RangeDecision.Kind.PARTIAL, 950, 50), resolve("bytes=-50"));
+        assertEquals(range(RangeDecision.Kind.PARTIAL, 990, 10), resolve("bytes=990-5000"));
+    }
+
+    @Test
+    @DisplayName("unsatisfiable, multi-range and malformed headers are handled without errors")
+    void edgeCaseRangesFallBackSafely() {
+        assertEquals(RangeDecision.Kind.UNSATISFIABLE, resolve("bytes=1000-").kind());
+        assertEquals(RangeDecision.Kind.UNSATISFIABLE, resolve("bytes=-0").kind());
+        assertEquals(RangeDecision.full(1000), resolve("bytes=0-1,5-9"));
+        assertEquals(RangeDecision.full(1000), resolve("bytes=abc-"));
+        assertEquals(RangeDecision.full(1000), resolve("items=0-9"));
+        assertEquals(RangeDecision.full(1000), resolve(null));
+    }
+
+    @Test
+    @DisplayName("a stale If-Range validator downgrades the request to the full body")
+    void staleIfRangeServesFullBody() {
+        assertEquals(
+                range(RangeDecision.Kind.PARTIAL, 0, 10),
+                RestApiPhotoServing.resolveRange("bytes=0-9", ETAG, ETAG, LAST_MODIFIED, 1000));
+        assertEquals(
+                RangeDecision.full(1000),
+                RestApiPhotoServing.resolveRange("bytes=0-9", "\"other.jpg\"", ETAG, LAST_MODIFIED, 1000));
+    }
+
+    private static RangeDecision resolve(String header) {
+        return RestApiPhotoServing.resolveRange(header, null, ETAG, LAST_MODIFIED, 1000);
+    }
+
+    private static RangeDecision range(RangeDecision.Kind kind, long start, long length) {
+        return new RangeDecision(kind, start, length);
+    }
+}
@@ -2,6 +2,7 @@ package datingapp.app.bootstrap;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -13,7 +14,11 @@ import datingapp.storage.DatabaseManager;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -178,6 +183,62 @@ class ApplicationStartupBootstrapTest {
         assertSame(services, ApplicationStartup.getServices());
     }
 
+    @Test
+    @DisplayName("initialize should record phase timings in the startup report")
+    void initializeRecordsPhaseTimings() {
+        ApplicationStartup.initialize(AppConfig.defaults());
+
+        StartupReport report = ApplicationStartup.lastStartupReport().orElseThrow();
+
+        assertTrue(report.phase("storage").isPresent());
+        assertTrue(report.phase("storage.schema").isPresent());
+        assertTrue(report.phase("cleanup-scheduler").isPresent());
+        assertFalse(report.phase("storage").orElseThrow().concurrent());
+        assertTrue(report.summary().contains("storage"));
+    }
+
+    @Test
+    @DisplayName("warm-ups should run alongside storage startup and be reported as concurrent phases")
+    void warmupsRunConcurrentlyWithStartup(@TempDir Path tempDir) throws IOException {
+        Path config = tempDir.resolve("app-config.json");
+        Files.writeString(config, "{}");
+        CountDownLatch storageReady = new CountDownLatch(1);
+        AtomicBoolean warmupSawStorage = new AtomicBoolean();
+        ApplicationStartup.setInitializationCompleteHookForTests(storageReady::countDown);
+        System.setProperty("datingapp.config", config.toString());
+
+        ApplicationStartup.initialize(Map.of("probe", () -> {
+            try {
+                warmupSawStorage.set(storageReady.await(5, TimeUnit.SECONDS));
+            } catch (InterruptedException _) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+
+        StartupReport report = ApplicationStartup.lastStartupReport().orElseThrow();
+        assertTrue(warmupSawStorage.get(), "warm-up should still be running when storage finishes");
+        assertTrue(report.phase("config").isPresent());
+        assertTrue(report.phase("warmup.probe").orElseThrow().concurrent());
+    }
+
+    @Test
+    @DisplayName("a failing warm-up should not fail startup")
+    void failingWarmupDoesNotFailStartup(@TempDir Path tempDir) throws IOException {
+        Path config = tempDir.resolve("app-config.json");
+        Files.writeString(config, "{}");
+        System.setProperty("datingapp.config", config.toString());
+
+        ServiceRegistry services = ApplicationStartup.initialize(Map.of("broken", () -> {
+            throw new IllegalStateException("synthetic warm-up failure");
+        }));
+
+        assertSame(services, ApplicationStartup.getServices());
+        assertTrue(ApplicationStartup.lastStartupReport()
+                .orElseThrow()
+                .phase("warmup.broken")
+                .isPresent());
+    }
+
     private ServiceRegistry initializeWithDefaults() {
         return ApplicationStartup.initialize(AppConfig.defaults());
     }
@@ -191,6 +252,7 @@ class ApplicationStartupBootstrapTest {
     }
 
     private static void clearBootstrapState() {
+        ApplicationStartup.setInitializationCompleteHookForTests(null);
         ApplicationStartup.reset();
         DatabaseManager.resetInstance();
         System.clearProperty(PROFILE_PROPERTY);
@@ -0,0 +1,185 @@
+package datingapp.app.bootstrap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import datingapp.app.bootstrap.CleanupScheduler.CleanupOptions;
+import datingapp.app.bootstrap.CleanupScheduler.TableProgress;
+import datingapp.core.metrics.ActivityMetricsService.CascadingChunkDeleter;
+import datingapp.core.metrics.ActivityMetricsService.CleanupTable;
+import datingapp.core.storage.AccountCleanupStorage.PurgeResult;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+@Timeout(10)
+@DisplayName("ChunkedCleanupRunner chunking, resume and throttling")
+class ChunkedCleanupRunnerTest {
+
+    private static final Instant CUTOFF = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Test
+    @DisplayName("drains each table in bounded chunks and reports per-table progress")
+    void drainsTablesInBoundedChunks() {
+        ChunkedCleanupRunner runner = new ChunkedCleanupRunner(new CleanupOptions(10, 0, 2));
+        FakeTable picks = new FakeTable(25);
+        FakeTable sessions = new FakeTable(10);
+
+        Map<String, Long> deleted = runner.run(
+                        () -> CUTOFF, List.of(picks.asTable("picks", false), sessions.asTable("sessions", false)))
+                .deletedByTable();
+
+        assertEquals(Map.of("picks", 25L, "sessions", 10L), deleted);
+        assertEquals(List.of(10, 10, 10), picks.requestedLimits);
+        // An exactly-full chunk needs one more empty call to prove the table is drained.
+        assertEquals(2, sessions.requestedLimits.size());
+        TableProgress pickProgress = progressFor(runner, "picks");
+        assertEquals(25L, pickProgress.rowsDeleted());
+        assertEquals(3L, pickProgress.chunks());
+        assertTrue(pickProgress.complete());
+        assertNull(runner.resumeCutoff());
+    }
+
+    @Test
+    @DisplayName("cascading tables run only after the parallel phase has finished")
+    void cascadingTablesRunAfterIndependentTables() {
+        ChunkedCleanupRunner runner = new ChunkedCleanupRunner(new CleanupOptions(5, 0, 4));
+        List<String> order = new CopyOnWriteArrayList<>();
+        CleanupTable users = new CleanupTable("users", true, (_, _) -> {
+            order.add("users");
+            return 0;
+        });
+        CleanupTable picks = new CleanupTable("picks", false, (_, _) -> {
+            order.add("picks");
+            return 0;
+        });
+
+        runner.run(() -> CUTOFF, List.of(users, picks));
+
+        assertEquals(List.of("picks", "users"), order);
+    }
+
+    @Test
+    @DisplayName("rows removed by a cascading target are reported per table")
+    void cascadedRowsAreReportedPerTable() {
+        ChunkedCleanupRunner runner = new ChunkedCleanupRunner(new CleanupOptions(2, 0, 1));
+        AtomicInteger remaining = new AtomicInteger(3);
+        CascadingChunkDeleter purge = (_, limit) -> {
+            int accounts = Math.min(remaining.get(), limit);
+            remaining.addAndGet(-accounts);
+            return new PurgeResult(accounts, Map.of("messages", accounts * 4L, "likes", (long) accounts));
+        };
+
+        ChunkedCleanupRunner.RunResult result =
+                runner.run(() -> CUTOFF, List.of(new CleanupTable("users", true, purge)));
+
+        assertEquals(Map.of("users", 3L), result.deletedByTable());
+        assertEquals(Map.of("messages", 12L, "likes", 3L), result.cascadedRowsByTable());
+        TableProgress users = progressFor(runner, "users");
+        assertEquals(3L, users.rowsDeleted());
+        assertEquals(Map.of("messages", 12L, "likes", 3L), users.cascadedRows());
+    }
+
+    @Test
+    @DisplayName("a failed run resumes with the same cutoff and skips drained tables")
+    void failedRunResumesFromSameCutoff() {
+        ChunkedCleanupRunner runner = new ChunkedCleanupRunner(new CleanupOptions(10, 0, 2));
+        FakeTable picks = new FakeTable(5);
+        FakeTable sessions = new FakeTable(15);
+        sessions.failOnCall = 2;
+        List<CleanupTable> tables = List.of(picks.asTable("picks", false), sessions.asTable("sessions", false));
+
+        IllegalStateException failure =
+                assertThrows(IllegalStateException.class, () -> runner.run(() -> CUTOFF, tables));
+        assertEquals("lock timeout", failure.getCause().getMessage());
+        assertEquals(CUTOFF, runner.resumeCutoff());
+        assertFalse(progressFor(runner, "sessions").complete());
+
+        Map<String, Long> resumed =
+                runner.run(() -> CUTOFF.plusSeconds(3600), tables).deletedByTable();
+
+        assertEquals(Map.of("sessions", 5L), resumed);
+        assertEquals(1, picks.requestedLimits.size());
+        assertEquals(List.of(CUTOFF), sessions.cutoffs.stream().distinct().toList());
+        assertEquals(15L, progressFor(runner, "sessions").rowsDeleted());
+        assertNull(runner.resumeCutoff());
+    }
+
+    @Test
+    @DisplayName("cancellation stops at a chunk boundary and leaves the run resumable")
+    void cancellationLeavesRunResumable() {
+        ChunkedCleanupRunner runner = new ChunkedCleanupRunner(new CleanupOptions(10, 0, 1));
+        AtomicBoolean cancelNow = new AtomicBoolean(true);
+        AtomicInteger calls = new AtomicInteger();
+        CleanupTable picks = new CleanupTable("picks", false, (_, limit) -> {
+            calls.incrementAndGet();
+            if (cancelNow.getAndSet(false)) {
+                runner.cancel();
+            }
+            return limit;
+        });
+
+        runner.run(() -> CUTOFF, List.of(picks));
+
+        assertEquals(1, calls.get());
+        assertEquals(CUTOFF, runner.resumeCutoff());
+    }
+
+    @Test
+    @DisplayName("rows-per-second budget paces deletes across chunks")
+    void throttlePacesDeletes() {
+        ChunkedCleanupRunner runner = new ChunkedCleanupRunner(new CleanupOptions(10, 200, 2));
+        FakeTable picks = new FakeTable(30);
+        FakeTable sessions = new FakeTable(30);
+
+        long started = System.nanoTime();
+        runner.run(() -> CUTOFF, List.of(picks.asTable("picks", false), sessions.asTable("sessions", false)));
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000L;
+
+        // Both tables draw on one 200 rows/s budget, so 60 rows cost about 300ms in total.
+        assertTrue(elapsedMillis >= 250L, "Expected throttled run to take at least 250ms but took " + elapsedMillis);
+    }
+
+    private static TableProgress progressFor(ChunkedCleanupRunner runner, String table) {
+        return runner.progress().stream()
+                .filter(progress -> progress.table().equals(table))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static final class FakeTable {
+        private final List<Integer> requestedLimits = new CopyOnWriteArrayList<>();
+        private final List<Instant> cutoffs = new CopyOnWriteArrayList<>();
+        private int remaining;
+        private int failOnCall;
+
+        private FakeTable(int rows) {
+            this.remaining = rows;
+        }
+
+        private CleanupTable asTable(String name, boolean cascades) {
+            return new CleanupTable(name, cascades, this::deleteChunk);
+        }
+
+        private synchronized int deleteChunk(Instant cutoff, int maxRows) {
+            requestedLimits.add(maxRows);
+            cutoffs.add(cutoff);
+            if (failOnCall == requestedLimits.size()) {
+                failOnCall = 0;
+                throw new IllegalStateException("lock timeout");
+            }
+            int deleted = Math.min(remaining, maxRows);
+            remaining -= deleted;
+            return deleted;
+        }
+    }
+}
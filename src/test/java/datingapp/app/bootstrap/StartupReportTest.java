@@ -0,0 +1,72 @@
+package datingapp.app.bootstrap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("StartupReport")
+class StartupReportTest {
+
+    private static final long MILLI = 1_000_000L;
+
+    @Test
+    @DisplayName("records sequential and concurrent phases with their elapsed time")
+    void recordsPhases() {
+        AtomicLong now = new AtomicLong();
+        StartupReport.Recorder recorder = new StartupReport.Recorder(now::get);
+
+        String value = recorder.time("config", () -> {
+            now.addAndGet(12 * MILLI);
+            return "loaded";
+        });
+        recorder.runConcurrent("warmup.fxml", () -> now.addAndGet(30 * MILLI));
+        recorder.run("storage", () -> now.addAndGet(200 * MILLI));
+        StartupReport report = recorder.finish();
+
+        assertEquals("loaded", value);
+        assertEquals(
+                List.of("config", "warmup.fxml", "storage"),
+                report.phases().stream().map(StartupReport.Phase::name).toList());
+        assertEquals(Duration.ofMillis(12), report.phase("config").orElseThrow().elapsed());
+        assertTrue(report.phase("warmup.fxml").orElseThrow().concurrent());
+        assertFalse(report.phase("storage").orElseThrow().concurrent());
+        assertEquals(Duration.ofMillis(242), report.total());
+    }
+
+    @Test
+    @DisplayName("a phase that throws is still recorded")
+    void failedPhaseIsRecorded() {
+        AtomicLong now = new AtomicLong();
+        StartupReport.Recorder recorder = new StartupReport.Recorder(now::get);
+
+        assertThrows(IllegalStateException.class, () -> recorder.run("storage", () -> {
+            now.addAndGet(5 * MILLI);
+            throw new IllegalStateException("pool down");
+        }));
+
+        assertEquals(Duration.ofMillis(5), recorder.finish().phase("storage").orElseThrow().elapsed());
+    }
+
+    @Test
+    @DisplayName("summary separates concurrent phases from the critical path")
+    void summarySeparatesConcurrentPhases() {
+        StartupReport report = new StartupReport(
+                List.of(
+                        new StartupReport.Phase("config", Duration.ofMillis(12), false),
+                        new StartupReport.Phase("warmup.fxml", Duration.ofMillis(30), true),
+                        new StartupReport.Phase("storage", Duration.ofMillis(800), false)),
+                Duration.ofMillis(840));
+
+        assertEquals("840 ms [config 12 ms, storage 800 ms] concurrently [warmup.fxml 30 ms]", report.summary());
+        StartupReport sequentialOnly = new StartupReport(
+                List.of(new StartupReport.Phase("config", Duration.ofMillis(5), false)), Duration.ofMillis(5));
+        assertEquals("5 ms [config 5 ms]", sequentialOnly.summary());
+    }
+}
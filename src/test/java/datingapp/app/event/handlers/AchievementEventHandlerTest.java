@@ -8,6 +8,7 @@ import datingapp.app.event.InProcessAppEventBus;
 import datingapp.core.connection.ConnectionModels.Like;
 import datingapp.core.metrics.AchievementService;
 import datingapp.core.metrics.EngagementDomain.Achievement;
+import datingapp.core.metrics.EngagementDomain.Achievement.ProgressCounters;
 import datingapp.core.metrics.EngagementDomain.Achievement.UserAchievement;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -53,6 +54,59 @@ class AchievementEventHandlerTest {
         assertEquals(List.of(), achievementService.checkedUserIds);
     }
 
+    @Test
+    void everySwipeUpdatesProgressCounters() {
+        UUID swiperId = UUID.randomUUID();
+
+        bus.publish(new AppEvent.SwipeRecorded(swiperId, UUID.randomUUID(), Like.Direction.PASS, false, Instant.now()));
+        bus.publish(new AppEvent.SwipeRecorded(swiperId, UUID.randomUUID(), Like.Direction.LIKE, true, Instant.now()));
+
+        assertEquals(
+                List.of("swipe:PASS:false:" + swiperId, "swipe:LIKE:true:" + swiperId), achievementService.recorded);
+    }
+
+    @Test
+    void matchCreatedCreditsAndChecksCounterpart() {
+        UUID swiperId = UUID.randomUUID();
+        UUID counterpartId = UUID.randomUUID();
+
+        bus.publish(new AppEvent.MatchCreated("match-id", swiperId, counterpartId, Instant.now()));
+
+        assertEquals(List.of("match:" + counterpartId), achievementService.recorded);
+        assertEquals(List.of(counterpartId), achievementService.checkedUserIds);
+    }
+
+    @Test
+    void undoneSwipeRecountsSwiperAndCounterpartWhenMatchDeleted() {
+        UUID swiperId = UUID.randomUUID();
+        UUID targetId = UUID.randomUUID();
+
+        bus.publish(new AppEvent.SwipeUndone(swiperId, targetId, Like.Direction.LIKE, true, Instant.now()));
+        bus.publish(new AppEvent.SwipeUndone(swiperId, targetId, Like.Direction.PASS, false, Instant.now()));
+
+        assertEquals(
+                List.of("recount:" + swiperId, "recount:" + targetId, "recount:" + swiperId),
+                achievementService.recorded);
+    }
+
+    @Test
+    void removedLikeRecountsLiker() {
+        UUID likerId = UUID.randomUUID();
+
+        bus.publish(new AppEvent.LikeRemoved(likerId, UUID.randomUUID(), Instant.now()));
+
+        assertEquals(List.of("recount:" + likerId), achievementService.recorded);
+    }
+
+    @Test
+    void everyReportUpdatesProgressCounters() {
+        UUID reporterId = UUID.randomUUID();
+
+        bus.publish(new AppEvent.UserReported(reporterId, UUID.randomUUID(), "spam", false, false, Instant.now()));
+
+        assertEquals(List.of("report:" + reporterId), achievementService.recorded);
+    }
+
     @Test
     void profileSavedTriggersAchievementCheck() {
         UUID userId = UUID.randomUUID();
@@ -117,6 +171,7 @@ class AchievementEventHandlerTest {
 
     private static final class CapturingAchievementService extends AchievementService {
         private final List<UUID> checkedUserIds = new ArrayList<>();
+        private final List<String> recorded = new ArrayList<>();
 
         @Override
         public List<UserAchievement> checkAndUnlock(UUID userId) {
@@ -143,5 +198,26 @@ class AchievementEventHandlerTest {
         public int countUnlocked(UUID userId) {
             return 0;
         }
+
+        @Override
+        public void recordSwipe(UUID userId, Like.Direction direction, boolean resultedInMatch) {
+            recorded.add("swipe:" + direction + ":" + resultedInMatch + ":" + userId);
+        }
+
+        @Override
+        public void recordMatch(UUID userId) {
+            recorded.add("match:" + userId);
+        }
+
+        @Override
+        public void recordReport(UUID userId) {
+            recorded.add("report:" + userId);
+        }
+
+        @Override
+        public ProgressCounters recountCounters(UUID userId) {
+            recorded.add("recount:" + userId);
+            return new ProgressCounters(userId, 0, 0, 0, 0, Instant.now());
+        }
     }
 }
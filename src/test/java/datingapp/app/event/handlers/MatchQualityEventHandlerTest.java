@@ -0,0 +1,121 @@
+package datingapp.app.event.handlers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import datingapp.app.event.AppEvent;
+import datingapp.app.event.InProcessAppEventBus;
+import datingapp.core.AppConfig;
+import datingapp.core.matching.MatchQualityService;
+import datingapp.core.model.Match;
+import datingapp.core.model.User;
+import datingapp.core.testutil.TestStorages;
+import datingapp.core.testutil.TestUserFactory;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class MatchQualityEventHandlerTest {
+
+    private InProcessAppEventBus bus;
+    private TestStorages.Interactions interactions;
+    private RecordingMatchQualityService matchQualityService;
+    private List<Runnable> queuedPrecomputes;
+
+    @BeforeEach
+    void setUp() {
+        bus = new InProcessAppEventBus();
+        TestStorages.Users users = new TestStorages.Users();
+        interactions = new TestStorages.Interactions();
+        matchQualityService = new RecordingMatchQualityService(users, interactions);
+        queuedPrecomputes = new ArrayList<>();
+        new MatchQualityEventHandler(matchQualityService, interactions, queuedPrecomputes::add).register(bus);
+    }
+
+    @Test
+    void precomputesBothSidesWhenMatchCreated() {
+        User alice = TestUserFactory.createActiveUser(UUID.randomUUID(), "Alice");
+        User bob = TestUserFactory.createActiveUser(UUID.randomUUID(), "Bob");
+        Match match = Match.create(alice.getId(), bob.getId());
+        interactions.save(match);
+
+        bus.publish(new AppEvent.MatchCreated(match.getId(), alice.getId(), bob.getId(), Instant.now()));
+
+        // Nothing runs on the publishing thread; the precompute waits for the background executor.
+        assertEquals(List.of(), matchQualityService.precomputed);
+        queuedPrecomputes.forEach(Runnable::run);
+        assertEquals(List.of(match.getId()), matchQualityService.precomputed);
+    }
+
+    @Test
+    void rejectedPrecomputeDoesNotReachThePublisher() {
+        MatchQualityEventHandler handler = new MatchQualityEventHandler(matchQualityService, interactions, _ -> {
+            throw new RejectedExecutionException("queue full");
+        });
+
+        handler.onMatchCreated(new AppEvent.MatchCreated("m", UUID.randomUUID(), UUID.randomUUID(), Instant.now()));
+
+        assertEquals(List.of(), matchQualityService.precomputed);
+    }
+
+    @Test
+    void failedPrecomputeIsContainedOnTheExecutor() {
+        InteractionStorageFailure failing = new InteractionStorageFailure();
+        MatchQualityEventHandler handler =
+                new MatchQualityEventHandler(matchQualityService, failing, queuedPrecomputes::add);
+
+        handler.onMatchCreated(new AppEvent.MatchCreated("m", UUID.randomUUID(), UUID.randomUUID(), Instant.now()));
+
+        queuedPrecomputes.forEach(Runnable::run);
+        assertEquals(List.of(), matchQualityService.precomputed);
+    }
+
+    @Test
+    void ignoresMatchCreatedForUnknownMatch() {
+        bus.publish(new AppEvent.MatchCreated("missing", UUID.randomUUID(), UUID.randomUUID(), Instant.now()));
+        queuedPrecomputes.forEach(Runnable::run);
+
+        assertEquals(List.of(), matchQualityService.precomputed);
+    }
+
+    @Test
+    void invalidatesUserOnProfileSaveAndDeletion() {
+        UUID saved = UUID.randomUUID();
+        UUID deleted = UUID.randomUUID();
+
+        bus.publish(new AppEvent.ProfileSaved(saved, false, Instant.now()));
+        bus.publish(new AppEvent.AccountDeleted(deleted, AppEvent.DeletionReason.USER_REQUEST, Instant.now()));
+
+        assertEquals(List.of(saved, deleted), matchQualityService.invalidated);
+    }
+
+    private static final class InteractionStorageFailure extends TestStorages.Interactions {
+        @Override
+        public Optional<Match> get(String matchId) {
+            throw new IllegalStateException("storage down");
+        }
+    }
+
+    private static final class RecordingMatchQualityService extends MatchQualityService {
+        private final List<String> precomputed = new ArrayList<>();
+        private final List<UUID> invalidated = new ArrayList<>();
+
+        private RecordingMatchQualityService(TestStorages.Users users, TestStorages.Interactions interactions) {
+            super(users, interactions, AppConfig.defaults());
+        }
+
+        @Override
+        public void precompute(Match match) {
+            precomputed.add(match.getId());
+        }
+
+        @Override
+        public void invalidateUser(UUID userId) {
+            invalidated.add(userId);
+        }
+    }
+}
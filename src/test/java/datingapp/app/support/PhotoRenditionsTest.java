@@ -0,0 +1,99 @@
+package datingapp.app.support;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import javax.imageio.ImageIO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("PhotoRenditions")
+class PhotoRenditionsTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("rendition file names keep the extension and append the edge size")
+    void renditionFileNameAppendsEdgeBeforeExtension() {
+        assertEquals("abc_96.jpg", PhotoRenditions.renditionFileName("abc.jpg", PhotoRenditions.Size.THUMBNAIL));
+        assertEquals("abc_1080", PhotoRenditions.renditionFileName("abc", PhotoRenditions.Size.FULL));
+    }
+
+    @Test
+    @DisplayName("forDisplay picks the smallest size covering the box and empty beyond the largest")
+    void forDisplayPicksSmallestCoveringSize() {
+        assertEquals(Optional.of(PhotoRenditions.Size.THUMBNAIL), PhotoRenditions.Size.forDisplay(40, 40));
+        assertEquals(Optional.of(PhotoRenditions.Size.CARD), PhotoRenditions.Size.forDisplay(300, 120));
+        assertEquals(Optional.of(PhotoRenditions.Size.FULL), PhotoRenditions.Size.forDisplay(400, 500));
+        assertEquals(Optional.empty(), PhotoRenditions.Size.forDisplay(2000, 100));
+        assertEquals(Optional.empty(), PhotoRenditions.Size.forDisplay(0, 0));
+        assertEquals(Optional.of(PhotoRenditions.Size.CARD), PhotoRenditions.Size.fromPixels(320));
+        assertEquals(Optional.empty(), PhotoRenditions.Size.fromPixels(100));
+    }
+
+    @Test
+    @DisplayName("derive writes only renditions smaller than the original, preserving aspect ratio")
+    void deriveSkipsUpscalingAndKeepsAspectRatio() throws IOException {
+        Path original = writeImage("photo.jpg", "jpg", 640, 480);
+
+        List<Path> written = PhotoRenditions.derive(original, null);
+
+        assertEquals(2, written.size());
+        Path card = PhotoRenditions.renditionPath(original, PhotoRenditions.Size.CARD);
+        Path thumbnail = PhotoRenditions.renditionPath(original, PhotoRenditions.Size.THUMBNAIL);
+        assertFalse(Files.exists(PhotoRenditions.renditionPath(original, PhotoRenditions.Size.FULL)));
+        BufferedImage cardImage = ImageIO.read(card.toFile());
+        assertEquals(320, cardImage.getWidth());
+        assertEquals(240, cardImage.getHeight());
+        BufferedImage thumbnailImage = ImageIO.read(thumbnail.toFile());
+        assertEquals(96, thumbnailImage.getWidth());
+        assertEquals(72, thumbnailImage.getHeight());
+    }
+
+    @Test
+    @DisplayName("bestAvailable falls back to a larger rendition and then to the original")
+    void bestAvailableFallsBackToLargerRenditionThenOriginal() throws IOException {
+        Path original = writeImage("photo.png", "png", 500, 500);
+
+        assertEquals(original, PhotoRenditions.bestAvailable(original, 64, 64));
+
+        PhotoRenditions.derive(original, null);
+        assertEquals(
+                PhotoRenditions.renditionPath(original, PhotoRenditions.Size.THUMBNAIL),
+                PhotoRenditions.bestAvailable(original, 64, 64));
+        Files.delete(PhotoRenditions.renditionPath(original, PhotoRenditions.Size.THUMBNAIL));
+        assertEquals(
+                PhotoRenditions.renditionPath(original, PhotoRenditions.Size.CARD),
+                PhotoRenditions.bestAvailable(original, 64, 64));
+        assertEquals(original, PhotoRenditions.bestAvailable(original, 1200, 900));
+    }
+
+    @Test
+    @DisplayName("deriveAsync completes with the written renditions and deleteRenditions removes them")
+    void deriveAsyncAndDeleteRenditions() throws IOException {
+        Path original = writeImage("async.png", "png", 200, 100);
+
+        List<Path> written = PhotoRenditions.deriveAsync(original, null).join();
+
+        assertEquals(List.of(PhotoRenditions.renditionPath(original, PhotoRenditions.Size.THUMBNAIL)), written);
+        PhotoRenditions.deleteRenditions(original);
+        assertFalse(Files.exists(written.getFirst()));
+        assertTrue(Files.exists(original));
+    }
+
+    private Path writeImage(String name, String format, int width, int height) throws IOException {
+        Path file = tempDir.resolve(name);
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        ImageIO.write(image, format, file.toFile());
+        return file;
+    }
+}
@@ -0,0 +1,173 @@
+package datingapp.app.usecase.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+@Timeout(10)
+@DisplayName("ParallelBranches")
+class ParallelBranchesTest {
+
+    private static final Duration GENEROUS = Duration.ofSeconds(5);
+
+    @Test
+    @DisplayName("branches run concurrently and return their values")
+    void branchesRunConcurrently() throws InterruptedException {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+
+        try (ParallelBranches branches = ParallelBranches.open("test", GENEROUS)) {
+            var first = branches.fork("first", () -> awaitPeer(bothStarted, "a"), "fallback");
+            var second = branches.fork("second", () -> awaitPeer(bothStarted, "b"), "fallback");
+            branches.join();
+
+            assertEquals("a", first.get());
+            assertEquals("b", second.get());
+            assertTrue(branches.degradedBranches().isEmpty());
+            assertFalse(branches.allDegraded());
+        }
+    }
+
+    @Test
+    @DisplayName("a failing branch yields its fallback and records the cause")
+    void failingBranchYieldsFallback() throws InterruptedException {
+        try (ParallelBranches branches = ParallelBranches.open("test", GENEROUS)) {
+            var ok = branches.fork("ok", () -> 1, 0);
+            ParallelBranches.Branch<Integer> failing = branches.fork(
+                    "failing",
+                    () -> {
+                        throw new IllegalStateException("boom");
+                    },
+                    -1);
+            branches.join();
+
+            assertEquals(1, ok.get());
+            assertEquals(-1, failing.get());
+            assertEquals("boom", failing.failure().orElseThrow().getMessage());
+            assertEquals(List.of("failing"), branches.degradedBranches());
+        }
+    }
+
+    @Test
+    @DisplayName("a branch past its own deadline is cancelled without delaying the others")
+    void slowBranchTimesOut() throws InterruptedException {
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        try (ParallelBranches branches = ParallelBranches.open("test", GENEROUS)) {
+            var slow = branches.fork(
+                    "slow",
+                    Duration.ofMillis(100),
+                    () -> {
+                        try {
+                            Thread.sleep(Duration.ofMinutes(1));
+                        } catch (InterruptedException e) {
+                            interrupted.countDown();
+                            throw e;
+                        }
+                        return "late";
+                    },
+                    "fallback");
+            var fast = branches.fork("fast", () -> "fast", "fallback");
+            branches.join();
+
+            assertEquals("fallback", slow.get());
+            assertInstanceOf(TimeoutException.class, slow.failure().orElseThrow());
+            assertEquals("fast", fast.get());
+            assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    @DisplayName("reports when every branch degraded, naming each one with its cause")
+    void reportsAllDegraded() throws InterruptedException {
+        try (ParallelBranches branches = ParallelBranches.open("test", GENEROUS)) {
+            branches.fork("a", () -> {
+                throw new IllegalStateException("down");
+            }, 0);
+            branches.fork("b", Duration.ofMillis(50), () -> {
+                Thread.sleep(5_000);
+                return 1;
+            }, 0);
+            branches.join();
+
+            assertTrue(branches.allDegraded());
+            assertEquals("a (IllegalStateException: down), b (timed out)", branches.degradedSummary());
+        }
+    }
+
+    @Test
+    @DisplayName("permits cap concurrency and a queued branch's deadline starts when it runs")
+    void permitsCapConcurrency() throws InterruptedException {
+        Semaphore permits = new Semaphore(1);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        Callable<String> slow = () -> {
+            peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(250);
+            running.decrementAndGet();
+            return "done";
+        };
+        try (ParallelBranches branches = ParallelBranches.open("test", Duration.ofMillis(400), permits)) {
+            var first = branches.fork("first", slow, "fallback");
+            var second = branches.fork("second", slow, "fallback");
+            branches.join();
+
+            assertEquals("done", first.get());
+            assertEquals("done", second.get());
+            assertEquals(1, peak.get());
+            assertEquals(1, permits.availablePermits());
+        }
+    }
+
+    @Test
+    @DisplayName("a branch that never gets a permit degrades at its timeout")
+    void branchWithoutPermitDegrades() throws InterruptedException {
+        try (ParallelBranches branches = ParallelBranches.open("test", Duration.ofMillis(50), new Semaphore(0))) {
+            var branch = branches.fork("starved", () -> "value", "fallback");
+            branches.join();
+
+            assertEquals("fallback", branch.get());
+            assertInstanceOf(TimeoutException.class, branch.failure().orElseThrow());
+        }
+    }
+
+    @Test
+    @DisplayName("results are unavailable before join and forking after join is rejected")
+    void enforcesJoinOrdering() throws InterruptedException {
+        try (ParallelBranches branches = ParallelBranches.open("test", GENEROUS)) {
+            var branch = branches.fork("a", () -> 1, 0);
+
+            assertThrows(IllegalStateException.class, branch::get);
+            assertThrows(IllegalStateException.class, branches::degradedBranches);
+            branches.join();
+            assertThrows(IllegalStateException.class, () -> branches.fork("b", () -> 2, 0));
+        }
+    }
+
+    @Test
+    @DisplayName("rejects non-positive timeouts")
+    void rejectsNonPositiveTimeouts() {
+        assertThrows(IllegalArgumentException.class, () -> ParallelBranches.open("test", Duration.ZERO));
+    }
+
+    private static String awaitPeer(CountDownLatch bothStarted, String value) throws InterruptedException {
+        bothStarted.countDown();
+        if (!bothStarted.await(5, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("branches did not run concurrently");
+        }
+        return value;
+    }
+}
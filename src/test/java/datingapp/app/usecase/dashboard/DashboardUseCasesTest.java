@@ -13,6 +13,7 @@ import datingapp.core.connection.ConnectionModels.Notification;
 import datingapp.core.connection.ConnectionService;
 import datingapp.core.matching.CandidateFinder;
 import datingapp.core.matching.RecommendationService;
+import datingapp.core.metrics.AchievementService;
 import datingapp.core.metrics.EngagementDomain.Achievement;
 import datingapp.core.metrics.EngagementDomain.Achievement.UserAchievement;
 import datingapp.core.model.Match;
@@ -24,11 +25,14 @@ import datingapp.core.testutil.TestAchievementService;
 import datingapp.core.testutil.TestClock;
 import datingapp.core.testutil.TestStorages;
 import datingapp.core.testutil.TestUserFactory;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.util.EnumSet;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -46,6 +50,8 @@ class DashboardUseCasesTest {
     private TestStorages.Interactions interactions;
     private TestStorages.Communications communications;
     private ProfileService profileService;
+    private RecommendationService recommendationService;
+    private ConnectionService connectionService;
     private DashboardUseCases useCases;
     private User currentUser;
 
@@ -61,7 +67,7 @@ class DashboardUseCasesTest {
         profileService = new ProfileService(users);
         CandidateFinder candidateFinder =
                 new CandidateFinder(users, interactions, trustSafetyStorage, ZoneId.of("UTC"));
-        RecommendationService recommendationService = RecommendationService.builder()
+        recommendationService = RecommendationService.builder()
                 .interactionStorage(interactions)
                 .userStorage(users)
                 .trustSafetyStorage(trustSafetyStorage)
@@ -71,7 +77,7 @@ class DashboardUseCasesTest {
                 .profileService(profileService)
                 .config(config)
                 .build();
-        ConnectionService connectionService = new ConnectionService(config, communications, interactions, users);
+        connectionService = new ConnectionService(config, communications, interactions, users);
         useCases = new DashboardUseCases(
                 users,
                 recommendationService,
@@ -138,4 +144,70 @@ class DashboardUseCasesTest {
         assertEquals(2, summary.achievementSummary().unlockedAchievements().size());
         assertEquals("Pick at least 3 interests so your personality shines.", summary.profileNudgeMessage());
     }
+
+    @Test
+    @DisplayName("getDashboardSummary degrades a slow section instead of waiting for it")
+    void getDashboardSummaryDegradesSlowSection() {
+        CountDownLatch release = new CountDownLatch(1);
+        AchievementService slowAchievements = new AchievementService() {
+            @Override
+            public List<UserAchievement> getUnlocked(UUID userId) {
+                try {
+                    release.await();
+                } catch (InterruptedException _) {
+                    Thread.currentThread().interrupt();
+                }
+                return List.of();
+            }
+        };
+        DashboardUseCases slowUseCases = withAchievementService(slowAchievements, Duration.ofMillis(200));
+
+        try {
+            long started = System.nanoTime();
+            var result = slowUseCases.getDashboardSummary(
+                    new DashboardUseCases.DashboardSummaryQuery(UserContext.ui(currentUser.getId())));
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+            assertTrue(result.success());
+            assertEquals(List.of(DashboardUseCases.SECTION_ACHIEVEMENTS), result.data().degradedSections());
+            assertTrue(result.data().achievementSummary().unlockedAchievements().isEmpty());
+            assertEquals(currentUser.getName(), result.data().userName());
+            assertTrue(elapsed.compareTo(Duration.ofSeconds(5)) < 0, "Took " + elapsed);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("getDashboardSummary keeps other sections when one throws")
+    void getDashboardSummaryKeepsOtherSectionsWhenOneThrows() {
+        AchievementService failingAchievements = new AchievementService() {
+            @Override
+            public List<UserAchievement> getUnlocked(UUID userId) {
+                throw new IllegalStateException("achievements unavailable");
+            }
+        };
+        DashboardUseCases failingUseCases =
+                withAchievementService(failingAchievements, DashboardUseCases.DEFAULT_BRANCH_TIMEOUT);
+
+        var result = failingUseCases.getDashboardSummary(
+                new DashboardUseCases.DashboardSummaryQuery(UserContext.ui(currentUser.getId())));
+
+        assertTrue(result.success());
+        assertTrue(result.data().degraded());
+        assertEquals(profileService.calculate(currentUser).getDisplayString(), result.data().completionText());
+        assertEquals(0, result.data().totalMatches());
+    }
+
+    private DashboardUseCases withAchievementService(AchievementService achievementService, Duration timeout) {
+        return new DashboardUseCases(
+                users,
+                recommendationService,
+                interactions,
+                achievementService,
+                connectionService,
+                profileService,
+                AppConfig.defaults(),
+                timeout);
+    }
 }
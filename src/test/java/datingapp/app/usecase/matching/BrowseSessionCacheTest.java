@@ -0,0 +1,154 @@
+package datingapp.app.usecase.matching;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import datingapp.app.event.AppEvent;
+import datingapp.app.testutil.TestEventBus;
+import datingapp.core.connection.ConnectionModels.Like;
+import datingapp.core.testutil.TestClock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("BrowseSessionCache")
+class BrowseSessionCacheTest {
+
+    private static final Instant NOW = Instant.parse("2026-06-01T12:00:00Z");
+
+    private final UUID seeker = UUID.randomUUID();
+    private final List<UUID> ranked =
+            List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+
+    @BeforeEach
+    void setUp() {
+        TestClock.setFixed(NOW);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TestClock.reset();
+    }
+
+    @Test
+    @DisplayName("slices pages in ranked order and reports what remains")
+    void slicesPagesInRankedOrder() {
+        BrowseSessionCache cache = new BrowseSessionCache();
+        String sessionId = cache.open(seeker, ranked);
+
+        BrowseSessionCache.Slice first = cache.slice(seeker, sessionId, 0, 3).orElseThrow();
+        BrowseSessionCache.Slice last = cache.slice(seeker, sessionId, first.nextOffset(), 3).orElseThrow();
+
+        assertEquals(ranked.subList(0, 3), first.ids());
+        assertEquals(1, first.remaining());
+        assertEquals(ranked.subList(3, 4), last.ids());
+        assertEquals(0, last.remaining());
+    }
+
+    @Test
+    @DisplayName("removed candidates are skipped without shifting offsets")
+    void removedCandidatesAreSkipped() {
+        BrowseSessionCache cache = new BrowseSessionCache();
+        String sessionId = cache.open(seeker, ranked);
+
+        cache.removeCandidate(seeker, ranked.get(1));
+        BrowseSessionCache.Slice slice = cache.slice(seeker, sessionId, 0, 2).orElseThrow();
+
+        assertEquals(List.of(ranked.get(0), ranked.get(2)), slice.ids());
+        assertEquals(3, slice.nextOffset());
+        assertEquals(1, slice.remaining());
+    }
+
+    @Test
+    @DisplayName("an unknown or replaced session id yields no slice")
+    void replacedSessionYieldsNothing() {
+        BrowseSessionCache cache = new BrowseSessionCache();
+        String first = cache.open(seeker, ranked);
+        cache.open(seeker, ranked);
+
+        assertTrue(cache.slice(seeker, first, 0, 2).isEmpty());
+        assertTrue(cache.slice(UUID.randomUUID(), first, 0, 2).isEmpty());
+    }
+
+    @Test
+    @DisplayName("sessions expire after the idle ttl and reads extend it")
+    void sessionsExpireAfterIdleTtl() {
+        BrowseSessionCache cache = new BrowseSessionCache(10, Duration.ofMinutes(5));
+        String sessionId = cache.open(seeker, ranked);
+
+        TestClock.setFixed(NOW.plus(Duration.ofMinutes(4)));
+        assertTrue(cache.slice(seeker, sessionId, 0, 1).isPresent());
+        TestClock.setFixed(NOW.plus(Duration.ofMinutes(8)));
+        assertTrue(cache.slice(seeker, sessionId, 0, 1).isPresent());
+        TestClock.setFixed(NOW.plus(Duration.ofMinutes(13)));
+        assertTrue(cache.slice(seeker, sessionId, 0, 1).isEmpty());
+    }
+
+    @Test
+    @DisplayName("the least recently used session is evicted at capacity")
+    void evictsLeastRecentlyUsedSession() {
+        BrowseSessionCache cache = new BrowseSessionCache(2, Duration.ofMinutes(5));
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        String firstSession = cache.open(seeker, ranked);
+        String secondSession = cache.open(second, ranked);
+
+        cache.slice(seeker, firstSession, 0, 1);
+        cache.open(third, ranked);
+
+        assertEquals(2, cache.size());
+        assertTrue(cache.slice(seeker, firstSession, 0, 1).isPresent());
+        assertTrue(cache.slice(second, secondSession, 0, 1).isEmpty());
+    }
+
+    @Test
+    @DisplayName("sessions are capped at the per-session candidate limit")
+    void capsSessionLength() {
+        BrowseSessionCache cache = new BrowseSessionCache();
+        List<UUID> many = new ArrayList<>();
+        for (int i = 0; i < BrowseSessionCache.MAX_CANDIDATES_PER_SESSION + 20; i++) {
+            many.add(UUID.randomUUID());
+        }
+        String sessionId = cache.open(seeker, many);
+
+        BrowseSessionCache.Slice slice = cache.slice(seeker, sessionId, 0, 10).orElseThrow();
+
+        assertEquals(BrowseSessionCache.MAX_CANDIDATES_PER_SESSION - 10, slice.remaining());
+    }
+
+    @Test
+    @DisplayName("swipe, block, profile and deletion events invalidate incrementally")
+    void eventsInvalidateIncrementally() {
+        BrowseSessionCache cache = new BrowseSessionCache();
+        TestEventBus eventBus = new TestEventBus();
+        cache.register(eventBus);
+        UUID other = UUID.randomUUID();
+        String sessionId = cache.open(seeker, ranked);
+        String otherSession = cache.open(other, List.of(ranked.get(3), seeker));
+
+        eventBus.publish(new AppEvent.SwipeRecorded(seeker, ranked.get(0), Like.Direction.PASS, false, NOW));
+        eventBus.publish(new AppEvent.UserBlocked(ranked.get(1), seeker, NOW));
+        eventBus.publish(new AppEvent.AccountDeleted(ranked.get(2), AppEvent.DeletionReason.USER_REQUEST, NOW));
+
+        assertEquals(List.of(ranked.get(3)), cache.slice(seeker, sessionId, 0, 4).orElseThrow().ids());
+
+        eventBus.publish(new AppEvent.ProfileSaved(seeker, false, NOW));
+
+        assertTrue(cache.slice(seeker, sessionId, 0, 4).isEmpty());
+        assertEquals(List.of(ranked.get(3)), cache.slice(other, otherSession, 0, 4).orElseThrow().ids());
+    }
+
+    @Test
+    @DisplayName("rejects non-positive limits")
+    void rejectsNonPositiveLimits() {
+        assertThrows(IllegalArgumentException.class, () -> new BrowseSessionCache(0, Duration.ofMinutes(1)));
+        assertThrows(IllegalArgumentException.class, () -> new BrowseSessionCache(1, Duration.ZERO));
+    }
+}
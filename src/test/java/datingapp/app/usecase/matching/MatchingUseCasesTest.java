@@ -3,10 +3,13 @@ package datingapp.app.usecase.matching;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import datingapp.app.event.AppEvent.LikeRemoved;
 import datingapp.app.event.AppEvent.SwipeRecorded;
+import datingapp.app.event.AppEvent.SwipeUndone;
 import datingapp.app.event.InProcessAppEventBus;
 import datingapp.app.event.handlers.MetricsEventHandler;
 import datingapp.app.testutil.TestEventBus;
@@ -26,6 +29,7 @@ import datingapp.core.AppConfig;
 import datingapp.core.connection.ConnectionModels.Like;
 import datingapp.core.matching.BrowseRankingService;
 import datingapp.core.matching.CandidateFinder;
+import datingapp.core.matching.CandidateSet;
 import datingapp.core.matching.DailyLimitService;
 import datingapp.core.matching.DailyPickService;
 import datingapp.core.matching.MatchQualityService;
@@ -163,8 +167,8 @@ class MatchingUseCasesTest {
         RecommendationService rankedRecommendationService = new RecommendationService(
                 dailyLimitService, dailyPickService, standoutService, new BrowseRankingService() {
                     @Override
-                    public List<User> rankCandidates(User browseSeeker, List<User> browseCandidates) {
-                        return browseCandidates.stream()
+                    public List<User> rankCandidateSet(User browseSeeker, CandidateSet browseCandidates) {
+                        return browseCandidates.candidates().stream()
                                 .sorted(Comparator.comparing(User::getName).reversed())
                                 .toList();
                     }
@@ -200,6 +204,53 @@ class MatchingUseCasesTest {
                 result.data().candidates().stream().map(User::getName).limit(2).toList());
     }
 
+    @Test
+    @DisplayName("browseCandidates computes candidates once for both the daily pick and the ranked list")
+    void browseCandidatesSharesOneCandidateSnapshot() {
+        AtomicInteger candidateQueries = new AtomicInteger();
+        TestStorages.Users countingUsers = new TestStorages.Users() {
+            @Override
+            public List<User> findCandidates(
+                    UUID excludeId,
+                    Set<User.Gender> genders,
+                    int minAge,
+                    int maxAge,
+                    double seekerLat,
+                    double seekerLon,
+                    int maxDistanceKm) {
+                candidateQueries.incrementAndGet();
+                return super.findCandidates(excludeId, genders, minAge, maxAge, seekerLat, seekerLon, maxDistanceKm);
+            }
+        };
+        countingUsers.save(currentUser);
+        countingUsers.save(candidate);
+        var config = AppConfig.defaults();
+        CandidateFinder countingFinder = new CandidateFinder(
+                countingUsers, interactionStorage, trustSafetyStorage, config.safety().userTimeZone());
+        DailyPickService realDailyPickService =
+                new DailyPickService(new TestStorages.Analytics(), countingFinder, config);
+        MatchingUseCases sharedUseCases = new MatchingUseCases(
+                countingFinder,
+                matchingService,
+                dailyLimitService,
+                realDailyPickService,
+                standoutService,
+                undoService,
+                interactionStorage,
+                countingUsers,
+                matchQualityService,
+                eventBus,
+                new RecommendationService(dailyLimitService, realDailyPickService, standoutService));
+
+        var result = sharedUseCases.browseCandidates(
+                new BrowseCandidatesCommand(UserContext.cli(currentUser.getId()), currentUser));
+
+        assertTrue(result.success());
+        assertEquals(candidate.getId(), result.data().dailyPick().orElseThrow().user().getId());
+        assertEquals(List.of(candidate.getId()), result.data().candidates().stream().map(User::getId).toList());
+        assertEquals(1, candidateQueries.get());
+    }
+
     @Test
     @DisplayName("browseCandidates reports location missing when seeker has no location")
     void browseCandidatesReportsLocationMissingWhenSeekerHasNoLocation() {
@@ -224,6 +275,76 @@ class MatchingUseCasesTest {
         assertTrue(result.data().locationMissing());
     }
 
+    @Test
+    @DisplayName("browseCandidatesPage serves later pages from the session snapshot")
+    void browseCandidatesPageServesLaterPagesFromSessionSnapshot() {
+        List<UUID> extraIds = saveCompatibleCandidates(4);
+
+        var first = useCases.browseCandidatesPage(pageCommand(null, 3));
+        UUID lateJoinerId = saveCompatibleCandidates(1).getFirst();
+        var second = useCases.browseCandidatesPage(pageCommand(first.data().nextCursor(), 3));
+
+        assertTrue(first.success());
+        assertEquals(3, first.data().candidates().size());
+        assertEquals(2, first.data().remaining());
+        assertNotNull(first.data().nextCursor());
+        assertFalse(first.data().sessionRestarted());
+        assertTrue(second.success());
+        assertEquals(2, second.data().candidates().size());
+        assertNull(second.data().nextCursor());
+        assertFalse(second.data().sessionRestarted());
+        Set<UUID> served = new java.util.HashSet<>();
+        first.data().candidates().forEach(user -> served.add(user.getId()));
+        second.data().candidates().forEach(user -> served.add(user.getId()));
+        Set<UUID> expected = new java.util.HashSet<>(extraIds);
+        expected.add(candidate.getId());
+        assertEquals(expected, served);
+        assertFalse(served.contains(lateJoinerId));
+    }
+
+    @Test
+    @DisplayName("browseCandidatesPage skips candidates swiped after the session opened")
+    void browseCandidatesPageSkipsSwipedCandidates() {
+        saveCompatibleCandidates(3);
+        var first = useCases.browseCandidatesPage(pageCommand(null, 1));
+        var ranked = useCases.browseCandidates(
+                new BrowseCandidatesCommand(UserContext.cli(currentUser.getId()), currentUser));
+        UUID swipedId = ranked.data().candidates().get(1).getId();
+
+        eventBus.publish(new SwipeRecorded(
+                currentUser.getId(), swipedId, Like.Direction.PASS, false, AppClock.now()));
+        var rest = useCases.browseCandidatesPage(
+                pageCommand(first.data().nextCursor(), MatchingUseCases.MAX_BROWSE_PAGE_SIZE));
+
+        assertTrue(rest.success());
+        assertEquals(2, rest.data().candidates().size());
+        assertFalse(rest.data().candidates().stream().anyMatch(user -> user.getId().equals(swipedId)));
+    }
+
+    @Test
+    @DisplayName("browseCandidatesPage restarts a session whose cursor is no longer known")
+    void browseCandidatesPageRestartsUnknownSession() {
+        var result = useCases.browseCandidatesPage(pageCommand(UUID.randomUUID() + ":4", 10));
+
+        assertTrue(result.success());
+        assertTrue(result.data().sessionRestarted());
+        assertEquals(List.of(candidate.getId()), result.data().candidates().stream().map(User::getId).toList());
+    }
+
+    @Test
+    @DisplayName("browseCandidatesPage rejects malformed cursors and out-of-range page sizes")
+    void browseCandidatesPageRejectsInvalidInput() {
+        var malformed = useCases.browseCandidatesPage(pageCommand("not-a-cursor", 10));
+        var badOffset = useCases.browseCandidatesPage(pageCommand("session:abc", 10));
+        var tooLarge = useCases.browseCandidatesPage(pageCommand(null, MatchingUseCases.MAX_BROWSE_PAGE_SIZE + 1));
+        var zero = useCases.browseCandidatesPage(pageCommand(null, 0));
+
+        assertEquals(UseCaseError.Code.VALIDATION, malformed.error().code());
+        assertEquals(UseCaseError.Code.VALIDATION, badOffset.error().code());
+        assertEquals(UseCaseError.Code.VALIDATION, tooLarge.error().code());
+        assertEquals(UseCaseError.Code.VALIDATION, zero.error().code());
+    }
+
     @Test
     @DisplayName("processSwipe and undoSwipe succeed with configured services")
     void processAndUndoSucceedForCurrentSetup() {
@@ -237,6 +358,10 @@ class MatchingUseCasesTest {
         var undoResult = useCases.undoSwipe(new UndoSwipeCommand(UserContext.cli(currentUser.getId())));
         assertTrue(undoResult.success());
         assertNotNull(undoResult.data().undoneSwipe());
+        List<SwipeUndone> undone = eventBus.publishedEventsOfType(SwipeUndone.class);
+        assertEquals(1, undone.size());
+        assertEquals(currentUser.getId(), undone.getFirst().swiperId());
+        assertEquals(candidate.getId(), undone.getFirst().targetId());
     }
 
     @Test
@@ -391,6 +516,11 @@ class MatchingUseCasesTest {
                 return Optional.empty();
             }
 
+            @Override
+            public Optional<DailyPick> getDailyPick(User seeker, CandidateSet candidateSet) {
+                return getDailyPick(seeker);
+            }
+
             @Override
             public boolean hasViewedDailyPick(UUID userId) {
                 return false;
@@ -444,6 +574,24 @@ class MatchingUseCasesTest {
         assertNotNull(result.data().shortSummary());
     }
 
+    @Test
+    @DisplayName("matchQualities returns snapshots for a page of matches keyed by match id")
+    void matchQualitiesReturnsSnapshotsForPage() {
+        User other = TestUserFactory.createActiveUser(UUID.randomUUID(), "Other");
+        userStorage.save(other);
+        Match first = Match.create(currentUser.getId(), candidate.getId());
+        Match second = Match.create(currentUser.getId(), other.getId());
+
+        var result = useCases.matchQualities(new MatchingUseCases.MatchQualitiesQuery(
+                UserContext.cli(currentUser.getId()), List.of(first, second)));
+        var single = useCases.matchQuality(
+                new MatchingUseCases.MatchQualityQuery(UserContext.cli(currentUser.getId()), second));
+
+        assertTrue(result.success());
+        assertEquals(List.of(first.getId(), second.getId()), List.copyOf(result.data().keySet()));
+        assertEquals(single.data(), result.data().get(second.getId()));
+    }
+
     @Test
     @DisplayName("removeLike deletes a like owned by the current user")
     void removeLikeDeletesLikeOwnedByCurrentUser() {
@@ -456,6 +604,10 @@ class MatchingUseCasesTest {
         assertTrue(interactionStorage
                 .getLike(currentUser.getId(), candidate.getId())
                 .isEmpty());
+        List<LikeRemoved> removed = eventBus.publishedEventsOfType(LikeRemoved.class);
+        assertEquals(1, removed.size());
+        assertEquals(currentUser.getId(), removed.getFirst().userId());
+        assertEquals(candidate.getId(), removed.getFirst().targetId());
     }
 
     @Test
@@ -473,6 +625,7 @@ class MatchingUseCasesTest {
 
         assertFalse(result.success());
         assertEquals("Like does not belong to current user", result.error().message());
+        assertTrue(eventBus.publishedEventsOfType(LikeRemoved.class).isEmpty());
         assertTrue(interactionStorage
                 .getLike(otherLiker.getId(), candidate.getId())
                 .isPresent());
@@ -906,6 +1059,23 @@ class MatchingUseCasesTest {
         assertEquals("eventBus cannot be null", exception.getMessage());
     }
 
+    private MatchingUseCases.BrowseCandidatesPageCommand pageCommand(String cursor, int pageSize) {
+        return new MatchingUseCases.BrowseCandidatesPageCommand(
+                UserContext.cli(currentUser.getId()), currentUser, cursor, pageSize);
+    }
+
+    private List<UUID> saveCompatibleCandidates(int count) {
+        List<UUID> ids = new java.util.ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            User extra = TestUserFactory.createActiveUser(UUID.randomUUID(), "Extra" + i);
+            extra.setGender(User.Gender.FEMALE);
+            extra.setInterestedIn(Set.of(User.Gender.MALE));
+            userStorage.save(extra);
+            ids.add(extra.getId());
+        }
+        return ids;
+    }
+
     private MatchingUseCases buildMatchingUseCasesWithoutEventBus() {
         return MatchingUseCases.builder()
                 .candidateFinder(candidateFinder)
@@ -985,6 +1155,11 @@ class MatchingUseCasesTest {
                 return Optional.empty();
             }
 
+            @Override
+            public Optional<DailyPick> getDailyPick(User seeker, CandidateSet candidateSet) {
+                return getDailyPick(seeker);
+            }
+
             @Override
             public boolean hasViewedDailyPick(UUID userId) {
                 return false;
@@ -1119,6 +1294,11 @@ class MatchingUseCasesTest {
                 return Optional.of(new DailyPick(candidate, AppClock.today(), reason, alreadySeen));
             }
 
+            @Override
+            public Optional<DailyPick> getDailyPick(User seeker, CandidateSet candidateSet) {
+                return getDailyPick(seeker);
+            }
+
             @Override
             public boolean hasViewedDailyPick(UUID userId) {
                 return alreadySeen;
@@ -14,6 +14,7 @@ import datingapp.app.usecase.common.UseCaseError;
 import datingapp.app.usecase.common.UseCaseResult;
 import datingapp.app.usecase.common.UserContext;
 import datingapp.app.usecase.profile.ProfileInsightsUseCases.AchievementsQuery;
+import datingapp.app.usecase.profile.ProfileInsightsUseCases.InsightsOverviewQuery;
 import datingapp.app.usecase.profile.ProfileInsightsUseCases.SessionSummaryQuery;
 import datingapp.app.usecase.profile.ProfileInsightsUseCases.StatsQuery;
 import datingapp.app.usecase.profile.ProfileMutationUseCases.DeleteAccountCommand;
@@ -396,6 +397,37 @@ class ProfileUseCasesTest {
         assertNotNull(stats.data());
     }
 
+    @Test
+    @DisplayName("getInsightsOverview loads every section together")
+    void insightsOverviewLoadsEverySection() {
+        User user = TestUserFactory.createActiveUser(UUID.randomUUID(), "Overview User");
+        userStorage.save(user);
+
+        var result = useCases.getInsightsOverview(new InsightsOverviewQuery(UserContext.cli(user.getId()), 10));
+
+        assertTrue(result.success());
+        assertTrue(result.data().stats().isPresent());
+        assertTrue(result.data().unlocked().isEmpty());
+        assertFalse(result.data().degraded());
+    }
+
+    @Test
+    @DisplayName("getInsightsOverview degrades a failing section instead of failing the overview")
+    void insightsOverviewDegradesFailingSection() {
+        ProfileInsightsUseCases insights = new ProfileInsightsUseCases(achievementService, metricsService) {
+            @Override
+            UserStats getOrComputeStats(UUID userId) {
+                throw new IllegalStateException("stats unavailable");
+            }
+        };
+
+        var result = insights.getInsightsOverview(new InsightsOverviewQuery(UserContext.cli(UUID.randomUUID()), 10));
+
+        assertTrue(result.success());
+        assertTrue(result.data().stats().isEmpty());
+        assertEquals(List.of(ProfileInsightsUseCases.SECTION_STATS), result.data().degradedSections());
+    }
+
     @Test
     @DisplayName("getOrComputeStats surfaces slice failure instead of silently falling back")
     void getOrComputeStatsSurfacesSliceFailureInsteadOfSilentlyFallingBack() {
@@ -26,7 +26,9 @@ class EventCoverageArchitectureTest {
 
     private static final Map<Class<? extends AppEvent>, Ownership> OWNERSHIP = Map.ofEntries(
             Map.entry(AppEvent.SwipeRecorded.class, Ownership.of(HandlerOwner.ACHIEVEMENT, HandlerOwner.METRICS)),
-            Map.entry(AppEvent.MatchCreated.class, Ownership.of(HandlerOwner.NOTIFICATION)),
+            Map.entry(AppEvent.SwipeUndone.class, Ownership.of(HandlerOwner.ACHIEVEMENT)),
+            Map.entry(AppEvent.LikeRemoved.class, Ownership.of(HandlerOwner.ACHIEVEMENT)),
+            Map.entry(AppEvent.MatchCreated.class, Ownership.of(HandlerOwner.ACHIEVEMENT, HandlerOwner.NOTIFICATION)),
             Map.entry(AppEvent.ProfileSaved.class, Ownership.of(HandlerOwner.ACHIEVEMENT, HandlerOwner.METRICS)),
             Map.entry(AppEvent.ProfileCompleted.class, Ownership.of(HandlerOwner.ACHIEVEMENT)),
             Map.entry(AppEvent.ProfileNoteSaved.class, Ownership.of(HandlerOwner.ACHIEVEMENT, HandlerOwner.METRICS)),
@@ -124,6 +126,24 @@ class EventCoverageArchitectureTest {
             public int countUnlocked(UUID userId) {
                 return 0;
             }
+
+            @Override
+            public void recordSwipe(
+                    UUID userId,
+                    datingapp.core.connection.ConnectionModels.Like.Direction direction,
+                    boolean resultedInMatch) {
+                // no-op
+            }
+
+            @Override
+            public void recordMatch(UUID userId) {
+                // no-op
+            }
+
+            @Override
+            public void recordReport(UUID userId) {
+                // no-op
+            }
         };
     }
 
@@ -18,7 +18,9 @@ class LocationPackageArchitectureTest {
             "LocationModelsTest.java",
             "LocationServiceTest.java",
             "LocalGeocodingServiceTest.java",
-            "NominatimGeocodingServiceTest.java");
+            "NominatimGeocodingServiceTest.java",
+            "CachingGeocodingServiceTest.java",
+            "SpatialGridTest.java");
 
     @Test
     void pureLocationUnitTestsLiveUnderLocationPackage() throws IOException {
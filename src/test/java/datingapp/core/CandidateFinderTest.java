@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import datingapp.core.matching.CandidateFinder;
+import datingapp.core.matching.CandidateSet;
 import datingapp.core.model.User;
 import datingapp.core.model.User.Gender;
 import datingapp.core.profile.MatchPreferences.Dealbreakers;
@@ -212,6 +213,30 @@ class CandidateFinderTest {
         assertTrue(secondResult.isEmpty(), "candidate should disappear once updated dealbreakers reject them");
     }
 
+    @Test
+    @DisplayName("findCandidateSetForUser keeps the distances measured while filtering")
+    void findCandidateSetForUserCarriesDistances() {
+        User near = createUser("Near", Gender.FEMALE, EnumSet.of(Gender.MALE), 28, 32.1, 34.8);
+        User far = createUser("Far", Gender.FEMALE, EnumSet.of(Gender.MALE), 28, 32.3, 34.9);
+        seeker.setMaxDistanceKm(200, CONFIG.matching().maxDistanceKm());
+        userStorage.save(seeker);
+        userStorage.save(far);
+        userStorage.save(near);
+
+        CandidateSet candidateSet = finder.findCandidateSetForUser(seeker);
+
+        assertTrue(candidateSet.isFor(seeker));
+        assertEquals(List.of("Near", "Far"), candidateSet.candidates().stream().map(User::getName).toList());
+        assertEquals(
+                GeoUtils.distanceKm(seeker.getLat(), seeker.getLon(), near.getLat(), near.getLon()),
+                candidateSet.distanceKm(near.getId()).orElseThrow(),
+                1e-9);
+        assertEquals(1, userStorage.findCandidatesCallCount());
+        assertTrue(finder.findCandidateSetForUser(createUserWithoutLocation(
+                        "NoLocation", Gender.MALE, EnumSet.of(Gender.FEMALE), 30))
+                .isEmpty());
+    }
+
     // =========================================================================
     // Tests for "interested in everyone" (all genders selected) matching
     // =========================================================================
@@ -14,6 +14,7 @@ import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.AfterEach;
@@ -132,6 +133,25 @@ class CleanupServiceTest {
             assertEquals(analyticsStorage.receivedDailyPickCutoff, userStorage.getLastPurgeCutoff());
             assertEquals(analyticsStorage.receivedDailyPickCutoff, interactionStorage.getLastPurgeCutoff());
         }
+
+        @Test
+        @DisplayName("Should expose chunked targets with the cascading user purge last")
+        void exposesChunkedCleanupTables() {
+            seedExpiringCleanupRows();
+            List<ActivityMetricsService.CleanupTable> tables = service.cleanupTables();
+
+            assertEquals(
+                    List.of(
+                            ActivityMetricsService.CLEANUP_DAILY_PICK_VIEWS,
+                            ActivityMetricsService.CLEANUP_SWIPE_SESSIONS,
+                            ActivityMetricsService.CLEANUP_STANDOUTS,
+                            ActivityMetricsService.CLEANUP_INTERACTIONS,
+                            ActivityMetricsService.CLEANUP_USERS),
+                    tables.stream().map(ActivityMetricsService.CleanupTable::name).toList());
+            assertTrue(tables.getLast().cascades());
+            assertEquals(1, tables.getLast().deleter().deleteChunk(service.cleanupCutoff(), 100));
+            assertEquals(1, userStorage.size());
+        }
     }
 
     @Nested
@@ -157,6 +177,19 @@ class CleanupServiceTest {
             assertTrue(str.contains("interactionsDeleted=4"));
         }
 
+        @Test
+        @DisplayName("fromTableCounts maps table names and ignores unknown tables")
+        void fromTableCountsMapsTableNames() {
+            var result = ActivityMetricsService.CleanupResult.fromTableCounts(Map.of(
+                    ActivityMetricsService.CLEANUP_DAILY_PICK_VIEWS, 4L,
+                    ActivityMetricsService.CLEANUP_USERS, 2L,
+                    "unknown", 9L));
+
+            assertEquals(4, result.dailyPicksDeleted());
+            assertEquals(2, result.usersDeleted());
+            assertEquals(6, result.totalDeleted());
+        }
+
         @Test
         @DisplayName("hadWork returns false for zero counts")
         void hadWorkFalseForZero() {
@@ -83,6 +83,80 @@ class CoreUtilitiesTest {
 
             assertTrue(exception.getMessage().contains("Longitude must be between -180 and 180"));
         }
+
+        @Test
+        @DisplayName("Bounding box contains the whole search circle away from the antimeridian")
+        void boundingBoxContainsSearchCircle() {
+            GeoUtils.BoundingBox box = GeoUtils.boundingBox(32.0853, 34.7818, 50);
+
+            assertFalse(box.crossesAntimeridian());
+            assertTrue(box.contains(31.7683, 35.2137), "Jerusalem is within 50km of Tel Aviv");
+            assertFalse(box.contains(40.7128, -74.0060));
+            assertTrue(box.latMin() < 32.0853 - 0.44 && box.latMax() > 32.0853 + 0.44);
+        }
+
+        @Test
+        @DisplayName("Bounding box splits the longitude range across the antimeridian")
+        void boundingBoxSplitsAcrossAntimeridian() {
+            GeoUtils.BoundingBox box = GeoUtils.boundingBox(-17.7134, 179.9, 50);
+
+            assertTrue(box.crossesAntimeridian());
+            assertEquals(180.0, box.lonMax());
+            assertEquals(-180.0, box.wrapLonMin());
+            assertTrue(box.contains(-17.7134, -179.8), "Points just past -180 must stay in range");
+            assertFalse(box.contains(-17.7134, 0.0));
+        }
+
+        @Test
+        @DisplayName("Geohash matches the reference encoding")
+        void geohashMatchesReferenceEncoding() {
+            assertEquals("u4pruydqqvj", GeoUtils.geohash(57.64911, 10.40744, 11));
+            assertEquals("sv8wx2zq6", GeoUtils.geohash(32.0853, 34.7818, GeoUtils.STORED_GEOHASH_PRECISION));
+        }
+
+        @Test
+        @DisplayName("Geohash cover includes every point inside the radius within the cell budget")
+        void geohashCoverIncludesPointsInsideRadius() {
+            List<String> cover = GeoUtils.geohashCover(32.0853, 34.7818, 50);
+
+            assertTrue(cover.size() <= GeoUtils.MAX_GEOHASH_COVER_CELLS);
+            // Precision 4 cells are ~20 km tall and ~33 km wide here, both inside the 50 km radius.
+            assertTrue(cover.stream().allMatch(cell -> cell.length() == 4), cover.toString());
+            for (double[] point : new double[][] {{32.1093, 34.8555}, {32.1663, 34.8436}, {31.8928, 34.8113}}) {
+                String hash = GeoUtils.geohash(point[0], point[1], GeoUtils.STORED_GEOHASH_PRECISION);
+                assertTrue(cover.stream().anyMatch(hash::startsWith), "No cover cell for " + hash);
+            }
+            String haifa = GeoUtils.geohash(32.7940, 34.9896, GeoUtils.STORED_GEOHASH_PRECISION);
+            assertFalse(cover.stream().anyMatch(haifa::startsWith), "Haifa is ~80km away");
+        }
+
+        @Test
+        @DisplayName("Geohash cover is dropped when the cell budget only allows cells wider than the radius")
+        void geohashCoverDroppedWhenCellsExceedRadius() {
+            // 25 km needs >64 precision-5 cells, and precision-4 cells are ~33 km wide.
+            assertTrue(GeoUtils.geohashCover(32.0853, 34.7818, 25).isEmpty());
+            assertFalse(GeoUtils.geohashCover(32.0853, 34.7818, 10).isEmpty());
+        }
+
+        @Test
+        @DisplayName("Geohash cover spans both sides of the antimeridian")
+        void geohashCoverSpansAntimeridian() {
+            List<String> cover = GeoUtils.geohashCover(-17.7134, 179.95, 50);
+            String farSide = GeoUtils.geohash(-17.7134, -179.95, GeoUtils.STORED_GEOHASH_PRECISION);
+
+            assertTrue(cover.stream().anyMatch(farSide::startsWith));
+        }
+
+        @Test
+        @DisplayName("Bounding box reaching a pole covers every longitude")
+        void boundingBoxReachingPoleCoversAllLongitudes() {
+            GeoUtils.BoundingBox box = GeoUtils.boundingBox(89.5, 10.0, 100);
+
+            assertEquals(90.0, box.latMax());
+            assertEquals(-180.0, box.lonMin());
+            assertEquals(180.0, box.lonMax());
+            assertTrue(box.contains(89.9, -170.0));
+        }
     }
 
     // ==================== INTEREST TESTS ====================
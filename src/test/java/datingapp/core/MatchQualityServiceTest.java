@@ -2,6 +2,8 @@ package datingapp.core;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import datingapp.core.connection.ConnectionModels.Like;
@@ -721,6 +723,113 @@ class MatchQualityServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Snapshots")
+    class SnapshotTests {
+
+        @Test
+        @DisplayName("Reuses the stored snapshot until a participant's profile changes")
+        void reusesSnapshotUntilProfileChanges() {
+            User alice = createUser("Alice", 28, 32.0, 34.0);
+            User bob = createUser("Bob", 26, 32.0, 34.0);
+            userStorage.save(alice);
+            userStorage.save(bob);
+            Match match = Match.create(alice.getId(), bob.getId());
+            addMutualLikes(alice.getId(), bob.getId());
+
+            MatchQuality first = service.computeQuality(match, alice.getId()).orElseThrow();
+            MatchQuality second = service.computeQuality(match, alice.getId()).orElseThrow();
+            TestClock.setFixed(FIXED_INSTANT.plusSeconds(60));
+            bob.setInterests(EnumSet.of(Interest.HIKING));
+            MatchQuality third = service.computeQuality(match, alice.getId()).orElseThrow();
+
+            assertSame(first, second);
+            assertNotSame(first, third);
+            assertEquals(FIXED_INSTANT.plusSeconds(60), third.computedAt());
+        }
+
+        @Test
+        @DisplayName("Recomputes after the participant is invalidated")
+        void recomputesAfterInvalidation() {
+            User alice = createUser("Alice", 28, 32.0, 34.0);
+            User bob = createUser("Bob", 26, 32.0, 34.0);
+            userStorage.save(alice);
+            userStorage.save(bob);
+            Match match = Match.create(alice.getId(), bob.getId());
+
+            service.precompute(match);
+            MatchQuality cached = service.computeQuality(match, alice.getId()).orElseThrow();
+            service.invalidateUser(bob.getId());
+
+            assertNotSame(cached, service.computeQuality(match, alice.getId()).orElseThrow());
+        }
+
+        @Test
+        @DisplayName("A current snapshot is served without loading either profile")
+        void currentSnapshotSkipsProfileLoads() {
+            int[] profileLoads = new int[1];
+            TestStorages.Users countingStorage = new TestStorages.Users() {
+                @Override
+                public java.util.Optional<User> get(UUID id) {
+                    profileLoads[0]++;
+                    return super.get(id);
+                }
+
+                @Override
+                public java.util.Map<UUID, User> findByIds(Set<UUID> ids) {
+                    profileLoads[0]++;
+                    return super.findByIds(ids);
+                }
+            };
+            MatchQualityService cachingService =
+                    new MatchQualityService(countingStorage, likeStorage, AppConfig.defaults());
+            User alice = createUser("Alice", 28, 32.0, 34.0);
+            User bob = createUser("Bob", 26, 32.0, 34.0);
+            countingStorage.save(alice);
+            countingStorage.save(bob);
+            Match match = Match.create(alice.getId(), bob.getId());
+
+            cachingService.precompute(match);
+            int loadsAfterPrecompute = profileLoads[0];
+            cachingService.computeQuality(match, alice.getId()).orElseThrow();
+            cachingService.computeQualities(List.of(match), bob.getId());
+
+            assertEquals(1, loadsAfterPrecompute);
+            assertEquals(1, profileLoads[0]);
+        }
+
+        @Test
+        @DisplayName("Batch variant loads a page with one multi-get and skips foreign matches")
+        void batchLoadsPageWithOneMultiGet() {
+            int[] multiGets = new int[1];
+            TestStorages.Users countingStorage = new TestStorages.Users() {
+                @Override
+                public java.util.Map<UUID, User> findByIds(Set<UUID> ids) {
+                    multiGets[0]++;
+                    return super.findByIds(ids);
+                }
+            };
+            MatchQualityService batchService =
+                    new MatchQualityService(countingStorage, likeStorage, AppConfig.defaults());
+            User alice = createUser("Alice", 28, 32.0, 34.0);
+            User bob = createUser("Bob", 26, 32.0, 34.0);
+            User carol = createUser("Carol", 30, 32.1, 34.1);
+            User dave = createUser("Dave", 31, 32.1, 34.1);
+            List.of(alice, bob, carol, dave).forEach(countingStorage::save);
+            Match withBob = Match.create(alice.getId(), bob.getId());
+            Match withCarol = Match.create(alice.getId(), carol.getId());
+            Match foreign = Match.create(bob.getId(), dave.getId());
+
+            var qualities = batchService.computeQualities(List.of(withBob, foreign, withCarol), alice.getId());
+
+            assertEquals(List.of(withBob.getId(), withCarol.getId()), List.copyOf(qualities.keySet()));
+            assertEquals(1, multiGets[0]);
+            assertEquals(
+                    batchService.computeQuality(withCarol, alice.getId()).orElseThrow(),
+                    qualities.get(withCarol.getId()));
+        }
+    }
+
     // === Helper Methods ===
 
     private User createUser(String name, int age, double lat, double lon) {
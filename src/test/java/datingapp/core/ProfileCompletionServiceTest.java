@@ -3,6 +3,8 @@ package datingapp.core;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import datingapp.core.model.User;
@@ -238,6 +240,60 @@ class ProfileCompletionServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("completion materialisation")
+    class CompletionMaterialisation {
+
+        @Test
+        @DisplayName("completionScore prefers the score stored on the user row")
+        void completionScorePrefersStoredScore() {
+            User stored = User.StorageBuilder.create(UUID.randomUUID(), "Stored", FIXED_INSTANT)
+                    .profileCompletion(88, "Gold")
+                    .build();
+
+            assertEquals(88, service.completionScore(stored));
+        }
+
+        @Test
+        @DisplayName("editing a profile clears the stored score and falls back to calculation")
+        void editingClearsStoredScore() {
+            User stored = User.StorageBuilder.create(UUID.randomUUID(), "Stored", FIXED_INSTANT)
+                    .profileCompletion(88, "Gold")
+                    .build();
+
+            stored.setBio("Freshly edited bio");
+
+            assertNull(stored.getProfileCompletionScore());
+            assertEquals(service.calculate(stored).score(), service.completionScore(stored));
+        }
+
+        @Test
+        @DisplayName("memoises results for the same unedited profile version")
+        void memoisesUneditedProfileVersion() {
+            User loaded = User.StorageBuilder.create(UUID.randomUUID(), "Loaded", FIXED_INSTANT)
+                    .bio("Loaded bio")
+                    .build();
+
+            ProfileService.CompletionResult first = service.calculate(loaded);
+            ProfileService.CompletionResult second = service.calculate(loaded.copy());
+
+            assertSame(first, second);
+        }
+
+        @Test
+        @DisplayName("does not reuse memoised results after local edits at the same instant")
+        void doesNotReuseMemoAfterLocalEdits() {
+            User loaded = User.StorageBuilder.create(UUID.randomUUID(), "Loaded", FIXED_INSTANT)
+                    .build();
+            int before = service.calculate(loaded).score();
+
+            loaded.setBio("Edited while the clock is frozen");
+
+            assertEquals(FIXED_INSTANT, loaded.getUpdatedAt());
+            assertTrue(service.calculate(loaded).score() > before);
+        }
+    }
+
     @Nested
     @DisplayName("calculateCompleteness()")
     class CalculateCompleteness {
@@ -64,6 +64,37 @@ class AchievementServiceTest {
         assertEquals(2, achievementService.countUnlocked(user.getId()));
     }
 
+    @Test
+    @DisplayName("event-driven counters unlock tiers without re-running count queries")
+    void recordedMatchesUnlockFromCounters() {
+        User user = createActiveUser("Counted");
+        users.save(user);
+        achievementService.checkAndUnlock(user.getId());
+
+        for (int i = 0; i < config.safety().achievementMatchTier1(); i++) {
+            achievementService.recordMatch(user.getId());
+        }
+        var unlocked = achievementService.checkAndUnlock(user.getId());
+
+        assertTrue(unlocked.stream().anyMatch(a -> a.achievement() == EngagementDomain.Achievement.FIRST_SPARK));
+        assertEquals(
+                config.safety().achievementMatchTier1(),
+                analytics.getAchievementCounters(user.getId()).orElseThrow().matchCount());
+    }
+
+    @Test
+    @DisplayName("first recorded event seeds counters from the source tables")
+    void firstRecordedEventSeedsCountersFromSourceTables() {
+        User user = createActiveUser("Seeded");
+        users.save(user);
+        interactions.save(Match.create(user.getId(), UUID.randomUUID()));
+        interactions.save(Match.create(user.getId(), UUID.randomUUID()));
+
+        achievementService.recordMatch(user.getId());
+
+        assertEquals(2, analytics.getAchievementCounters(user.getId()).orElseThrow().matchCount());
+    }
+
     @Test
     @DisplayName("protected no-arg constructor fails fast on live use")
     void protectedNoArgConstructorFailsFastOnLiveUse() {
@@ -1,5 +1,6 @@
 package datingapp.core.testutil;
 
+import datingapp.core.connection.ConnectionModels.Like;
 import datingapp.core.metrics.AchievementService;
 import datingapp.core.metrics.EngagementDomain.Achievement;
 import datingapp.core.metrics.EngagementDomain.Achievement.UserAchievement;
@@ -54,4 +55,19 @@ public final class TestAchievementService extends AchievementService {
     public int countUnlocked(UUID userId) {
         return unlocked.size();
     }
+
+    @Override
+    public void recordSwipe(UUID userId, Like.Direction direction, boolean resultedInMatch) {
+        // Fixture keeps no progress counters.
+    }
+
+    @Override
+    public void recordMatch(UUID userId) {
+        // Fixture keeps no progress counters.
+    }
+
+    @Override
+    public void recordReport(UUID userId) {
+        // Fixture keeps no progress counters.
+    }
 }
@@ -11,6 +11,7 @@ import datingapp.core.connection.ConnectionModels.Notification;
 import datingapp.core.connection.ConnectionModels.Report;
 import datingapp.core.matching.Standout;
 import datingapp.core.metrics.EngagementDomain.Achievement;
+import datingapp.core.metrics.EngagementDomain.Achievement.ProgressCounters;
 import datingapp.core.metrics.EngagementDomain.Achievement.UserAchievement;
 import datingapp.core.metrics.EngagementDomain.PlatformStats;
 import datingapp.core.metrics.EngagementDomain.UserStats;
@@ -132,6 +133,21 @@ public final class TestStorages {
             return found;
         }
 
+        @Override
+        public Map<UUID, Instant> findUpdatedAtByIds(Set<UUID> ids) {
+            if (ids == null || ids.isEmpty()) {
+                return Map.of();
+            }
+            Map<UUID, Instant> found = new HashMap<>();
+            for (UUID id : ids) {
+                User user = users.get(id);
+                if (user != null) {
+                    found.put(id, user.getUpdatedAt());
+                }
+            }
+            return found;
+        }
+
         @Override
         public void delete(UUID id) {
             users.remove(id);
@@ -1020,6 +1036,7 @@ public final class TestStorages {
         private final List<PlatformStats> platformStatsHistory = new ArrayList<>();
         private final List<ProfileViewEvent> profileViews = new ArrayList<>();
         private final Map<UUID, List<UserAchievement>> achievements = new HashMap<>();
+        private final Map<UUID, ProgressCounters> achievementCounters = new HashMap<>();
         private final Map<UUID, Instant> standoutInteractions = new HashMap<>();
         private final Set<String> dailyPickViews = new HashSet<>();
         private final Map<String, UUID> dailyPicks = new HashMap<>();
@@ -1168,6 +1185,27 @@ public final class TestStorages {
             return achievements.getOrDefault(userId, List.of()).size();
         }
 
+        @Override
+        public Optional<ProgressCounters> getAchievementCounters(UUID userId) {
+            return Optional.ofNullable(achievementCounters.get(userId));
+        }
+
+        @Override
+        public void saveAchievementCounters(ProgressCounters counters) {
+            achievementCounters.put(counters.userId(), counters);
+        }
+
+        @Override
+        public boolean incrementAchievementCounters(
+                UUID userId, int matchDelta, int likeDelta, int passDelta, int reportDelta) {
+            ProgressCounters existing = achievementCounters.get(userId);
+            if (existing == null) {
+                return false;
+            }
+            achievementCounters.put(userId, existing.plus(matchDelta, likeDelta, passDelta, reportDelta));
+            return true;
+        }
+
         @Override
         public void markDailyPickAsViewed(UUID userId, LocalDate date) {
             dailyPickViews.add(dailyPickKey(userId, date));
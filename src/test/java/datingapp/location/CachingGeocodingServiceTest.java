@@ -0,0 +1,251 @@
+package datingapp.location;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sun.net.httpserver.HttpServer;
+import datingapp.core.testutil.TestClock;
+import datingapp.location.GeocodingService.GeocodingResult;
+import datingapp.location.LocationModels.Precision;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+
+@Timeout(10)
+@DisplayName("CachingGeocodingService")
+class CachingGeocodingServiceTest {
+
+    private static final Instant NOW = Instant.parse("2026-06-01T12:00:00Z");
+    private static final GeocodingResult ROTHSCHILD =
+            new GeocodingResult("Rothschild Boulevard, Tel Aviv-Yafo, Israel", 32.0651, 34.7778, Precision.ADDRESS);
+    private static final String ROTHSCHILD_JSON = """
+            [{"display_name": "Rothschild Boulevard, Tel Aviv-Yafo, Israel", "lat": "32.0651", "lon": "34.7778"}]
+            """;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        TestClock.setFixed(NOW);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TestClock.reset();
+    }
+
+    @Test
+    @DisplayName("repeated searches for the same normalised query hit the provider once")
+    void repeatedSearchesHitProviderOnce() throws Exception {
+        AtomicInteger requests = new AtomicInteger();
+        try (StubServer server = new StubServer(requests, ROTHSCHILD_JSON);
+                CachingGeocodingService service = new CachingGeocodingService(nominatim(server))) {
+            List<GeocodingResult> first = service.search("Rothschild", 5);
+            List<GeocodingResult> second = service.search("  rothschild ", 5);
+
+            assertEquals(List.of(ROTHSCHILD), first);
+            assertEquals(first, second);
+            assertEquals(1, requests.get());
+        }
+    }
+
+    @Test
+    @DisplayName("empty results are cached until the shorter negative ttl expires")
+    void emptyResultsAreCachedForNegativeTtl() throws Exception {
+        AtomicInteger requests = new AtomicInteger();
+        try (StubServer server = new StubServer(requests, "[]");
+                CachingGeocodingService service = new CachingGeocodingService(
+                        nominatim(server), null, 10, Duration.ofDays(1), Duration.ofMinutes(10))) {
+            service.search("nowhere", 5);
+            service.search("nowhere", 5);
+            assertEquals(1, requests.get());
+
+            TestClock.setFixed(NOW.plus(Duration.ofMinutes(11)));
+            service.search("nowhere", 5);
+            assertEquals(2, requests.get());
+        }
+    }
+
+    @Test
+    @DisplayName("identical in-flight queries share one provider call and never block the caller")
+    void identicalInFlightQueriesAreCoalesced() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger calls = new AtomicInteger();
+        GeocodingService slow = (query, maxResults) -> {
+            calls.incrementAndGet();
+            try {
+                release.await();
+            } catch (InterruptedException _) {
+                Thread.currentThread().interrupt();
+            }
+            return List.of(ROTHSCHILD);
+        };
+
+        try (CachingGeocodingService service = new CachingGeocodingService(slow)) {
+            CompletableFuture<List<GeocodingResult>> first = service.searchAsync("Rothschild", 5);
+            CompletableFuture<List<GeocodingResult>> second = service.searchAsync("ROTHSCHILD", 5);
+
+            assertFalse(first.isDone());
+            assertFalse(second.isDone());
+            release.countDown();
+
+            assertEquals(List.of(ROTHSCHILD), first.get(5, TimeUnit.SECONDS));
+            assertEquals(List.of(ROTHSCHILD), second.get(5, TimeUnit.SECONDS));
+            assertEquals(1, calls.get());
+        }
+    }
+
+    @Test
+    @DisplayName("provider failures are not cached")
+    void failuresAreNotCached() {
+        AtomicInteger calls = new AtomicInteger();
+        GeocodingService flaky = (query, maxResults) -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IllegalStateException("provider down");
+            }
+            return List.of(ROTHSCHILD);
+        };
+
+        try (CachingGeocodingService service = new CachingGeocodingService(flaky)) {
+            assertTrue(service.search("Rothschild", 5).isEmpty());
+            assertEquals(List.of(ROTHSCHILD), service.search("Rothschild", 5));
+            assertEquals(1, service.size());
+        }
+    }
+
+    @Test
+    @DisplayName("an unavailable provider is neither cached as a negative nor written to the cache file")
+    void unavailableProviderIsNotPersisted() throws Exception {
+        Path cacheFile = tempDir.resolve("geocoding-cache.json");
+        AtomicInteger calls = new AtomicInteger();
+        GeocodingService rateLimited = (query, maxResults) -> {
+            calls.incrementAndGet();
+            throw new GeocodingService.GeocodingUnavailableException("status 429");
+        };
+
+        try (CachingGeocodingService service = new CachingGeocodingService(rateLimited, cacheFile)) {
+            assertTrue(service.search("Rothschild", 5).isEmpty());
+            CompletableFuture<List<GeocodingResult>> retry = service.searchAsync("Rothschild", 5);
+            assertThrows(CompletionException.class, retry::join);
+            assertEquals(0, service.size());
+        }
+        assertEquals(2, calls.get());
+        assertFalse(Files.readString(cacheFile).contains("rothschild"));
+    }
+
+    @Test
+    @DisplayName("the least recently used entry is evicted at capacity")
+    void evictsLeastRecentlyUsedEntry() {
+        AtomicInteger calls = new AtomicInteger();
+        GeocodingService counting = (query, maxResults) -> {
+            calls.incrementAndGet();
+            return List.of(ROTHSCHILD);
+        };
+
+        try (CachingGeocodingService service = new CachingGeocodingService(
+                counting, null, 2, Duration.ofDays(1), Duration.ofHours(1))) {
+            service.search("a", 5);
+            service.search("b", 5);
+            service.search("a", 5);
+            service.search("c", 5);
+            service.search("a", 5);
+            service.search("b", 5);
+
+            assertEquals(2, service.size());
+            assertEquals(4, calls.get());
+        }
+    }
+
+    @Test
+    @DisplayName("persisted results survive a restart and unreadable files are ignored")
+    void persistedResultsSurviveRestart() throws Exception {
+        Path cacheFile = tempDir.resolve("data").resolve("geocoding-cache.json");
+        AtomicInteger requests = new AtomicInteger();
+        try (StubServer server = new StubServer(requests, ROTHSCHILD_JSON)) {
+            try (CachingGeocodingService service = new CachingGeocodingService(nominatim(server), cacheFile)) {
+                service.search("Rothschild", 5);
+            }
+        }
+        GeocodingService unreachable = (query, maxResults) -> {
+            throw new IllegalStateException("should be served from disk");
+        };
+
+        try (CachingGeocodingService restarted = new CachingGeocodingService(unreachable, cacheFile)) {
+            assertEquals(List.of(ROTHSCHILD), restarted.search("rothschild", 5));
+        }
+
+        Files.writeString(cacheFile, "{not json");
+        try (CachingGeocodingService corrupted = new CachingGeocodingService(unreachable, cacheFile)) {
+            assertEquals(0, corrupted.size());
+        }
+        assertEquals(1, requests.get());
+    }
+
+    private static NominatimGeocodingService nominatim(StubServer server) {
+        AtomicLong nowMillis = new AtomicLong(1_000L);
+        return new NominatimGeocodingService(
+                HttpClient.newHttpClient(),
+                server.baseUri(),
+                "DatingApp-Test/1.0",
+                nowMillis::get,
+                nowMillis::addAndGet);
+    }
+
+    private static final class StubServer implements AutoCloseable {
+        private final HttpServer server;
+        private final ExecutorService executor;
+        private final URI baseUri;
+
+        private StubServer(AtomicInteger requests, String body) throws IOException {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            server.createContext("/search", exchange -> {
+                requests.incrementAndGet();
+                byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().set("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, bytes.length);
+                try (OutputStream outputStream = exchange.getResponseBody()) {
+                    outputStream.write(bytes);
+                }
+            });
+            executor = Executors.newSingleThreadExecutor();
+            server.setExecutor(executor);
+            server.start();
+            baseUri = URI.create("http://127.0.0.1:" + server.getAddress().getPort());
+        }
+
+        private URI baseUri() {
+            return baseUri;
+        }
+
+        @Override
+        public void close() {
+            server.stop(0);
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package datingapp.location;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import datingapp.location.GeocodingService.GeocodingResult;
+import datingapp.location.LocationModels.Precision;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("FallbackGeocodingService")
+class FallbackGeocodingServiceTest {
+
+    private static final GeocodingResult HAIFA = new GeocodingResult("Haifa, Israel", 32.794, 34.9896, Precision.CITY);
+    private static final GeocodingResult ROTHSCHILD =
+            new GeocodingResult("Rothschild Boulevard, Tel Aviv-Yafo, Israel", 32.0651, 34.7778, Precision.ADDRESS);
+
+    @Test
+    @DisplayName("searchAsync asks the fallback's async path only when the primary has no results")
+    void searchAsyncFallsBackOnlyWhenPrimaryIsEmpty() {
+        AtomicInteger blockingCalls = new AtomicInteger();
+        GeocodingService primary = (query, maxResults) -> query.startsWith("Haifa") ? List.of(HAIFA) : List.of();
+        GeocodingService remote = new GeocodingService() {
+            @Override
+            public List<GeocodingResult> search(String query, int maxResults) {
+                blockingCalls.incrementAndGet();
+                return List.of(ROTHSCHILD);
+            }
+
+            @Override
+            public CompletableFuture<List<GeocodingResult>> searchAsync(String query, int maxResults) {
+                return CompletableFuture.completedFuture(List.of(ROTHSCHILD));
+            }
+        };
+        FallbackGeocodingService service = new FallbackGeocodingService(primary, remote);
+
+        assertEquals(List.of(HAIFA), service.searchAsync("Haifa", 5).join());
+        assertEquals(List.of(ROTHSCHILD), service.searchAsync("Rothschild", 5).join());
+        assertEquals(List.of(), service.searchAsync(" ", 5).join());
+        assertEquals(0, blockingCalls.get());
+    }
+
+    @Test
+    @DisplayName("a failing fallback fails the future instead of reporting no matches")
+    void fallbackFailurePropagates() {
+        GeocodingService primary = (query, maxResults) -> List.of();
+        GeocodingService remote = (query, maxResults) -> {
+            throw new GeocodingService.GeocodingUnavailableException("status 503");
+        };
+        FallbackGeocodingService service = new FallbackGeocodingService(primary, remote);
+
+        CompletableFuture<List<GeocodingResult>> result = service.searchAsync("Rothschild", 5);
+
+        CompletionException failure = assertThrows(CompletionException.class, result::join);
+        assertInstanceOf(GeocodingService.GeocodingUnavailableException.class, failure.getCause());
+    }
+}
@@ -128,4 +128,34 @@ class LocationServiceTest {
                 "Eilat, Southern District",
                 result.resolvedLocation().orElseThrow().label());
     }
+
+    @Test
+    @DisplayName("city search matches substrings of names and districts in priority order")
+    void citySearchMatchesSubstringsOfNamesAndDistricts() {
+        List<City> midWord = locationService.searchCities("il", "aviv", 10);
+        List<City> district = locationService.searchCities("IL", "judea", 10);
+        List<City> limited = locationService.searchCities("IL", "kiryat", 2);
+
+        assertEquals("Tel Aviv", midWord.getFirst().name());
+        assertTrue(midWord.stream().allMatch(city -> city.displayName().toLowerCase().contains("aviv")));
+        assertEquals(List.of("Ariel"), district.stream().map(City::name).toList());
+        assertEquals(
+                List.of("Kiryat Ata", "Kiryat Bialik"),
+                limited.stream().map(City::name).toList());
+        assertTrue(locationService.searchCities("US", "tel", 10).isEmpty());
+        assertTrue(locationService.searchCities(null, "tel", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("display labels are memoised per coordinate pair without changing the result")
+    void displayLabelsAreMemoised() {
+        String first = locationService.formatForDisplay(32.0853, 34.7818);
+        String second = locationService.formatForDisplay(32.0853, 34.7818);
+        String unsupported = locationService.formatForDisplay(40.7128, -74.0060);
+
+        assertEquals("Tel Aviv, Tel Aviv District", first);
+        assertEquals(first, second);
+        assertEquals("40.7128, -74.0060", unsupported);
+        assertEquals(2, locationService.memoizedLabelCount());
+    }
 }
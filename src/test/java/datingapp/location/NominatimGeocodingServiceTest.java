@@ -1,6 +1,7 @@
 package datingapp.location;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.sun.net.httpserver.HttpExchange;
@@ -80,6 +81,40 @@ class NominatimGeocodingServiceTest {
         }
     }
 
+    @Test
+    @DisplayName("rate limits and server errors throw instead of reading as no matches")
+    void errorResponsesThrowInsteadOfReturningNoMatches() throws Exception {
+        AtomicReference<Integer> status = new AtomicReference<>(429);
+        AtomicLong nowMillis = new AtomicLong(10_000L);
+        try (TestServer server = new TestServer(exchange -> writeJson(exchange, status.get(), "[]"))) {
+            NominatimGeocodingService service = new NominatimGeocodingService(
+                    HttpClient.newHttpClient(),
+                    server.baseUri(),
+                    "DatingApp-Test/1.0",
+                    nowMillis::get,
+                    nowMillis::addAndGet);
+
+            assertThrows(GeocodingService.GeocodingUnavailableException.class, () -> service.search("Haifa", 5));
+            status.set(503);
+            assertThrows(GeocodingService.GeocodingUnavailableException.class, () -> service.search("Haifa", 5));
+            status.set(200);
+            assertEquals(List.of(), service.search("Haifa", 5));
+        }
+    }
+
+    @Test
+    @DisplayName("an unreachable server throws instead of reading as no matches")
+    void unreachableServerThrows() throws Exception {
+        URI closedServer;
+        try (TestServer server = new TestServer(exchange -> writeJson(exchange, 200, "[]"))) {
+            closedServer = server.baseUri();
+        }
+        NominatimGeocodingService service = new NominatimGeocodingService(
+                HttpClient.newHttpClient(), closedServer, "DatingApp-Test/1.0", () -> 1_000L, _ -> {});
+
+        assertThrows(GeocodingService.GeocodingUnavailableException.class, () -> service.search("Haifa", 5));
+    }
+
     private static void writeJson(HttpExchange exchange, int statusCode, String body) throws IOException {
         byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
         exchange.getResponseHeaders().set("Content-Type", "application/json");
@@ -0,0 +1,77 @@
+package datingapp.location;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("SpatialGrid")
+class SpatialGridTest {
+
+    private record Point(String name, double lat, double lon) {}
+
+    @Test
+    @DisplayName("nearest matches a linear scan for random points and radii")
+    void nearestMatchesLinearScan() {
+        Random random = new Random(46);
+        List<Point> points = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            points.add(new Point("p" + i, random.nextDouble(29.0, 34.0), random.nextDouble(34.0, 36.0)));
+        }
+        SpatialGrid<Point> grid = grid(points);
+
+        for (int i = 0; i < 500; i++) {
+            double lat = random.nextDouble(28.5, 34.5);
+            double lon = random.nextDouble(33.5, 36.5);
+            double radius = random.nextDouble(0.5, 30.0);
+
+            assertEquals(linearNearest(points, lat, lon, radius), grid.nearest(lat, lon, radius));
+        }
+    }
+
+    @Test
+    @DisplayName("finds points across the antimeridian")
+    void findsPointsAcrossAntimeridian() {
+        Point east = new Point("east", -17.0, 179.99);
+        SpatialGrid<Point> grid = grid(List.of(east, new Point("far", -17.0, 170.0)));
+
+        assertEquals(Optional.of(east), grid.nearest(-17.0, -179.99, 10.0));
+    }
+
+    @Test
+    @DisplayName("ties resolve to the earlier point and out-of-radius points are ignored")
+    void tiesResolveToEarlierPoint() {
+        Point first = new Point("first", 32.0, 34.8);
+        Point duplicate = new Point("duplicate", 32.0, 34.8);
+        SpatialGrid<Point> grid = grid(List.of(first, duplicate));
+
+        assertEquals(Optional.of(first), grid.nearest(32.0, 34.8, 1.0));
+        assertTrue(grid.nearest(33.0, 34.8, 5.0).isEmpty());
+        assertEquals(2, grid.size());
+    }
+
+    @Test
+    @DisplayName("rejects invalid cell sizes")
+    void rejectsInvalidCellSizes() {
+        List<Point> none = List.of();
+
+        assertThrows(IllegalArgumentException.class, () -> new SpatialGrid<>(none, Point::lat, Point::lon, 0.0));
+    }
+
+    private static SpatialGrid<Point> grid(List<Point> points) {
+        return new SpatialGrid<>(points, Point::lat, Point::lon, LocationIndex.GRID_CELL_DEGREES);
+    }
+
+    private static Optional<Point> linearNearest(List<Point> points, double lat, double lon, double radius) {
+        return points.stream()
+                .filter(point -> GeoUtils.distanceKm(lat, lon, point.lat(), point.lon()) <= radius)
+                .min(Comparator.comparingDouble(point -> GeoUtils.distanceKm(lat, lon, point.lat(), point.lon())));
+    }
+}
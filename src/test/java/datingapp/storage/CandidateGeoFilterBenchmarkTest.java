@@ -0,0 +1,147 @@
+package datingapp.storage;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import datingapp.location.GeoUtils;
+import datingapp.storage.SyntheticDataGenerator.GeoCluster;
+import datingapp.storage.SyntheticDataGenerator.Options;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares how many rows the H2 candidate search reads with the geohash cover against the plain
+ * bounding box, over synthetic populations generated like the dev seed.
+ *
+ * <p>Without the cover, H2 range-scans only the latitude band of the box ({@code idx_users_location_state}
+ * leads with {@code lat}), so every user in that band is read. With the cover it reads the users whose
+ * stored geohash falls in one of the covering cells. Counting rows instead of timing queries keeps the
+ * comparison deterministic. The Israeli metro clusters barely extend east or west of any search box, so
+ * the band is already tight there; the cover only wins once other metros share the band, which is why
+ * {@code datingapp.db.geohashFilter} is off by default.
+ */
+@Timeout(60)
+@DisplayName("Candidate geo filter: geohash cover vs bounding box")
+class CandidateGeoFilterBenchmarkTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CandidateGeoFilterBenchmarkTest.class);
+    private static final int POPULATION = 40_000;
+    private static final int[] RADII_KM = {5, 10, 25, 50, 75, 200};
+    private static final int DEFAULT_RADIUS_KM = 50;
+
+    private record Point(double lat, double lon, String geohash) {}
+
+    private record Measurement(String seeker, int radiusKm, int cells, long inRadius, long bandRows, long coverRows) {}
+
+    @Test
+    @DisplayName("Israeli clusters: the cover keeps every candidate but the band is already as tight")
+    void israeliClusters() {
+        Options options = Options.defaults(POPULATION, 2026L);
+        List<Measurement> measurements = measureAll(options, options.clusters());
+
+        Measurement telAviv = find(measurements, "tel-aviv", DEFAULT_RADIUS_KM);
+        assertTrue(telAviv.cells() > 0, "The default radius must produce a cover");
+        assertTrue(telAviv.bandRows() <= telAviv.coverRows(), "Revisit the geohashFilter default: " + telAviv);
+    }
+
+    @Test
+    @DisplayName("metros sharing the latitude band: the cover reads a fraction of the band")
+    void sharedLatitudeBand() {
+        Options israel = Options.defaults(POPULATION, 2026L);
+        List<GeoCluster> clusters = new ArrayList<>(israel.clusters());
+        // Metros at Tel Aviv's latitude: the band reads them all, the cover reads none.
+        clusters.add(new GeoCluster("amman", 31.95, 35.93, 15, 0.4));
+        clusters.add(new GeoCluster("hefei", 31.82, 117.23, 20, 0.6));
+        clusters.add(new GeoCluster("nanjing", 32.06, 118.80, 25, 0.8));
+        clusters.add(new GeoCluster("tucson", 32.22, -110.97, 15, 0.3));
+        Options options = new Options(
+                POPULATION,
+                israel.seed(),
+                israel.anchor(),
+                clusters,
+                israel.genderMix(),
+                israel.preferenceMix(),
+                israel.likesPerUser(),
+                israel.matchRate(),
+                israel.messagesPerMatch(),
+                israel.batchSize(),
+                israel.parallelism(),
+                israel.writeMode());
+        List<Measurement> measurements = measureAll(options, israel.clusters());
+
+        Measurement telAviv = find(measurements, "tel-aviv", DEFAULT_RADIUS_KM);
+        assertTrue(telAviv.coverRows() * 2 < telAviv.bandRows(), "Expected the cover to halve the band: " + telAviv);
+    }
+
+    private static List<Measurement> measureAll(Options options, List<GeoCluster> seekers) {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(options);
+        List<Point> population = new ArrayList<>(POPULATION);
+        for (long index = 0; index < options.userCount(); index++) {
+            var definition = generator.definitionFor(index);
+            population.add(new Point(
+                    definition.lat(),
+                    definition.lon(),
+                    GeoUtils.geohash(definition.lat(), definition.lon(), GeoUtils.STORED_GEOHASH_PRECISION)));
+        }
+
+        List<Measurement> measurements = new ArrayList<>();
+        for (GeoCluster seeker : seekers) {
+            for (int radiusKm : RADII_KM) {
+                Measurement measurement = measure(population, seeker, radiusKm);
+                if (LOG.isInfoEnabled()) {
+                    LOG.info(String.format(
+                            Locale.ROOT,
+                            "%-10s %3d km: %2d cells, %6d in radius, band reads %6d, cover reads %6d",
+                            measurement.seeker(),
+                            measurement.radiusKm(),
+                            measurement.cells(),
+                            measurement.inRadius(),
+                            measurement.bandRows(),
+                            measurement.coverRows()));
+                }
+                assertTrue(measurement.coverRows() >= measurement.inRadius(), "Cover lost candidates: " + measurement);
+                measurements.add(measurement);
+            }
+        }
+        return measurements;
+    }
+
+    private static Measurement measure(List<Point> population, GeoCluster seeker, int radiusKm) {
+        GeoUtils.BoundingBox box = GeoUtils.boundingBox(seeker.lat(), seeker.lon(), radiusKm);
+        List<String> cover = GeoUtils.geohashCover(seeker.lat(), seeker.lon(), radiusKm);
+        Set<String> cells = new HashSet<>(cover);
+        int cellLength = cover.isEmpty() ? 0 : cover.getFirst().length();
+
+        long inRadius = 0;
+        long bandRows = 0;
+        long coverRows = 0;
+        for (Point point : population) {
+            boolean inBand = point.lat() >= box.latMin() && point.lat() <= box.latMax();
+            if (inBand) {
+                bandRows++;
+            }
+            // An empty cover means the search falls back to the band.
+            if (cover.isEmpty() ? inBand : cells.contains(point.geohash().substring(0, cellLength))) {
+                coverRows++;
+            }
+            if (GeoUtils.distanceKm(seeker.lat(), seeker.lon(), point.lat(), point.lon()) <= radiusKm) {
+                inRadius++;
+            }
+        }
+        return new Measurement(seeker.name(), radiusKm, cover.size(), inRadius, bandRows, coverRows);
+    }
+
+    private static Measurement find(List<Measurement> measurements, String seeker, int radiusKm) {
+        return measurements.stream()
+                .filter(m -> m.seeker().equals(seeker) && m.radiusKm() == radiusKm)
+                .findFirst()
+                .orElseThrow();
+    }
+}
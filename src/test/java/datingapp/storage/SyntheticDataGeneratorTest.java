@@ -0,0 +1,208 @@
+package datingapp.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import datingapp.core.model.User;
+import datingapp.core.model.User.Gender;
+import datingapp.location.GeoUtils;
+import datingapp.storage.DevDataSeeder.SeedUserDefinition;
+import datingapp.storage.SyntheticDataGenerator.Edge;
+import datingapp.storage.SyntheticDataGenerator.GeoCluster;
+import datingapp.storage.SyntheticDataGenerator.Options;
+import datingapp.storage.SyntheticDataGenerator.Report;
+import datingapp.storage.SyntheticDataGenerator.Traits;
+import datingapp.storage.SyntheticDataGenerator.WriteMode;
+import datingapp.storage.schema.SchemaInitializer;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+@Timeout(30)
+@DisplayName("SyntheticDataGenerator")
+class SyntheticDataGeneratorTest {
+
+    private static final Instant ANCHOR = Instant.parse("2026-06-01T00:00:00Z");
+
+    @Test
+    @DisplayName("the same seed reproduces identical users and interactions")
+    void sameSeedIsDeterministic() {
+        SyntheticDataGenerator first = new SyntheticDataGenerator(options(1_000, 7L, 2));
+        SyntheticDataGenerator second = new SyntheticDataGenerator(options(1_000, 7L, 8));
+
+        for (long index = 0; index < 50; index++) {
+            assertEquals(first.definitionFor(index), second.definitionFor(index));
+            assertEquals(first.edgesFor(index), second.edgesFor(index));
+        }
+    }
+
+    @Test
+    @DisplayName("different seeds produce disjoint user ids")
+    void differentSeedsDoNotCollide() {
+        SyntheticDataGenerator first = new SyntheticDataGenerator(options(100, 1L, 1));
+        SyntheticDataGenerator second = new SyntheticDataGenerator(options(100, 2L, 1));
+
+        Set<UUID> ids = new HashSet<>();
+        for (long index = 0; index < 100; index++) {
+            ids.add(first.userId(index));
+            ids.add(second.userId(index));
+        }
+
+        assertEquals(200, ids.size());
+        assertNotEquals(first.definitionFor(0), second.definitionFor(0));
+    }
+
+    @Test
+    @DisplayName("gender mix and clusters follow the configured weights")
+    void mixesFollowWeights() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(options(4_000, 11L, 1));
+        Map<Gender, Integer> genders = new EnumMap<>(Gender.class);
+        int[] clusters = new int[2];
+
+        for (long index = 0; index < 4_000; index++) {
+            Traits traits = generator.traitsOf(index);
+            genders.merge(traits.gender(), 1, Integer::sum);
+            clusters[traits.cluster()]++;
+        }
+
+        // Options use a 45/45/10 gender mix and a 3:1 cluster split.
+        assertEquals(0.45, genders.get(Gender.MALE) / 4_000.0, 0.04);
+        assertEquals(0.10, genders.get(Gender.OTHER) / 4_000.0, 0.03);
+        assertEquals(0.75, clusters[0] / 4_000.0, 0.04);
+    }
+
+    @Test
+    @DisplayName("generated definitions build into active users inside their cluster")
+    void definitionsBuildActiveUsersInsideCluster() {
+        Options options = options(500, 3L, 1);
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(options);
+
+        for (long index = 0; index < 200; index++) {
+            SeedUserDefinition definition = generator.definitionFor(index);
+            User user = DevDataSeeder.build(definition);
+            GeoCluster cluster = options.clusters().get(generator.traitsOf(index).cluster());
+
+            assertEquals(User.UserState.ACTIVE, user.getState());
+            double distance = GeoUtils.distanceKm(cluster.lat(), cluster.lon(), user.getLat(), user.getLon());
+            assertTrue(distance <= cluster.radiusKm() + 0.01, "User " + index + " is " + distance + " km out");
+        }
+    }
+
+    @Test
+    @DisplayName("each pair is emitted by one owner, within a cluster, towards a wanted gender")
+    void edgesRespectOwnershipAndCompatibility() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(options(2_000, 5L, 1));
+        Set<String> pairs = new HashSet<>();
+        int mutual = 0;
+
+        for (long index = 0; index < 2_000; index++) {
+            for (Edge edge : generator.edgesFor(index)) {
+                Traits liker = generator.traitsOf(edge.liker());
+                Traits liked = generator.traitsOf(edge.liked());
+                long low = Math.min(edge.liker(), edge.liked());
+                long high = Math.max(edge.liker(), edge.liked());
+
+                assertTrue(pairs.add(low + ":" + high), "Pair emitted twice: " + low + ":" + high);
+                assertEquals(liker.cluster(), liked.cluster());
+                assertTrue(liker.interestedIn().contains(liked.gender()));
+                assertFalse(edge.likedAt().isAfter(ANCHOR));
+                if (edge.mutual()) {
+                    mutual++;
+                    assertTrue(liked.interestedIn().contains(liker.gender()));
+                    assertFalse(edge.matchedAt().isBefore(edge.likedAt()));
+                }
+            }
+        }
+
+        // 2,000 users at 10 likes each: the clusters are large enough for almost every user to reach its draw.
+        assertTrue(pairs.size() > 19_000, "Expected about 20,000 likes but got " + pairs.size());
+        assertTrue(mutual > 0);
+    }
+
+    @Test
+    @DisplayName("pair ownership is antisymmetric")
+    void ownershipIsAntisymmetric() {
+        for (long a = 0; a < 20; a++) {
+            for (long b = 0; b < 20; b++) {
+                if (a != b) {
+                    assertNotEquals(SyntheticDataGenerator.owns(a, b), SyntheticDataGenerator.owns(b, a));
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("parses cluster specs and rejects malformed entries")
+    void parsesClusterSpecs() {
+        List<GeoCluster> clusters = SyntheticDataGenerator.parseClusters("north:32.8:35.0:10:1; south:31.2:34.8:5:2");
+
+        assertEquals(2, clusters.size());
+        assertEquals("south", clusters.get(1).name());
+        assertEquals(2.0, clusters.get(1).weight());
+        assertThrows(IllegalArgumentException.class, () -> SyntheticDataGenerator.parseClusters("north:32.8:35.0"));
+    }
+
+    @Test
+    @DisplayName("batch writes load every table and report throughput")
+    void batchWritesLoadDatabase() throws SQLException {
+        String url = "jdbc:h2:mem:synthetic_data_test_" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+        try (Connection keepAlive = DriverManager.getConnection(url, "sa", "")) {
+            try (Statement stmt = keepAlive.createStatement()) {
+                SchemaInitializer.createAllTables(stmt);
+            }
+            SyntheticDataGenerator generator = new SyntheticDataGenerator(options(300, 9L, 3));
+
+            Report report = generator.generate(() -> DriverManager.getConnection(url, "sa", ""));
+
+            assertEquals(300, report.users());
+            assertEquals(300, count(keepAlive, "users"));
+            assertEquals(900, count(keepAlive, "user_photos"));
+            assertEquals(report.likes(), count(keepAlive, "likes"));
+            assertEquals(report.matches(), count(keepAlive, "matches"));
+            assertEquals(report.messages(), count(keepAlive, "messages"));
+            assertTrue(report.likes() > 0);
+            assertTrue(report.rowsPerSecond() > 0);
+        }
+    }
+
+    private static long count(Connection connection, String table) throws SQLException {
+        try (Statement stmt = connection.createStatement();
+                ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM " + table)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private static Options options(long users, long seed, int parallelism) {
+        return new Options(
+                users,
+                seed,
+                ANCHOR,
+                List.of(
+                        new GeoCluster("tel-aviv", 32.07, 34.79, 8, 3),
+                        new GeoCluster("haifa", 32.81, 34.99, 10, 1)),
+                new SyntheticDataGenerator.GenderMix(0.45, 0.45, 0.1),
+                new SyntheticDataGenerator.PreferenceMix(0.8, 0.1, 0.1),
+                10,
+                0.3,
+                4,
+                100,
+                parallelism,
+                WriteMode.BATCH);
+    }
+}
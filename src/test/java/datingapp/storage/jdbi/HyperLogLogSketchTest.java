@@ -0,0 +1,86 @@
+package datingapp.storage.jdbi;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("HyperLogLog distinct-viewer sketch")
+class HyperLogLogSketchTest {
+
+    @Test
+    @DisplayName("small cardinalities are counted exactly and duplicates are ignored")
+    void smallCardinalitiesAreExact() {
+        Random random = new Random(11);
+        HyperLogLogSketch sketch = new HyperLogLogSketch();
+        assertEquals(0, sketch.estimate());
+
+        UUID repeated = new UUID(random.nextLong(), random.nextLong());
+        for (int i = 0; i < 5; i++) {
+            sketch.add(repeated);
+        }
+        assertEquals(1, sketch.estimate());
+
+        for (int i = 0; i < 9; i++) {
+            sketch.add(new UUID(random.nextLong(), random.nextLong()));
+        }
+        assertEquals(10, sketch.estimate());
+    }
+
+    @Test
+    @DisplayName("large cardinalities stay within a few percent")
+    void largeCardinalitiesStayWithinErrorBound() {
+        Random random = new Random(42);
+        HyperLogLogSketch sketch = new HyperLogLogSketch();
+        int distinct = 50_000;
+        for (int i = 0; i < distinct; i++) {
+            sketch.add(new UUID(random.nextLong(), random.nextLong()));
+        }
+
+        double error = Math.abs(sketch.estimate() - distinct) / (double) distinct;
+        assertTrue(error < 0.07, "relative error was " + error);
+    }
+
+    @Test
+    @DisplayName("merging sketches estimates the union")
+    void mergeEstimatesUnion() {
+        Random random = new Random(7);
+        HyperLogLogSketch left = new HyperLogLogSketch();
+        HyperLogLogSketch right = new HyperLogLogSketch();
+        HyperLogLogSketch union = new HyperLogLogSketch();
+        for (int i = 0; i < 3_000; i++) {
+            UUID id = new UUID(random.nextLong(), random.nextLong());
+            (i % 2 == 0 ? left : right).add(id);
+            if (i % 3 == 0) {
+                left.add(id);
+                right.add(id);
+            }
+            union.add(id);
+        }
+
+        left.merge(right);
+
+        assertEquals(union.estimate(), left.estimate());
+        assertArrayEquals(union.toBytes(), left.toBytes());
+    }
+
+    @Test
+    @DisplayName("serialized sketches round-trip and reject foreign payloads")
+    void serializationRoundTrips() {
+        HyperLogLogSketch sketch = new HyperLogLogSketch();
+        for (int i = 0; i < 100; i++) {
+            sketch.add(UUID.randomUUID());
+        }
+
+        byte[] bytes = sketch.toBytes();
+        assertEquals(HyperLogLogSketch.SERIALIZED_BYTES, bytes.length);
+        assertEquals(sketch.estimate(), HyperLogLogSketch.fromBytes(bytes).estimate());
+        assertEquals(0, HyperLogLogSketch.fromBytes(null).estimate());
+        assertThrows(IllegalArgumentException.class, () -> HyperLogLogSketch.fromBytes(new byte[16]));
+    }
+}
@@ -277,6 +277,74 @@ class JdbiAccountCleanupStorageTest {
         assertEquals(0, countActiveRefreshTokens(deletedUser.getId()));
     }
 
+    @Test
+    @DisplayName("purgeDeletedAccountsBefore hard-deletes expired accounts with per-table counts")
+    void purgeDeletedAccountsBeforeRemovesExpiredGraph() {
+        Instant deletedAt = AppClock.now();
+        accountCleanupStorage.softDeleteAccount(deletedUser, deletedAt);
+
+        AccountCleanupStorage.PurgeResult notYetExpired =
+                accountCleanupStorage.purgeDeletedAccountsBefore(deletedAt.minusSeconds(1), 1);
+        assertEquals(0, notYetExpired.accountsPurged());
+        assertNotNull(rawDeletedAt("SELECT deleted_at FROM users WHERE id = :id", deletedUser.getId()));
+
+        AccountCleanupStorage.PurgeResult result =
+                accountCleanupStorage.purgeDeletedAccountsBefore(deletedAt.plusSeconds(1), 1);
+
+        assertEquals(1, result.accountsPurged());
+        assertEquals(1L, result.rowsDeletedByTable().get("likes"));
+        assertEquals(1L, result.rowsDeletedByTable().get("matches"));
+        assertEquals(1L, result.rowsDeletedByTable().get("conversations"));
+        assertEquals(1L, result.rowsDeletedByTable().get("messages"));
+        assertEquals(1L, result.rowsDeletedByTable().get("profile_notes"));
+        assertEquals(1L, result.rowsDeletedByTable().get("blocks"));
+        assertEquals(1L, result.rowsDeletedByTable().get("reports"));
+        assertEquals(1L, result.rowsDeletedByTable().get("auth_refresh_tokens"));
+        assertEquals(0L, result.rowsDeletedByTable().get("user_stats"));
+        assertNull(rawEmail(deletedUser.getId()));
+        assertEquals(0, countUserRows(deletedUser.getId()));
+        assertEquals(1, countUserRows(survivingUser.getId()));
+        assertEquals(1, countUserStatsRows(survivingUser.getId()));
+    }
+
+    @Test
+    @DisplayName("UserStorage.purgeDeletedBefore honours the chunk bound")
+    void userStoragePurgeHonoursChunkBound() {
+        Instant deletedAt = AppClock.now();
+        accountCleanupStorage.softDeleteAccount(deletedUser, deletedAt);
+        accountCleanupStorage.softDeleteAccount(survivingUser, deletedAt.plusSeconds(1));
+
+        assertEquals(1, userStorage.purgeDeletedBefore(deletedAt.plusSeconds(5), 1));
+        assertEquals(0, countUserRows(deletedUser.getId()));
+        assertEquals(1, countUserRows(survivingUser.getId()));
+
+        assertEquals(1, userStorage.purgeDeletedBefore(deletedAt.plusSeconds(5)));
+        assertEquals(0, countUserRows(survivingUser.getId()));
+    }
+
+    @Test
+    @DisplayName("UserStorage.purgeDeletedAccountsChunk reports dependent rows per table")
+    void userStorageChunkPurgeReportsPerTableCounts() {
+        Instant deletedAt = AppClock.now();
+        accountCleanupStorage.softDeleteAccount(deletedUser, deletedAt);
+
+        AccountCleanupStorage.PurgeResult result =
+                userStorage.purgeDeletedAccountsChunk(deletedAt.plusSeconds(1), 10);
+
+        assertEquals(1, result.accountsPurged());
+        assertNull(result.rowsDeletedByTable().get("users"));
+        assertEquals(1L, result.rowsDeletedByTable().get("likes"));
+        assertEquals(1L, result.rowsDeletedByTable().get("messages"));
+        assertEquals(0, countUserRows(deletedUser.getId()));
+    }
+
+    private int countUserRows(UUID userId) {
+        return jdbi.withHandle(handle -> handle.createQuery("SELECT COUNT(*) FROM users WHERE id = :id")
+                .bind("id", userId)
+                .mapTo(int.class)
+                .one());
+    }
+
     private Instant rawDeletedAt(String sql, UUID id) {
         return jdbi.withHandle(handle ->
                 handle.createQuery(sql).bind("id", id).mapTo(Instant.class).one());
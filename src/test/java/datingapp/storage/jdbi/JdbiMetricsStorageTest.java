@@ -8,13 +8,23 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import datingapp.core.AppClock;
 import datingapp.core.matching.Standout;
+import datingapp.core.metrics.EngagementDomain.Achievement;
+import datingapp.core.metrics.EngagementDomain.Achievement.ProgressCounters;
+import datingapp.core.metrics.EngagementDomain.Achievement.UserAchievement;
 import datingapp.core.metrics.EngagementDomain.UserStats;
 import datingapp.core.metrics.SwipeState.Session;
 import datingapp.core.model.User;
 import datingapp.core.storage.AnalyticsStorage;
 import datingapp.storage.DatabaseManager;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.UUID;
 import org.jdbi.v3.core.Jdbi;
@@ -178,6 +188,39 @@ class JdbiMetricsStorageTest {
         assertTrue(storage.getSession(completedSession.getId()).isEmpty());
     }
 
+    @Test
+    @DisplayName("bounded deleteExpiredSessions removes the oldest eligible sessions first")
+    void boundedDeleteExpiredSessionsRemovesOldestFirst() {
+        UUID userId = UUID.randomUUID();
+        userStorage.save(new User(userId, "Chunked Session User"));
+        List<Session> completed = new ArrayList<>();
+        for (int day = 1; day <= 3; day++) {
+            Instant started = Instant.parse("2026-01-0" + day + "T00:00:00Z");
+            Session session = new Session(
+                    UUID.randomUUID(),
+                    userId,
+                    started,
+                    started,
+                    started.plusSeconds(600),
+                    Session.SessionState.COMPLETED,
+                    0,
+                    0,
+                    0,
+                    0);
+            storage.saveSession(session);
+            completed.add(session);
+        }
+        Instant cutoff = Instant.parse("2026-03-01T00:00:00Z");
+
+        assertEquals(2, storage.deleteExpiredSessions(cutoff, 2));
+        assertTrue(storage.getSession(completed.get(0).getId()).isEmpty());
+        assertTrue(storage.getSession(completed.get(1).getId()).isEmpty());
+        assertTrue(storage.getSession(completed.get(2).getId()).isPresent());
+
+        assertEquals(1, storage.deleteExpiredSessions(cutoff, 2));
+        assertEquals(0, storage.deleteExpiredSessions(cutoff, 2));
+    }
+
     @Test
     @DisplayName("getAllLatestUserStats returns a single latest row per user when timestamps tie")
     void getAllLatestUserStatsReturnsOneLatestRowPerUserOnTimestampTie() {
@@ -282,4 +325,109 @@ class JdbiMetricsStorageTest {
         assertEquals(5.0, aggregates.avgSwipesPerSession(), 0.0001);
         assertEquals(10.0 / 30.0, aggregates.avgSwipeVelocity(), 0.0001);
     }
+
+    @Test
+    @DisplayName("achievement counters round-trip and increment atomically once seeded")
+    void achievementCountersRoundTripAndIncrement() {
+        assertTrue(storage.getAchievementCounters(viewer.getId()).isEmpty());
+        assertFalse(storage.incrementAchievementCounters(viewer.getId(), 1, 1, 0, 0));
+
+        storage.saveAchievementCounters(new ProgressCounters(viewer.getId(), 2, 10, 5, 0, AppClock.now()));
+        assertTrue(storage.incrementAchievementCounters(viewer.getId(), 1, 0, 1, 1));
+
+        ProgressCounters counters = storage.getAchievementCounters(viewer.getId()).orElseThrow();
+        assertEquals(3, counters.matchCount());
+        assertEquals(10, counters.likeCount());
+        assertEquals(6, counters.passCount());
+        assertEquals(1, counters.reportCount());
+    }
+
+    @Test
+    @DisplayName("unlocked achievements load as one EnumSet")
+    void unlockedAchievementSetLoadsAsEnumSet() {
+        storage.saveUserAchievement(UserAchievement.create(viewer.getId(), Achievement.FIRST_SPARK));
+        storage.saveUserAchievement(UserAchievement.create(viewer.getId(), Achievement.GUARDIAN));
+
+        assertEquals(
+                EnumSet.of(Achievement.FIRST_SPARK, Achievement.GUARDIAN),
+                storage.getUnlockedAchievementSet(viewer.getId()));
+        assertTrue(storage.getUnlockedAchievementSet(viewed.getId()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("profile views are buffered until flushed and then folded into the summary row")
+    void profileViewsAreWrittenBehindIntoSummary() throws SQLException {
+        User secondViewer = new User(UUID.randomUUID(), "Second Viewer");
+        userStorage.save(secondViewer);
+
+        storage.recordProfileView(viewer.getId(), viewed.getId());
+        AppClock.setFixed(Instant.parse("2026-03-22T12:00:05Z"));
+        storage.recordProfileView(viewer.getId(), viewed.getId());
+        storage.recordProfileView(secondViewer.getId(), viewed.getId());
+
+        assertEquals(0, countRows("SELECT COUNT(*) FROM profile_views WHERE viewed_id = ?", viewed.getId()));
+        assertEquals(3, storage.getProfileViewCount(viewed.getId()));
+        assertEquals(2, storage.getUniqueViewerCount(viewed.getId()));
+        assertTrue(storage.hasViewedProfile(secondViewer.getId(), viewed.getId()));
+        assertEquals(0, countRows("SELECT COUNT(*) FROM profile_views WHERE viewed_id = ?", viewed.getId()));
+
+        storage.flushPendingProfileViews();
+
+        assertEquals(3, countRows("SELECT COUNT(*) FROM profile_views WHERE viewed_id = ?", viewed.getId()));
+        assertEquals(
+                3, countRows("SELECT view_count FROM profile_view_summaries WHERE viewed_id = ?", viewed.getId()));
+        assertEquals(3, storage.getProfileViewCount(viewed.getId()));
+        assertEquals(2, storage.getUniqueViewerCount(viewed.getId()));
+    }
+
+    @Test
+    @DisplayName("profile view summary is rebuilt from raw history and then updated incrementally")
+    void profileViewSummaryRebuildsFromRawHistory() throws SQLException {
+        try (Connection connection = dbManager.getConnection();
+                PreparedStatement insert = connection.prepareStatement(
+                        "INSERT INTO profile_views (viewer_id, viewed_id, viewed_at) VALUES (?, ?, ?)")) {
+            for (int i = 0; i < 4; i++) {
+                insert.setObject(1, viewer.getId());
+                insert.setObject(2, viewed.getId());
+                insert.setObject(3, OffsetDateTime.parse("2026-03-01T10:00:00Z").plusMinutes(i));
+                insert.executeUpdate();
+            }
+        }
+
+        assertEquals(4, storage.getProfileViewCount(viewed.getId()));
+        assertEquals(1, storage.getUniqueViewerCount(viewed.getId()));
+
+        User secondViewer = new User(UUID.randomUUID(), "Second Viewer");
+        userStorage.save(secondViewer);
+        storage.recordProfileView(secondViewer.getId(), viewed.getId());
+
+        assertEquals(5, storage.getProfileViewCount(viewed.getId()));
+        assertEquals(2, storage.getUniqueViewerCount(viewed.getId()));
+        assertEquals(List.of(secondViewer.getId(), viewer.getId()), storage.getRecentViewers(viewed.getId(), 10));
+        assertEquals(0, storage.getProfileViewCount(viewer.getId()));
+    }
+
+    @Test
+    @DisplayName("a view flushed twice is stored and counted once")
+    void duplicateViewAcrossFlushesIsCountedOnce() throws SQLException {
+        storage.recordProfileView(viewer.getId(), viewed.getId());
+        storage.flushPendingProfileViews();
+        storage.recordProfileView(viewer.getId(), viewed.getId());
+        storage.flushPendingProfileViews();
+
+        assertEquals(1, countRows("SELECT COUNT(*) FROM profile_views WHERE viewed_id = ?", viewed.getId()));
+        assertEquals(
+                1, countRows("SELECT view_count FROM profile_view_summaries WHERE viewed_id = ?", viewed.getId()));
+        assertEquals(1, storage.getProfileViewCount(viewed.getId()));
+    }
+
+    private int countRows(String sql, UUID id) throws SQLException {
+        try (Connection connection = dbManager.getConnection();
+                PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setObject(1, id);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() ? rs.getInt(1) : 0;
+            }
+        }
+    }
 }
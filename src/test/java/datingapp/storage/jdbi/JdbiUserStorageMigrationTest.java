@@ -2,6 +2,7 @@ package datingapp.storage.jdbi;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import datingapp.core.AppClock;
 import datingapp.core.model.User;
@@ -9,11 +10,15 @@ import datingapp.core.model.User.Gender;
 import datingapp.core.profile.MatchPreferences.Dealbreakers;
 import datingapp.core.profile.MatchPreferences.Interest;
 import datingapp.core.profile.MatchPreferences.Lifestyle;
+import datingapp.location.GeoUtils;
+import datingapp.storage.DatabaseDialect;
 import datingapp.storage.DatabaseManager;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.Random;
 import java.util.Set;
 import java.util.UUID;
 import org.jdbi.v3.core.Jdbi;
@@ -133,6 +138,83 @@ class JdbiUserStorageMigrationTest {
         assertEquals(0, results.size());
     }
 
+    @Test
+    @DisplayName("findCandidates matches candidates on the far side of the antimeridian")
+    void findCandidatesMatchesAcrossAntimeridian() {
+        User seeker = createUser();
+        seeker.setLocation(-17.7134, 179.95);
+        storage.save(seeker);
+
+        User acrossDateLine = createCandidate("AcrossDateLine", Gender.FEMALE, -17.7134, -179.95);
+        User farAway = createCandidate("FarAway", Gender.FEMALE, -17.7134, 0.0);
+        storage.save(acrossDateLine);
+        storage.save(farAway);
+
+        List<User> results = storage.findCandidates(userId, EnumSet.of(Gender.FEMALE), 21, 40, -17.7134, 179.95, 25);
+
+        assertEquals(1, results.size());
+        assertEquals(acrossDateLine.getId(), results.getFirst().getId());
+    }
+
+    @Test
+    @DisplayName("save stores the geohash used by the H2 candidate cell lookup")
+    void saveStoresGeohash() {
+        storage.save(createUser());
+
+        String stored = jdbi.withHandle(handle -> handle.createQuery("SELECT geohash FROM users WHERE id = :id")
+                .bind("id", userId)
+                .mapTo(String.class)
+                .one());
+
+        assertEquals(GeoUtils.geohash(40.7128, -74.0060, GeoUtils.STORED_GEOHASH_PRECISION), stored);
+    }
+
+    @Test
+    @DisplayName("findCandidates geohash cells keep every in-radius candidate for clustered Israeli populations")
+    void findCandidatesGeohashCellsKeepInRadiusCandidates() {
+        JdbiUserStorage geohashStorage = new JdbiUserStorage(jdbi, DatabaseDialect.H2, true);
+        double seekerLat = 32.0853;
+        double seekerLon = 34.7818;
+        User seeker = createUser();
+        seeker.setLocation(seekerLat, seekerLon);
+        geohashStorage.save(seeker);
+
+        double[][] cityCentres = {
+            {32.0853, 34.7818}, // Tel Aviv
+            {32.1663, 34.8436}, // Herzliya
+            {32.0840, 34.8878}, // Petah Tikva
+            {31.7683, 35.2137}, // Jerusalem
+            {32.7940, 34.9896} // Haifa
+        };
+        Random random = new Random(42);
+        List<double[]> locations = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            double[] centre = cityCentres[i % cityCentres.length];
+            double lat = centre[0] + (random.nextDouble() - 0.5) * 0.4;
+            double lon = centre[1] + (random.nextDouble() - 0.5) * 0.4;
+            geohashStorage.save(createCandidate("Clustered" + i, Gender.FEMALE, lat, lon));
+            locations.add(new double[] {lat, lon});
+        }
+
+        // 10 km and 50 km both use a cover; see GeoUtils.geohashCover.
+        for (int radiusKm : new int[] {10, 50}) {
+            assertFalse(GeoUtils.geohashCover(seekerLat, seekerLon, radiusKm).isEmpty());
+            long expected = locations.stream()
+                    .filter(location -> GeoUtils.distanceKm(seekerLat, seekerLon, location[0], location[1]) <= radiusKm)
+                    .count();
+            long withinRadius = geohashStorage
+                    .findCandidates(userId, EnumSet.of(Gender.FEMALE), 21, 40, seekerLat, seekerLon, radiusKm)
+                    .stream()
+                    .filter(candidate -> GeoUtils.distanceKm(
+                                    seekerLat, seekerLon, candidate.getLat(), candidate.getLon())
+                            <= radiusKm)
+                    .count();
+
+            assertTrue(expected > 0);
+            assertEquals(expected, withinRadius, "radius " + radiusKm);
+        }
+    }
+
     private User createUser() {
         User user = new User(userId, "MigrationUser");
         user.setBirthDate(AppClock.today().minusYears(28));
@@ -1,8 +1,10 @@
 package datingapp.storage.jdbi;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -13,6 +15,7 @@ import datingapp.core.model.User.UserState;
 import datingapp.core.profile.MatchPreferences.Dealbreakers;
 import datingapp.core.profile.MatchPreferences.Interest;
 import datingapp.core.profile.MatchPreferences.Lifestyle;
+import datingapp.core.profile.ProfileService;
 import datingapp.core.storage.PageData;
 import datingapp.core.testutil.TestClock;
 import datingapp.storage.DatabaseManager;
@@ -24,6 +27,7 @@ import java.sql.Connection;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -49,6 +53,9 @@ class JdbiUserStorageNormalizationTest {
     private static final String ACTIVE_NEW_PHOTO_URL = "https://example.com/active-new.jpg";
     private static final String PAUSED_NEWEST_PHOTO_URL = "https://example.com/paused-newest.jpg";
     private static final String PROFILE_PROPERTY = "datingapp.db.profile";
+    private static final String PHOTO_A = "https://example.com/a.jpg";
+    private static final String PHOTO_B = "https://example.com/b.jpg";
+    private static final String PHOTO_C = "https://example.com/c.jpg";
 
     private JdbiUserStorage storage;
     private Jdbi jdbi;
@@ -135,6 +142,28 @@ class JdbiUserStorageNormalizationTest {
         assertEquals(User.SIGNUP_PLACEHOLDER_NAME, reloaded.getName());
     }
 
+    @Test
+    @DisplayName("save materialises profile completion and reload keeps the stored version")
+    void saveMaterialisesProfileCompletion() {
+        User cached = storage.get(userId).orElseThrow();
+        cached.setBio("A bio long enough to move the completion score");
+        cached.setInterests(Set.of(Interest.HIKING, Interest.COOKING));
+        cached.addPhotoUrl(ACTIVE_OLD_PHOTO_URL);
+        assertNull(cached.getProfileCompletionScore());
+
+        storage.save(cached);
+        storage.clearCache();
+        User reloaded = storage.get(userId).orElseThrow();
+
+        ProfileService.CompletionResult expected = ProfileService.computeCompletion(reloaded);
+        assertEquals(expected.score(), reloaded.getProfileCompletionScore());
+        assertEquals(expected.tier(), reloaded.getProfileCompletionTier());
+        assertEquals(
+                cached.getUpdatedAt().truncatedTo(ChronoUnit.MILLIS),
+                reloaded.getUpdatedAt().truncatedTo(ChronoUnit.MILLIS));
+        assertFalse(reloaded.hasLocalEdits());
+    }
+
     @Test
     @DisplayName("get canonicalizes legacy blank names to signup placeholder")
     void getCanonicalizesLegacyBlankNamesToSignupPlaceholder() {
@@ -583,6 +612,45 @@ class JdbiUserStorageNormalizationTest {
         assertEquals(List.of("x.jpg", "y.jpg"), loaded);
     }
 
+    @Test
+    @DisplayName("save writes only the normalized rows that changed")
+    void saveWritesOnlyChangedNormalizedRows() {
+        User user = storage.get(userId).orElseThrow();
+        user.setPhotoUrls(List.of(PHOTO_A, PHOTO_B, PHOTO_C));
+        user.setInterests(Set.of(Interest.MUSIC, Interest.TRAVEL));
+        user.setInterestedIn(Set.of(Gender.FEMALE));
+        user.setDealbreakers(Dealbreakers.builder()
+                .acceptSmoking(Lifestyle.Smoking.NEVER)
+                .build());
+        storage.save(user);
+
+        User edited = storage.get(userId).orElseThrow();
+        edited.setPhotoUrls(List.of(PHOTO_A, PHOTO_C));
+        edited.setInterests(Set.of(Interest.MUSIC, Interest.COOKING));
+        edited.setDealbreakers(Dealbreakers.builder()
+                .acceptSmoking(Lifestyle.Smoking.NEVER)
+                .acceptDrinking(Lifestyle.Drinking.SOCIALLY)
+                .build());
+        storage.save(edited);
+
+        User loaded = storage.get(userId).orElseThrow();
+        assertEquals(List.of(PHOTO_A, PHOTO_C), loaded.getPhotoUrls());
+        assertEquals(Set.of(Interest.MUSIC, Interest.COOKING), loaded.getInterests());
+        assertEquals(Set.of(Gender.FEMALE), loaded.getInterestedIn());
+        assertEquals(Set.of(Lifestyle.Smoking.NEVER), loaded.getDealbreakers().acceptableSmoking());
+        assertEquals(Set.of(Lifestyle.Drinking.SOCIALLY), loaded.getDealbreakers().acceptableDrinking());
+
+        loaded.setBio("Only the bio changed");
+        connectionFactory.reset();
+        storage.save(loaded);
+
+        // One user upsert plus one read of the stored collections; no normalized rows are rewritten.
+        assertTrue(
+                connectionFactory.statementCount() <= 2,
+                "Expected no normalized writes but saw " + connectionFactory.statementCount() + " statements");
+        assertEquals(List.of(PHOTO_A, PHOTO_C), storage.loadUserPhotos(userId));
+    }
+
     @Test
     @DisplayName("should return empty list/set for no data")
     void emptySetWritesNoRows() {
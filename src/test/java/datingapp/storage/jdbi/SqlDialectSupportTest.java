@@ -1,6 +1,8 @@
 package datingapp.storage.jdbi;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import datingapp.storage.DatabaseDialect;
 import java.util.List;
@@ -60,6 +62,49 @@ class SqlDialectSupportTest {
                         DatabaseDialect.POSTGRESQL, "started_at", "ended_at"));
     }
 
+    @Test
+    @DisplayName("candidateGeoFilter should keep the H2 bounding box with both longitude ranges")
+    void candidateGeoFilterKeepsH2BoundingBox() {
+        SqlDialectSupport.GeoFilter filter = SqlDialectSupport.candidateGeoFilter(DatabaseDialect.H2, "lat", "lon");
+
+        assertEquals(
+                "lat BETWEEN :latMin AND :latMax"
+                        + " AND (lon BETWEEN :lonMin AND :lonMax OR lon BETWEEN :wrapLonMin AND :wrapLonMax)",
+                filter.whereClause());
+        assertEquals("", filter.orderByClause());
+        assertFalse(filter.exactInSql());
+        assertTrue(filter.geohashCells());
+    }
+
+    @Test
+    @DisplayName("geohashCoverSource should join one index-friendly range per cell")
+    void geohashCoverSourceJoinsRangePerCell() {
+        assertEquals("users", SqlDialectSupport.geohashCoverSource("users", "geohash", 0));
+        assertEquals(
+                "(VALUES (CAST(:geohashCell0 AS VARCHAR(12)), CAST(:geohashCellEnd0 AS VARCHAR(12))),"
+                        + " (CAST(:geohashCell1 AS VARCHAR(12)), CAST(:geohashCellEnd1 AS VARCHAR(12))))"
+                        + " AS geohash_cover(cell_start, cell_end) JOIN users"
+                        + " ON users.geohash >= geohash_cover.cell_start AND users.geohash < geohash_cover.cell_end",
+                SqlDialectSupport.geohashCoverSource("users", "geohash", 2));
+        assertEquals("sv8w{", SqlDialectSupport.geohashPrefixEnd("sv8w"));
+        assertTrue("sv8wzzzzz".compareTo(SqlDialectSupport.geohashPrefixEnd("sv8w")) < 0);
+    }
+
+    @Test
+    @DisplayName("candidateGeoFilter should filter and order by exact distance on PostgreSQL")
+    void candidateGeoFilterUsesExactDistanceOnPostgresql() {
+        SqlDialectSupport.GeoFilter filter =
+                SqlDialectSupport.candidateGeoFilter(DatabaseDialect.POSTGRESQL, "lat", "lon");
+        String distance = SqlDialectSupport.haversineKmExpression("lat", "lon");
+
+        assertTrue(filter.whereClause().contains("point(lon, lat) <@ box(point(:lonMin, :latMin)"));
+        assertTrue(filter.whereClause().contains("point(:wrapLonMin, :latMin), point(:wrapLonMax, :latMax)"));
+        assertTrue(filter.whereClause().endsWith(distance + " <= :maxDistanceKm"));
+        assertEquals("ORDER BY " + distance + " ASC", filter.orderByClause());
+        assertTrue(filter.exactInSql());
+        assertFalse(filter.geohashCells());
+    }
+
     private static String normalize(String sql) {
         return sql.replaceAll("\\s+", " ").trim();
     }
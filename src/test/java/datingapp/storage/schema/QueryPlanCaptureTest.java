@@ -0,0 +1,184 @@
+package datingapp.storage.schema;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import datingapp.core.model.User.Gender;
+import datingapp.storage.DatabaseDialect;
+import datingapp.storage.jdbi.JdbiConnectionStorage;
+import datingapp.storage.jdbi.JdbiMatchmakingStorage;
+import datingapp.storage.jdbi.JdbiTrustSafetyStorage;
+import datingapp.storage.jdbi.JdbiUserStorage;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+@Timeout(10)
+@DisplayName("QueryPlanCapture")
+class QueryPlanCaptureTest {
+
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        String url = "jdbc:h2:mem:query_plan_test_" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+        connection = DriverManager.getConnection(url, "sa", "");
+        try (Statement stmt = connection.createStatement()) {
+            SchemaInitializer.createAllTables(stmt);
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        if (connection != null && !connection.isClosed()) {
+            connection.close();
+        }
+    }
+
+    @Test
+    @DisplayName("captures an H2 plan for every registered hot query")
+    void capturesPlanForEveryHotQuery() throws SQLException {
+        List<QueryPlanCapture.QueryPlan> plans = QueryPlanCapture.capture(connection);
+
+        assertEquals(QueryPlanCapture.hotQueries(DatabaseDialect.H2).size(), plans.size());
+        for (QueryPlanCapture.QueryPlan plan : plans) {
+            assertEquals(DatabaseDialect.H2, plan.dialect());
+            assertFalse(plan.planText().isBlank(), "Empty plan for " + plan.query().name());
+        }
+    }
+
+    @Test
+    @DisplayName("candidate search is rendered from the statement the storage layer runs")
+    void candidateSearchMatchesStorageStatement() {
+        for (DatabaseDialect dialect : DatabaseDialect.values()) {
+            for (boolean geohashFilter : new boolean[] {false, true}) {
+                QueryPlanCapture.HotQuery query = QueryPlanCapture.candidateSearchQuery(dialect, geohashFilter);
+                String storageSql = JdbiUserStorage.candidateSearch(
+                                dialect, geohashFilter, UUID.randomUUID(), EnumSet.of(Gender.FEMALE), 25, 40, 32.08,
+                                34.78, 50)
+                        .sql();
+
+                assertTrue(storageSql.startsWith("SELECT users.* FROM "), storageSql);
+                assertTrue(storageSql.contains(" WHERE id <> :excludeId"), storageSql);
+                assertFalse(query.sql().contains("<"), query.sql());
+                assertFalse(query.sql().contains(":excludeId"), query.sql());
+                assertEquals(
+                        query.sql().chars().filter(c -> c == '?').count(),
+                        query.sampleParameters().size(),
+                        dialect.name());
+            }
+        }
+        assertTrue(QueryPlanCapture.candidateSearchQuery(DatabaseDialect.H2, true)
+                .sql()
+                .contains("JOIN users ON users.geohash >= geohash_cover.cell_start"));
+        assertFalse(QueryPlanCapture.candidateSearchQuery(DatabaseDialect.H2, false)
+                .sql()
+                .contains("geohash_cover"));
+        assertEquals(
+                List.of("users.findCandidates", "users.findCandidates.geohashCover"),
+                QueryPlanCapture.hotQueries(DatabaseDialect.H2).stream()
+                        .map(QueryPlanCapture.HotQuery::name)
+                        .filter(name -> name.startsWith("users."))
+                        .toList());
+    }
+
+    @Test
+    @DisplayName("likes, messages and blocks queries are rendered from the storage statements")
+    void fixedQueriesMatchStorageStatements() {
+        Map<String, String> storageSql = Map.of(
+                "likes.countLikesToday", JdbiMatchmakingStorage.SQL_COUNT_LIKES_TODAY,
+                "messages.getMessages", JdbiConnectionStorage.SQL_GET_MESSAGES,
+                "blocks.isBlockedEitherDirection", JdbiTrustSafetyStorage.IS_BLOCKED_SQL);
+
+        Map<String, QueryPlanCapture.HotQuery> registered = QueryPlanCapture.hotQueries(DatabaseDialect.H2).stream()
+                .filter(query -> storageSql.containsKey(query.name()))
+                .collect(Collectors.toMap(QueryPlanCapture.HotQuery::name, query -> query));
+
+        assertEquals(storageSql.keySet(), registered.keySet());
+        storageSql.forEach((name, sql) -> {
+            QueryPlanCapture.HotQuery query = registered.get(name);
+            assertEquals(sql.replaceAll("(?<![:\\w]):\\w+", "?"), query.sql(), name);
+            assertEquals(
+                    query.sql().chars().filter(c -> c == '?').count(),
+                    query.sampleParameters().size(),
+                    name);
+        });
+    }
+
+    @Test
+    @DisplayName("renders template attributes and named bindings as positional parameters")
+    void rendersNamedStatement() {
+        QueryPlanCapture.HotQuery query = QueryPlanCapture.renderNamed(
+                "sample",
+                "SELECT 1 FROM t WHERE a = :a AND b IN (<bs>) AND c::text = :a",
+                Map.of("bs", ":b0, :b1"),
+                Map.of("a", 1, "b0", 2, "b1", 3),
+                Set.of());
+
+        assertEquals("SELECT 1 FROM t WHERE a = ? AND b IN (?, ?) AND c::text = ?", query.sql());
+        assertEquals(List.of(1, 2, 3, 1), query.sampleParameters());
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> QueryPlanCapture.renderNamed("missing", "SELECT :x", Map.of(), Map.of(), Set.of()));
+    }
+
+    @Test
+    @DisplayName("parses index names from H2 plan comments and ignores table scans")
+    void parsesH2PlanIndexes() {
+        String plan = """
+                SELECT "M"."ID" FROM "PUBLIC"."MESSAGES" "M"
+                    /* PUBLIC.IDX_MESSAGES_CONVERSATION_LIVE: CONVERSATION_ID = ?1 */
+                INNER JOIN "PUBLIC"."CONVERSATIONS" "C"
+                    /* PUBLIC.PRIMARY_KEY_C: ID = "M"."CONVERSATION_ID" */
+                INNER JOIN "PUBLIC"."USERS" "U" /* PUBLIC.USERS.tableScan */
+                """;
+
+        assertEquals(
+                Set.of("idx_messages_conversation_live", "primary_key_c"),
+                QueryPlanCapture.parseIndexes(DatabaseDialect.H2, plan));
+    }
+
+    @Test
+    @DisplayName("parses index names from PostgreSQL plan nodes")
+    void parsesPostgresPlanIndexes() {
+        String plan = """
+                Aggregate  (cost=8.30..8.31 rows=1 width=8)
+                  ->  Index Only Scan using idx_likes_daily_counts on likes  (cost=0.28..8.30 rows=1 width=0)
+                BitmapOr
+                  ->  Bitmap Index Scan on idx_blocks_reverse_pair  (cost=0.00..4.29 rows=1 width=0)
+                Seq Scan on users  (cost=0.00..1.01 rows=1 width=16)
+                """;
+
+        assertEquals(
+                Set.of("idx_likes_daily_counts", "idx_blocks_reverse_pair"),
+                QueryPlanCapture.parseIndexes(DatabaseDialect.POSTGRESQL, plan));
+    }
+
+    @Test
+    @DisplayName("reports plans that use none of the expected indexes as regressions")
+    void reportsRegressions() {
+        QueryPlanCapture.HotQuery query = new QueryPlanCapture.HotQuery(
+                "likes.countLikesToday", "SELECT 1", List.of(), Set.of("idx_likes_daily_counts"));
+        QueryPlanCapture.QueryPlan indexed = new QueryPlanCapture.QueryPlan(
+                query, DatabaseDialect.POSTGRESQL, "Index Scan", Set.of("IDX_LIKES_DAILY_COUNTS"));
+        QueryPlanCapture.QueryPlan scanned =
+                new QueryPlanCapture.QueryPlan(query, DatabaseDialect.POSTGRESQL, "Seq Scan on likes", Set.of());
+
+        assertTrue(indexed.usesExpectedIndex());
+        assertEquals(List.of(scanned), QueryPlanCapture.regressions(List.of(indexed, scanned)));
+    }
+}
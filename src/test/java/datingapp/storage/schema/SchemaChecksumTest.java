@@ -0,0 +1,43 @@
+package datingapp.storage.schema;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.SQLException;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("SchemaChecksum")
+class SchemaChecksumTest {
+
+    @Test
+    @DisplayName("captures the baseline DDL without a database")
+    void capturesBaselineDdl() throws SQLException {
+        List<String> statements = SchemaChecksum.baselineStatements("H2");
+
+        assertTrue(statements.stream().anyMatch(sql -> sql.contains("CREATE TABLE IF NOT EXISTS users")));
+        assertTrue(statements.stream().anyMatch(sql -> sql.contains("idx_users_geohash")));
+    }
+
+    @Test
+    @DisplayName("is stable per product and differs where the baseline is dialect-specific")
+    void checksumIsPerProduct() {
+        String h2 = SchemaChecksum.forProduct("H2").orElseThrow();
+
+        assertEquals(64, h2.length());
+        assertEquals(h2, SchemaChecksum.forProduct("H2").orElseThrow());
+        assertNotEquals(h2, SchemaChecksum.forProduct("PostgreSQL").orElseThrow());
+    }
+
+    @Test
+    @DisplayName("ignores surrounding whitespace but not statement content or order")
+    void hashesStatementContent() {
+        String base = SchemaChecksum.sha256(List.of("CREATE TABLE a (id INT)", "CREATE INDEX i ON a(id)"));
+
+        assertEquals(base, SchemaChecksum.sha256(List.of("  CREATE TABLE a (id INT)\n", "CREATE INDEX i ON a(id)")));
+        assertNotEquals(base, SchemaChecksum.sha256(List.of("CREATE INDEX i ON a(id)", "CREATE TABLE a (id INT)")));
+        assertNotEquals(base, SchemaChecksum.sha256(List.of("CREATE TABLE a (id BIGINT)", "CREATE INDEX i ON a(id)")));
+    }
+}
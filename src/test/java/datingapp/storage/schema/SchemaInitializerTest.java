@@ -68,6 +68,7 @@ class SchemaInitializerTest {
                     "DAILY_PICKS",
                     "DAILY_PICK_VIEWS",
                     "USER_ACHIEVEMENTS",
+                    "USER_ACHIEVEMENT_COUNTERS",
                     "CONVERSATIONS",
                     "MESSAGES",
                     "FRIEND_REQUESTS",
@@ -76,6 +77,7 @@ class SchemaInitializerTest {
                     "REPORTS",
                     "PROFILE_NOTES",
                     "PROFILE_VIEWS",
+                    "PROFILE_VIEW_SUMMARIES",
                     "STANDOUTS",
                     "UNDO_STATES",
                     "USER_PHOTOS",
@@ -141,6 +143,12 @@ class SchemaInitializerTest {
             assertTrue(indexes.contains("IDX_SESSIONS_STARTED_AT_DESC"), "Missing index: idx_sessions_started_at_desc");
             assertTrue(indexes.contains("IDX_USER_STATS_COMPUTED_DESC"), "Missing index: idx_user_stats_computed_desc");
             assertTrue(indexes.contains("IDX_STANDOUTS_INTERACTED_AT"), "Missing index: idx_standouts_interacted_at");
+            assertTrue(indexes.contains("IDX_USERS_CANDIDATE_SEARCH"), "Missing index: idx_users_candidate_search");
+            assertTrue(indexes.contains("IDX_LIKES_DAILY_COUNTS"), "Missing index: idx_likes_daily_counts");
+            assertTrue(
+                    indexes.contains("IDX_MESSAGES_CONVERSATION_LIVE"), "Missing index: idx_messages_conversation_live");
+            assertTrue(indexes.contains("IDX_BLOCKS_REVERSE_PAIR"), "Missing index: idx_blocks_reverse_pair");
+            assertTrue(indexes.contains("IDX_USERS_GEOHASH"), "Missing index: idx_users_geohash");
 
             // Normalized profile table indexes (V3)
             assertTrue(indexes.contains("IDX_USER_INTERESTS_INTEREST"), "Missing index: idx_user_interests_interest");
@@ -528,6 +536,57 @@ class SchemaInitializerTest {
             assertFalse(MigrationRunner.isVersionApplied(connection, 1));
         }
 
+        @Test
+        @DisplayName("should report the schema current only once every version is recorded")
+        void schemaIsCurrentOnlyWhenEveryVersionIsRecorded() throws SQLException {
+            assertFalse(MigrationRunner.isSchemaCurrent(connection));
+
+            try (Statement stmt = connection.createStatement()) {
+                MigrationRunner.runAllPending(stmt);
+                assertTrue(MigrationRunner.isSchemaCurrent(connection));
+
+                stmt.execute("DELETE FROM schema_version WHERE version = " + MigrationRunner.latestVersion());
+                assertFalse(MigrationRunner.isSchemaCurrent(connection));
+
+                MigrationRunner.runAllPending(stmt);
+            }
+
+            assertTrue(MigrationRunner.isSchemaCurrent(connection));
+        }
+
+        @Test
+        @DisplayName("should replay the baseline DDL when the recorded checksum no longer matches")
+        void changedBaselineChecksumReplaysDdl() throws SQLException {
+            try (Statement stmt = connection.createStatement()) {
+                MigrationRunner.runAllPending(stmt);
+                stmt.execute("DROP INDEX idx_users_geohash");
+                stmt.execute("UPDATE schema_fingerprint SET ddl_checksum = 'stale'");
+                assertFalse(MigrationRunner.isSchemaCurrent(connection));
+
+                MigrationRunner.runAllPending(stmt);
+            }
+
+            assertTrue(getIndexNames().contains("IDX_USERS_GEOHASH"), "Changed DDL should be replayed");
+            assertTrue(MigrationRunner.isSchemaCurrent(connection));
+        }
+
+        @Test
+        @DisplayName("should only repair a current schema when a full check is requested")
+        void fullCheckRepairsCurrentSchema() throws SQLException {
+            try (Statement stmt = connection.createStatement()) {
+                MigrationRunner.runAllPending(stmt);
+                stmt.execute("DROP INDEX idx_users_geohash");
+
+                MigrationRunner.runAllPending(stmt);
+                assertFalse(getIndexNames().contains("IDX_USERS_GEOHASH"), "Fast path should not touch the schema");
+
+                MigrationRunner.runAllPending(stmt, true);
+            }
+
+            assertTrue(getIndexNames().contains("IDX_USERS_GEOHASH"), "Full check should replay the baseline");
+            assertTrue(MigrationRunner.isSchemaCurrent(connection));
+        }
+
         @Test
         @DisplayName("should recognize PostgreSQL missing table SQL state as not applied")
         void postgresqlMissingSchemaVersionStateIsNotApplied() throws Exception {
@@ -1314,6 +1373,44 @@ class SchemaInitializerTest {
                 assertEquals(0, rs.getInt(1), "Schema version 18 must not be recorded when migration fails");
             }
         }
+
+        @Test
+        @DisplayName("should add and backfill users.geohash in V24")
+        void v24MigrationBackfillsUserGeohashes() throws SQLException {
+            try (Statement stmt = connection.createStatement()) {
+                SchemaInitializer.createAllTables(stmt);
+                stmt.execute("DROP INDEX IF EXISTS idx_users_geohash");
+                stmt.execute("ALTER TABLE users DROP COLUMN geohash");
+                stmt.execute("CREATE TABLE schema_version ("
+                        + "version INT PRIMARY KEY, "
+                        + "applied_at TIMESTAMP WITH TIME ZONE NOT NULL, "
+                        + "description VARCHAR(255)"
+                        + ")");
+                for (int version = 1; version <= 23; version++) {
+                    stmt.execute("INSERT INTO schema_version(version, applied_at, description) VALUES ("
+                            + version + ", CURRENT_TIMESTAMP(), 'V" + version + "')");
+                }
+                stmt.execute("INSERT INTO users (id, name, lat, lon, has_location_set, created_at, updated_at, state)"
+                        + " VALUES ('11111111-1111-1111-1111-111111111111', 'Located', 32.0853, 34.7818, TRUE,"
+                        + " CURRENT_TIMESTAMP(), CURRENT_TIMESTAMP(), 'ACTIVE')");
+                stmt.execute("INSERT INTO users (id, name, has_location_set, created_at, updated_at, state)"
+                        + " VALUES ('22222222-2222-2222-2222-222222222222', 'Unlocated', FALSE,"
+                        + " CURRENT_TIMESTAMP(), CURRENT_TIMESTAMP(), 'INCOMPLETE')");
+
+                MigrationRunner.runAllPending(stmt);
+            }
+
+            assertTrue(getIndexNames().contains("IDX_USERS_GEOHASH"), "Missing index: idx_users_geohash");
+            try (Statement stmt = connection.createStatement();
+                    ResultSet rs = stmt.executeQuery("SELECT name, geohash FROM users ORDER BY name")) {
+                assertTrue(rs.next());
+                assertEquals("Located", rs.getString(1));
+                assertEquals("sv8wx2zq6", rs.getString(2));
+                assertTrue(rs.next());
+                assertEquals("Unlocated", rs.getString(1));
+                assertEquals(null, rs.getString(2));
+            }
+        }
     }
 
     // ═══════════════════════════════════════════════════════════════
@@ -0,0 +1,77 @@
+package datingapp.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("FxmlClassPreloader")
+class FxmlClassPreloaderTest {
+
+    private static final String FXML = """
+            <?xml version="1.0" encoding="UTF-8"?>
+
+            <?import javafx.scene.control.Button?>
+            <?import javafx.scene.layout.*?>
+            <?import org.kordamp.ikonli.javafx.FontIcon?>
+
+            <StackPane xmlns:fx="http://javafx.com/fxml/1"
+                       fx:controller="datingapp.ui.screen.LoginController"/>
+            """;
+
+    @Test
+    @DisplayName("collects explicit imports and the controller, skipping wildcard imports")
+    void collectsReferencedClassNames() {
+        assertEquals(
+                Set.of(
+                        "javafx.scene.control.Button",
+                        "org.kordamp.ikonli.javafx.FontIcon",
+                        "datingapp.ui.screen.LoginController"),
+                FxmlClassPreloader.referencedClassNames(FXML));
+    }
+
+    @Test
+    @DisplayName("loads resolvable classes and ignores missing classes and resources")
+    void loadsResolvableClasses() {
+        String fxml = """
+                <?import java.util.ArrayList?>
+                <?import datingapp.ui.DoesNotExist?>
+                <ArrayList xmlns:fx="http://javafx.com/fxml/1" fx:controller="datingapp.ui.FxmlClassPreloaderTest"/>
+                """;
+        ClassLoader loader = new FixedResourceLoader("fxml/probe.fxml", fxml);
+
+        int loaded = FxmlClassPreloader.preload(loader, List.of("/fxml/probe.fxml", "/fxml/missing.fxml"));
+
+        assertEquals(2 + (isPresent("javafx.fxml.FXMLLoader") ? 1 : 0), loaded);
+    }
+
+    private static boolean isPresent(String className) {
+        try {
+            Class.forName(className, false, FxmlClassPreloaderTest.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException _) {
+            return false;
+        }
+    }
+
+    private static final class FixedResourceLoader extends ClassLoader {
+        private final String name;
+        private final String content;
+
+        private FixedResourceLoader(String name, String content) {
+            super(FxmlClassPreloaderTest.class.getClassLoader());
+            this.name = name;
+            this.content = content;
+        }
+
+        @Override
+        public InputStream getResourceAsStream(String resource) {
+            return name.equals(resource) ? new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)) : null;
+        }
+    }
+}
@@ -13,6 +13,8 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.InetSocketAddress;
 import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Base64;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
@@ -23,12 +25,14 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import javafx.application.Platform;
 import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
 
 @Timeout(value = 10, unit = TimeUnit.SECONDS)
 @DisplayName("ImageCache default avatar handling")
@@ -53,9 +57,59 @@ class ImageCacheTest {
     @AfterEach
     void clearCacheAfterTest() {
         System.clearProperty(ALLOW_UNSAFE_REMOTE_IMAGE_HOSTS_PROPERTY);
+        ImageCache.setMaxCacheBytesForTests(UiConstants.IMAGE_CACHE_MAX_BYTES);
+        ImageCache.disableDiskTier();
         ImageCache.clearCache();
     }
 
+    @Test
+    @DisplayName("cache is bounded by decoded bytes and evicts the least recently used entry")
+    void cacheIsBoundedByDecodedBytesAndEvictsLeastRecentlyUsed() {
+        ImageCache.setMaxCacheBytesForTests(1_000);
+        AtomicInteger loads = new AtomicInteger();
+
+        ImageCache.getOrLoadCachedImage("first", () -> tenByTen(loads));
+        ImageCache.getOrLoadCachedImage("second", () -> tenByTen(loads));
+        ImageCache.getOrLoadCachedImage("first", () -> tenByTen(loads));
+        ImageCache.getOrLoadCachedImage("third", () -> tenByTen(loads));
+
+        assertEquals(3, loads.get(), "the re-read of 'first' should be a cache hit");
+        assertEquals(2, ImageCache.getCacheSize());
+        assertEquals(800, ImageCache.getCacheBytes(), "each 10x10 image weighs 400 decoded bytes");
+
+        ImageCache.getOrLoadCachedImage("first", () -> tenByTen(loads));
+        assertEquals(3, loads.get(), "recently used 'first' should survive eviction");
+        ImageCache.getOrLoadCachedImage("second", () -> tenByTen(loads));
+        assertEquals(4, loads.get(), "least recently used 'second' should have been evicted");
+    }
+
+    @Test
+    @DisplayName("disk tier serves decoded pixels after the memory cache is cleared")
+    void diskTierServesDecodedPixelsAfterMemoryCacheIsCleared(@TempDir Path tempDir) throws Exception {
+        Path diskDirectory = tempDir.resolve("decoded");
+        ImageCache.enableDiskTier(diskDirectory, 1024 * 1024);
+        Path photo = tempDir.resolve("disk-tier-photo.png");
+        Files.write(photo, PNG_1X1);
+        String url = photo.toUri().toString();
+
+        Image decoded = ImageCache.getImage(url, 32, 32);
+        assertTrue(decoded.getWidth() > 0);
+        String entryName = ImageDiskCache.fileName(url + "@32.0x32.0");
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!Files.exists(diskDirectory.resolve(entryName)) && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(Files.exists(diskDirectory.resolve(entryName)), "decoded pixels should be written to disk");
+
+        ImageCache.clearCache();
+        Files.delete(photo);
+        Image restored = ImageCache.getImage(url, 32, 32);
+
+        assertEquals(decoded.getWidth(), restored.getWidth());
+        assertEquals(decoded.getHeight(), restored.getHeight());
+        assertEquals(decoded.getPixelReader().getArgb(0, 0), restored.getPixelReader().getArgb(0, 0));
+    }
+
     @Test
     @DisplayName("default avatar resource is packaged and loadable")
     void defaultAvatarResourceIsPackagedAndLoadable() {
@@ -102,7 +156,7 @@ class ImageCacheTest {
             }
 
             assertTrue(server.awaitRequestStarted(), "Preload should reach the blocking image server");
-            assertEquals(1, countPreloadWorkerThreads(), "Preload work should stay on one bounded worker thread");
+            assertEquals(1, server.getRequestCount(), "Repeated preloads should share one in-flight load");
 
             server.releaseResponse();
             assertTrue(server.awaitRequestFinished(), "Blocking preload should complete once released");
@@ -256,10 +310,9 @@ class ImageCacheTest {
         void run();
     }
 
-    private static int countPreloadWorkerThreads() {
-        return (int) Thread.getAllStackTraces().keySet().stream()
-                .filter(thread -> thread.getName().startsWith("image-preload-worker"))
-                .count();
+    private static Image tenByTen(AtomicInteger loads) {
+        loads.incrementAndGet();
+        return new WritableImage(10, 10);
     }
 
     private static void allowUnsafeRemoteImageHosts() {
@@ -0,0 +1,74 @@
+package datingapp.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("ImageDiskCache")
+class ImageDiskCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeAll
+    static void initJfx() throws InterruptedException {
+        JavaFxTestSupport.initJfx();
+    }
+
+    @Test
+    @DisplayName("round-trips decoded ARGB pixels")
+    void roundTripsDecodedPixels() throws Exception {
+        ImageDiskCache cache = new ImageDiskCache(tempDir, 1024 * 1024);
+        WritableImage image = new WritableImage(3, 2);
+        image.getPixelWriter().setArgb(0, 0, 0xFF112233);
+        image.getPixelWriter().setArgb(2, 1, 0x80445566);
+
+        cache.write("photo@3x2", image);
+        Image restored = cache.read("photo@3x2");
+
+        assertNotNull(restored);
+        assertEquals(3, restored.getWidth());
+        assertEquals(2, restored.getHeight());
+        assertEquals(0xFF112233, restored.getPixelReader().getArgb(0, 0));
+        assertEquals(0x80445566, restored.getPixelReader().getArgb(2, 1));
+        assertNull(cache.read("other@3x2"));
+    }
+
+    @Test
+    @DisplayName("corrupt entries are treated as misses and removed")
+    void corruptEntriesAreMissesAndRemoved() throws Exception {
+        ImageDiskCache cache = new ImageDiskCache(tempDir, 1024 * 1024);
+        Path entry = tempDir.resolve(ImageDiskCache.fileName("broken"));
+        Files.write(entry, new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13});
+
+        assertNull(cache.read("broken"));
+        assertTrue(Files.notExists(entry));
+    }
+
+    @Test
+    @DisplayName("trims the oldest entries once the byte budget is exceeded")
+    void trimsOldestEntriesOverBudget() throws Exception {
+        // Each 10x10 entry is 12 header bytes plus 400 pixel bytes.
+        ImageDiskCache cache = new ImageDiskCache(tempDir, 900);
+        cache.write("oldest", new WritableImage(10, 10));
+        Files.setLastModifiedTime(tempDir.resolve(ImageDiskCache.fileName("oldest")), FileTime.fromMillis(1_000));
+        cache.write("middle", new WritableImage(10, 10));
+        cache.write("newest", new WritableImage(10, 10));
+
+        assertTrue(Files.notExists(tempDir.resolve(ImageDiskCache.fileName("oldest"))));
+        assertTrue(Files.exists(tempDir.resolve(ImageDiskCache.fileName("middle"))));
+        assertTrue(Files.exists(tempDir.resolve(ImageDiskCache.fileName("newest"))));
+        assertEquals(824, cache.approximateBytes());
+    }
+}
@@ -1,9 +1,11 @@
 package datingapp.ui;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import datingapp.app.support.PhotoRenditions;
 import java.awt.image.BufferedImage;
 import java.io.IOException;
 import java.nio.file.Files;
@@ -61,6 +63,25 @@ class LocalPhotoStoreTest {
         assertEquals(20, rotated.getHeight());
     }
 
+    @Test
+    @DisplayName("deletePhoto removes the derived renditions alongside the original")
+    void deletePhotoRemovesRenditions() throws Exception {
+        Path directory = Files.createTempDirectory("datingapp-photo-store");
+        LocalPhotoStore store = new LocalPhotoStore(directory);
+        Path stored = directory.resolve(UUID.randomUUID() + "_" + UUID.randomUUID() + ".png");
+        Files.move(createImageFile("large", "png", 400, 200), stored);
+        PhotoRenditions.derive(stored, null);
+        List<String> urls = List.of(stored.toUri().toString());
+        Path thumbnail = PhotoRenditions.renditionPath(stored, PhotoRenditions.Size.THUMBNAIL);
+        assertTrue(Files.exists(thumbnail));
+
+        store.deletePhoto(urls, 0);
+
+        assertFalse(Files.exists(stored));
+        assertFalse(Files.exists(thumbnail));
+        assertFalse(Files.exists(PhotoRenditions.renditionPath(stored, PhotoRenditions.Size.CARD)));
+    }
+
     private static Path createImageFile(String prefix, String format, int width, int height) throws IOException {
         Path file = Files.createTempFile(prefix, "." + format);
         BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
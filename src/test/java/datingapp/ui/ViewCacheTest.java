@@ -0,0 +1,136 @@
+package datingapp.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import datingapp.ui.NavigationService.ViewType;
+import datingapp.ui.screen.BaseController;
+import java.util.concurrent.TimeUnit;
+import javafx.scene.layout.StackPane;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+@Timeout(value = 10, unit = TimeUnit.SECONDS)
+@DisplayName("ViewCache")
+class ViewCacheTest {
+
+    @BeforeAll
+    static void initJfx() throws InterruptedException {
+        JavaFxTestSupport.initJfx();
+    }
+
+    @Test
+    @DisplayName("parks reusable views and hands them back once")
+    void parksReusableViewsAndHandsThemBackOnce() {
+        ViewCache cache = new ViewCache();
+        RecordingController controller = new RecordingController(true);
+        ViewCache.CachedView view = cachedView(ViewType.MATCHING, controller);
+
+        assertTrue(cache.park(view));
+        assertEquals(1, controller.detached);
+        assertTrue(cache.contains(ViewType.MATCHING));
+
+        assertSame(view, cache.take(ViewType.MATCHING).orElseThrow());
+        assertTrue(cache.take(ViewType.MATCHING).isEmpty());
+        assertEquals(0, controller.cleanedUp);
+    }
+
+    @Test
+    @DisplayName("declines controllers that do not opt in")
+    void declinesNonReusableControllers() {
+        ViewCache cache = new ViewCache();
+        RecordingController controller = new RecordingController(false);
+
+        assertFalse(cache.park(cachedView(ViewType.PROFILE, controller)));
+        assertEquals(0, cache.size());
+        assertEquals(0, controller.detached);
+    }
+
+    @Test
+    @DisplayName("evicts and cleans up the least recently used view at capacity")
+    void evictsLeastRecentlyUsedView() {
+        ViewCache cache = new ViewCache(2);
+        RecordingController matching = new RecordingController(true);
+        RecordingController matches = new RecordingController(true);
+        RecordingController chat = new RecordingController(true);
+
+        cache.park(cachedView(ViewType.MATCHING, matching));
+        cache.park(cachedView(ViewType.MATCHES, matches));
+        cache.park(cachedView(ViewType.CHAT, chat));
+
+        assertEquals(2, cache.size());
+        assertFalse(cache.contains(ViewType.MATCHING));
+        assertEquals(1, matching.cleanedUp);
+        assertEquals(0, matches.cleanedUp);
+        assertEquals(1, cache.stats().evictions());
+    }
+
+    @Test
+    @DisplayName("clear cleans up every parked view")
+    void clearCleansUpEveryParkedView() {
+        ViewCache cache = new ViewCache();
+        RecordingController matching = new RecordingController(true);
+        RecordingController chat = new RecordingController(true);
+        cache.park(cachedView(ViewType.MATCHING, matching));
+        cache.park(cachedView(ViewType.CHAT, chat));
+
+        cache.clear();
+
+        assertEquals(0, cache.size());
+        assertEquals(1, matching.cleanedUp);
+        assertEquals(1, chat.cleanedUp);
+    }
+
+    @Test
+    @DisplayName("reports hit and miss counts with average times")
+    void reportsHitAndMissTiming() {
+        ViewCache cache = new ViewCache();
+
+        cache.recordMiss(30_000_000L);
+        cache.recordMiss(10_000_000L);
+        cache.recordHit(1_000_000L);
+        NavigationService.ViewCacheStats stats = cache.stats();
+
+        assertEquals(1, stats.hits());
+        assertEquals(2, stats.misses());
+        assertEquals(1.0, stats.averageHitMillis(), 1e-9);
+        assertEquals(20.0, stats.averageMissMillis(), 1e-9);
+        assertThrows(IllegalArgumentException.class, () -> new ViewCache(0));
+    }
+
+    private static ViewCache.CachedView cachedView(ViewType type, BaseController controller) {
+        return new ViewCache.CachedView(type, new StackPane(), controller);
+    }
+
+    private static final class RecordingController extends BaseController {
+        private final boolean reusable;
+        private int detached;
+        private int cleanedUp;
+
+        private RecordingController(boolean reusable) {
+            this.reusable = reusable;
+        }
+
+        @Override
+        public boolean isReusable() {
+            return reusable;
+        }
+
+        @Override
+        public void onDetached() {
+            detached++;
+            super.onDetached();
+        }
+
+        @Override
+        public void cleanup() {
+            cleanedUp++;
+            super.cleanup();
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package datingapp.ui.screen;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -9,6 +10,9 @@ import datingapp.ui.NavigationService;
 import java.lang.reflect.Field;
 import java.util.Deque;
 import java.util.concurrent.TimeUnit;
+import javafx.animation.Animation;
+import javafx.animation.PauseTransition;
+import javafx.util.Duration;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
@@ -73,6 +77,29 @@ class BaseControllerTest {
         JavaFxTestSupport.runOnFxAndWait(controller::invokeHandleBack);
     }
 
+    @Test
+    @DisplayName("detaching pauses running tracked animations and reattaching resumes them")
+    void detachPausesAndReattachResumesTrackedAnimations() throws Exception {
+        TestController controller = new TestController();
+        PauseTransition animation = new PauseTransition(Duration.minutes(1));
+
+        Animation.Status[] statuses = JavaFxTestSupport.callOnFxAndWait(() -> {
+            controller.track(animation);
+            animation.play();
+            controller.onDetached();
+            Animation.Status detached = animation.getStatus();
+            controller.onReattached();
+            Animation.Status reattached = animation.getStatus();
+            controller.cleanup();
+            return new Animation.Status[] {detached, reattached, animation.getStatus()};
+        });
+
+        assertEquals(Animation.Status.PAUSED, statuses[0]);
+        assertEquals(Animation.Status.RUNNING, statuses[1]);
+        assertEquals(Animation.Status.STOPPED, statuses[2]);
+        assertFalse(controller.isReusable());
+    }
+
     private static Deque<NavigationService.ViewType> getHistory(NavigationService navigationService) throws Exception {
         Field field = NavigationService.class.getDeclaredField("navigationHistory");
         field.setAccessible(true);
@@ -90,6 +117,10 @@ class BaseControllerTest {
         void invokeHandleBack() {
             handleBack();
         }
+
+        void track(Animation animation) {
+            trackAnimation(animation);
+        }
     }
 
     private static final class NullNavigationController extends BaseController {
@@ -2,6 +2,8 @@ package datingapp.ui.viewmodel;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -38,9 +40,13 @@ import datingapp.ui.viewmodel.UiDataAdapters.UseCaseUiProfileNoteDataAccess;
 import java.time.ZoneId;
 import java.util.ArrayDeque;
 import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Queue;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
@@ -383,6 +389,85 @@ class MatchingViewModelTest {
         viewModel.dispose();
     }
 
+    @Test
+    @DisplayName("upcoming candidate photos are published for the queued candidates")
+    void upcomingPhotosArePublishedForQueuedCandidates() {
+        Fixture fixture = new Fixture();
+        fixture.saveUsers();
+        for (String name : List.of("Dana", "Emery", "Finley")) {
+            fixture.users.save(fixture.createUser(name, Gender.FEMALE, EnumSet.of(Gender.MALE), true));
+        }
+
+        MatchingViewModel viewModel = fixture.createViewModel();
+        viewModel.initialize(fixture.prioritizedCandidate.getId());
+        waitUntil(() -> viewModel.upcomingCandidatePhotoUrlsProperty().get().size() == 3, 5000);
+
+        List<String> upcoming = viewModel.upcomingCandidatePhotoUrlsProperty().get();
+        assertEquals(MatchingViewModel.PREFETCH_CANDIDATE_COUNT, upcoming.size());
+        assertFalse(upcoming.contains(fixture.prioritizedCandidate.getPhotoUrls().getFirst()));
+
+        passAndAwaitNextCandidate(viewModel);
+        assertTrue(viewModel.hasMoreCandidatesProperty().get());
+        viewModel.dispose();
+        assertTrue(viewModel.upcomingCandidatePhotoUrlsProperty().get().isEmpty());
+    }
+
+    @Test
+    @DisplayName("a low queue is refilled with the next page by cursor, not by re-running the first page")
+    void lowQueueIsRefilledWithNextPageByCursor() {
+        Fixture fixture = new Fixture();
+        fixture.saveUsers();
+        for (String name : List.of("Dana", "Emery", "Finley")) {
+            fixture.users.save(fixture.createUser(name, Gender.FEMALE, EnumSet.of(Gender.MALE), true));
+        }
+        fixture.pageSizeOverride = 2;
+
+        MatchingViewModel viewModel = fixture.createViewModel();
+        viewModel.initialize();
+        waitUntil(() -> fixture.servedPages.size() == 2, 5000);
+        passAndAwaitNextCandidate(viewModel);
+        waitUntil(() -> fixture.servedPages.size() == 3, 5000);
+
+        assertNull(fixture.pageRequests.getFirst().cursor());
+        assertNotNull(fixture.pageRequests.get(1).cursor());
+        assertNotNull(fixture.pageRequests.get(2).cursor());
+        assertNotEquals(fixture.pageRequests.get(1).cursor(), fixture.pageRequests.get(2).cursor());
+        Set<UUID> served = new HashSet<>();
+        fixture.servedPages.forEach(page -> page.forEach(id -> assertTrue(served.add(id), "Served twice: " + id)));
+        assertEquals(5, served.size());
+        viewModel.dispose();
+    }
+
+    @Test
+    @DisplayName("prefetch metrics report the photo hit rate")
+    void prefetchMetricsReportHitRate() {
+        Fixture fixture = new Fixture();
+        MatchingViewModel viewModel = fixture.createViewModel();
+
+        viewModel.recordCandidatePhotoPrefetch(true);
+        viewModel.recordCandidatePhotoPrefetch(true);
+        viewModel.recordCandidatePhotoPrefetch(true);
+        viewModel.recordCandidatePhotoPrefetch(false);
+
+        MatchingViewModel.PrefetchMetrics metrics = viewModel.prefetchMetricsProperty().get();
+        assertEquals(3, metrics.hits());
+        assertEquals(1, metrics.misses());
+        assertEquals(0.75, metrics.hitRate(), 1e-9);
+        assertEquals(75, metrics.hitRatePercent());
+        viewModel.dispose();
+    }
+
+    private static void passAndAwaitNextCandidate(MatchingViewModel viewModel) {
+        User before = viewModel.currentCandidateProperty().get();
+        viewModel.pass();
+        waitUntil(
+                () -> {
+                    User current = viewModel.currentCandidateProperty().get();
+                    return current != null && !current.getId().equals(before.getId());
+                },
+                5000);
+    }
+
     private static void waitUntil(CheckedBooleanSupplier condition, long timeoutMillis) {
         long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
         while (System.nanoTime() < deadline) {
@@ -413,6 +498,9 @@ class MatchingViewModelTest {
         private final User currentUser;
         private final User prioritizedCandidate;
         private final User fallbackCandidate;
+        private final List<MatchingUseCases.BrowseCandidatesPageCommand> pageRequests = new CopyOnWriteArrayList<>();
+        private final List<List<UUID>> servedPages = new CopyOnWriteArrayList<>();
+        private volatile int pageSizeOverride;
 
         private Fixture() {
             this(true);
@@ -518,6 +606,24 @@ class MatchingViewModelTest {
                             new MatchQualityService(users, interactions, config),
                             new InProcessAppEventBus(),
                             recommendationService) {
+                        @Override
+                        public UseCaseResult<MatchingUseCases.BrowseCandidatesPage> browseCandidatesPage(
+                                MatchingUseCases.BrowseCandidatesPageCommand command) {
+                            pageRequests.add(command);
+                            var effective = pageSizeOverride > 0
+                                    ? new MatchingUseCases.BrowseCandidatesPageCommand(
+                                            command.context(),
+                                            command.currentUser(),
+                                            command.cursor(),
+                                            pageSizeOverride)
+                                    : command;
+                            var result = super.browseCandidatesPage(effective);
+                            if (result.success()) {
+                                servedPages.add(result.data().candidates().stream().map(User::getId).toList());
+                            }
+                            return result;
+                        }
+
                         @Override
                         public UseCaseResult<MatchingUseCases.SwipeOutcome> processSwipe(
                                 MatchingUseCases.ProcessSwipeCommand command) {
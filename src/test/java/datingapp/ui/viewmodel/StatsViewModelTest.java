@@ -6,7 +6,6 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import datingapp.app.testutil.TestEventBus;
-import datingapp.app.usecase.common.UseCaseError;
 import datingapp.app.usecase.common.UseCaseResult;
 import datingapp.app.usecase.profile.ProfileInsightsUseCases;
 import datingapp.app.usecase.profile.ProfileMutationUseCases;
@@ -20,7 +19,6 @@ import datingapp.core.metrics.AchievementService;
 import datingapp.core.metrics.ActivityMetricsService;
 import datingapp.core.metrics.EngagementDomain.Achievement;
 import datingapp.core.metrics.EngagementDomain.Achievement.UserAchievement;
-import datingapp.core.metrics.EngagementDomain.UserStats;
 import datingapp.core.metrics.SwipeState;
 import datingapp.core.model.User;
 import datingapp.core.profile.ProfileService;
@@ -38,6 +36,7 @@ import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.TimeZone;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
@@ -174,9 +173,15 @@ class StatsViewModelTest {
                         new ProfileNotesUseCases(users, validationSvc, config, new TestEventBus()),
                         new ProfileInsightsUseCases(achievementSvc, activityMetricsService)) {
                     @Override
-                    public UseCaseResult<ProfileInsightsUseCases.AchievementSnapshot> getAchievements(
-                            ProfileInsightsUseCases.AchievementsQuery query) {
-                        return UseCaseResult.failure(UseCaseError.internal("achievement load failed"));
+                    public UseCaseResult<ProfileInsightsUseCases.InsightsOverview> getInsightsOverview(
+                            ProfileInsightsUseCases.InsightsOverviewQuery query) {
+                        var loaded = super.getInsightsOverview(query).data();
+                        return UseCaseResult.success(new ProfileInsightsUseCases.InsightsOverview(
+                                List.of(),
+                                loaded.stats(),
+                                loaded.currentSession(),
+                                loaded.sessionHistory(),
+                                List.of(ProfileInsightsUseCases.SECTION_ACHIEVEMENTS)));
                     }
                 };
 
@@ -212,8 +217,13 @@ class StatsViewModelTest {
         ProfileInsightsUseCases failingInsights =
                 new ProfileInsightsUseCases(TestAchievementService.empty(), TestActivityMetricsService.empty()) {
                     @Override
-                    public UseCaseResult<UserStats> getOrComputeStats(StatsQuery query) {
-                        return UseCaseResult.failure(UseCaseError.internal("stats unavailable"));
+                    public UseCaseResult<InsightsOverview> getInsightsOverview(InsightsOverviewQuery query) {
+                        return UseCaseResult.success(new InsightsOverview(
+                                List.of(),
+                                Optional.empty(),
+                                Optional.empty(),
+                                List.of(),
+                                List.of(ProfileInsightsUseCases.SECTION_STATS)));
                     }
                 };
 
@@ -313,9 +323,14 @@ class StatsViewModelTest {
         ProfileInsightsUseCases profileInsightsUseCases =
                 new ProfileInsightsUseCases(TestAchievementService.empty(), TestActivityMetricsService.empty()) {
                     @Override
-                    public UseCaseResult<List<SwipeState.Session>> getSessionHistory(
-                            ProfileInsightsUseCases.SessionHistoryQuery query) {
-                        return UseCaseResult.success(sessions);
+                    public UseCaseResult<InsightsOverview> getInsightsOverview(InsightsOverviewQuery query) {
+                        var loaded = super.getInsightsOverview(query).data();
+                        return UseCaseResult.success(new InsightsOverview(
+                                loaded.unlocked(),
+                                loaded.stats(),
+                                loaded.currentSession(),
+                                sessions,
+                                loaded.degradedSections()));
                     }
                 };
 